@@ -1,34 +1,67 @@
 package com.annimon.stream;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.DoubleMapMultiConsumer;
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.Parallel;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.iterator.PrimitiveExtIterator.OfDouble;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import com.annimon.stream.operator.DoubleArray;
 import com.annimon.stream.operator.DoubleConcat;
+import com.annimon.stream.operator.DoubleCumulativeExtremum;
+import com.annimon.stream.operator.DoubleDistinct;
+import com.annimon.stream.operator.DoubleDistinctUntilChanged;
 import com.annimon.stream.operator.DoubleDropWhile;
+import com.annimon.stream.operator.DoubleEwma;
+import com.annimon.stream.operator.DoubleExternalSorted;
 import com.annimon.stream.operator.DoubleFilter;
 import com.annimon.stream.operator.DoubleFlatMap;
 import com.annimon.stream.operator.DoubleGenerate;
 import com.annimon.stream.operator.DoubleIterate;
 import com.annimon.stream.operator.DoubleLimit;
 import com.annimon.stream.operator.DoubleMap;
+import com.annimon.stream.operator.DoubleMapMulti;
 import com.annimon.stream.operator.DoubleMapToInt;
 import com.annimon.stream.operator.DoubleMapToLong;
 import com.annimon.stream.operator.DoubleMapToObj;
+import com.annimon.stream.operator.DoubleMerge;
+import com.annimon.stream.operator.DoubleMergeSorted;
 import com.annimon.stream.operator.DoublePeek;
+import com.annimon.stream.operator.DoubleRollingExtremum;
+import com.annimon.stream.operator.DoubleRollingMean;
+import com.annimon.stream.operator.DoubleRollingSum;
+import com.annimon.stream.operator.DoubleRunningStats;
 import com.annimon.stream.operator.DoubleScan;
 import com.annimon.stream.operator.DoubleScanIdentity;
 import com.annimon.stream.operator.DoubleSkip;
+import com.annimon.stream.operator.DoubleSlidingWindow;
 import com.annimon.stream.operator.DoubleSorted;
 import com.annimon.stream.operator.DoubleTakeUntil;
 import com.annimon.stream.operator.DoubleTakeWhile;
+import com.annimon.stream.operator.DoubleZip;
+import com.annimon.stream.operator.DoubleZipToObj;
+import com.annimon.stream.operator.ObjMerge;
+import com.landawn.abacus.util.Comparators;
+import com.landawn.abacus.util.MutableDouble;
+import com.landawn.abacus.util.MutableLong;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.OptionalDouble;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.DoubleBiFunction;
 import com.landawn.abacus.util.function.DoubleBinaryOperator;
 import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleFunction;
@@ -40,7 +73,7 @@ import com.landawn.abacus.util.function.DoubleUnaryOperator;
 import com.landawn.abacus.util.function.Function;
 import com.landawn.abacus.util.function.ObjDoubleConsumer;
 import com.landawn.abacus.util.function.Supplier;
-import com.landawn.abacus.util.function.ToDoubleFunction;
+import com.landawn.abacus.util.stream.Collector;
 
 /**
  * A sequence of {@code double}-valued elements supporting aggregate operations.
@@ -183,15 +216,180 @@ public final class DoubleStream implements Closeable {
     public static DoubleStream concat(final DoubleStream a, final DoubleStream b) {
         N.requireNonNull(a);
         N.requireNonNull(b);
+        return concat(Arrays.asList(a, b));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static DoubleStream concat(final DoubleStream... streams) {
+        return concat(Arrays.asList(streams));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static DoubleStream concat(final Collection<? extends DoubleStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfDouble> iterators = new ArrayList<>(streams.size());
+        final List<Params> streamParams = new ArrayList<>();
+        for (DoubleStream stream : streams) {
+            N.requireNonNull(stream);
+            iterators.add(stream.iterator);
+            if (stream.params != null) {
+                streamParams.add(stream.params);
+            }
+        }
         @SuppressWarnings("resource")
-        DoubleStream result = new DoubleStream(new DoubleConcat(a.iterator, b.iterator));
-        return result.onClose(Compose.closeables(a, b));
+        DoubleStream result = new DoubleStream(new DoubleConcat(iterators));
+        return streamParams.isEmpty() ? result : result.onClose(Compose.closeAll(streamParams));
     }
 
     public static DoubleStream concat(final double[] a, final double[] b) {
         return new DoubleStream(new DoubleConcat(OfDouble.of(a), OfDouble.of(b)));
     }
 
+    /**
+     * Combines two streams by applying the combiner to the values at the same position.
+     * The new stream ends with the shorter of the streams, and closing it
+     * closes both streams.
+     *
+     * <p>Values are combined without boxing, bulk operations combine
+     * a batch of values of both streams at a time.
+     *
+     * <p>Example:
+     * <pre>
+     * combiner: (a, b) -&gt; a + b
+     * stream 1: [1.0, 2.0, 3.0]
+     * stream 2: [0.5, 0.5, 0.5]
+     * result:   [1.5, 2.5, 3.5]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see Stream#zip(Stream, Stream, com.landawn.abacus.util.function.BiFunction)
+     */
+    public static DoubleStream zip(final DoubleStream a, final DoubleStream b, final DoubleBinaryOperator combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        DoubleStream result = new DoubleStream(new DoubleZip(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static DoubleStream zip(final double[] a, final double[] b, final DoubleBinaryOperator combiner) {
+        return new DoubleStream(new DoubleZip(OfDouble.of(a), OfDouble.of(b), combiner));
+    }
+
+    /**
+     * Combines two streams to a stream of objects by applying the combiner
+     * to the values at the same position. The new stream ends with the shorter
+     * of the streams, and closing it closes both streams.
+     *
+     * @param <R> the type of the result elements
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see #zip(DoubleStream, DoubleStream, DoubleBinaryOperator)
+     */
+    public static <R> Stream<R> zipToObj(final DoubleStream a, final DoubleStream b,
+            final DoubleBiFunction<? extends R> combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        Stream<R> result = new Stream<>(null, new DoubleZipToObj<>(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static <R> Stream<R> zipToObj(final double[] a, final double[] b, final DoubleBiFunction<? extends R> combiner) {
+        return new Stream<>(null, new DoubleZipToObj<>(OfDouble.of(a), OfDouble.of(b), combiner));
+    }
+
+    /**
+     * Merges values of two streams according to the supplied selector function,
+     * as {@link Stream#merge(Stream, Stream, com.landawn.abacus.util.function.BiFunction)}
+     * does for objects. Closing the new stream closes both streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1.0, 3.0, 8.0]
+     * stream 2: [2.0, 5.0, 6.0]
+     * selector: (a, b) -&gt; a &lt; b ? TAKE_FIRST : TAKE_SECOND
+     * result:   [1.0, 2.0, 3.0, 5.0, 6.0, 8.0]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param selector  the selector function used to choose values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static DoubleStream merge(final DoubleStream a, final DoubleStream b,
+            final DoubleBiFunction<ObjMerge.MergeResult> selector) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        DoubleStream result = new DoubleStream(new DoubleMerge(a.iterator, b.iterator, selector));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static DoubleStream merge(final double[] a, final double[] b, final DoubleBiFunction<ObjMerge.MergeResult> selector) {
+        return new DoubleStream(new DoubleMerge(OfDouble.of(a), OfDouble.of(b), selector));
+    }
+
+    /**
+     * Merges streams sorted in ascending order into one sorted stream.
+     * Values are compared as by {@link Double#compare(double, double)}.
+     *
+     * <p>Values are merged with a heap of the current values of the streams,
+     * so each value takes O(log n) comparisons for n streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     */
+    public static DoubleStream mergeSorted(final Collection<? extends DoubleStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfDouble> iterators = new ArrayList<>(streams.size());
+        for (DoubleStream stream : streams) {
+            iterators.add(N.requireNonNull(stream).iterator);
+        }
+        @SuppressWarnings("resource")
+        DoubleStream result = new DoubleStream(new DoubleMergeSorted(iterators));
+        return result.onClose(Compose.closeables(streams));
+    }
+
     private final PrimitiveIterator.OfDouble iterator;
     private final Params params;
 
@@ -328,6 +526,31 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleFlatMap(iterator, mapper));
     }
 
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMap(DoubleFunction)}, no stream is created for each element,
+     * the values are collected in a reusable buffer.
+     * The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (a, sink) -&gt; { sink.accept(a); sink.accept(a * 10); }
+     * stream: [1.0, 2.0, 3.0]
+     * result: [1.0, 10.0, 2.0, 20.0, 3.0, 30.0]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new stream
+     * @see #flatMap(DoubleFunction)
+     */
+    public DoubleStream mapMulti(final DoubleMapMultiConsumer mapper) {
+        return new DoubleStream(params, new DoubleMapMulti(iterator, mapper));
+    }
+
     /**
      * Returns a stream consisting of the distinct elements of this stream.
      *
@@ -342,7 +565,75 @@ public final class DoubleStream implements Closeable {
      * @return the new stream
      */
     public DoubleStream distinct() {
-        return boxed().distinct().mapToDouble(UNBOX_FUNCTION);
+        return new DoubleStream(params, new DoubleDistinct(iterator));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this sorted stream.
+     * In contrast to {@link #distinct()}, this method assumes that equal values
+     * are adjacent, so it only compares each value with the previous one (as determined by
+     * {@link Double#doubleToLongBits(double)}).
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1.0, 1.0, 2.5, 3.0, 3.0]
+     * result: [1.0, 2.5, 3.0]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public DoubleStream distinctSorted() {
+        return new DoubleStream(params, new DoubleDistinctUntilChanged(iterator));
+    }
+
+    /**
+     * Returns a stream without values whose key equals the key of the previous value
+     * (as determined by {@code equals} method). Only the last key is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (a) -&gt; (int) a
+     * stream: [1.2, 1.7, 2.1, 1.5]
+     * result: [1.2, 2.1, 1.5]
+     * </pre>
+     *
+     * @param <K> the type of the keys
+     * @param keyExtractor  the key function
+     * @return the new stream
+     */
+    public <K> DoubleStream distinctUntilChanged(final DoubleFunction<? extends K> keyExtractor) {
+        return new DoubleStream(params, new DoubleDistinctUntilChanged(iterator, keyExtractor));
+    }
+
+    /**
+     * Partitions this sorted stream into {@code Map} entries according to the given
+     * classifier function and reduces values of each group with the downstream {@code Collector}.
+     * Values must be sorted by the key, each group is returned as soon as the key changes
+     * and only the current group is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of values in each group
+     * @return the new stream
+     * @throws NullPointerException if a value is mapped to a {@code null} key
+     * @see Stream#groupSorted(Function, Collector)
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupSorted(final DoubleFunction<? extends K> classifier,
+            final Collector<? super Double, A, D> downstream) {
+        return boxed().groupSorted(new Function<Double, K>() {
+            @Override
+            public K apply(Double value) {
+                return classifier.apply(value);
+            }
+        }, downstream);
     }
 
     /**
@@ -362,10 +653,45 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleSorted(iterator));
     }
 
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order,
+     * which holds at most {@code maxInMemory} elements in memory.
+     *
+     * <p>Elements are sorted in runs of {@code maxInMemory} elements, the runs are written
+     * to temporary files and merged lazily as the elements are consumed.
+     * Temporary files are deleted when all elements are consumed or the stream is closed,
+     * so a stream which may not be consumed to the end, e.g. by {@code findFirst} or {@code limit},
+     * must be closed, e.g. with try-with-resources. Otherwise its files are only deleted
+     * when the virtual machine exits.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param maxInMemory  the max number of elements held in memory
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     *         when the elements are consumed
+     */
+    public DoubleStream sorted(int maxInMemory) {
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory must be positive");
+        }
+        final DoubleExternalSorted sorted = new DoubleExternalSorted(iterator, maxInMemory);
+        return new DoubleStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Returns a stream consisting of the elements of this stream
      * in sorted order as determinated by provided {@code Comparator}.
      *
+     * <p>Values are sorted in a primitive array. Natural and reverse order comparators
+     * ({@code Collections.reverseOrder()}) are recognized and sorted without calling them.
+     *
      * <p>This is a stateful intermediate operation.
      *
      * <p>Example:
@@ -377,9 +703,92 @@ public final class DoubleStream implements Closeable {
      *
      * @param comparator  the {@code Comparator} to compare elements
      * @return the new {@code DoubleStream}
+     * @see #sortedWith(DoubleComparator)
+     */
+    public DoubleStream sorted(final Comparator<Double> comparator) {
+        if (comparator == null || comparator == Comparators.<Double>naturalOrder()) {
+            return sorted();
+        }
+        if (comparator == Collections.<Double>reverseOrder() || comparator == Comparators.<Double>reversedOrder()) {
+            return new DoubleStream(params, new DoubleSorted(iterator, true, Long.MAX_VALUE));
+        }
+        return sortedWith(new DoubleComparator() {
+            @Override
+            public int compare(double value1, double value2) {
+                return comparator.compare(value1, value2);
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream
+     * in sorted order as determinated by provided {@code DoubleComparator}.
+     * Unlike {@link #sorted(Comparator)}, the comparator takes {@code double} values,
+     * so they are sorted in a primitive array without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; Double.compare(Math.abs(a), Math.abs(b))
+     * stream: [3.0, -1.5, -4.0, 2.0]
+     * result: [-1.5, 2.0, 3.0, -4.0]
+     * </pre>
+     *
+     * @param comparator  the {@code DoubleComparator} to compare elements
+     * @return the new {@code DoubleStream}
      */
-    public DoubleStream sorted(Comparator<Double> comparator) {
-        return boxed().sorted(comparator).mapToDouble(UNBOX_FUNCTION);
+    public DoubleStream sortedWith(DoubleComparator comparator) {
+        N.requireNonNull(comparator);
+        return new DoubleStream(params, new DoubleSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} greatest elements
+     * of this stream in descending order.
+     * Elements are selected with a bounded heap of size {@code k},
+     * so the whole stream is not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #bottom(long)
+     */
+    public DoubleStream top(long k) {
+        return new DoubleStream(params, new DoubleSorted(iterator, true, Long.MAX_VALUE)).limit(k);
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} least elements
+     * of this stream in ascending order.
+     * Same as {@code sorted().limit(k)}, which also selects elements
+     * with a bounded heap.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #top(long)
+     */
+    public DoubleStream bottom(long k) {
+        return sorted().limit(k);
     }
 
     /**
@@ -446,6 +855,259 @@ public final class DoubleStream implements Closeable {
         return new DoubleStream(params, new DoubleScanIdentity(iterator, identity, accumulator));
     }
 
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by 1.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1.0, 2.0, 3.0, 4.0]
+     * result: [[1.0, 2.0, 3.0], [2.0, 3.0, 4.0]]
+     * </pre>
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see Stream#sliding(int)
+     */
+    public Stream<double[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by the given step width.
+     * The last array may be smaller.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int)
+     */
+    public Stream<double[]> sliding(final int windowSize, final int stepWidth) {
+        return sliding(windowSize, stepWidth, false);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream,
+     * as {@link #sliding(int, int)} does.
+     *
+     * <p>In reuse mode the same array is returned for each full window, so a window is only
+     * valid until the next one is requested, and no array is allocated per window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @param reuse  {@code true} to reuse one array for all full windows
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int, boolean)
+     */
+    public Stream<double[]> sliding(final int windowSize, final int stepWidth, final boolean reuse) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0)
+            throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<>(params, new DoubleSlidingWindow(iterator, windowSize, stepWidth, reuse));
+    }
+
+    /**
+     * Returns a stream of the sums of the last {@code windowSize} values for each value
+     * of this stream. The first sum covers the first {@code windowSize} values, so the result
+     * is the same as of {@code sliding(windowSize)} with each window summed, but each sum
+     * is updated in O(1) time.
+     *
+     * <p>The sum is compensated, so it does not drift as values enter and leave the window.
+     * Infinite and NaN values affect only the windows containing them. A sum which overflows
+     * stays infinite until the values that overflowed it have left the window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1.0, 2.0, 3.0, 4.0, 5.0]
+     * result: [6.0, 9.0, 12.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to sum
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #sliding(int)
+     */
+    public DoubleStream rollingSum(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new DoubleRollingSum(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the means of the last {@code windowSize} values for each value
+     * of this stream, as {@link #rollingSum(int)} divided by the window size.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1.0, 2.0, 3.0, 4.0, 5.0]
+     * result: [2.0, 3.0, 4.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to average
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public DoubleStream rollingMean(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new DoubleRollingMean(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the minimums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each minimum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     * NaN is the minimum of the windows containing it, as with {@link Math#min(double, double)}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3.0, 1.0, 4.0, 1.0, 5.0, 9.0]
+     * result: [1.0, 1.0, 1.0, 1.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the minimum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public DoubleStream rollingMin(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new DoubleRollingExtremum(iterator, windowSize, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each maximum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     * NaN is the maximum of the windows containing it, as with {@link Math#max(double, double)}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3.0, 1.0, 4.0, 1.0, 5.0, 9.0]
+     * result: [4.0, 4.0, 5.0, 9.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the maximum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public DoubleStream rollingMax(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new DoubleRollingExtremum(iterator, windowSize, true));
+    }
+
+    private static void checkWindowSize(int windowSize) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+    }
+
+    /**
+     * Returns a stream of the statistics of the values of this stream up to each value:
+     * the count, the mean, the variance, the minimum and the maximum.
+     * The state is kept in primitive fields and the mean and the variance are updated
+     * by Welford's method, so a scan takes O(1) time per value without losing precision.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1.0, 2.0, 3.0, 4.0]
+     * result: [{count=1, mean=1.0, variance=0.0}, {count=2, mean=1.5, variance=0.25},
+     *          {count=3, mean=2.0, variance=0.667}, {count=4, mean=2.5, variance=1.25}]
+     * </pre>
+     *
+     * @return the new stream
+     * @see RunningStatistics
+     */
+    public Stream<RunningStatistics> runningStats() {
+        return new Stream<>(params, new DoubleRunningStats(iterator));
+    }
+
+    /**
+     * Returns a stream of the exponentially weighted moving averages of the values
+     * of this stream up to each value. The first average is the first value, each next one is
+     * {@code alpha * value + (1 - alpha) * previous}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * alpha: 0.5
+     * stream: [1.0, 2.0, 3.0, 4.0]
+     * result: [1.0, 1.5, 2.25, 3.125]
+     * </pre>
+     *
+     * @param alpha  the weight of each new value, greater than 0 and at most 1
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code alpha} is not in range (0, 1]
+     */
+    public DoubleStream ewma(final double alpha) {
+        if (!(alpha > 0 && alpha <= 1))
+            throw new IllegalArgumentException("alpha must be in range (0, 1]");
+        return new DoubleStream(params, new DoubleEwma(iterator, alpha));
+    }
+
+    /**
+     * Returns a stream of the minimums of the values of this stream up to each value.
+     *
+     * NaN is the minimum of all values after it, as with {@link Math#min(double, double)}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3.0, 1.0, 4.0, 1.0, 5.0]
+     * result: [3.0, 1.0, 1.0, 1.0, 1.0]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public DoubleStream cumulativeMin() {
+        return new DoubleStream(params, new DoubleCumulativeExtremum(iterator, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the values of this stream up to each value.
+     *
+     * NaN is the maximum of all values after it, as with {@link Math#max(double, double)}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3.0, 1.0, 4.0, 1.0, 5.0]
+     * result: [3.0, 3.0, 4.0, 4.0, 5.0]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public DoubleStream cumulativeMax() {
+        return new DoubleStream(params, new DoubleCumulativeExtremum(iterator, true));
+    }
+
     /**
      * Takes elements while the predicate returns {@code true}.
      *
@@ -532,6 +1194,13 @@ public final class DoubleStream implements Closeable {
             throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0)
             return DoubleStream.empty();
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).limit(maxSize);
+            return this;
+        }
+        if (iterator instanceof DoubleSorted && ((DoubleSorted) iterator).limit(maxSize)) {
+            return this;
+        }
         return new DoubleStream(params, new DoubleLimit(iterator, maxSize));
     }
 
@@ -562,6 +1231,10 @@ public final class DoubleStream implements Closeable {
             throw new IllegalArgumentException("n cannot be negative");
         if (n == 0)
             return this;
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).skip(n);
+            return this;
+        }
         return new DoubleStream(params, new DoubleSkip(iterator, n));
     }
 
@@ -572,10 +1245,18 @@ public final class DoubleStream implements Closeable {
      *
      * @param action  the action to be performed on each element
      */
-    public void forEach(DoubleConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextDouble());
+    public void forEach(final DoubleConsumer action) {
+        if (isParallel()) {
+            Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, Void>() {
+                @Override
+                public Void apply(PrimitiveIterator.OfDouble part) {
+                    part.forEachRemainingDouble(action);
+                    return null;
+                }
+            });
+            return;
         }
+        iterator.forEachRemainingDouble(action);
     }
 
     /**
@@ -605,12 +1286,37 @@ public final class DoubleStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public double reduce(double identity, DoubleBinaryOperator accumulator) {
-        double result = identity;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            result = accumulator.applyAsDouble(result, value);
+    public double reduce(final double identity, final DoubleBinaryOperator accumulator) {
+        if (isParallel()) {
+            final List<Double> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, Double>() {
+                @Override
+                public Double apply(PrimitiveIterator.OfDouble part) {
+                    return new DoubleStream(null, part).reduce(identity, accumulator);
+                }
+            });
+            double result = results.get(0);
+            for (int i = 1, size = results.size(); i < size; i++) {
+                result = accumulator.applyAsDouble(result, results.get(i));
+            }
+            return result;
+        }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that the accumulator runs in turn with the functions of the stages
+            double result = identity;
+            while (iterator.hasNext()) {
+                result = accumulator.applyAsDouble(result, iterator.nextDouble());
+            }
+            return result;
         }
+        final double[] batch = new double[Operators.batchSize(iterator)];
+        double result = identity;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = accumulator.applyAsDouble(result, batch[i]);
+            }
+        } while (size == batch.length);
         return result;
     }
 
@@ -627,19 +1333,51 @@ public final class DoubleStream implements Closeable {
      * @return the result of the reduction
      * @see #reduce(com.landawn.abacus.util.function.DoubleBinaryOperator)
      */
-    public OptionalDouble reduce(DoubleBinaryOperator accumulator) {
-        boolean foundAny = false;
-        double result = 0;
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsDouble(result, value);
+    public OptionalDouble reduce(final DoubleBinaryOperator accumulator) {
+        if (isParallel()) {
+            final List<OptionalDouble> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, OptionalDouble>() {
+                @Override
+                public OptionalDouble apply(PrimitiveIterator.OfDouble part) {
+                    return new DoubleStream(null, part).reduce(accumulator);
+                }
+            });
+            OptionalDouble result = OptionalDouble.empty();
+            for (OptionalDouble partResult : results) {
+                if (partResult.isPresent()) {
+                    result = result.isPresent()
+                            ? OptionalDouble.of(accumulator.applyAsDouble(result.get(), partResult.get()))
+                            : partResult;
+                }
+            }
+            return result;
+        }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that the accumulator runs in turn with the functions of the stages
+            if (!iterator.hasNext()) {
+                return OptionalDouble.empty();
+            }
+            double result = iterator.nextDouble();
+            while (iterator.hasNext()) {
+                result = accumulator.applyAsDouble(result, iterator.nextDouble());
+            }
+            return OptionalDouble.of(result);
+        }
+        final double[] batch = new double[Operators.batchSize(iterator)];
+        int size = iterator.nextBatch(batch, 0, batch.length);
+        if (size == 0) {
+            return OptionalDouble.empty();
+        }
+        double result = batch[0];
+        for (int i = 1; i < size; i++) {
+            result = accumulator.applyAsDouble(result, batch[i]);
+        }
+        while (size == batch.length) {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = accumulator.applyAsDouble(result, batch[i]);
             }
         }
-        return foundAny ? OptionalDouble.of(result) : OptionalDouble.empty();
+        return OptionalDouble.of(result);
     }
 
     /**
@@ -650,6 +1388,25 @@ public final class DoubleStream implements Closeable {
      * @return an array containing the elements of this stream
      */
     public double[] toArray() {
+        if (isParallel()) {
+            final List<double[]> parts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, double[]>() {
+                @Override
+                public double[] apply(PrimitiveIterator.OfDouble part) {
+                    return Operators.toDoubleArray(part);
+                }
+            });
+            int size = 0;
+            for (double[] part : parts) {
+                size += part.length;
+            }
+            final double[] result = new double[size];
+            int offset = 0;
+            for (double[] part : parts) {
+                System.arraycopy(part, 0, result, offset, part.length);
+                offset += part.length;
+            }
+            return result;
+        }
         return Operators.toDoubleArray(iterator);
     }
 
@@ -664,11 +1421,47 @@ public final class DoubleStream implements Closeable {
      * @return the result of collect elements
      * @see Stream#collect(com.landawn.abacus.util.function.Supplier, com.landawn.abacus.util.function.BiConsumer)
      */
-    public <R> R collect(Supplier<R> supplier, ObjDoubleConsumer<R> accumulator) {
+    public <R> R collect(Supplier<R> supplier, final ObjDoubleConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final double value = iterator.nextDouble();
-            accumulator.accept(result, value);
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                accumulator.accept(result, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Collects elements to {@code supplier} provided container by applying the given accumulation function.
+     *
+     * <p>The {@code combiner} merges the containers of parts of a parallel stream
+     * by adding the elements of the second container to the first one,
+     * it is not used by a sequential stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param supplier  the supplier function that provides container
+     * @param accumulator  the accumulation function
+     * @param combiner  the function for combining two containers
+     * @return the result of collect elements
+     * @see #parallel()
+     */
+    public <R> R collect(final Supplier<R> supplier, final ObjDoubleConsumer<R> accumulator,
+            BiConsumer<R, R> combiner) {
+        if (!isParallel()) {
+            return collect(supplier, accumulator);
+        }
+        final List<R> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, R>() {
+            @Override
+            public R apply(PrimitiveIterator.OfDouble part) {
+                return new DoubleStream(null, part).collect(supplier, accumulator);
+            }
+        });
+        final R result = results.get(0);
+        for (int i = 1, size = results.size(); i < size; i++) {
+            combiner.accept(result, results.get(i));
         }
         return result;
     }
@@ -679,10 +1472,28 @@ public final class DoubleStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public double sum() {
-        double sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
+        if (isParallel()) {
+            final List<Double> sums = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, Double>() {
+                @Override
+                public Double apply(PrimitiveIterator.OfDouble part) {
+                    return new DoubleStream(null, part).sum();
+                }
+            });
+            double sum = 0;
+            for (double partSum : sums) {
+                sum += partSum;
+            }
+            return sum;
         }
+        final double[] batch = new double[Operators.batchSize(iterator)];
+        double sum = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                sum += batch[i];
+            }
+        } while (size == batch.length);
         return sum;
     }
 
@@ -728,11 +1539,34 @@ public final class DoubleStream implements Closeable {
      * @return the count of elements in this stream
      */
     public long count() {
-        long count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextDouble();
-            count++;
+        if (iterator instanceof RandomAccessIterator) {
+            final RandomAccessIterator source = (RandomAccessIterator) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size >= 0) {
+                source.skip(size);
+                return size;
+            }
+        }
+        if (isParallel()) {
+            final List<Long> counts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, Long>() {
+                @Override
+                public Long apply(PrimitiveIterator.OfDouble part) {
+                    return new DoubleStream(null, part).count();
+                }
+            });
+            long count = 0;
+            for (long partCount : counts) {
+                count += partCount;
+            }
+            return count;
         }
+        final double[] batch = new double[Operators.batchSize(iterator)];
+        long count = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            count += size;
+        } while (size == batch.length);
         return count;
     }
 
@@ -744,15 +1578,52 @@ public final class DoubleStream implements Closeable {
      * @return the average of elements in this stream
      */
     public OptionalDouble average() {
-        long count = 0;
-        double sum = 0d;
-        while (iterator.hasNext()) {
-            sum += iterator.nextDouble();
-            count++;
-        }
-        if (count == 0)
+        final MutableLong count = MutableLong.of(0);
+        final MutableDouble sum = MutableDouble.of(0);
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                sum.add(value);
+                count.increment();
+            }
+        });
+        if (count.value() == 0)
             return OptionalDouble.empty();
-        return OptionalDouble.of(sum / count);
+        return OptionalDouble.of(sum.value() / count.value());
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the elements of this stream,
+     * computed in one pass. The sum is compensated, so its rounding error does not grow with the number of values.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return the statistics of the elements of this stream
+     * @see DoubleSummaryStatistics
+     */
+    public DoubleSummaryStatistics summaryStatistics() {
+        if (isParallel()) {
+            final List<DoubleSummaryStatistics> parts = Parallel.evaluate(params, iterator,
+                    new Function<PrimitiveIterator.OfDouble, DoubleSummaryStatistics>() {
+                        @Override
+                        public DoubleSummaryStatistics apply(PrimitiveIterator.OfDouble part) {
+                            return new DoubleStream(null, part).summaryStatistics();
+                        }
+                    });
+            final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+            for (DoubleSummaryStatistics part : parts) {
+                statistics.combine(part);
+            }
+            return statistics;
+        }
+        final DoubleSummaryStatistics statistics = new DoubleSummaryStatistics();
+        final double[] batch = new double[Operators.batchSize(iterator)];
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            statistics.accept(batch, 0, size);
+        } while (size == batch.length);
+        return statistics;
     }
 
     /**
@@ -779,11 +1650,10 @@ public final class DoubleStream implements Closeable {
      *         predicate, otherwise {@code false}
      */
     public boolean anyMatch(DoublePredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextDouble()))
-                return true;
+        if (isParallel()) {
+            return matchParallel(predicate, false);
         }
-        return false;
+        return matchSequential(predicate, false);
     }
 
     /**
@@ -810,11 +1680,10 @@ public final class DoubleStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean allMatch(DoublePredicate predicate) {
-        while (iterator.hasNext()) {
-            if (!predicate.test(iterator.nextDouble()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, true);
         }
-        return true;
+        return !matchSequential(predicate, true);
     }
 
     /**
@@ -841,11 +1710,62 @@ public final class DoubleStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean noneMatch(DoublePredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextDouble()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, false);
+        }
+        return !matchSequential(predicate, false);
+    }
+
+    /**
+     * Returns whether any part of a parallel stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchParallel(final DoublePredicate predicate, final boolean kindAll) {
+        // Set by the part which finds the element deciding the result
+        final AtomicBoolean decided = new AtomicBoolean();
+        Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfDouble, Void>() {
+            @Override
+            public Void apply(PrimitiveIterator.OfDouble part) {
+                while (!decided.get() && part.hasNext()) {
+                    if (predicate.test(part.nextDouble()) ^ kindAll) {
+                        decided.set(true);
+                    }
+                }
+                return null;
+            }
+        });
+        return decided.get();
+    }
+
+    /**
+     * Returns whether the stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchSequential(DoublePredicate predicate, boolean kindAll) {
+        final Match match = new Match(predicate, kindAll);
+        while (iterator.tryAdvanceDouble(match)) {
+            if (match.decided) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Match implements DoubleConsumer {
+
+        private final DoublePredicate predicate;
+        private final boolean kindAll;
+        private boolean decided;
+
+        Match(DoublePredicate predicate, boolean kindAll) {
+            this.predicate = predicate;
+            this.kindAll = kindAll;
+        }
+
+        @Override
+        public void accept(double value) {
+            decided = predicate.test(value) ^ kindAll;
         }
-        return true;
     }
 
     /**
@@ -858,6 +1778,10 @@ public final class DoubleStream implements Closeable {
      *         or {@code OptionalDouble.empty()} if stream is empty
      */
     public OptionalDouble findFirst() {
+        if (iterator instanceof DoubleSorted) {
+            // select the first element instead of sorting all of them
+            ((DoubleSorted) iterator).limit(1);
+        }
         if (iterator.hasNext()) {
             return OptionalDouble.of(iterator.nextDouble());
         }
@@ -875,6 +1799,18 @@ public final class DoubleStream implements Closeable {
      * @since 1.1.8
      */
     public OptionalDouble findLast() {
+        if (iterator instanceof RandomAccessIterator.OfDouble) {
+            final RandomAccessIterator.OfDouble source = (RandomAccessIterator.OfDouble) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size == 0) {
+                return OptionalDouble.empty();
+            }
+            if (size > 0) {
+                final double last = source.getDouble(size - 1);
+                source.skip(size);
+                return OptionalDouble.of(last);
+            }
+        }
         return reduce(new DoubleBinaryOperator() {
             @Override
             public double applyAsDouble(double left, double right) {
@@ -883,6 +1819,31 @@ public final class DoubleStream implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code OptionalDouble} class.
+     * If stream contains fewer elements, returns {@code OptionalDouble.empty()}.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4, 5]
+     * result: 3
+     * </pre>
+     *
+     * @param index  the zero-based position of the element
+     * @return an {@code OptionalDouble} with the element at the given position
+     *         or {@code OptionalDouble.empty()} if the stream contains fewer elements
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public OptionalDouble elementAt(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index cannot be negative");
+        }
+        return skip(index).findFirst();
+    }
+
     /**
      * Applies custom operator on stream.
      *
@@ -967,6 +1928,66 @@ public final class DoubleStream implements Closeable {
         boxed().println();
     }
 
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the default fork/join pool.
+     *
+     * <p>Array and range sources are split into parts, which pass through
+     * {@code map}, {@code filter}, {@code peek} and {@code mapTo*} operators concurrently.
+     * Pipelines with other operators are evaluated sequentially.
+     * {@code forEach}, {@code reduce}, {@code collect}, {@code sum}, {@code count},
+     * {@code anyMatch}, {@code allMatch}, {@code noneMatch} and {@code toArray}
+     * combine the results of the parts, other terminal operations are sequential.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the parallel stream
+     * @see #parallel(java.util.concurrent.Executor)
+     * @see #sequential()
+     */
+    public DoubleStream parallel() {
+        return withParallel(true, null);
+    }
+
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the given executor.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param executor  the executor to run the parts of the stream
+     * @return the parallel stream
+     * @throws NullPointerException if {@code executor} is null
+     * @see #parallel()
+     */
+    public DoubleStream parallel(Executor executor) {
+        N.requireNonNull(executor);
+        return withParallel(true, executor);
+    }
+
+    /**
+     * Returns an equivalent sequential stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the sequential stream
+     * @see #parallel()
+     */
+    public DoubleStream sequential() {
+        return withParallel(false, null);
+    }
+
+    /**
+     * Returns whether this stream is evaluated in parallel.
+     *
+     * @return {@code true} if this stream is parallel
+     */
+    public boolean isParallel() {
+        return Parallel.isParallel(params);
+    }
+
+    private DoubleStream withParallel(boolean parallel, Executor executor) {
+        return new DoubleStream(Params.withParallel(params, parallel, executor), iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -978,16 +1999,7 @@ public final class DoubleStream implements Closeable {
      */
     public DoubleStream onClose(final Runnable closeHandler) {
         N.requireNonNull(closeHandler);
-        final Params newParams;
-        if (params == null) {
-            newParams = new Params();
-            newParams.closeHandler = closeHandler;
-        } else {
-            newParams = params;
-            final Runnable firstHandler = newParams.closeHandler;
-            newParams.closeHandler = Compose.runnables(firstHandler, closeHandler);
-        }
-        return new DoubleStream(newParams, iterator);
+        return new DoubleStream(Params.withCloseHandler(params, closeHandler), iterator);
     }
 
     /**
@@ -1004,11 +2016,4 @@ public final class DoubleStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-    private static final ToDoubleFunction<Double> UNBOX_FUNCTION = new ToDoubleFunction<Double>() {
-        @Override
-        public double applyAsDouble(Double t) {
-            return t;
-        }
-    };
 }
@@ -0,0 +1,100 @@
+package com.annimon.stream;
+
+import com.annimon.stream.internal.DoubleSum;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Count, sum, minimum, maximum and average of double values,
+ * as returned by {@link DoubleStream#summaryStatistics()}.
+ *
+ * <p>The sum is compensated, so its rounding error does not grow
+ * with the number of values. If the values overflow, the sum is
+ * infinite, as the plain sum of {@link DoubleStream#sum()} is. The minimum and the maximum are NaN
+ * if any value is NaN, as with {@link Math#min(double, double)}.
+ */
+public final class DoubleSummaryStatistics implements DoubleConsumer {
+
+    private long count;
+    private final DoubleSum sum = new DoubleSum();
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    @Override
+    public void accept(double value) {
+        count++;
+        sum.add(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Accepts the values of the array range in one loop.
+     */
+    void accept(double[] values, int offset, int length) {
+        final DoubleSum sum = this.sum;
+        double min = this.min;
+        double max = this.max;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final double value = values[i];
+            sum.add(value);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.min = min;
+        this.max = max;
+        count += length;
+    }
+
+    /**
+     * Adds the statistics of other values.
+     *
+     * @param other  the statistics to add
+     */
+    public void combine(DoubleSummaryStatistics other) {
+        count += other.count;
+        sum.combine(other.sum);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the least value.
+     *
+     * @return the least value, or {@code Double.POSITIVE_INFINITY} if there are no values
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the greatest value.
+     *
+     * @return the greatest value, or {@code Double.NEGATIVE_INFINITY} if there are no values
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @return the average, or {@code 0} if there are no values
+     */
+    public double getAverage() {
+        return (count == 0) ? 0 : getSum() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleSummaryStatistics{count=" + count + ", sum=" + getSum() + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + "}";
+    }
+}
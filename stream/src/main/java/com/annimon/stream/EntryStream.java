@@ -23,8 +23,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Executor;
 
-import com.landawn.abacus.util.Comparators;
 import com.landawn.abacus.util.Fn;
 import com.landawn.abacus.util.Optional;
 import com.landawn.abacus.util.function.BiConsumer;
@@ -35,6 +35,9 @@ import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
 import com.landawn.abacus.util.function.Predicate;
 import com.landawn.abacus.util.function.Supplier;
+import com.landawn.abacus.util.function.ToDoubleFunction;
+import com.landawn.abacus.util.function.ToIntFunction;
+import com.landawn.abacus.util.function.ToLongFunction;
 import com.landawn.abacus.util.stream.Collector;
 import com.landawn.abacus.util.stream.Collectors;
 
@@ -295,6 +298,62 @@ public final class EntryStream<K, V> implements Closeable {
         return flatMap(mapper2);
     }
 
+    /**
+     * Replaces each entry with entries of the keys from the collection mapped
+     * from its key and the value of the entry. A {@code null} collection is skipped.
+     *
+     * <p>Unlike {@link #flatMapKey(Function)}, the collections are iterated directly,
+     * so no stream is created for an entry.
+     *
+     * @param <KK> the type of the new keys
+     * @param keyMapper  the function mapping a key to the new keys
+     * @return the new stream
+     */
+    public <KK> EntryStream<KK, V> flatCollectionKey(final Function<? super K, ? extends Collection<? extends KK>> keyMapper) {
+        final Function<Map.Entry<K, V>, Collection<? extends KK>> mapper = new Function<Map.Entry<K, V>, Collection<? extends KK>>() {
+            @Override
+            public Collection<? extends KK> apply(Map.Entry<K, V> e) {
+                return keyMapper.apply(e.getKey());
+            }
+        };
+        final BiFunction<Map.Entry<K, V>, KK, Map.Entry<KK, V>> combiner = new BiFunction<Map.Entry<K, V>, KK, Map.Entry<KK, V>>() {
+            @Override
+            public Map.Entry<KK, V> apply(Map.Entry<K, V> e, KK kk) {
+                return new AbstractMap.SimpleImmutableEntry<>(kk, e.getValue());
+            }
+        };
+
+        return of(s.flatIterable(mapper, combiner));
+    }
+
+    /**
+     * Replaces each entry with entries of its key and the values from the collection
+     * mapped from the value of the entry. A {@code null} collection is skipped.
+     *
+     * <p>Unlike {@link #flatMapValue(Function)}, the collections are iterated directly,
+     * so no stream is created for an entry.
+     *
+     * @param <VV> the type of the new values
+     * @param valueMapper  the function mapping a value to the new values
+     * @return the new stream
+     */
+    public <VV> EntryStream<K, VV> flatCollectionValue(final Function<? super V, ? extends Collection<? extends VV>> valueMapper) {
+        final Function<Map.Entry<K, V>, Collection<? extends VV>> mapper = new Function<Map.Entry<K, V>, Collection<? extends VV>>() {
+            @Override
+            public Collection<? extends VV> apply(Map.Entry<K, V> e) {
+                return valueMapper.apply(e.getValue());
+            }
+        };
+        final BiFunction<Map.Entry<K, V>, VV, Map.Entry<K, VV>> combiner = new BiFunction<Map.Entry<K, V>, VV, Map.Entry<K, VV>>() {
+            @Override
+            public Map.Entry<K, VV> apply(Map.Entry<K, V> e, VV vv) {
+                return new AbstractMap.SimpleImmutableEntry<>(e.getKey(), vv);
+            }
+        };
+
+        return of(s.flatIterable(mapper, combiner));
+    }
+
     /**
      * 
      * @param classifier
@@ -334,6 +393,180 @@ public final class EntryStream<K, V> implements Closeable {
         return of(s.groupBy(classifier, downstream, mapFactory));
     }
 
+    /**
+     * 
+     * @param downstream
+     * @param maxInMemory
+     * @param serializer
+     * @param compress
+     * @return
+     * @see Stream#groupBy(Function, Collector, int, Serializer, boolean)
+     */
+    public <A, D> EntryStream<K, D> groupBy(final Collector<? super Map.Entry<K, V>, A, D> downstream, final int maxInMemory,
+            final Serializer<Map.Entry<K, V>> serializer, final boolean compress) {
+        final Function<? super Map.Entry<K, V>, K> classifier = Fn.key();
+
+        return of(s.groupBy(classifier, downstream, maxInMemory, serializer, compress));
+    }
+
+    /**
+     * Groups values of adjacent entries with equal keys, the entries must be sorted by key.
+     * 
+     * @return
+     * @see Stream#groupSorted(Function)
+     */
+    public EntryStream<K, List<V>> groupSorted() {
+        final Function<? super Map.Entry<K, V>, K> classifier = Fn.key();
+        final Function<? super Map.Entry<K, V>, V> valueMapper = Fn.value();
+        final Collector<Entry<K, V>, ?, List<V>> collector = Collectors.mapping(valueMapper, Collectors.<V> toList());
+
+        return of(s.groupSorted(classifier, collector));
+    }
+
+    /**
+     * Groups adjacent entries with equal keys, the entries must be sorted by key.
+     * 
+     * @param downstream
+     * @return
+     * @see Stream#groupSorted(Function, Collector)
+     */
+    public <A, D> EntryStream<K, D> groupSorted(final Collector<? super Map.Entry<K, V>, A, D> downstream) {
+        final Function<? super Map.Entry<K, V>, K> classifier = Fn.key();
+
+        return of(s.groupSorted(classifier, downstream));
+    }
+
+    /**
+     * Joins entries with equal keys and combines their values.
+     * 
+     * @param other
+     * @param valueCombiner
+     * @return
+     * @see Stream#innerJoin(Stream, Function, Function, BiFunction)
+     */
+    public <W, R> EntryStream<K, R> innerJoin(final EntryStream<K, W> other, final BiFunction<? super V, ? super W, ? extends R> valueCombiner) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.innerJoin(other.s, keyMapper, otherKeyMapper, EntryStream.<K, V, W, R> valueCombiner(valueCombiner)));
+    }
+
+    /**
+     * Joins entries with equal keys and combines their values,
+     * values without matching entries are combined with {@code null}.
+     * 
+     * @param other
+     * @param valueCombiner
+     * @return
+     * @see Stream#leftJoin(Stream, Function, Function, BiFunction)
+     */
+    public <W, R> EntryStream<K, R> leftJoin(final EntryStream<K, W> other, final BiFunction<? super V, ? super W, ? extends R> valueCombiner) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.leftJoin(other.s, keyMapper, otherKeyMapper, EntryStream.<K, V, W, R> valueCombiner(valueCombiner)));
+    }
+
+    /**
+     * 
+     * @param other
+     * @return
+     * @see Stream#semiJoin(Stream, Function, Function)
+     */
+    public <W> EntryStream<K, V> semiJoin(final EntryStream<K, W> other) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.semiJoin(other.s, keyMapper, otherKeyMapper));
+    }
+
+    /**
+     * 
+     * @param other
+     * @return
+     * @see Stream#antiJoin(Stream, Function, Function)
+     */
+    public <W> EntryStream<K, V> antiJoin(final EntryStream<K, W> other) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.antiJoin(other.s, keyMapper, otherKeyMapper));
+    }
+
+    /**
+     * Joins entries with equal keys and combines their values, both streams must be sorted by key.
+     * 
+     * @param other
+     * @param keyComparator
+     * @param valueCombiner
+     * @return
+     * @see Stream#innerJoinSorted(Stream, Function, Function, Comparator, BiFunction)
+     */
+    public <W, R> EntryStream<K, R> innerJoinSorted(final EntryStream<K, W> other, final Comparator<? super K> keyComparator,
+            final BiFunction<? super V, ? super W, ? extends R> valueCombiner) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.innerJoinSorted(other.s, keyMapper, otherKeyMapper, keyComparator, EntryStream.<K, V, W, R> valueCombiner(valueCombiner)));
+    }
+
+    /**
+     * Joins entries with equal keys and combines their values, both streams must be sorted by key.
+     * Values without matching entries are combined with {@code null}.
+     * 
+     * @param other
+     * @param keyComparator
+     * @param valueCombiner
+     * @return
+     * @see Stream#leftJoinSorted(Stream, Function, Function, Comparator, BiFunction)
+     */
+    public <W, R> EntryStream<K, R> leftJoinSorted(final EntryStream<K, W> other, final Comparator<? super K> keyComparator,
+            final BiFunction<? super V, ? super W, ? extends R> valueCombiner) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.leftJoinSorted(other.s, keyMapper, otherKeyMapper, keyComparator, EntryStream.<K, V, W, R> valueCombiner(valueCombiner)));
+    }
+
+    /**
+     * 
+     * @param other
+     * @param keyComparator
+     * @return
+     * @see Stream#semiJoinSorted(Stream, Function, Function, Comparator)
+     */
+    public <W> EntryStream<K, V> semiJoinSorted(final EntryStream<K, W> other, final Comparator<? super K> keyComparator) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.semiJoinSorted(other.s, keyMapper, otherKeyMapper, keyComparator));
+    }
+
+    /**
+     * 
+     * @param other
+     * @param keyComparator
+     * @return
+     * @see Stream#antiJoinSorted(Stream, Function, Function, Comparator)
+     */
+    public <W> EntryStream<K, V> antiJoinSorted(final EntryStream<K, W> other, final Comparator<? super K> keyComparator) {
+        final Function<Map.Entry<K, V>, K> keyMapper = Fn.key();
+        final Function<Map.Entry<K, W>, K> otherKeyMapper = Fn.key();
+
+        return of(s.antiJoinSorted(other.s, keyMapper, otherKeyMapper, keyComparator));
+    }
+
+    private static <K, V, W, R> BiFunction<Map.Entry<K, V>, Map.Entry<K, W>, Map.Entry<K, R>> valueCombiner(
+            final BiFunction<? super V, ? super W, ? extends R> valueCombiner) {
+        return new BiFunction<Map.Entry<K, V>, Map.Entry<K, W>, Map.Entry<K, R>>() {
+            @Override
+            public Map.Entry<K, R> apply(Map.Entry<K, V> e, Map.Entry<K, W> other) {
+                final R value = valueCombiner.apply(e.getValue(), (other == null) ? null : other.getValue());
+                return new AbstractMap.SimpleImmutableEntry<K, R>(e.getKey(), value);
+            }
+        };
+    }
+
     /**
      * 
      * @return
@@ -369,26 +602,62 @@ public final class EntryStream<K, V> implements Closeable {
         return s.groupTo(classifier, downstream, mapFactory);
     }
 
+    /**
+     * 
+     * @param downstream
+     * @param maxInMemory
+     * @param serializer
+     * @param compress
+     * @return
+     * @see Stream#groupTo(Function, Collector, int, Serializer, boolean)
+     */
+    public <A, D> Map<K, D> groupTo(final Collector<? super Map.Entry<K, V>, A, D> downstream, final int maxInMemory,
+            final Serializer<Map.Entry<K, V>> serializer, final boolean compress) {
+        final Function<? super Map.Entry<K, V>, K> classifier = Fn.key();
+
+        return s.groupTo(classifier, downstream, maxInMemory, serializer, compress);
+    }
+
     public EntryStream<K, V> sorted(final Comparator<? super Map.Entry<K, V>> comparator) {
         return of(s.sorted(comparator));
     }
 
     public EntryStream<K, V> sortedByKey(final Comparator<? super K> keyComparator) {
-        final Comparator<Map.Entry<K, V>> comparator = Comparators.comparingByKey(keyComparator);
+        final Function<Map.Entry<K, V>, K> keyExtractor = Fn.key();
 
-        return of(s.sorted(comparator));
+        return of(s.sortedBy(keyExtractor, keyComparator));
     }
 
     public EntryStream<K, V> sortedByValue(final Comparator<? super V> valueComparator) {
-        final Comparator<Map.Entry<K, V>> comparator = Comparators.comparingByValue(valueComparator);
+        final Function<Map.Entry<K, V>, V> valueExtractor = Fn.value();
 
-        return of(s.sorted(comparator));
+        return of(s.sortedBy(valueExtractor, valueComparator));
     }
 
     public <U extends Comparable<? super U>> EntryStream<K, V> sortedBy(final Function<? super Map.Entry<K, V>, U> keyExtractor) {
         return of(s.sortedBy(keyExtractor));
     }
 
+    public EntryStream<K, V> sortedByInt(final ToIntFunction<? super Map.Entry<K, V>> keyExtractor) {
+        return of(s.sortedByInt(keyExtractor));
+    }
+
+    public EntryStream<K, V> sortedByLong(final ToLongFunction<? super Map.Entry<K, V>> keyExtractor) {
+        return of(s.sortedByLong(keyExtractor));
+    }
+
+    public EntryStream<K, V> sortedByDouble(final ToDoubleFunction<? super Map.Entry<K, V>> keyExtractor) {
+        return of(s.sortedByDouble(keyExtractor));
+    }
+
+    public <U extends Comparable<? super U>> Optional<Map.Entry<K, V>> minBy(final Function<? super Map.Entry<K, V>, U> keyExtractor) {
+        return s.minBy(keyExtractor);
+    }
+
+    public <U extends Comparable<? super U>> Optional<Map.Entry<K, V>> maxBy(final Function<? super Map.Entry<K, V>, U> keyExtractor) {
+        return s.maxBy(keyExtractor);
+    }
+
     public EntryStream<K, V> distinct() {
         return of(s.distinct());
     }
@@ -409,6 +678,25 @@ public final class EntryStream<K, V> implements Closeable {
         return of(s.distinctBy(keyExtractor));
     }
 
+    /**
+     * 
+     * @return
+     * @see Stream#distinctSorted()
+     */
+    public EntryStream<K, V> distinctSorted() {
+        return of(s.distinctSorted());
+    }
+
+    /**
+     * 
+     * @param keyExtractor
+     * @return
+     * @see Stream#distinctUntilChanged(Function)
+     */
+    public EntryStream<K, V> distinctUntilChanged(final Function<? super Map.Entry<K, V>, ?> keyExtractor) {
+        return of(s.distinctUntilChanged(keyExtractor));
+    }
+
     public EntryStream<K, V> skip(long n) {
         return of(s.skip(n));
     }
@@ -534,6 +822,22 @@ public final class EntryStream<K, V> implements Closeable {
         s.println();
     }
 
+    public EntryStream<K, V> parallel() {
+        return of(s.parallel());
+    }
+
+    public EntryStream<K, V> parallel(Executor executor) {
+        return of(s.parallel(executor));
+    }
+
+    public EntryStream<K, V> sequential() {
+        return of(s.sequential());
+    }
+
+    public boolean isParallel() {
+        return s.isParallel();
+    }
+
     public EntryStream<K, V> onClose(Runnable closeHandler) {
         return of(s.onClose(closeHandler));
     }
@@ -1,39 +1,71 @@
 package com.annimon.stream;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.IntMapMultiConsumer;
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.Parallel;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import com.annimon.stream.iterator.PrimitiveIterator.OfInt;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.operator.DoubleEwma;
+import com.annimon.stream.operator.DoubleRunningStats;
 import com.annimon.stream.operator.IntArray;
 import com.annimon.stream.operator.IntCodePoints;
 import com.annimon.stream.operator.IntConcat;
+import com.annimon.stream.operator.IntCumulativeExtremum;
+import com.annimon.stream.operator.IntDistinct;
+import com.annimon.stream.operator.IntDistinctUntilChanged;
 import com.annimon.stream.operator.IntDropWhile;
+import com.annimon.stream.operator.IntExternalSorted;
 import com.annimon.stream.operator.IntFilter;
 import com.annimon.stream.operator.IntFlatMap;
 import com.annimon.stream.operator.IntGenerate;
 import com.annimon.stream.operator.IntIterate;
 import com.annimon.stream.operator.IntLimit;
 import com.annimon.stream.operator.IntMap;
+import com.annimon.stream.operator.IntMapMulti;
 import com.annimon.stream.operator.IntMapToDouble;
 import com.annimon.stream.operator.IntMapToLong;
 import com.annimon.stream.operator.IntMapToObj;
+import com.annimon.stream.operator.IntMerge;
+import com.annimon.stream.operator.IntMergeSorted;
 import com.annimon.stream.operator.IntPeek;
 import com.annimon.stream.operator.IntRangeClosed;
+import com.annimon.stream.operator.IntRollingExtremum;
+import com.annimon.stream.operator.IntRollingMean;
+import com.annimon.stream.operator.IntRollingSum;
 import com.annimon.stream.operator.IntScan;
 import com.annimon.stream.operator.IntScanIdentity;
 import com.annimon.stream.operator.IntSkip;
+import com.annimon.stream.operator.IntSlidingWindow;
 import com.annimon.stream.operator.IntSorted;
 import com.annimon.stream.operator.IntTakeUntil;
 import com.annimon.stream.operator.IntTakeWhile;
+import com.annimon.stream.operator.IntZip;
+import com.annimon.stream.operator.IntZipToObj;
+import com.annimon.stream.operator.ObjMerge;
+import com.landawn.abacus.util.Comparators;
+import com.landawn.abacus.util.MutableLong;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.OptionalDouble;
 import com.landawn.abacus.util.OptionalInt;
+import com.landawn.abacus.util.function.BiConsumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntBiFunction;
 import com.landawn.abacus.util.function.IntBinaryOperator;
 import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntFunction;
@@ -44,7 +76,7 @@ import com.landawn.abacus.util.function.IntToLongFunction;
 import com.landawn.abacus.util.function.IntUnaryOperator;
 import com.landawn.abacus.util.function.ObjIntConsumer;
 import com.landawn.abacus.util.function.Supplier;
-import com.landawn.abacus.util.function.ToIntFunction;
+import com.landawn.abacus.util.stream.Collector;
 
 /**
  * A sequence of primitive int-valued elements supporting sequential operations. This is the {@code int}
@@ -164,6 +196,11 @@ public final class IntStream implements Closeable {
                 next += by;
                 return result;
             }
+
+            @Override
+            public long getExactSizeIfKnown() {
+                return cnt > 0 ? cnt : 0;
+            }
         });
     }
 
@@ -217,6 +254,11 @@ public final class IntStream implements Closeable {
                 next += by;
                 return result;
             }
+
+            @Override
+            public long getExactSizeIfKnown() {
+                return cnt > 0 ? cnt : 0;
+            }
         });
     }
 
@@ -307,15 +349,179 @@ public final class IntStream implements Closeable {
     public static IntStream concat(final IntStream a, final IntStream b) {
         N.requireNonNull(a);
         N.requireNonNull(b);
+        return concat(Arrays.asList(a, b));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static IntStream concat(final IntStream... streams) {
+        return concat(Arrays.asList(streams));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static IntStream concat(final Collection<? extends IntStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfInt> iterators = new ArrayList<>(streams.size());
+        final List<Params> streamParams = new ArrayList<>();
+        for (IntStream stream : streams) {
+            N.requireNonNull(stream);
+            iterators.add(stream.iterator);
+            if (stream.params != null) {
+                streamParams.add(stream.params);
+            }
+        }
         @SuppressWarnings("resource")
-        IntStream result = new IntStream(new IntConcat(a.iterator, b.iterator));
-        return result.onClose(Compose.closeables(a, b));
+        IntStream result = new IntStream(new IntConcat(iterators));
+        return streamParams.isEmpty() ? result : result.onClose(Compose.closeAll(streamParams));
     }
 
     public static IntStream concat(final int[] a, final int[] b) {
         return new IntStream(new IntConcat(OfInt.of(a), OfInt.of(b)));
     }
 
+    /**
+     * Combines two streams by applying the combiner to the values at the same position.
+     * The new stream ends with the shorter of the streams, and closing it
+     * closes both streams.
+     *
+     * <p>Values are combined without boxing, bulk operations combine
+     * a batch of values of both streams at a time.
+     *
+     * <p>Example:
+     * <pre>
+     * combiner: (a, b) -&gt; a + b
+     * stream 1: [1, 2, 3, 4]
+     * stream 2: [5, 6, 7, 8]
+     * result:   [6, 8, 10, 12]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see Stream#zip(Stream, Stream, com.landawn.abacus.util.function.BiFunction)
+     */
+    public static IntStream zip(final IntStream a, final IntStream b, final IntBinaryOperator combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        IntStream result = new IntStream(new IntZip(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static IntStream zip(final int[] a, final int[] b, final IntBinaryOperator combiner) {
+        return new IntStream(new IntZip(OfInt.of(a), OfInt.of(b), combiner));
+    }
+
+    /**
+     * Combines two streams to a stream of objects by applying the combiner
+     * to the values at the same position. The new stream ends with the shorter
+     * of the streams, and closing it closes both streams.
+     *
+     * @param <R> the type of the result elements
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see #zip(IntStream, IntStream, IntBinaryOperator)
+     */
+    public static <R> Stream<R> zipToObj(final IntStream a, final IntStream b,
+            final IntBiFunction<? extends R> combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        Stream<R> result = new Stream<>(null, new IntZipToObj<>(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static <R> Stream<R> zipToObj(final int[] a, final int[] b, final IntBiFunction<? extends R> combiner) {
+        return new Stream<>(null, new IntZipToObj<>(OfInt.of(a), OfInt.of(b), combiner));
+    }
+
+    /**
+     * Merges values of two streams according to the supplied selector function,
+     * as {@link Stream#merge(Stream, Stream, com.landawn.abacus.util.function.BiFunction)}
+     * does for objects. Closing the new stream closes both streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 3, 8, 10]
+     * stream 2: [2, 5, 6, 12]
+     * selector: (a, b) -&gt; a &lt; b ? TAKE_FIRST : TAKE_SECOND
+     * result:   [1, 2, 3, 5, 6, 8, 10, 12]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param selector  the selector function used to choose values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static IntStream merge(final IntStream a, final IntStream b,
+            final IntBiFunction<ObjMerge.MergeResult> selector) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        IntStream result = new IntStream(new IntMerge(a.iterator, b.iterator, selector));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static IntStream merge(final int[] a, final int[] b, final IntBiFunction<ObjMerge.MergeResult> selector) {
+        return new IntStream(new IntMerge(OfInt.of(a), OfInt.of(b), selector));
+    }
+
+    /**
+     * Merges streams sorted in ascending order into one sorted stream.
+     *
+     * <p>Values are merged with a heap of the current values of the streams,
+     * so each value takes O(log n) comparisons for n streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     */
+    public static IntStream mergeSorted(final Collection<? extends IntStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfInt> iterators = new ArrayList<>(streams.size());
+        for (IntStream stream : streams) {
+            iterators.add(N.requireNonNull(stream).iterator);
+        }
+        @SuppressWarnings("resource")
+        IntStream result = new IntStream(new IntMergeSorted(iterators));
+        return result.onClose(Compose.closeables(streams));
+    }
+
     private final PrimitiveIterator.OfInt iterator;
     private final Params params;
 
@@ -459,6 +665,31 @@ public final class IntStream implements Closeable {
         return new IntStream(params, new IntFlatMap(iterator, mapper));
     }
 
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMap(IntFunction)}, no stream is created for each element,
+     * the values are collected in a reusable buffer.
+     * The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (a, sink) -&gt; { sink.accept(a); sink.accept(a * 10); }
+     * stream: [1, 2, 3]
+     * result: [1, 10, 2, 20, 3, 30]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new stream
+     * @see #flatMap(IntFunction)
+     */
+    public IntStream mapMulti(final IntMapMultiConsumer mapper) {
+        return new IntStream(params, new IntMapMulti(iterator, mapper));
+    }
+
     /**
      * Returns a stream consisting of the distinct elements of this stream.
      *
@@ -473,9 +704,74 @@ public final class IntStream implements Closeable {
      * @return the new stream
      */
     public IntStream distinct() {
-        // While functional and quick to implement, this approach is not very efficient.
-        // An efficient version requires an int-specific map/set implementation.
-        return boxed().distinct().mapToInt(UNBOX_FUNCTION);
+        return new IntStream(params, new IntDistinct(iterator));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this sorted stream.
+     * In contrast to {@link #distinct()}, this method assumes that equal values
+     * are adjacent, so it only compares each value with the previous one.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 1, 2, 3, 3, 3, 4]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public IntStream distinctSorted() {
+        return new IntStream(params, new IntDistinctUntilChanged(iterator));
+    }
+
+    /**
+     * Returns a stream without values whose key equals the key of the previous value
+     * (as determined by {@code equals} method). Only the last key is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (a) -&gt; a % 2
+     * stream: [1, 3, 2, 4, 6, 5]
+     * result: [1, 2, 5]
+     * </pre>
+     *
+     * @param <K> the type of the keys
+     * @param keyExtractor  the key function
+     * @return the new stream
+     */
+    public <K> IntStream distinctUntilChanged(final IntFunction<? extends K> keyExtractor) {
+        return new IntStream(params, new IntDistinctUntilChanged(iterator, keyExtractor));
+    }
+
+    /**
+     * Partitions this sorted stream into {@code Map} entries according to the given
+     * classifier function and reduces values of each group with the downstream {@code Collector}.
+     * Values must be sorted by the key, each group is returned as soon as the key changes
+     * and only the current group is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of values in each group
+     * @return the new stream
+     * @throws NullPointerException if a value is mapped to a {@code null} key
+     * @see Stream#groupSorted(Function, Collector)
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupSorted(final IntFunction<? extends K> classifier,
+            final Collector<? super Integer, A, D> downstream) {
+        return boxed().groupSorted(new Function<Integer, K>() {
+            @Override
+            public K apply(Integer value) {
+                return classifier.apply(value);
+            }
+        }, downstream);
     }
 
     /**
@@ -496,9 +792,44 @@ public final class IntStream implements Closeable {
         return new IntStream(params, new IntSorted(iterator));
     }
 
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order,
+     * which holds at most {@code maxInMemory} elements in memory.
+     *
+     * <p>Elements are sorted in runs of {@code maxInMemory} elements, the runs are written
+     * to temporary files and merged lazily as the elements are consumed.
+     * Temporary files are deleted when all elements are consumed or the stream is closed,
+     * so a stream which may not be consumed to the end, e.g. by {@code findFirst} or {@code limit},
+     * must be closed, e.g. with try-with-resources. Otherwise its files are only deleted
+     * when the virtual machine exits.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param maxInMemory  the max number of elements held in memory
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     *         when the elements are consumed
+     */
+    public IntStream sorted(int maxInMemory) {
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory must be positive");
+        }
+        final IntExternalSorted sorted = new IntExternalSorted(iterator, maxInMemory);
+        return new IntStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Returns {@code IntStream} with sorted elements (as determinated by provided {@code Comparator}).
      *
+     * <p>Values are sorted in a primitive array. Natural and reverse order comparators
+     * ({@code Collections.reverseOrder()}) are recognized and sorted without calling them.
+     *
      * <p>This is a stateful intermediate operation.
      *
      * <p>Example:
@@ -510,9 +841,91 @@ public final class IntStream implements Closeable {
      *
      * @param comparator  the {@code Comparator} to compare elements
      * @return the new {@code IntStream}
+     * @see #sortedWith(IntComparator)
+     */
+    public IntStream sorted(final Comparator<Integer> comparator) {
+        if (comparator == null || comparator == Comparators.<Integer>naturalOrder()) {
+            return sorted();
+        }
+        if (comparator == Collections.<Integer>reverseOrder() || comparator == Comparators.<Integer>reversedOrder()) {
+            return new IntStream(params, new IntSorted(iterator, true, Long.MAX_VALUE));
+        }
+        return sortedWith(new IntComparator() {
+            @Override
+            public int compare(int value1, int value2) {
+                return comparator.compare(value1, value2);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code IntStream} with sorted elements (as determinated by provided {@code IntComparator}).
+     * Unlike {@link #sorted(Comparator)}, the comparator takes {@code int} values,
+     * so they are sorted in a primitive array without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; Math.abs(a) - Math.abs(b)
+     * stream: [3, -1, -4, 2]
+     * result: [-1, 2, 3, -4]
+     * </pre>
+     *
+     * @param comparator  the {@code IntComparator} to compare elements
+     * @return the new {@code IntStream}
+     */
+    public IntStream sortedWith(IntComparator comparator) {
+        N.requireNonNull(comparator);
+        return new IntStream(params, new IntSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} greatest elements
+     * of this stream in descending order.
+     * Elements are selected with a bounded heap of size {@code k},
+     * so the whole stream is not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #bottom(long)
+     */
+    public IntStream top(long k) {
+        return new IntStream(params, new IntSorted(iterator, true, Long.MAX_VALUE)).limit(k);
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} least elements
+     * of this stream in ascending order.
+     * Same as {@code sorted().limit(k)}, which also selects elements
+     * with a bounded heap.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #top(long)
      */
-    public IntStream sorted(Comparator<Integer> comparator) {
-        return boxed().sorted(comparator).mapToInt(UNBOX_FUNCTION);
+    public IntStream bottom(long k) {
+        return sorted().limit(k);
     }
 
     /**
@@ -581,6 +994,260 @@ public final class IntStream implements Closeable {
         return new IntStream(params, new IntScanIdentity(iterator, identity, accumulator));
     }
 
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by 1.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+     * </pre>
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see Stream#sliding(int)
+     */
+    public Stream<int[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by the given step width.
+     * The last array may be smaller.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int)
+     */
+    public Stream<int[]> sliding(final int windowSize, final int stepWidth) {
+        return sliding(windowSize, stepWidth, false);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream,
+     * as {@link #sliding(int, int)} does.
+     *
+     * <p>In reuse mode the same array is returned for each full window, so a window is only
+     * valid until the next one is requested, and no array is allocated per window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @param reuse  {@code true} to reuse one array for all full windows
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int, boolean)
+     */
+    public Stream<int[]> sliding(final int windowSize, final int stepWidth, final boolean reuse) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0)
+            throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<>(params, new IntSlidingWindow(iterator, windowSize, stepWidth, reuse));
+    }
+
+    /**
+     * Returns a stream of the sums of the last {@code windowSize} values for each value
+     * of this stream. The first sum covers the first {@code windowSize} values, so the result
+     * is the same as of {@code sliding(windowSize)} with each window summed, but each sum
+     * is updated in O(1) time.
+     *
+     * <p>The sums overflow as {@link #sum()} does.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [6, 9, 12]
+     * </pre>
+     *
+     * @param windowSize  the number of values to sum
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #sliding(int)
+     */
+    public IntStream rollingSum(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new IntStream(params, new IntRollingSum(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the means of the last {@code windowSize} values for each value
+     * of this stream, as {@link #rollingSum(int)} divided by the window size.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [2.0, 3.0, 4.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to average
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public DoubleStream rollingMean(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new IntRollingMean(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the minimums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each minimum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3, 1, 4, 1, 5, 9]
+     * result: [1, 1, 1, 1]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the minimum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public IntStream rollingMin(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new IntStream(params, new IntRollingExtremum(iterator, windowSize, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each maximum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3, 1, 4, 1, 5, 9]
+     * result: [4, 4, 5, 9]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the maximum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public IntStream rollingMax(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new IntStream(params, new IntRollingExtremum(iterator, windowSize, true));
+    }
+
+    private static void checkWindowSize(int windowSize) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+    }
+
+    /**
+     * Returns a stream of the statistics of the values of this stream up to each value:
+     * the count, the mean, the variance, the minimum and the maximum.
+     * The state is kept in primitive fields and the mean and the variance are updated
+     * by Welford's method, so a scan takes O(1) time per value without losing precision.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, 4]
+     * result: [{count=1, mean=1.0, variance=0.0}, {count=2, mean=1.5, variance=0.25},
+     *          {count=3, mean=2.0, variance=0.667}, {count=4, mean=2.5, variance=1.25}]
+     * </pre>
+     *
+     * @return the new stream
+     * @see RunningStatistics
+     */
+    public Stream<RunningStatistics> runningStats() {
+        return new Stream<>(params, new DoubleRunningStats(asDoubles()));
+    }
+
+    /**
+     * Returns a stream of the exponentially weighted moving averages of the values
+     * of this stream up to each value. The first average is the first value, each next one is
+     * {@code alpha * value + (1 - alpha) * previous}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * alpha: 0.5
+     * stream: [1, 2, 3, 4]
+     * result: [1.0, 1.5, 2.25, 3.125]
+     * </pre>
+     *
+     * @param alpha  the weight of each new value, greater than 0 and at most 1
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code alpha} is not in range (0, 1]
+     */
+    public DoubleStream ewma(final double alpha) {
+        if (!(alpha > 0 && alpha <= 1))
+            throw new IllegalArgumentException("alpha must be in range (0, 1]");
+        return new DoubleStream(params, new DoubleEwma(asDoubles(), alpha));
+    }
+
+    /**
+     * Returns a stream of the minimums of the values of this stream up to each value.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 1, 4, 1, 5]
+     * result: [3, 1, 1, 1, 1]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public IntStream cumulativeMin() {
+        return new IntStream(params, new IntCumulativeExtremum(iterator, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the values of this stream up to each value.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 1, 4, 1, 5]
+     * result: [3, 3, 4, 4, 5]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public IntStream cumulativeMax() {
+        return new IntStream(params, new IntCumulativeExtremum(iterator, true));
+    }
+
+    private PrimitiveIterator.OfDouble asDoubles() {
+        return new IntMapToDouble(iterator, new IntToDoubleFunction() {
+            @Override
+            public double applyAsDouble(int value) {
+                return value;
+            }
+        });
+    }
+
     /**
      * Takes elements while the predicate returns {@code true}.
      *
@@ -669,6 +1336,13 @@ public final class IntStream implements Closeable {
         if (maxSize == 0) {
             return IntStream.empty();
         }
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).limit(maxSize);
+            return this;
+        }
+        if (iterator instanceof IntSorted && ((IntSorted) iterator).limit(maxSize)) {
+            return this;
+        }
         return new IntStream(params, new IntLimit(iterator, maxSize));
     }
 
@@ -701,6 +1375,10 @@ public final class IntStream implements Closeable {
         } else if (n == 0) {
             return this;
         } else {
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).skip(n);
+            return this;
+        }
             return new IntStream(params, new IntSkip(iterator, n));
         }
     }
@@ -711,11 +1389,28 @@ public final class IntStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public int sum() {
-        int sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextInt();
+        if (isParallel()) {
+            final List<Integer> sums = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, Integer>() {
+                @Override
+                public Integer apply(PrimitiveIterator.OfInt part) {
+                    return new IntStream(null, part).sum();
+                }
+            });
+            int sum = 0;
+            for (int partSum : sums) {
+                sum += partSum;
+            }
+            return sum;
         }
-
+        final int[] batch = new int[Operators.batchSize(iterator)];
+        int sum = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                sum += batch[i];
+            }
+        } while (size == batch.length);
         return sum;
     }
 
@@ -763,11 +1458,34 @@ public final class IntStream implements Closeable {
      * @return the count of elements in this stream
      */
     public int count() {
-        int count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextInt();
-            count++;
+        if (iterator instanceof RandomAccessIterator) {
+            final RandomAccessIterator source = (RandomAccessIterator) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size >= 0) {
+                source.skip(size);
+                return (int) size;
+            }
         }
+        if (isParallel()) {
+            final List<Integer> counts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, Integer>() {
+                @Override
+                public Integer apply(PrimitiveIterator.OfInt part) {
+                    return new IntStream(null, part).count();
+                }
+            });
+            int count = 0;
+            for (int partCount : counts) {
+                count += partCount;
+            }
+            return count;
+        }
+        final int[] batch = new int[Operators.batchSize(iterator)];
+        int count = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            count += size;
+        } while (size == batch.length);
         return count;
     }
 
@@ -779,15 +1497,52 @@ public final class IntStream implements Closeable {
      * @return the average of elements in this stream
      */
     public OptionalDouble average() {
-        long count = 0;
-        long sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextInt();
-            count++;
-        }
-        if (count == 0)
+        final MutableLong count = MutableLong.of(0);
+        final MutableLong sum = MutableLong.of(0);
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                sum.add(value);
+                count.increment();
+            }
+        });
+        if (count.value() == 0)
             return OptionalDouble.empty();
-        return OptionalDouble.of(((double) sum) / count);
+        return OptionalDouble.of((double) sum.value() / count.value());
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the elements of this stream,
+     * computed in one pass. The sum is a {@code long}, so it does not overflow as {@link #sum()} does.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return the statistics of the elements of this stream
+     * @see IntSummaryStatistics
+     */
+    public IntSummaryStatistics summaryStatistics() {
+        if (isParallel()) {
+            final List<IntSummaryStatistics> parts = Parallel.evaluate(params, iterator,
+                    new Function<PrimitiveIterator.OfInt, IntSummaryStatistics>() {
+                        @Override
+                        public IntSummaryStatistics apply(PrimitiveIterator.OfInt part) {
+                            return new IntStream(null, part).summaryStatistics();
+                        }
+                    });
+            final IntSummaryStatistics statistics = new IntSummaryStatistics();
+            for (IntSummaryStatistics part : parts) {
+                statistics.combine(part);
+            }
+            return statistics;
+        }
+        final IntSummaryStatistics statistics = new IntSummaryStatistics();
+        final int[] batch = new int[Operators.batchSize(iterator)];
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            statistics.accept(batch, 0, size);
+        } while (size == batch.length);
+        return statistics;
     }
 
     /**
@@ -815,12 +1570,10 @@ public final class IntStream implements Closeable {
      *         predicate, otherwise {@code false}
      */
     public boolean anyMatch(IntPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextInt()))
-                return true;
+        if (isParallel()) {
+            return matchParallel(predicate, false);
         }
-
-        return false;
+        return matchSequential(predicate, false);
     }
 
     /**
@@ -848,12 +1601,10 @@ public final class IntStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean allMatch(IntPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (!predicate.test(iterator.nextInt()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, true);
         }
-
-        return true;
+        return !matchSequential(predicate, true);
     }
 
     /**
@@ -881,11 +1632,62 @@ public final class IntStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean noneMatch(IntPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextInt()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, false);
+        }
+        return !matchSequential(predicate, false);
+    }
+
+    /**
+     * Returns whether any part of a parallel stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchParallel(final IntPredicate predicate, final boolean kindAll) {
+        // Set by the part which finds the element deciding the result
+        final AtomicBoolean decided = new AtomicBoolean();
+        Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, Void>() {
+            @Override
+            public Void apply(PrimitiveIterator.OfInt part) {
+                while (!decided.get() && part.hasNext()) {
+                    if (predicate.test(part.nextInt()) ^ kindAll) {
+                        decided.set(true);
+                    }
+                }
+                return null;
+            }
+        });
+        return decided.get();
+    }
+
+    /**
+     * Returns whether the stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchSequential(IntPredicate predicate, boolean kindAll) {
+        final Match match = new Match(predicate, kindAll);
+        while (iterator.tryAdvanceInt(match)) {
+            if (match.decided) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Match implements IntConsumer {
+
+        private final IntPredicate predicate;
+        private final boolean kindAll;
+        private boolean decided;
+
+        Match(IntPredicate predicate, boolean kindAll) {
+            this.predicate = predicate;
+            this.kindAll = kindAll;
+        }
+
+        @Override
+        public void accept(int value) {
+            decided = predicate.test(value) ^ kindAll;
         }
-        return true;
     }
 
     /**
@@ -898,6 +1700,10 @@ public final class IntStream implements Closeable {
      *         or an empty {@code OptionalInt} if the stream is empty
      */
     public OptionalInt findFirst() {
+        if (iterator instanceof IntSorted) {
+            // select the first element instead of sorting all of them
+            ((IntSorted) iterator).limit(1);
+        }
         if (iterator.hasNext()) {
             return OptionalInt.of(iterator.nextInt());
         } else {
@@ -916,6 +1722,18 @@ public final class IntStream implements Closeable {
      * @since 1.1.8
      */
     public OptionalInt findLast() {
+        if (iterator instanceof RandomAccessIterator.OfInt) {
+            final RandomAccessIterator.OfInt source = (RandomAccessIterator.OfInt) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size == 0) {
+                return OptionalInt.empty();
+            }
+            if (size > 0) {
+                final int last = source.getInt(size - 1);
+                source.skip(size);
+                return OptionalInt.of(last);
+            }
+        }
         return reduce(new IntBinaryOperator() {
             @Override
             public int applyAsInt(int left, int right) {
@@ -924,6 +1742,31 @@ public final class IntStream implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code OptionalInt} class.
+     * If stream contains fewer elements, returns {@code OptionalInt.empty()}.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4, 5]
+     * result: 3
+     * </pre>
+     *
+     * @param index  the zero-based position of the element
+     * @return an {@code OptionalInt} with the element at the given position
+     *         or {@code OptionalInt.empty()} if the stream contains fewer elements
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public OptionalInt elementAt(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index cannot be negative");
+        }
+        return skip(index).findFirst();
+    }
+
     /**
      * Performs an action for each element of this stream.
      *
@@ -931,10 +1774,18 @@ public final class IntStream implements Closeable {
      *
      * @param action a non-interfering action to perform on the elements
      */
-    public void forEach(IntConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextInt());
+    public void forEach(final IntConsumer action) {
+        if (isParallel()) {
+            Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, Void>() {
+                @Override
+                public Void apply(PrimitiveIterator.OfInt part) {
+                    part.forEachRemainingInt(action);
+                    return null;
+                }
+            });
+            return;
         }
+        iterator.forEachRemainingInt(action);
     }
 
     /**
@@ -965,12 +1816,37 @@ public final class IntStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public int reduce(int identity, IntBinaryOperator op) {
-        int result = identity;
-        while (iterator.hasNext()) {
-            int value = iterator.nextInt();
-            result = op.applyAsInt(result, value);
+    public int reduce(final int identity, final IntBinaryOperator op) {
+        if (isParallel()) {
+            final List<Integer> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, Integer>() {
+                @Override
+                public Integer apply(PrimitiveIterator.OfInt part) {
+                    return new IntStream(null, part).reduce(identity, op);
+                }
+            });
+            int result = results.get(0);
+            for (int i = 1, size = results.size(); i < size; i++) {
+                result = op.applyAsInt(result, results.get(i));
+            }
+            return result;
+        }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that op runs in turn with the functions of the stages
+            int result = identity;
+            while (iterator.hasNext()) {
+                result = op.applyAsInt(result, iterator.nextInt());
+            }
+            return result;
         }
+        final int[] batch = new int[Operators.batchSize(iterator)];
+        int result = identity;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = op.applyAsInt(result, batch[i]);
+            }
+        } while (size == batch.length);
         return result;
     }
 
@@ -988,20 +1864,51 @@ public final class IntStream implements Closeable {
      * @return the result of the reduction
      * @see #reduce(int, IntBinaryOperator)
      */
-    public OptionalInt reduce(IntBinaryOperator op) {
-        boolean foundAny = false;
-        int result = 0;
-        while (iterator.hasNext()) {
-            int value = iterator.nextInt();
-
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = op.applyAsInt(result, value);
+    public OptionalInt reduce(final IntBinaryOperator op) {
+        if (isParallel()) {
+            final List<OptionalInt> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, OptionalInt>() {
+                @Override
+                public OptionalInt apply(PrimitiveIterator.OfInt part) {
+                    return new IntStream(null, part).reduce(op);
+                }
+            });
+            OptionalInt result = OptionalInt.empty();
+            for (OptionalInt partResult : results) {
+                if (partResult.isPresent()) {
+                    result = result.isPresent()
+                            ? OptionalInt.of(op.applyAsInt(result.get(), partResult.get()))
+                            : partResult;
+                }
+            }
+            return result;
+        }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that op runs in turn with the functions of the stages
+            if (!iterator.hasNext()) {
+                return OptionalInt.empty();
+            }
+            int result = iterator.nextInt();
+            while (iterator.hasNext()) {
+                result = op.applyAsInt(result, iterator.nextInt());
+            }
+            return OptionalInt.of(result);
+        }
+        final int[] batch = new int[Operators.batchSize(iterator)];
+        int size = iterator.nextBatch(batch, 0, batch.length);
+        if (size == 0) {
+            return OptionalInt.empty();
+        }
+        int result = batch[0];
+        for (int i = 1; i < size; i++) {
+            result = op.applyAsInt(result, batch[i]);
+        }
+        while (size == batch.length) {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = op.applyAsInt(result, batch[i]);
             }
         }
-        return foundAny ? OptionalInt.of(result) : OptionalInt.empty();
+        return OptionalInt.of(result);
     }
 
     /**
@@ -1015,11 +1922,47 @@ public final class IntStream implements Closeable {
      * @return the result of collect elements
      * @see Stream#collect(com.landawn.abacus.util.function.Supplier, com.landawn.abacus.util.function.BiConsumer)
      */
-    public <R> R collect(Supplier<R> supplier, ObjIntConsumer<R> accumulator) {
-        R result = supplier.get();
-        while (iterator.hasNext()) {
-            final int value = iterator.nextInt();
-            accumulator.accept(result, value);
+    public <R> R collect(Supplier<R> supplier, final ObjIntConsumer<R> accumulator) {
+        final R result = supplier.get();
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                accumulator.accept(result, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Collects elements to {@code supplier} provided container by applying the given accumulation function.
+     *
+     * <p>The {@code combiner} merges the containers of parts of a parallel stream
+     * by adding the elements of the second container to the first one,
+     * it is not used by a sequential stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param supplier  the supplier function that provides container
+     * @param accumulator  the accumulation function
+     * @param combiner  the function for combining two containers
+     * @return the result of collect elements
+     * @see #parallel()
+     */
+    public <R> R collect(final Supplier<R> supplier, final ObjIntConsumer<R> accumulator,
+            BiConsumer<R, R> combiner) {
+        if (!isParallel()) {
+            return collect(supplier, accumulator);
+        }
+        final List<R> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, R>() {
+            @Override
+            public R apply(PrimitiveIterator.OfInt part) {
+                return new IntStream(null, part).collect(supplier, accumulator);
+            }
+        });
+        final R result = results.get(0);
+        for (int i = 1, size = results.size(); i < size; i++) {
+            combiner.accept(result, results.get(i));
         }
         return result;
     }
@@ -1032,6 +1975,25 @@ public final class IntStream implements Closeable {
      * @return an array containing the elements of this stream
      */
     public int[] toArray() {
+        if (isParallel()) {
+            final List<int[]> parts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfInt, int[]>() {
+                @Override
+                public int[] apply(PrimitiveIterator.OfInt part) {
+                    return Operators.toIntArray(part);
+                }
+            });
+            int size = 0;
+            for (int[] part : parts) {
+                size += part.length;
+            }
+            final int[] result = new int[size];
+            int offset = 0;
+            for (int[] part : parts) {
+                System.arraycopy(part, 0, result, offset, part.length);
+                offset += part.length;
+            }
+            return result;
+        }
         return Operators.toIntArray(iterator);
     }
 
@@ -1109,6 +2071,66 @@ public final class IntStream implements Closeable {
         boxed().println();
     }
 
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the default fork/join pool.
+     *
+     * <p>Array and range sources are split into parts, which pass through
+     * {@code map}, {@code filter}, {@code peek} and {@code mapTo*} operators concurrently.
+     * Pipelines with other operators are evaluated sequentially.
+     * {@code forEach}, {@code reduce}, {@code collect}, {@code sum}, {@code count},
+     * {@code anyMatch}, {@code allMatch}, {@code noneMatch} and {@code toArray}
+     * combine the results of the parts, other terminal operations are sequential.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the parallel stream
+     * @see #parallel(java.util.concurrent.Executor)
+     * @see #sequential()
+     */
+    public IntStream parallel() {
+        return withParallel(true, null);
+    }
+
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the given executor.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param executor  the executor to run the parts of the stream
+     * @return the parallel stream
+     * @throws NullPointerException if {@code executor} is null
+     * @see #parallel()
+     */
+    public IntStream parallel(Executor executor) {
+        N.requireNonNull(executor);
+        return withParallel(true, executor);
+    }
+
+    /**
+     * Returns an equivalent sequential stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the sequential stream
+     * @see #parallel()
+     */
+    public IntStream sequential() {
+        return withParallel(false, null);
+    }
+
+    /**
+     * Returns whether this stream is evaluated in parallel.
+     *
+     * @return {@code true} if this stream is parallel
+     */
+    public boolean isParallel() {
+        return Parallel.isParallel(params);
+    }
+
+    private IntStream withParallel(boolean parallel, Executor executor) {
+        return new IntStream(Params.withParallel(params, parallel, executor), iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1120,16 +2142,7 @@ public final class IntStream implements Closeable {
      */
     public IntStream onClose(final Runnable closeHandler) {
         N.requireNonNull(closeHandler);
-        final Params newParams;
-        if (params == null) {
-            newParams = new Params();
-            newParams.closeHandler = closeHandler;
-        } else {
-            newParams = params;
-            final Runnable firstHandler = newParams.closeHandler;
-            newParams.closeHandler = Compose.runnables(firstHandler, closeHandler);
-        }
-        return new IntStream(newParams, iterator);
+        return new IntStream(Params.withCloseHandler(params, closeHandler), iterator);
     }
 
     /**
@@ -1146,11 +2159,4 @@ public final class IntStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-    private static final ToIntFunction<Integer> UNBOX_FUNCTION = new ToIntFunction<Integer>() {
-        @Override
-        public int applyAsInt(Integer t) {
-            return t;
-        }
-    };
 }
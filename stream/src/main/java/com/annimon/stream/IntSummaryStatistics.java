@@ -0,0 +1,102 @@
+package com.annimon.stream;
+
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * Count, sum, minimum, maximum and average of int values,
+ * as returned by {@link IntStream#summaryStatistics()}.
+ *
+ * <p>Values are summed to a {@code long}, which cannot overflow
+ * for fewer than 2<sup>32</sup> values.
+ */
+public final class IntSummaryStatistics implements IntConsumer {
+
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    @Override
+    public void accept(int value) {
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Accepts the values of the array range in one loop.
+     */
+    void accept(int[] values, int offset, int length) {
+        long sum = this.sum;
+        int min = this.min;
+        int max = this.max;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final int value = values[i];
+            sum += value;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        count += length;
+    }
+
+    /**
+     * Adds the statistics of other values.
+     *
+     * @param other  the statistics to add
+     */
+    public void combine(IntSummaryStatistics other) {
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the least value.
+     *
+     * @return the least value, or {@code Integer.MAX_VALUE} if there are no values
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the greatest value.
+     *
+     * @return the greatest value, or {@code Integer.MIN_VALUE} if there are no values
+     */
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @return the average, or {@code 0} if there are no values
+     */
+    public double getAverage() {
+        return (count == 0) ? 0 : (double) sum / count;
+    }
+
+    @Override
+    public String toString() {
+        return "IntSummaryStatistics{count=" + count + ", sum=" + sum + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + "}";
+    }
+}
@@ -2,38 +2,70 @@ package com.annimon.stream;
 
 import java.io.Closeable;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.annimon.stream.function.LongComparator;
+import com.annimon.stream.function.LongMapMultiConsumer;
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.Parallel;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import com.annimon.stream.iterator.PrimitiveIterator.OfLong;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.annimon.stream.operator.DoubleEwma;
+import com.annimon.stream.operator.DoubleRunningStats;
 import com.annimon.stream.operator.LongArray;
 import com.annimon.stream.operator.LongConcat;
+import com.annimon.stream.operator.LongCumulativeExtremum;
+import com.annimon.stream.operator.LongDistinct;
+import com.annimon.stream.operator.LongDistinctUntilChanged;
 import com.annimon.stream.operator.LongDropWhile;
+import com.annimon.stream.operator.LongExternalSorted;
 import com.annimon.stream.operator.LongFilter;
 import com.annimon.stream.operator.LongFlatMap;
 import com.annimon.stream.operator.LongGenerate;
 import com.annimon.stream.operator.LongIterate;
 import com.annimon.stream.operator.LongLimit;
 import com.annimon.stream.operator.LongMap;
+import com.annimon.stream.operator.LongMapMulti;
 import com.annimon.stream.operator.LongMapToDouble;
 import com.annimon.stream.operator.LongMapToInt;
 import com.annimon.stream.operator.LongMapToObj;
+import com.annimon.stream.operator.LongMerge;
+import com.annimon.stream.operator.LongMergeSorted;
 import com.annimon.stream.operator.LongPeek;
 import com.annimon.stream.operator.LongRangeClosed;
+import com.annimon.stream.operator.LongRollingExtremum;
+import com.annimon.stream.operator.LongRollingMean;
+import com.annimon.stream.operator.LongRollingSum;
 import com.annimon.stream.operator.LongScan;
 import com.annimon.stream.operator.LongScanIdentity;
 import com.annimon.stream.operator.LongSkip;
+import com.annimon.stream.operator.LongSlidingWindow;
 import com.annimon.stream.operator.LongSorted;
 import com.annimon.stream.operator.LongTakeUntil;
 import com.annimon.stream.operator.LongTakeWhile;
+import com.annimon.stream.operator.LongZip;
+import com.annimon.stream.operator.LongZipToObj;
+import com.annimon.stream.operator.ObjMerge;
+import com.landawn.abacus.util.Comparators;
+import com.landawn.abacus.util.MutableLong;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.OptionalDouble;
 import com.landawn.abacus.util.OptionalLong;
+import com.landawn.abacus.util.function.BiConsumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.LongBiFunction;
 import com.landawn.abacus.util.function.LongBinaryOperator;
 import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongFunction;
@@ -44,7 +76,7 @@ import com.landawn.abacus.util.function.LongToIntFunction;
 import com.landawn.abacus.util.function.LongUnaryOperator;
 import com.landawn.abacus.util.function.ObjLongConsumer;
 import com.landawn.abacus.util.function.Supplier;
-import com.landawn.abacus.util.function.ToLongFunction;
+import com.landawn.abacus.util.stream.Collector;
 
 /**
  * A sequence of {@code long}-valued elements supporting aggregate operations.
@@ -163,6 +195,11 @@ public final class LongStream implements Closeable {
                 next += by;
                 return result;
             }
+
+            @Override
+            public long getExactSizeIfKnown() {
+                return cnt > 0 ? cnt : 0;
+            }
         });
     }
 
@@ -227,6 +264,11 @@ public final class LongStream implements Closeable {
                 next += by;
                 return result;
             }
+
+            @Override
+            public long getExactSizeIfKnown() {
+                return cnt > 0 ? cnt : 0;
+            }
         });
     }
 
@@ -311,15 +353,179 @@ public final class LongStream implements Closeable {
     public static LongStream concat(final LongStream a, final LongStream b) {
         N.requireNonNull(a);
         N.requireNonNull(b);
+        return concat(Arrays.asList(a, b));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static LongStream concat(final LongStream... streams) {
+        return concat(Arrays.asList(streams));
+    }
+
+    /**
+     * Creates a lazily concatenated stream whose elements are all the
+     * elements of the given streams in order.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param streams  the streams to concatenate
+     * @return the concatenation of the input streams
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    public static LongStream concat(final Collection<? extends LongStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfLong> iterators = new ArrayList<>(streams.size());
+        final List<Params> streamParams = new ArrayList<>();
+        for (LongStream stream : streams) {
+            N.requireNonNull(stream);
+            iterators.add(stream.iterator);
+            if (stream.params != null) {
+                streamParams.add(stream.params);
+            }
+        }
         @SuppressWarnings("resource")
-        LongStream result = new LongStream(new LongConcat(a.iterator, b.iterator));
-        return result.onClose(Compose.closeables(a, b));
+        LongStream result = new LongStream(new LongConcat(iterators));
+        return streamParams.isEmpty() ? result : result.onClose(Compose.closeAll(streamParams));
     }
 
     public static LongStream concat(final long[] a, final long[] b) {
         return new LongStream(new LongConcat(OfLong.of(a), OfLong.of(b)));
     }
 
+    /**
+     * Combines two streams by applying the combiner to the values at the same position.
+     * The new stream ends with the shorter of the streams, and closing it
+     * closes both streams.
+     *
+     * <p>Values are combined without boxing, bulk operations combine
+     * a batch of values of both streams at a time.
+     *
+     * <p>Example:
+     * <pre>
+     * combiner: (a, b) -&gt; a + b
+     * stream 1: [1, 2, 3, 4]
+     * stream 2: [5, 6, 7, 8]
+     * result:   [6, 8, 10, 12]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see Stream#zip(Stream, Stream, com.landawn.abacus.util.function.BiFunction)
+     */
+    public static LongStream zip(final LongStream a, final LongStream b, final LongBinaryOperator combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        LongStream result = new LongStream(new LongZip(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static LongStream zip(final long[] a, final long[] b, final LongBinaryOperator combiner) {
+        return new LongStream(new LongZip(OfLong.of(a), OfLong.of(b), combiner));
+    }
+
+    /**
+     * Combines two streams to a stream of objects by applying the combiner
+     * to the values at the same position. The new stream ends with the shorter
+     * of the streams, and closing it closes both streams.
+     *
+     * @param <R> the type of the result elements
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param combiner  the combiner function used to apply to each pair of values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     * @see #zip(LongStream, LongStream, LongBinaryOperator)
+     */
+    public static <R> Stream<R> zipToObj(final LongStream a, final LongStream b,
+            final LongBiFunction<? extends R> combiner) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        Stream<R> result = new Stream<>(null, new LongZipToObj<>(a.iterator, b.iterator, combiner));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static <R> Stream<R> zipToObj(final long[] a, final long[] b, final LongBiFunction<? extends R> combiner) {
+        return new Stream<>(null, new LongZipToObj<>(OfLong.of(a), OfLong.of(b), combiner));
+    }
+
+    /**
+     * Merges values of two streams according to the supplied selector function,
+     * as {@link Stream#merge(Stream, Stream, com.landawn.abacus.util.function.BiFunction)}
+     * does for objects. Closing the new stream closes both streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 3, 8, 10]
+     * stream 2: [2, 5, 6, 12]
+     * selector: (a, b) -&gt; a &lt; b ? TAKE_FIRST : TAKE_SECOND
+     * result:   [1, 2, 3, 5, 6, 8, 10, 12]
+     * </pre>
+     *
+     * @param a  the first stream
+     * @param b  the second stream
+     * @param selector  the selector function used to choose values
+     * @return the new stream
+     * @throws NullPointerException if {@code a} or {@code b} is null
+     */
+    public static LongStream merge(final LongStream a, final LongStream b,
+            final LongBiFunction<ObjMerge.MergeResult> selector) {
+        N.requireNonNull(a);
+        N.requireNonNull(b);
+        @SuppressWarnings("resource")
+        LongStream result = new LongStream(new LongMerge(a.iterator, b.iterator, selector));
+        return result.onClose(Compose.closeables(a, b));
+    }
+
+    public static LongStream merge(final long[] a, final long[] b, final LongBiFunction<ObjMerge.MergeResult> selector) {
+        return new LongStream(new LongMerge(OfLong.of(a), OfLong.of(b), selector));
+    }
+
+    /**
+     * Merges streams sorted in ascending order into one sorted stream.
+     *
+     * <p>Values are merged with a heap of the current values of the streams,
+     * so each value takes O(log n) comparisons for n streams.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param streams  the sorted streams
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     */
+    public static LongStream mergeSorted(final Collection<? extends LongStream> streams) {
+        N.requireNonNull(streams);
+        final List<PrimitiveIterator.OfLong> iterators = new ArrayList<>(streams.size());
+        for (LongStream stream : streams) {
+            iterators.add(N.requireNonNull(stream).iterator);
+        }
+        @SuppressWarnings("resource")
+        LongStream result = new LongStream(new LongMergeSorted(iterators));
+        return result.onClose(Compose.closeables(streams));
+    }
+
     private final PrimitiveIterator.OfLong iterator;
     private final Params params;
 
@@ -456,6 +662,31 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongFlatMap(iterator, mapper));
     }
 
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMap(LongFunction)}, no stream is created for each element,
+     * the values are collected in a reusable buffer.
+     * The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (a, sink) -&gt; { sink.accept(a); sink.accept(a * 10); }
+     * stream: [1, 2, 3]
+     * result: [1, 10, 2, 20, 3, 30]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new stream
+     * @see #flatMap(LongFunction)
+     */
+    public LongStream mapMulti(final LongMapMultiConsumer mapper) {
+        return new LongStream(params, new LongMapMulti(iterator, mapper));
+    }
+
     /**
      * Returns a stream consisting of the distinct elements of this stream.
      *
@@ -470,7 +701,74 @@ public final class LongStream implements Closeable {
      * @return the new stream
      */
     public LongStream distinct() {
-        return boxed().distinct().mapToLong(UNBOX_FUNCTION);
+        return new LongStream(params, new LongDistinct(iterator));
+    }
+
+    /**
+     * Returns a stream consisting of the distinct elements of this sorted stream.
+     * In contrast to {@link #distinct()}, this method assumes that equal values
+     * are adjacent, so it only compares each value with the previous one.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 1, 2, 3, 3, 3, 4]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public LongStream distinctSorted() {
+        return new LongStream(params, new LongDistinctUntilChanged(iterator));
+    }
+
+    /**
+     * Returns a stream without values whose key equals the key of the previous value
+     * (as determined by {@code equals} method). Only the last key is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (a) -&gt; a % 2
+     * stream: [1, 3, 2, 4, 6, 5]
+     * result: [1, 2, 5]
+     * </pre>
+     *
+     * @param <K> the type of the keys
+     * @param keyExtractor  the key function
+     * @return the new stream
+     */
+    public <K> LongStream distinctUntilChanged(final LongFunction<? extends K> keyExtractor) {
+        return new LongStream(params, new LongDistinctUntilChanged(iterator, keyExtractor));
+    }
+
+    /**
+     * Partitions this sorted stream into {@code Map} entries according to the given
+     * classifier function and reduces values of each group with the downstream {@code Collector}.
+     * Values must be sorted by the key, each group is returned as soon as the key changes
+     * and only the current group is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of values in each group
+     * @return the new stream
+     * @throws NullPointerException if a value is mapped to a {@code null} key
+     * @see Stream#groupSorted(Function, Collector)
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupSorted(final LongFunction<? extends K> classifier,
+            final Collector<? super Long, A, D> downstream) {
+        return boxed().groupSorted(new Function<Long, K>() {
+            @Override
+            public K apply(Long value) {
+                return classifier.apply(value);
+            }
+        }, downstream);
     }
 
     /**
@@ -490,10 +788,45 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongSorted(iterator));
     }
 
+    /**
+     * Returns a stream consisting of the elements of this stream in sorted order,
+     * which holds at most {@code maxInMemory} elements in memory.
+     *
+     * <p>Elements are sorted in runs of {@code maxInMemory} elements, the runs are written
+     * to temporary files and merged lazily as the elements are consumed.
+     * Temporary files are deleted when all elements are consumed or the stream is closed,
+     * so a stream which may not be consumed to the end, e.g. by {@code findFirst} or {@code limit},
+     * must be closed, e.g. with try-with-resources. Otherwise its files are only deleted
+     * when the virtual machine exits.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param maxInMemory  the max number of elements held in memory
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     *         when the elements are consumed
+     */
+    public LongStream sorted(int maxInMemory) {
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory must be positive");
+        }
+        final LongExternalSorted sorted = new LongExternalSorted(iterator, maxInMemory);
+        return new LongStream(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Returns a stream consisting of the elements of this stream
      * in sorted order as determinated by provided {@code Comparator}.
      *
+     * <p>Values are sorted in a primitive array. Natural and reverse order comparators
+     * ({@code Collections.reverseOrder()}) are recognized and sorted without calling them.
+     *
      * <p>This is a stateful intermediate operation.
      *
      * <p>Example:
@@ -505,9 +838,92 @@ public final class LongStream implements Closeable {
      *
      * @param comparator  the {@code Comparator} to compare elements
      * @return the new {@code LongStream}
+     * @see #sortedWith(LongComparator)
      */
-    public LongStream sorted(Comparator<Long> comparator) {
-        return boxed().sorted(comparator).mapToLong(UNBOX_FUNCTION);
+    public LongStream sorted(final Comparator<Long> comparator) {
+        if (comparator == null || comparator == Comparators.<Long>naturalOrder()) {
+            return sorted();
+        }
+        if (comparator == Collections.<Long>reverseOrder() || comparator == Comparators.<Long>reversedOrder()) {
+            return new LongStream(params, new LongSorted(iterator, true, Long.MAX_VALUE));
+        }
+        return sortedWith(new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return comparator.compare(value1, value2);
+            }
+        });
+    }
+
+    /**
+     * Returns a stream consisting of the elements of this stream
+     * in sorted order as determinated by provided {@code LongComparator}.
+     * Unlike {@link #sorted(Comparator)}, the comparator takes {@code long} values,
+     * so they are sorted in a primitive array without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; Long.compare(Math.abs(a), Math.abs(b))
+     * stream: [3, -1, -4, 2]
+     * result: [-1, 2, 3, -4]
+     * </pre>
+     *
+     * @param comparator  the {@code LongComparator} to compare elements
+     * @return the new {@code LongStream}
+     */
+    public LongStream sortedWith(LongComparator comparator) {
+        N.requireNonNull(comparator);
+        return new LongStream(params, new LongSorted(iterator, comparator));
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} greatest elements
+     * of this stream in descending order.
+     * Elements are selected with a bounded heap of size {@code k},
+     * so the whole stream is not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #bottom(long)
+     */
+    public LongStream top(long k) {
+        return new LongStream(params, new LongSorted(iterator, true, Long.MAX_VALUE)).limit(k);
+    }
+
+    /**
+     * Returns a stream consisting of the {@code k} least elements
+     * of this stream in ascending order.
+     * Same as {@code sorted().limit(k)}, which also selects elements
+     * with a bounded heap.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #top(long)
+     */
+    public LongStream bottom(long k) {
+        return sorted().limit(k);
     }
 
     /**
@@ -574,6 +990,263 @@ public final class LongStream implements Closeable {
         return new LongStream(params, new LongScanIdentity(iterator, identity, accumulator));
     }
 
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by 1.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5]]
+     * </pre>
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see Stream#sliding(int)
+     */
+    public Stream<long[]> sliding(final int windowSize) {
+        return sliding(windowSize, 1);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream.
+     * It starts with the first value and in each iteration moves by the given step width.
+     * The last array may be smaller.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int)
+     */
+    public Stream<long[]> sliding(final int windowSize, final int stepWidth) {
+        return sliding(windowSize, stepWidth, false);
+    }
+
+    /**
+     * Partitions the stream into arrays of fixed size by sliding over the values of the stream,
+     * as {@link #sliding(int, int)} does.
+     *
+     * <p>In reuse mode the same array is returned for each full window, so a window is only
+     * valid until the next one is requested, and no array is allocated per window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of values that will be emitted together in an array
+     * @param stepWidth  step width
+     * @param reuse  {@code true} to reuse one array for all full windows
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see Stream#sliding(int, int, boolean)
+     */
+    public Stream<long[]> sliding(final int windowSize, final int stepWidth, final boolean reuse) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+        if (stepWidth <= 0)
+            throw new IllegalArgumentException("stepWidth cannot be zero or negative");
+        return new Stream<>(params, new LongSlidingWindow(iterator, windowSize, stepWidth, reuse));
+    }
+
+    /**
+     * Returns a stream of the sums of the last {@code windowSize} values for each value
+     * of this stream. The first sum covers the first {@code windowSize} values, so the result
+     * is the same as of {@code sliding(windowSize)} with each window summed, but each sum
+     * is updated in O(1) time.
+     *
+     * <p>The sums overflow as {@link #sum()} does.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [6, 9, 12]
+     * </pre>
+     *
+     * @param windowSize  the number of values to sum
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @see #sliding(int)
+     */
+    public LongStream rollingSum(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new LongStream(params, new LongRollingSum(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the means of the last {@code windowSize} values for each value
+     * of this stream, as {@link #rollingSum(int)} divided by the window size.
+     *
+     * <p>Unlike {@code rollingSum}, the window sums are kept in 128 bits,
+     * so the means do not overflow.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [1, 2, 3, 4, 5]
+     * result: [2.0, 3.0, 4.0]
+     * </pre>
+     *
+     * @param windowSize  the number of values to average
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public DoubleStream rollingMean(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new DoubleStream(params, new LongRollingMean(iterator, windowSize));
+    }
+
+    /**
+     * Returns a stream of the minimums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each minimum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3, 1, 4, 1, 5, 9]
+     * result: [1, 1, 1, 1]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the minimum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public LongStream rollingMin(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new LongStream(params, new LongRollingExtremum(iterator, windowSize, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the last {@code windowSize} values for each value
+     * of this stream. A monotonic deque keeps the candidates, so each maximum takes
+     * amortized O(1) time and at most {@code windowSize} values are stored.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * windowSize: 3
+     * stream: [3, 1, 4, 1, 5, 9]
+     * result: [4, 4, 5, 9]
+     * </pre>
+     *
+     * @param windowSize  the number of values to take the maximum of
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     */
+    public LongStream rollingMax(final int windowSize) {
+        checkWindowSize(windowSize);
+        return new LongStream(params, new LongRollingExtremum(iterator, windowSize, true));
+    }
+
+    private static void checkWindowSize(int windowSize) {
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("windowSize cannot be zero or negative");
+    }
+
+    /**
+     * Returns a stream of the statistics of the values of this stream up to each value:
+     * the count, the mean, the variance, the minimum and the maximum.
+     * The state is kept in primitive fields and the mean and the variance are updated
+     * by Welford's method, so a scan takes O(1) time per value without losing precision.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 2, 3, 4]
+     * result: [{count=1, mean=1.0, variance=0.0}, {count=2, mean=1.5, variance=0.25},
+     *          {count=3, mean=2.0, variance=0.667}, {count=4, mean=2.5, variance=1.25}]
+     * </pre>
+     *
+     * @return the new stream
+     * @see RunningStatistics
+     */
+    public Stream<RunningStatistics> runningStats() {
+        return new Stream<>(params, new DoubleRunningStats(asDoubles()));
+    }
+
+    /**
+     * Returns a stream of the exponentially weighted moving averages of the values
+     * of this stream up to each value. The first average is the first value, each next one is
+     * {@code alpha * value + (1 - alpha) * previous}.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * alpha: 0.5
+     * stream: [1, 2, 3, 4]
+     * result: [1.0, 1.5, 2.25, 3.125]
+     * </pre>
+     *
+     * @param alpha  the weight of each new value, greater than 0 and at most 1
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code alpha} is not in range (0, 1]
+     */
+    public DoubleStream ewma(final double alpha) {
+        if (!(alpha > 0 && alpha <= 1))
+            throw new IllegalArgumentException("alpha must be in range (0, 1]");
+        return new DoubleStream(params, new DoubleEwma(asDoubles(), alpha));
+    }
+
+    /**
+     * Returns a stream of the minimums of the values of this stream up to each value.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 1, 4, 1, 5]
+     * result: [3, 1, 1, 1, 1]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public LongStream cumulativeMin() {
+        return new LongStream(params, new LongCumulativeExtremum(iterator, false));
+    }
+
+    /**
+     * Returns a stream of the maximums of the values of this stream up to each value.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [3, 1, 4, 1, 5]
+     * result: [3, 3, 4, 4, 5]
+     * </pre>
+     *
+     * @return the new stream
+     */
+    public LongStream cumulativeMax() {
+        return new LongStream(params, new LongCumulativeExtremum(iterator, true));
+    }
+
+    private PrimitiveIterator.OfDouble asDoubles() {
+        return new LongMapToDouble(iterator, new LongToDoubleFunction() {
+            @Override
+            public double applyAsDouble(long value) {
+                return value;
+            }
+        });
+    }
+
     /**
      * Takes elements while the predicate returns {@code true}.
      *
@@ -660,6 +1333,13 @@ public final class LongStream implements Closeable {
             throw new IllegalArgumentException("maxSize cannot be negative");
         if (maxSize == 0)
             return LongStream.empty();
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).limit(maxSize);
+            return this;
+        }
+        if (iterator instanceof LongSorted && ((LongSorted) iterator).limit(maxSize)) {
+            return this;
+        }
         return new LongStream(params, new LongLimit(iterator, maxSize));
     }
 
@@ -690,6 +1370,10 @@ public final class LongStream implements Closeable {
             throw new IllegalArgumentException("n cannot be negative");
         if (n == 0)
             return this;
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).skip(n);
+            return this;
+        }
         return new LongStream(params, new LongSkip(iterator, n));
     }
 
@@ -700,10 +1384,18 @@ public final class LongStream implements Closeable {
      *
      * @param action  the action to be performed on each element
      */
-    public void forEach(LongConsumer action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.nextLong());
+    public void forEach(final LongConsumer action) {
+        if (isParallel()) {
+            Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, Void>() {
+                @Override
+                public Void apply(PrimitiveIterator.OfLong part) {
+                    part.forEachRemainingLong(action);
+                    return null;
+                }
+            });
+            return;
         }
+        iterator.forEachRemainingLong(action);
     }
 
     /**
@@ -733,12 +1425,37 @@ public final class LongStream implements Closeable {
      * @see #min()
      * @see #max()
      */
-    public long reduce(long identity, LongBinaryOperator accumulator) {
-        long result = identity;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            result = accumulator.applyAsLong(result, value);
+    public long reduce(final long identity, final LongBinaryOperator accumulator) {
+        if (isParallel()) {
+            final List<Long> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, Long>() {
+                @Override
+                public Long apply(PrimitiveIterator.OfLong part) {
+                    return new LongStream(null, part).reduce(identity, accumulator);
+                }
+            });
+            long result = results.get(0);
+            for (int i = 1, size = results.size(); i < size; i++) {
+                result = accumulator.applyAsLong(result, results.get(i));
+            }
+            return result;
         }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that the accumulator runs in turn with the functions of the stages
+            long result = identity;
+            while (iterator.hasNext()) {
+                result = accumulator.applyAsLong(result, iterator.nextLong());
+            }
+            return result;
+        }
+        final long[] batch = new long[Operators.batchSize(iterator)];
+        long result = identity;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = accumulator.applyAsLong(result, batch[i]);
+            }
+        } while (size == batch.length);
         return result;
     }
 
@@ -755,19 +1472,51 @@ public final class LongStream implements Closeable {
      * @return the result of the reduction
      * @see #reduce(com.landawn.abacus.util.function.LongBinaryOperator)
      */
-    public OptionalLong reduce(LongBinaryOperator accumulator) {
-        boolean foundAny = false;
-        long result = 0;
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.applyAsLong(result, value);
+    public OptionalLong reduce(final LongBinaryOperator accumulator) {
+        if (isParallel()) {
+            final List<OptionalLong> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, OptionalLong>() {
+                @Override
+                public OptionalLong apply(PrimitiveIterator.OfLong part) {
+                    return new LongStream(null, part).reduce(accumulator);
+                }
+            });
+            OptionalLong result = OptionalLong.empty();
+            for (OptionalLong partResult : results) {
+                if (partResult.isPresent()) {
+                    result = result.isPresent()
+                            ? OptionalLong.of(accumulator.applyAsLong(result.get(), partResult.get()))
+                            : partResult;
+                }
+            }
+            return result;
+        }
+        if (iterator.runsFunctions()) {
+            // reduces value by value, so that the accumulator runs in turn with the functions of the stages
+            if (!iterator.hasNext()) {
+                return OptionalLong.empty();
+            }
+            long result = iterator.nextLong();
+            while (iterator.hasNext()) {
+                result = accumulator.applyAsLong(result, iterator.nextLong());
             }
+            return OptionalLong.of(result);
+        }
+        final long[] batch = new long[Operators.batchSize(iterator)];
+        int size = iterator.nextBatch(batch, 0, batch.length);
+        if (size == 0) {
+            return OptionalLong.empty();
+        }
+        long result = batch[0];
+        for (int i = 1; i < size; i++) {
+            result = accumulator.applyAsLong(result, batch[i]);
         }
-        return foundAny ? OptionalLong.of(result) : OptionalLong.empty();
+        while (size == batch.length) {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                result = accumulator.applyAsLong(result, batch[i]);
+            }
+        }
+        return OptionalLong.of(result);
     }
 
     /**
@@ -778,6 +1527,25 @@ public final class LongStream implements Closeable {
      * @return an array containing the elements of this stream
      */
     public long[] toArray() {
+        if (isParallel()) {
+            final List<long[]> parts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, long[]>() {
+                @Override
+                public long[] apply(PrimitiveIterator.OfLong part) {
+                    return Operators.toLongArray(part);
+                }
+            });
+            int size = 0;
+            for (long[] part : parts) {
+                size += part.length;
+            }
+            final long[] result = new long[size];
+            int offset = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, result, offset, part.length);
+                offset += part.length;
+            }
+            return result;
+        }
         return Operators.toLongArray(iterator);
     }
 
@@ -792,11 +1560,47 @@ public final class LongStream implements Closeable {
      * @return the result of collect elements
      * @see Stream#collect(com.landawn.abacus.util.function.Supplier, com.landawn.abacus.util.function.BiConsumer)
      */
-    public <R> R collect(Supplier<R> supplier, ObjLongConsumer<R> accumulator) {
+    public <R> R collect(Supplier<R> supplier, final ObjLongConsumer<R> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final long value = iterator.nextLong();
-            accumulator.accept(result, value);
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                accumulator.accept(result, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Collects elements to {@code supplier} provided container by applying the given accumulation function.
+     *
+     * <p>The {@code combiner} merges the containers of parts of a parallel stream
+     * by adding the elements of the second container to the first one,
+     * it is not used by a sequential stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param supplier  the supplier function that provides container
+     * @param accumulator  the accumulation function
+     * @param combiner  the function for combining two containers
+     * @return the result of collect elements
+     * @see #parallel()
+     */
+    public <R> R collect(final Supplier<R> supplier, final ObjLongConsumer<R> accumulator,
+            BiConsumer<R, R> combiner) {
+        if (!isParallel()) {
+            return collect(supplier, accumulator);
+        }
+        final List<R> results = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, R>() {
+            @Override
+            public R apply(PrimitiveIterator.OfLong part) {
+                return new LongStream(null, part).collect(supplier, accumulator);
+            }
+        });
+        final R result = results.get(0);
+        for (int i = 1, size = results.size(); i < size; i++) {
+            combiner.accept(result, results.get(i));
         }
         return result;
     }
@@ -807,10 +1611,28 @@ public final class LongStream implements Closeable {
      * @return the sum of elements in this stream
      */
     public long sum() {
-        long sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextLong();
+        if (isParallel()) {
+            final List<Long> sums = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, Long>() {
+                @Override
+                public Long apply(PrimitiveIterator.OfLong part) {
+                    return new LongStream(null, part).sum();
+                }
+            });
+            long sum = 0;
+            for (long partSum : sums) {
+                sum += partSum;
+            }
+            return sum;
         }
+        final long[] batch = new long[Operators.batchSize(iterator)];
+        long sum = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            for (int i = 0; i < size; i++) {
+                sum += batch[i];
+            }
+        } while (size == batch.length);
         return sum;
     }
 
@@ -856,11 +1678,34 @@ public final class LongStream implements Closeable {
      * @return the count of elements in this stream
      */
     public int count() {
-        int count = 0;
-        while (iterator.hasNext()) {
-            iterator.nextLong();
-            count++;
+        if (iterator instanceof RandomAccessIterator) {
+            final RandomAccessIterator source = (RandomAccessIterator) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size >= 0) {
+                source.skip(size);
+                return (int) size;
+            }
         }
+        if (isParallel()) {
+            final List<Integer> counts = Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, Integer>() {
+                @Override
+                public Integer apply(PrimitiveIterator.OfLong part) {
+                    return new LongStream(null, part).count();
+                }
+            });
+            int count = 0;
+            for (int partCount : counts) {
+                count += partCount;
+            }
+            return count;
+        }
+        final long[] batch = new long[Operators.batchSize(iterator)];
+        int count = 0;
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            count += size;
+        } while (size == batch.length);
         return count;
     }
 
@@ -872,15 +1717,52 @@ public final class LongStream implements Closeable {
     * @return the average of elements in this stream
     */
     public OptionalDouble average() {
-        long count = 0;
-        long sum = 0;
-        while (iterator.hasNext()) {
-            sum += iterator.nextLong();
-            count++;
-        }
-        if (count == 0)
+        final MutableLong count = MutableLong.of(0);
+        final MutableLong sum = MutableLong.of(0);
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                sum.add(value);
+                count.increment();
+            }
+        });
+        if (count.value() == 0)
             return OptionalDouble.empty();
-        return OptionalDouble.of(((double) sum) / count);
+        return OptionalDouble.of((double) sum.value() / count.value());
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the elements of this stream,
+     * computed in one pass. The sum is kept in 128 bits, so the average is exact and an overflow of the sum is reported.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @return the statistics of the elements of this stream
+     * @see LongSummaryStatistics
+     */
+    public LongSummaryStatistics summaryStatistics() {
+        if (isParallel()) {
+            final List<LongSummaryStatistics> parts = Parallel.evaluate(params, iterator,
+                    new Function<PrimitiveIterator.OfLong, LongSummaryStatistics>() {
+                        @Override
+                        public LongSummaryStatistics apply(PrimitiveIterator.OfLong part) {
+                            return new LongStream(null, part).summaryStatistics();
+                        }
+                    });
+            final LongSummaryStatistics statistics = new LongSummaryStatistics();
+            for (LongSummaryStatistics part : parts) {
+                statistics.combine(part);
+            }
+            return statistics;
+        }
+        final LongSummaryStatistics statistics = new LongSummaryStatistics();
+        final long[] batch = new long[Operators.batchSize(iterator)];
+        int size;
+        do {
+            size = iterator.nextBatch(batch, 0, batch.length);
+            statistics.accept(batch, 0, size);
+        } while (size == batch.length);
+        return statistics;
     }
 
     /**
@@ -907,11 +1789,10 @@ public final class LongStream implements Closeable {
      *         predicate, otherwise {@code false}
      */
     public boolean anyMatch(LongPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextLong()))
-                return true;
+        if (isParallel()) {
+            return matchParallel(predicate, false);
         }
-        return false;
+        return matchSequential(predicate, false);
     }
 
     /**
@@ -938,11 +1819,10 @@ public final class LongStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean allMatch(LongPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (!predicate.test(iterator.nextLong()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, true);
         }
-        return true;
+        return !matchSequential(predicate, true);
     }
 
     /**
@@ -969,11 +1849,62 @@ public final class LongStream implements Closeable {
      *         provided predicate or the stream is empty, otherwise {@code false}
      */
     public boolean noneMatch(LongPredicate predicate) {
-        while (iterator.hasNext()) {
-            if (predicate.test(iterator.nextLong()))
-                return false;
+        if (isParallel()) {
+            return !matchParallel(predicate, false);
+        }
+        return !matchSequential(predicate, false);
+    }
+
+    /**
+     * Returns whether any part of a parallel stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchParallel(final LongPredicate predicate, final boolean kindAll) {
+        // Set by the part which finds the element deciding the result
+        final AtomicBoolean decided = new AtomicBoolean();
+        Parallel.evaluate(params, iterator, new Function<PrimitiveIterator.OfLong, Void>() {
+            @Override
+            public Void apply(PrimitiveIterator.OfLong part) {
+                while (!decided.get() && part.hasNext()) {
+                    if (predicate.test(part.nextLong()) ^ kindAll) {
+                        decided.set(true);
+                    }
+                }
+                return null;
+            }
+        });
+        return decided.get();
+    }
+
+    /**
+     * Returns whether the stream contains an element,
+     * for which the predicate result differs from {@code kindAll}.
+     */
+    private boolean matchSequential(LongPredicate predicate, boolean kindAll) {
+        final Match match = new Match(predicate, kindAll);
+        while (iterator.tryAdvanceLong(match)) {
+            if (match.decided) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Match implements LongConsumer {
+
+        private final LongPredicate predicate;
+        private final boolean kindAll;
+        private boolean decided;
+
+        Match(LongPredicate predicate, boolean kindAll) {
+            this.predicate = predicate;
+            this.kindAll = kindAll;
+        }
+
+        @Override
+        public void accept(long value) {
+            decided = predicate.test(value) ^ kindAll;
         }
-        return true;
     }
 
     /**
@@ -986,6 +1917,10 @@ public final class LongStream implements Closeable {
      *         or {@code OptionalLong.empty()} if stream is empty
      */
     public OptionalLong findFirst() {
+        if (iterator instanceof LongSorted) {
+            // select the first element instead of sorting all of them
+            ((LongSorted) iterator).limit(1);
+        }
         if (iterator.hasNext()) {
             return OptionalLong.of(iterator.nextLong());
         }
@@ -1003,6 +1938,18 @@ public final class LongStream implements Closeable {
      * @since 1.1.8
      */
     public OptionalLong findLast() {
+        if (iterator instanceof RandomAccessIterator.OfLong) {
+            final RandomAccessIterator.OfLong source = (RandomAccessIterator.OfLong) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size == 0) {
+                return OptionalLong.empty();
+            }
+            if (size > 0) {
+                final long last = source.getLong(size - 1);
+                source.skip(size);
+                return OptionalLong.of(last);
+            }
+        }
         return reduce(new LongBinaryOperator() {
             @Override
             public long applyAsLong(long left, long right) {
@@ -1011,6 +1958,31 @@ public final class LongStream implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code OptionalLong} class.
+     * If stream contains fewer elements, returns {@code OptionalLong.empty()}.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4, 5]
+     * result: 3
+     * </pre>
+     *
+     * @param index  the zero-based position of the element
+     * @return an {@code OptionalLong} with the element at the given position
+     *         or {@code OptionalLong.empty()} if the stream contains fewer elements
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public OptionalLong elementAt(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index cannot be negative");
+        }
+        return skip(index).findFirst();
+    }
+
     /**
      * Applies custom operator on stream.
      *
@@ -1094,6 +2066,66 @@ public final class LongStream implements Closeable {
         boxed().println();
     }
 
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the default fork/join pool.
+     *
+     * <p>Array and range sources are split into parts, which pass through
+     * {@code map}, {@code filter}, {@code peek} and {@code mapTo*} operators concurrently.
+     * Pipelines with other operators are evaluated sequentially.
+     * {@code forEach}, {@code reduce}, {@code collect}, {@code sum}, {@code count},
+     * {@code anyMatch}, {@code allMatch}, {@code noneMatch} and {@code toArray}
+     * combine the results of the parts, other terminal operations are sequential.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the parallel stream
+     * @see #parallel(java.util.concurrent.Executor)
+     * @see #sequential()
+     */
+    public LongStream parallel() {
+        return withParallel(true, null);
+    }
+
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the given executor.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param executor  the executor to run the parts of the stream
+     * @return the parallel stream
+     * @throws NullPointerException if {@code executor} is null
+     * @see #parallel()
+     */
+    public LongStream parallel(Executor executor) {
+        N.requireNonNull(executor);
+        return withParallel(true, executor);
+    }
+
+    /**
+     * Returns an equivalent sequential stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the sequential stream
+     * @see #parallel()
+     */
+    public LongStream sequential() {
+        return withParallel(false, null);
+    }
+
+    /**
+     * Returns whether this stream is evaluated in parallel.
+     *
+     * @return {@code true} if this stream is parallel
+     */
+    public boolean isParallel() {
+        return Parallel.isParallel(params);
+    }
+
+    private LongStream withParallel(boolean parallel, Executor executor) {
+        return new LongStream(Params.withParallel(params, parallel, executor), iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1105,16 +2137,7 @@ public final class LongStream implements Closeable {
      */
     public LongStream onClose(final Runnable closeHandler) {
         N.requireNonNull(closeHandler);
-        final Params newParams;
-        if (params == null) {
-            newParams = new Params();
-            newParams.closeHandler = closeHandler;
-        } else {
-            newParams = params;
-            final Runnable firstHandler = newParams.closeHandler;
-            newParams.closeHandler = Compose.runnables(firstHandler, closeHandler);
-        }
-        return new LongStream(newParams, iterator);
+        return new LongStream(Params.withCloseHandler(params, closeHandler), iterator);
     }
 
     /**
@@ -1131,11 +2154,4 @@ public final class LongStream implements Closeable {
             params.closeHandler = null;
         }
     }
-
-    private static final ToLongFunction<Long> UNBOX_FUNCTION = new ToLongFunction<Long>() {
-        @Override
-        public long applyAsLong(Long t) {
-            return t;
-        }
-    };
 }
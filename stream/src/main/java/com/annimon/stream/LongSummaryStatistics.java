@@ -0,0 +1,145 @@
+package com.annimon.stream;
+
+import java.math.BigInteger;
+
+import com.landawn.abacus.util.function.LongConsumer;
+
+/**
+ * Count, sum, minimum, maximum and average of long values,
+ * as returned by {@link LongStream#summaryStatistics()}.
+ *
+ * <p>Values are summed to 128 bits, so the average is exact even if
+ * the sum does not fit in a {@code long}, and {@link #getSum()}
+ * reports the overflow instead of returning a wrapped sum.
+ */
+public final class LongSummaryStatistics implements LongConsumer {
+
+    private static final double TWO_POW_64 = 0x1p64;
+
+    private long count;
+    // the sum is high * 2^64 + low, where low is unsigned
+    private long low, high;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+
+    @Override
+    public void accept(long value) {
+        count++;
+        add(value);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Accepts the values of the array range in one loop.
+     */
+    void accept(long[] values, int offset, int length) {
+        long low = this.low;
+        long high = this.high;
+        long min = this.min;
+        long max = this.max;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            final long value = values[i];
+            final long sum = low + value;
+            // the sign extension of the value, and the carry of the unsigned addition
+            high += (value >> 63) + (((sum ^ Long.MIN_VALUE) < (low ^ Long.MIN_VALUE)) ? 1 : 0);
+            low = sum;
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        this.low = low;
+        this.high = high;
+        this.min = min;
+        this.max = max;
+        count += length;
+    }
+
+    private void add(long value) {
+        final long sum = low + value;
+        high += (value >> 63) + (((sum ^ Long.MIN_VALUE) < (low ^ Long.MIN_VALUE)) ? 1 : 0);
+        low = sum;
+    }
+
+    /**
+     * Adds the statistics of other values.
+     *
+     * @param other  the statistics to add
+     */
+    public void combine(LongSummaryStatistics other) {
+        count += other.count;
+        add(other.low);
+        // the high word of the low value was added as its sign extension
+        high += other.high - (other.low >> 63);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @return the sum
+     * @throws ArithmeticException if the sum does not fit in a {@code long}
+     * @see #getSumAsBigInteger()
+     */
+    public long getSum() {
+        if (high != (low >> 63)) {
+            throw new ArithmeticException("long overflow");
+        }
+        return low;
+    }
+
+    /**
+     * Returns the exact sum of the values.
+     *
+     * @return the sum
+     */
+    public BigInteger getSumAsBigInteger() {
+        return BigInteger.valueOf(high).shiftLeft(64).add(BigInteger.valueOf(low >>> 1).shiftLeft(1))
+                .add(BigInteger.valueOf(low & 1));
+    }
+
+    /**
+     * Returns the least value.
+     *
+     * @return the least value, or {@code Long.MAX_VALUE} if there are no values
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the greatest value.
+     *
+     * @return the greatest value, or {@code Long.MIN_VALUE} if there are no values
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the values.
+     *
+     * @return the average, or {@code 0} if there are no values
+     */
+    public double getAverage() {
+        if (count == 0) {
+            return 0;
+        }
+        final double unsignedLow = (double) (low >>> 1) * 2 + (low & 1);
+        return (high * TWO_POW_64 + unsignedLow) / count;
+    }
+
+    @Override
+    public String toString() {
+        return "LongSummaryStatistics{count=" + count + ", sum=" + getSumAsBigInteger() + ", min=" + min
+                + ", average=" + getAverage() + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,84 @@
+package com.annimon.stream;
+
+/**
+ * Statistics of the values of a stream up to an element,
+ * as returned by {@link DoubleStream#runningStats()}.
+ *
+ * <p>The mean and the variance are updated by Welford's method,
+ * which does not lose precision as the sum of squares does.
+ */
+public final class RunningStatistics {
+
+    private final long count;
+    private final double mean;
+    // the sum of squared deviations from the mean
+    private final double m2;
+    private final double min;
+    private final double max;
+
+    /**
+     * Creates statistics of {@code count} values.
+     *
+     * @param count  the number of values
+     * @param mean  the mean of the values
+     * @param m2  the sum of squared deviations of the values from the mean
+     * @param min  the least value
+     * @param max  the greatest value
+     */
+    public RunningStatistics(long count, double mean, double m2, double min, double max) {
+        this.count = count;
+        this.mean = mean;
+        this.m2 = m2;
+        this.min = min;
+        this.max = max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population variance of the values.
+     *
+     * @return the variance, or {@code 0} if there are no values
+     */
+    public double getVariance() {
+        return (count == 0) ? 0 : m2 / count;
+    }
+
+    /**
+     * Returns the sample variance of the values, that is with Bessel's correction.
+     *
+     * @return the sample variance, or {@code NaN} if there are fewer than two values
+     */
+    public double getSampleVariance() {
+        return (count < 2) ? Double.NaN : m2 / (count - 1);
+    }
+
+    /**
+     * Returns the population standard deviation of the values.
+     *
+     * @return the standard deviation, or {@code 0} if there are no values
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "RunningStatistics{count=" + count + ", mean=" + mean + ", variance=" + getVariance()
+                + ", min=" + min + ", max=" + max + "}";
+    }
+}
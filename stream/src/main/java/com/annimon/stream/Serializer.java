@@ -0,0 +1,36 @@
+package com.annimon.stream;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes elements to and reads them from temporary files
+ * when a stream operation exceeds its memory budget.
+ *
+ * <p>{@link #read(DataInput)} must restore an element written by
+ * {@link #write(DataOutput, Object)}, reading exactly the same number of bytes.
+ *
+ * @param <T> the type of the elements
+ * @see Stream#sorted(java.util.Comparator, int, Serializer)
+ */
+public interface Serializer<T> {
+
+    /**
+     * Writes the element.
+     *
+     * @param output  the output to write to
+     * @param value  the element
+     * @throws IOException if an I/O error occurs
+     */
+    void write(DataOutput output, T value) throws IOException;
+
+    /**
+     * Reads the next element.
+     *
+     * @param input  the input to read from
+     * @return the element
+     * @throws IOException if an I/O error occurs
+     */
+    T read(DataInput input) throws IOException;
+}
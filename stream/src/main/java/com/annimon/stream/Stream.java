@@ -7,56 +7,87 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.annimon.stream.internal.Compose;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.Parallel;
 import com.annimon.stream.internal.Params;
 import com.annimon.stream.iterator.LazyIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
 import com.annimon.stream.operator.ObjArray;
 import com.annimon.stream.operator.ObjChunkBy;
 import com.annimon.stream.operator.ObjConcat;
 import com.annimon.stream.operator.ObjDistinct;
 import com.annimon.stream.operator.ObjDistinctBy;
+import com.annimon.stream.operator.ObjDistinctUntilChanged;
 import com.annimon.stream.operator.ObjDropWhile;
+import com.annimon.stream.operator.ObjExternalGroupBy;
+import com.annimon.stream.operator.ObjExternalSorted;
 import com.annimon.stream.operator.ObjFilter;
+import com.annimon.stream.operator.ObjFlatArray;
+import com.annimon.stream.operator.ObjFlatIterable;
 import com.annimon.stream.operator.ObjFlatMap;
 import com.annimon.stream.operator.ObjFlatMapToDouble;
 import com.annimon.stream.operator.ObjFlatMapToInt;
 import com.annimon.stream.operator.ObjFlatMapToLong;
 import com.annimon.stream.operator.ObjGenerate;
+import com.annimon.stream.operator.ObjGroupBy;
+import com.annimon.stream.operator.ObjGroupSorted;
+import com.annimon.stream.operator.ObjHashJoin;
+import com.annimon.stream.operator.ObjHashSemiJoin;
 import com.annimon.stream.operator.ObjIterate;
 import com.annimon.stream.operator.ObjLimit;
+import com.annimon.stream.operator.ObjList;
 import com.annimon.stream.operator.ObjMap;
+import com.annimon.stream.operator.ObjMapMultiToDouble;
+import com.annimon.stream.operator.ObjMapMultiToInt;
+import com.annimon.stream.operator.ObjMapMultiToLong;
 import com.annimon.stream.operator.ObjMapToDouble;
 import com.annimon.stream.operator.ObjMapToInt;
 import com.annimon.stream.operator.ObjMapToLong;
 import com.annimon.stream.operator.ObjMerge;
+import com.annimon.stream.operator.ObjMergeJoin;
+import com.annimon.stream.operator.ObjMergeSemiJoin;
+import com.annimon.stream.operator.ObjMergeSorted;
 import com.annimon.stream.operator.ObjPeek;
+import com.annimon.stream.operator.ObjRoundRobin;
 import com.annimon.stream.operator.ObjScan;
 import com.annimon.stream.operator.ObjScanIdentity;
 import com.annimon.stream.operator.ObjSkip;
 import com.annimon.stream.operator.ObjSlidingWindow;
 import com.annimon.stream.operator.ObjSorted;
+import com.annimon.stream.operator.ObjSortedBy;
+import com.annimon.stream.operator.ObjSortedByDouble;
+import com.annimon.stream.operator.ObjSortedByInt;
+import com.annimon.stream.operator.ObjSortedByLong;
 import com.annimon.stream.operator.ObjTakeUntil;
 import com.annimon.stream.operator.ObjTakeWhile;
 import com.annimon.stream.operator.ObjZip;
 import com.landawn.abacus.util.Comparators;
 import com.landawn.abacus.util.Fn;
+import com.landawn.abacus.util.Holder;
 import com.landawn.abacus.util.Indexed;
+import com.landawn.abacus.util.MutableInt;
 import com.landawn.abacus.util.N;
 import com.landawn.abacus.util.Optional;
 import com.landawn.abacus.util.function.BiConsumer;
 import com.landawn.abacus.util.function.BiFunction;
 import com.landawn.abacus.util.function.BinaryOperator;
 import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntFunction;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.Predicate;
 import com.landawn.abacus.util.function.Supplier;
 import com.landawn.abacus.util.function.ToDoubleFunction;
@@ -249,9 +280,65 @@ public class Stream<T> implements Closeable {
     public static <T> Stream<T> concat(final Stream<? extends T> stream1, final Stream<? extends T> stream2) {
         N.requireNonNull(stream1);
         N.requireNonNull(stream2);
+        return concat(Arrays.asList(stream1, stream2));
+    }
+
+    /**
+     * Concatenates streams.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 2]
+     * stream 2: []
+     * stream 3: [3, 4]
+     * result:   [1, 2, 3, 4]
+     * </pre>
+     *
+     * @param <T> The type of stream elements
+     * @param streams  the streams to concatenate
+     * @return the new concatenated stream
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     */
+    @SafeVarargs
+    public static <T> Stream<T> concat(final Stream<? extends T>... streams) {
+        final List<Stream<? extends T>> list = new ArrayList<>(streams.length);
+        for (Stream<? extends T> stream : streams) {
+            list.add(stream);
+        }
+        return concat(list);
+    }
+
+    /**
+     * Concatenates streams.
+     *
+     * <p>Nested concatenations are flattened, so each element is taken
+     * from its stream directly, and closing the new stream closes
+     * all the streams, each of them once.
+     *
+     * @param <T> The type of stream elements
+     * @param streams  the streams to concatenate
+     * @return the new concatenated stream
+     * @throws NullPointerException if {@code streams} or any of the streams is null
+     * @see #concat(Stream[])
+     */
+    public static <T> Stream<T> concat(final Collection<? extends Stream<? extends T>> streams) {
+        N.requireNonNull(streams);
+        final List<Iterator<? extends T>> iterators = new ArrayList<>(streams.size());
+        final List<Params> streamParams = new ArrayList<>();
+        for (Stream<? extends T> stream : streams) {
+            N.requireNonNull(stream);
+            iterators.add(stream.iterator);
+            if (stream.params != null) {
+                streamParams.add(stream.params);
+            }
+        }
         @SuppressWarnings("resource")
-        Stream<T> result = new Stream<>(new ObjConcat<>(stream1.iterator, stream2.iterator));
-        return result.onClose(Compose.closeables(stream1, stream2));
+        Stream<T> result = new Stream<>(new ObjConcat<T>(iterators));
+        return streamParams.isEmpty() ? result : result.onClose(Compose.closeAll(streamParams));
     }
 
     /**
@@ -429,6 +516,69 @@ public class Stream<T> implements Closeable {
                 b == null ? Collections.<T> emptyIterator() : Arrays.asList(b).iterator(), selector);
     }
 
+    /**
+     * Merges sorted streams into one sorted stream.
+     *
+     * <p>Each stream must be sorted according to the comparator.
+     * Elements are merged with a heap of the current elements of the streams,
+     * so each element takes O(log n) comparisons for n streams.
+     * Equal elements are taken in the order of the streams in the collection.
+     *
+     * <p>Example:
+     * <pre>
+     * comparator: (a, b) -&gt; a.compareTo(b)
+     * stream 1: [1, 4, 7]
+     * stream 2: [2, 5, 8]
+     * stream 3: [3, 6, 9]
+     * result:   [1, 2, 3, 4, 5, 6, 7, 8, 9]
+     * </pre>
+     *
+     * @param <T> the type of the elements
+     * @param streams  the sorted streams
+     * @param comparator  the comparator the streams are sorted by
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} or {@code comparator} is null
+     */
+    public static <T> Stream<T> mergeSorted(final Collection<? extends Stream<? extends T>> streams,
+            final Comparator<? super T> comparator) {
+        N.requireNonNull(streams);
+        N.requireNonNull(comparator);
+        final List<Iterator<? extends T>> iterators = new ArrayList<>(streams.size());
+        for (Stream<? extends T> stream : streams) {
+            iterators.add(N.requireNonNull(stream).iterator);
+        }
+        @SuppressWarnings("resource")
+        Stream<T> result = new Stream<>(new ObjMergeSorted<T>(iterators, comparator));
+        return result.onClose(Compose.closeables(streams));
+    }
+
+    /**
+     * Takes one element from each stream in turn, until all streams are exhausted.
+     *
+     * <p>Example:
+     * <pre>
+     * stream 1: [1, 2, 3, 4]
+     * stream 2: [5, 6]
+     * stream 3: [7, 8, 9]
+     * result:   [1, 5, 7, 2, 6, 8, 3, 9, 4]
+     * </pre>
+     *
+     * @param <T> the type of the elements
+     * @param streams  the streams to interleave
+     * @return the new stream
+     * @throws NullPointerException if {@code streams} is null
+     */
+    public static <T> Stream<T> roundRobin(final Collection<? extends Stream<? extends T>> streams) {
+        N.requireNonNull(streams);
+        final List<Iterator<? extends T>> iterators = new ArrayList<>(streams.size());
+        for (Stream<? extends T> stream : streams) {
+            iterators.add(N.requireNonNull(stream).iterator);
+        }
+        @SuppressWarnings("resource")
+        Stream<T> result = new Stream<>(new ObjRoundRobin<T>(iterators));
+        return result.onClose(Compose.closeables(streams));
+    }
+
     //<editor-fold defaultstate="collapsed" desc="Implementation">
     private final Iterator<T> iterator;
     private final Params params;
@@ -438,11 +588,11 @@ public class Stream<T> implements Closeable {
     }
 
     private Stream(Iterable<? extends T> iterable) {
-        this(null, new LazyIterator<>(iterable));
+        this(null, iterable);
     }
 
     private Stream(Params params, Iterable<? extends T> iterable) {
-        this(params, new LazyIterator<>(iterable));
+        this(params, iteratorOf(iterable));
     }
 
     @SuppressWarnings("unchecked")
@@ -451,6 +601,14 @@ public class Stream<T> implements Closeable {
         this.iterator = (Iterator<T>) iterator;
     }
 
+    private static <T> Iterator<? extends T> iteratorOf(Iterable<? extends T> iterable) {
+        if (ObjList.isSupported(iterable)) {
+            // Indexed access allows constant time skip, limit and count
+            return new ObjList<>((List<? extends T>) iterable);
+        }
+        return new LazyIterator<>(iterable);
+    }
+
     /**
      * Returns internal stream iterator.
      *
@@ -593,24 +751,46 @@ public class Stream<T> implements Closeable {
         return new Stream<>(params, new ObjFlatMap<>(iterator, mapper));
     }
 
+    /**
+     * Returns a stream consisting of the elements of the collections
+     * produced by applying the provided mapping function to each element.
+     * A {@code null} collection is skipped.
+     *
+     * <p>The collections are iterated directly, lists with fast random access by index,
+     * so no stream is created for an element.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <R> the type of elements in resulting stream
+     * @param mapper  the mapper function used to apply to each element
+     * @return the new stream
+     */
     public <R> Stream<R> flatCollection(final Function<? super T, ? extends Collection<? extends R>> mapper) {
-        return flatMap(new Function<T, Stream<R>>() {
-            @Override
-            public Stream<R> apply(T t) {
-                final Collection<? extends R> c = mapper.apply(t);
-                return c == null || c.size() == 0 ? Stream.<R> empty() : Stream.of(c);
-            }
-        });
+        return this.<R, R> flatIterable(mapper, null);
     }
 
+    /**
+     * Returns a stream consisting of the elements of the arrays
+     * produced by applying the provided mapping function to each element.
+     * A {@code null} array is skipped.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <R> the type of elements in resulting stream
+     * @param mapper  the mapper function used to apply to each element
+     * @return the new stream
+     */
     public <R> Stream<R> flatArray(final Function<? super T, ? extends R[]> mapper) {
-        return flatMap(new Function<T, Stream<R>>() {
-            @Override
-            public Stream<R> apply(T t) {
-                final R[] a = mapper.apply(t);
-                return a == null || a.length == 0 ? Stream.<R> empty() : Stream.of(a);
-            }
-        });
+        return new Stream<>(params, new ObjFlatArray<T, R, R>(iterator, mapper, null));
+    }
+
+    /**
+     * Replaces each element with the elements of the mapped iterable,
+     * combined with the element by the combiner, if it is not {@code null}.
+     */
+    <U, R> Stream<R> flatIterable(final Function<? super T, ? extends Iterable<? extends U>> mapper,
+                                  final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        return new Stream<>(params, new ObjFlatIterable<T, U, R>(iterator, mapper, combiner));
     }
 
     /**
@@ -658,6 +838,81 @@ public class Stream<T> implements Closeable {
         return new DoubleStream(params, new ObjFlatMapToDouble<>(iterator, mapper));
     }
 
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMapToInt(com.landawn.abacus.util.function.Function)},
+     * no stream is created for each element, the values are collected
+     * in a reusable buffer. The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (s, sink) -&gt; { for (char c : s.toCharArray()) sink.accept(c); }
+     * stream: ["ab", "", "c"]
+     * result: [97, 98, 99]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new {@code IntStream}
+     * @see #flatMapToInt(com.landawn.abacus.util.function.Function)
+     */
+    public IntStream mapMultiToInt(final BiConsumer<? super T, ? super IntConsumer> mapper) {
+        return new IntStream(params, new ObjMapMultiToInt<>(iterator, mapper));
+    }
+
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMapToLong(com.landawn.abacus.util.function.Function)},
+     * no stream is created for each element, the values are collected
+     * in a reusable buffer. The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (s, sink) -&gt; { for (char c : s.toCharArray()) sink.accept(c); }
+     * stream: ["ab", "", "c"]
+     * result: [97, 98, 99]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new {@code LongStream}
+     * @see #flatMapToLong(com.landawn.abacus.util.function.Function)
+     */
+    public LongStream mapMultiToLong(final BiConsumer<? super T, ? super LongConsumer> mapper) {
+        return new LongStream(params, new ObjMapMultiToLong<>(iterator, mapper));
+    }
+
+    /**
+     * Returns a stream consisting of the values the mapper passes to the sink
+     * for each element of this stream.
+     *
+     * <p>Unlike {@link #flatMapToDouble(com.landawn.abacus.util.function.Function)},
+     * no stream is created for each element, the values are collected
+     * in a reusable buffer. The sink must not be used after the mapper returns.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * mapper: (s, sink) -&gt; { for (char c : s.toCharArray()) sink.accept(c); }
+     * stream: ["ab", "", "c"]
+     * result: [97, 98, 99]
+     * </pre>
+     *
+     * @param mapper  the mapper which passes new values of each element to the sink
+     * @return the new {@code DoubleStream}
+     * @see #flatMapToDouble(com.landawn.abacus.util.function.Function)
+     */
+    public DoubleStream mapMultiToDouble(final BiConsumer<? super T, ? super DoubleConsumer> mapper) {
+        return new DoubleStream(params, new ObjMapMultiToDouble<>(iterator, mapper));
+    }
+
     public <K, V> EntryStream<K, V> flatMapToEntry(Function<? super T, ? extends Stream<? extends Map.Entry<K, V>>> mapper) {
         return EntryStream.of(flatMap(mapper));
     }
@@ -737,6 +992,49 @@ public class Stream<T> implements Closeable {
         return new Stream<>(params, new ObjDistinctBy<>(iterator, keyExtractor));
     }
 
+    /**
+     * Returns {@code Stream} with distinct elements of a sorted stream (as determined by
+     * {@code equals} method). In contrast to {@link #distinct()}, this method assumes that
+     * equal elements are adjacent, so it only compares each element with the previous one
+     * and does not keep a set of seen elements.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * stream: [1, 1, 2, 3, 3, 3, 4]
+     * result: [1, 2, 3, 4]
+     * </pre>
+     *
+     * @return the new stream
+     * @see #distinctUntilChanged(Function)
+     */
+    public Stream<T> distinctSorted() {
+        return distinctUntilChanged(Fn.<T>identity());
+    }
+
+    /**
+     * Returns {@code Stream} without elements whose key equals the key of the previous element
+     * (as determined by {@code equals} method). If the stream is sorted by the key, the result
+     * is the same as of {@link #distinctBy(Function)}, but only the last key is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (str) -&gt; str.length()
+     * stream: ["a", "b", "cd", "ef", "g"]
+     * result: ["a", "cd", "g"]
+     * </pre>
+     *
+     * @param <K> the type of the keys
+     * @param keyExtractor  the key function
+     * @return the new stream
+     */
+    public <K> Stream<T> distinctUntilChanged(Function<? super T, ? extends K> keyExtractor) {
+        return new Stream<>(params, new ObjDistinctUntilChanged<>(iterator, keyExtractor));
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@link Comparable} interface).
      *
@@ -784,6 +1082,41 @@ public class Stream<T> implements Closeable {
         return new Stream<>(params, new ObjSorted<>(iterator, comparator));
     }
 
+    /**
+     * Returns {@code Stream} with sorted elements (as determinated by provided {@code Comparator}),
+     * which holds at most {@code maxInMemory} elements in memory.
+     *
+     * <p>Elements are sorted in runs of {@code maxInMemory} elements, the runs are written
+     * to temporary files with the given serializer and merged lazily as the elements
+     * are consumed. The sort is stable. Temporary files are deleted when all elements
+     * are consumed or the stream is closed, so a stream which may not be consumed to the end,
+     * e.g. by {@code findFirst} or {@code limit}, must be closed, e.g. with try-with-resources.
+     * Otherwise its files are only deleted when the virtual machine exits.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param comparator  the {@code Comparator} to compare elements
+     * @param maxInMemory  the max number of elements held in memory
+     * @param serializer  the serializer to write elements to temporary files
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     *         when the elements are consumed
+     */
+    public Stream<T> sorted(final Comparator<? super T> comparator, int maxInMemory, Serializer<T> serializer) {
+        N.requireNonNull(serializer);
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory must be positive");
+        }
+        final ObjExternalSorted<T> sorted = new ObjExternalSorted<T>(iterator, comparator, maxInMemory, serializer);
+        return new Stream<T>(params, sorted).onClose(new Runnable() {
+            @Override
+            public void run() {
+                sorted.close();
+            }
+        });
+    }
+
     /**
      * Returns {@code Stream} with sorted elements (as determinated by {@code Comparable} interface).
      * Each element transformed by given function {@code f} before comparing.
@@ -802,13 +1135,183 @@ public class Stream<T> implements Closeable {
      * @return the new stream
      */
     public <U extends Comparable<? super U>> Stream<T> sortedBy(final Function<? super T, U> keyExtractor) {
-        return sorted(Comparators.comparingBy(keyExtractor));
+        return sortedBy(keyExtractor, Comparators.<U>naturalOrder());
+    }
+
+    /**
+     * Returns {@code Stream} with elements sorted by the keys extracted by the given function,
+     * as determinated by the key comparator. The key of each element is extracted once,
+     * before sorting, instead of on each comparison. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (str) -&gt; str.length()
+     * keyComparator: (a, b) -&gt; b.compareTo(a)
+     * stream: ["a", "bc", "def", "gh"]
+     * result: ["def", "bc", "gh", "a"]
+     * </pre>
+     *
+     * @param <U> the type of the keys
+     * @param keyExtractor  the function to extract keys
+     * @param keyComparator  the {@code Comparator} to compare keys
+     * @return the new stream
+     */
+    public <U> Stream<T> sortedBy(final Function<? super T, ? extends U> keyExtractor,
+            final Comparator<? super U> keyComparator) {
+        return new Stream<>(params, new ObjSortedBy<T, U>(iterator, keyExtractor, keyComparator));
+    }
+
+    /**
+     * Returns {@code Stream} with elements sorted by the int keys extracted by the given function.
+     * Keys are extracted once and sorted without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyExtractor: (str) -&gt; str.length()
+     * stream: ["def", "a", "bc", "gh"]
+     * result: ["a", "bc", "gh", "def"]
+     * </pre>
+     *
+     * @param keyExtractor  the function to extract keys
+     * @return the new stream
+     */
+    public Stream<T> sortedByInt(final ToIntFunction<? super T> keyExtractor) {
+        return new Stream<>(params, new ObjSortedByInt<T>(iterator, keyExtractor));
+    }
+
+    /**
+     * Returns {@code Stream} with elements sorted by the long keys extracted by the given function.
+     * Keys are extracted once and sorted without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param keyExtractor  the function to extract keys
+     * @return the new stream
+     * @see #sortedByInt(ToIntFunction)
+     */
+    public Stream<T> sortedByLong(final ToLongFunction<? super T> keyExtractor) {
+        return new Stream<>(params, new ObjSortedByLong<T>(iterator, keyExtractor));
+    }
+
+    /**
+     * Returns {@code Stream} with elements sorted by the double keys extracted by the given function,
+     * as determinated by {@link Double#compare(double, double)}.
+     * Keys are extracted once and sorted without boxing. The sort is stable.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param keyExtractor  the function to extract keys
+     * @return the new stream
+     * @see #sortedByInt(ToIntFunction)
+     */
+    public Stream<T> sortedByDouble(final ToDoubleFunction<? super T> keyExtractor) {
+        return new Stream<>(params, new ObjSortedByDouble<T>(iterator, keyExtractor));
+    }
+
+    /**
+     * Returns {@code Stream} with the {@code k} greatest elements
+     * (as determinated by {@code Comparable} interface) in descending order.
+     * Elements are selected with a bounded heap of size {@code k},
+     * so the whole stream is not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [4, 3]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #bottom(long)
+     */
+    public Stream<T> top(long k) {
+        return top(k, Comparators.<T>naturalOrder());
+    }
+
+    /**
+     * Returns {@code Stream} with the {@code k} greatest elements
+     * (as determinated by provided {@code Comparator}) in descending order.
+     * Elements are selected with a bounded heap of size {@code k},
+     * so the whole stream is not sorted.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * comparator: (a, b) -&gt; a.length() - b.length()
+     * stream: ["a", "bcd", "ef", "g"]
+     * result: ["bcd", "ef"]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @param comparator  the {@code Comparator} to compare elements
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public Stream<T> top(long k, final Comparator<? super T> comparator) {
+        return bottom(k, new Comparator<T>() {
+            @Override
+            public int compare(T o1, T o2) {
+                return comparator.compare(o2, o1);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code Stream} with the {@code k} least elements
+     * (as determinated by {@code Comparable} interface) in ascending order.
+     * Same as {@code sorted().limit(k)}, which also selects elements
+     * with a bounded heap.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * k: 2
+     * stream: [3, 4, 1, 2]
+     * result: [1, 2]
+     * </pre>
+     *
+     * @param k  the number of elements to select
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     * @see #top(long)
+     */
+    public Stream<T> bottom(long k) {
+        return sorted().limit(k);
+    }
+
+    /**
+     * Returns {@code Stream} with the {@code k} least elements
+     * (as determinated by provided {@code Comparator}) in ascending order.
+     * Same as {@code sorted(comparator).limit(k)}, which also selects elements
+     * with a bounded heap.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param k  the number of elements to select
+     * @param comparator  the {@code Comparator} to compare elements
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code k} is negative
+     */
+    public Stream<T> bottom(long k, Comparator<? super T> comparator) {
+        return sorted(comparator).limit(k);
     }
 
     /**
      * Partitions {@code Stream} into {@code Map} entries according to the given classifier function.
      *
      * <p>This is a stateful intermediate operation.
+     * Elements are grouped when the first group is requested.
      *
      * <p>Example:
      * <pre>
@@ -822,20 +1325,129 @@ public class Stream<T> implements Closeable {
      * @return the new stream
      */
     public <K> Stream<Map.Entry<K, List<T>>> groupBy(final Function<? super T, ? extends K> classifier) {
-        final Map<K, List<T>> map = collect(Collectors.<T, K> groupingBy(classifier));
-        return new Stream<>(params, map.entrySet());
+        return groupBy(classifier, Collectors.<T>toList());
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function.
+     * If {@code inEncounterOrder} is {@code true}, groups are returned
+     * in the order of the first appearance of their keys.
+     *
+     * <p>This is a stateful intermediate operation.
+     * Elements are grouped when the first group is requested.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * inEncounterOrder: true
+     * stream: ["bc", "a", "d", "ghij", "ef"]
+     * result: [{2: ["bc", "ef"]}, {1: ["a", "d"]}, {4: ["ghij"]}]
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param classifier  the classifier function
+     * @param inEncounterOrder  whether to return groups in encounter order of their keys
+     * @return the new stream
+     */
+    public <K> Stream<Map.Entry<K, List<T>>> groupBy(final Function<? super T, ? extends K> classifier,
+            boolean inEncounterOrder) {
+        return groupBy(classifier, Collectors.<T>toList(), inEncounterOrder);
     }
 
     public <K, A, D> Stream<Map.Entry<K, D>> groupBy(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
-        final Map<K, D> map = collect(Collectors.groupingBy(classifier, downstream));
-        return new Stream<>(params, map.entrySet());
+        return groupBy(classifier, downstream, false);
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function
+     * and reduces elements of each group with the downstream {@code Collector}.
+     * If {@code inEncounterOrder} is {@code true}, groups are returned
+     * in the order of the first appearance of their keys.
+     *
+     * <p>This is a stateful intermediate operation.
+     * Elements are grouped when the first group is requested,
+     * the downstream result of each group is finished when the group is returned.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of elements of each group
+     * @param inEncounterOrder  whether to return groups in encounter order of their keys
+     * @return the new stream
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupBy(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream,
+            boolean inEncounterOrder) {
+        if (inEncounterOrder) {
+            return groupBy(classifier, downstream, Fn.Suppliers.<K, D>ofLinkedHashMap());
+        }
+        return groupBy(classifier, downstream, Fn.Suppliers.<K, D>ofMap());
     }
 
     public <K, A, D> Stream<Map.Entry<K, D>> groupBy(final Function<? super T, ? extends K> classifier, final Collector<? super T, A, D> downstream,
-            final Supplier<Map<K, D>> mapFactory) {
-        final Map<K, D> map = collect(Collectors.groupingBy(classifier, downstream, mapFactory));
+            final Supplier<? extends Map<K, D>> mapFactory) {
+        return new Stream<>(params, new ObjGroupBy<T, K, A, D>(iterator, classifier, downstream, mapFactory));
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function,
+     * holding at most {@code maxInMemory} elements in memory.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param classifier  the classifier function
+     * @param maxInMemory  the max number of elements held in memory
+     * @param serializer  the serializer to write elements to temporary files
+     * @return the new stream
+     * @see #groupBy(Function, Collector, int, Serializer, boolean)
+     */
+    public <K> Stream<Map.Entry<K, List<T>>> groupBy(final Function<? super T, ? extends K> classifier,
+            int maxInMemory, Serializer<T> serializer) {
+        return groupBy(classifier, Collectors.<T>toList(), maxInMemory, serializer, false);
+    }
 
-        return new Stream<>(params, map.entrySet());
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function
+     * and reduces elements of each group with the downstream {@code Collector},
+     * holding at most {@code maxInMemory} elements in memory.
+     *
+     * <p>If the stream has more than {@code maxInMemory} elements, they are partitioned
+     * by the hash of their keys to temporary files with the given serializer,
+     * optionally compressed, and the partitions are grouped one at a time as the groups
+     * are consumed. Groups are returned in no particular order. Temporary files are deleted
+     * when all groups are consumed or the stream is closed, so a stream which may not be
+     * consumed to the end, e.g. by {@code findFirst} or {@code limit}, must be closed,
+     * e.g. with try-with-resources. Otherwise its files are only deleted when the virtual
+     * machine exits.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of elements of each group
+     * @param maxInMemory  the max number of elements held in memory
+     * @param serializer  the serializer to write elements to temporary files
+     * @param compress  whether to compress temporary files
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     *         when the groups are consumed
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupBy(final Function<? super T, ? extends K> classifier,
+            final Collector<? super T, A, D> downstream, int maxInMemory, Serializer<T> serializer, boolean compress) {
+        N.requireNonNull(serializer);
+        if (maxInMemory <= 0) {
+            throw new IllegalArgumentException("maxInMemory must be positive");
+        }
+        final ObjExternalGroupBy<T, K, A, D> groupBy = new ObjExternalGroupBy<T, K, A, D>(
+                iterator, classifier, downstream, maxInMemory, serializer, compress);
+        return new Stream<Map.Entry<K, D>>(params, groupBy).onClose(new Runnable() {
+            @Override
+            public void run() {
+                groupBy.close();
+            }
+        });
     }
 
     public <K> EntryStream<K, List<T>> groupByToEntry(final Function<? super T, ? extends K> classifier) {
@@ -867,43 +1479,430 @@ public class Stream<T> implements Closeable {
         return collect(Collectors.<T, K> groupingBy(classifier));
     }
 
-    public <K, A, D> Map<K, D> groupTo(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
-        return collect(Collectors.groupingBy(classifier, downstream));
+    public <K, A, D> Map<K, D> groupTo(Function<? super T, ? extends K> classifier, Collector<? super T, A, D> downstream) {
+        return collect(Collectors.groupingBy(classifier, downstream));
+    }
+
+    public <K, D, A, M extends Map<K, D>> M groupTo(final Function<? super T, ? extends K> classifier, final Collector<? super T, A, D> downstream,
+            final Supplier<M> mapFactory) {
+        return collect(Collectors.groupingBy(classifier, downstream, mapFactory));
+    }
+
+    /**
+     * Groups elements as by {@link #groupBy(Function, Collector, int, Serializer, boolean)}
+     * and collects the groups to a {@code Map}. Only the results of the downstream collector
+     * are kept in the map, so it should reduce each group, e.g. count its elements.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of elements of each group
+     * @param maxInMemory  the max number of elements held in memory
+     * @param serializer  the serializer to write elements to temporary files
+     * @param compress  whether to compress temporary files
+     * @return the map of groups
+     * @throws IllegalArgumentException if {@code maxInMemory} is not positive
+     * @throws com.landawn.abacus.exception.UncheckedIOException if an I/O error occurs
+     */
+    public <K, A, D> Map<K, D> groupTo(final Function<? super T, ? extends K> classifier,
+            final Collector<? super T, A, D> downstream, int maxInMemory, Serializer<T> serializer, boolean compress) {
+        final Stream<Map.Entry<K, D>> groups = groupBy(classifier, downstream, maxInMemory, serializer, compress);
+        try {
+            final Map<K, D> result = new HashMap<>();
+            final Iterator<Map.Entry<K, D>> it = groups.iterator;
+            while (it.hasNext()) {
+                final Map.Entry<K, D> group = it.next();
+                result.put(group.getKey(), group.getValue());
+            }
+            return result;
+        } finally {
+            groups.close();
+        }
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code List}s according to the given classifier function. In contrast
+     * to {@link #groupBy(Function)}, this method assumes that the elements of the stream are sorted.
+     * Because of this assumption, it does not need to first collect all elements and then partition them.
+     * Instead, it can emit a {@code List} of elements when it reaches the first element that does not
+     * belong to the same chunk as the previous elements.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (a) -&gt; a % 5 == 0
+     * stream: [1, 2, 5, 6, 7, 9, 10, 12, 14]
+     * result: [[1, 2], [5], [6, 7, 9], [10], [12, 14]]
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are the result of the classifier function
+     * @param classifier  the classifier function
+     * @return the new stream
+     */
+    public <K> Stream<List<T>> chunkBy(final Function<? super T, ? extends K> classifier) {
+        return new Stream<>(params, new ObjChunkBy<>(iterator, classifier));
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function.
+     * In contrast to {@link #groupBy(Function)}, this method assumes that the elements of the stream
+     * are sorted by the key, so each group is returned as soon as the key changes
+     * and only the current group is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * stream: ["a", "d", "bc", "ef", "ghij"]
+     * result: [{1: ["a", "d"]}, {2: ["bc", "ef"]}, {4: ["ghij"]}]
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param classifier  the classifier function
+     * @return the new stream
+     * @throws NullPointerException if an element is mapped to a {@code null} key
+     */
+    public <K> Stream<Map.Entry<K, List<T>>> groupSorted(final Function<? super T, ? extends K> classifier) {
+        return groupSorted(classifier, Collectors.<T>toList());
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code Map} entries according to the given classifier function
+     * and reduces elements of each group with the downstream {@code Collector}.
+     * In contrast to {@link #groupBy(Function, Collector)}, this method assumes that the elements
+     * of the stream are sorted by the key, so each group is returned as soon as the key changes
+     * and only the current group is kept in memory.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * classifier: (str) -&gt; str.length()
+     * downstream: counting()
+     * stream: ["a", "d", "bc", "ef", "ghij", "k"]
+     * result: [{1: 2}, {2: 2}, {4: 1}, {1: 1}]
+     * </pre>
+     *
+     * @param <K> the type of the keys, which are result of the classifier function
+     * @param <A> the intermediate accumulation type of the downstream collector
+     * @param <D> the result type of the downstream collector
+     * @param classifier  the classifier function
+     * @param downstream  the collector of elements in each group
+     * @return the new stream
+     * @throws NullPointerException if an element is mapped to a {@code null} key
+     */
+    public <K, A, D> Stream<Map.Entry<K, D>> groupSorted(final Function<? super T, ? extends K> classifier,
+            final Collector<? super T, A, D> downstream) {
+        return new Stream<>(params, new ObjGroupSorted<>(iterator, classifier, downstream));
+    }
+
+    /**
+     * Joins this stream with another stream on equal keys and combines each pair
+     * of matching elements with the combiner function.
+     *
+     * <p>A hash table is built from one of the streams when the first element is requested
+     * and the other stream is streamed through it. If the sizes of both streams are known,
+     * the table is built from the smaller one, otherwise from {@code other}. The result follows
+     * the order of the streamed side. Elements with {@code null} keys never match.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyMapper: (order) -&gt; order.customerId
+     * otherKeyMapper: (customer) -&gt; customer.id
+     * combiner: (order, customer) -&gt; order.amount + " " + customer.name
+     * stream: [{customerId: 1, amount: 10}, {customerId: 2, amount: 20}, {customerId: 1, amount: 30}]
+     * other: [{id: 1, name: "A"}, {id: 3, name: "C"}]
+     * result: ["10 A", "30 A"]
+     * </pre>
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param <R> the type of the result
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param combiner  the function that combines matching elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #innerJoinSorted(Stream, Function, Function, Comparator, BiFunction)
+     */
+    public <U, K, R> Stream<R> innerJoin(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        N.requireNonNull(other);
+        return joined(other, new ObjHashJoin<T, U, K, R>(iterator, other.iterator, keyMapper, otherKeyMapper, combiner, false));
+    }
+
+    /**
+     * Joins this stream with another stream on equal keys and combines each pair
+     * of matching elements with the combiner function. Elements of this stream
+     * without matching elements are combined with {@code null}.
+     *
+     * <p>A hash table is built from the other stream when the first element is requested,
+     * the result follows the order of this stream. Elements with {@code null} keys never match.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyMapper: (order) -&gt; order.customerId
+     * otherKeyMapper: (customer) -&gt; customer.id
+     * combiner: (order, customer) -&gt; order.amount + " " + (customer == null ? "-" : customer.name)
+     * stream: [{customerId: 1, amount: 10}, {customerId: 2, amount: 20}, {customerId: 1, amount: 30}]
+     * other: [{id: 1, name: "A"}, {id: 3, name: "C"}]
+     * result: ["10 A", "20 -", "30 A"]
+     * </pre>
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param <R> the type of the result
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param combiner  the function that combines matching elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     * @see #leftJoinSorted(Stream, Function, Function, Comparator, BiFunction)
+     */
+    public <U, K, R> Stream<R> leftJoin(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        N.requireNonNull(other);
+        return joined(other, new ObjHashJoin<T, U, K, R>(iterator, other.iterator, keyMapper, otherKeyMapper, combiner, true));
+    }
+
+    /**
+     * Returns elements of this stream whose key is among the keys of the other stream.
+     * Keys of the other stream are collected to a set when the first element is requested.
+     * Elements with {@code null} keys never match.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyMapper: (order) -&gt; order.customerId
+     * otherKeyMapper: (customer) -&gt; customer.id
+     * stream: [{customerId: 1, amount: 10}, {customerId: 2, amount: 20}, {customerId: 1, amount: 30}]
+     * other: [{id: 1, name: "A"}, {id: 3, name: "C"}]
+     * result: [{customerId: 1, amount: 10}, {customerId: 1, amount: 30}]
+     * </pre>
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     */
+    public <U, K> Stream<T> semiJoin(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper) {
+        N.requireNonNull(other);
+        return joined(other, new ObjHashSemiJoin<T, U, K>(iterator, other.iterator, keyMapper, otherKeyMapper, false));
+    }
+
+    /**
+     * Returns elements of this stream whose key is not among the keys of the other stream.
+     * Keys of the other stream are collected to a set when the first element is requested.
+     * Elements with {@code null} keys never match, so they are always returned.
+     *
+     * <p>This is a stateful intermediate operation.
+     *
+     * <p>Example:
+     * <pre>
+     * keyMapper: (order) -&gt; order.customerId
+     * otherKeyMapper: (customer) -&gt; customer.id
+     * stream: [{customerId: 1, amount: 10}, {customerId: 2, amount: 20}, {customerId: 1, amount: 30}]
+     * other: [{id: 1, name: "A"}, {id: 3, name: "C"}]
+     * result: [{customerId: 2, amount: 20}]
+     * </pre>
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @return the new stream
+     * @throws NullPointerException if {@code other} is null
+     */
+    public <U, K> Stream<T> antiJoin(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper) {
+        N.requireNonNull(other);
+        return joined(other, new ObjHashSemiJoin<T, U, K>(iterator, other.iterator, keyMapper, otherKeyMapper, true));
+    }
+
+    /**
+     * Joins this stream with another stream on equal keys, both streams must be sorted
+     * by key according to the comparator. Streams are merged in one pass and only the current
+     * run of elements of the other stream with equal keys is kept in memory.
+     * Elements with {@code null} keys never match.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param <R> the type of the result
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param comparator  the comparator the streams are sorted by
+     * @param combiner  the function that combines matching elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} or {@code comparator} is null
+     * @see #innerJoin(Stream, Function, Function, BiFunction)
+     */
+    public <U, K, R> Stream<R> innerJoinSorted(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final Comparator<? super K> comparator, final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        N.requireNonNull(other);
+        N.requireNonNull(comparator);
+        return joined(other, new ObjMergeJoin<T, U, K, R>(iterator, other.iterator, keyMapper, otherKeyMapper,
+                comparator, combiner, false));
+    }
+
+    /**
+     * Joins this stream with another stream on equal keys, both streams must be sorted
+     * by key according to the comparator. Elements of this stream without matching elements
+     * are combined with {@code null}. Streams are merged in one pass and only the current
+     * run of elements of the other stream with equal keys is kept in memory.
+     * Elements with {@code null} keys never match.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param <R> the type of the result
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param comparator  the comparator the streams are sorted by
+     * @param combiner  the function that combines matching elements
+     * @return the new stream
+     * @throws NullPointerException if {@code other} or {@code comparator} is null
+     * @see #leftJoin(Stream, Function, Function, BiFunction)
+     */
+    public <U, K, R> Stream<R> leftJoinSorted(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final Comparator<? super K> comparator, final BiFunction<? super T, ? super U, ? extends R> combiner) {
+        N.requireNonNull(other);
+        N.requireNonNull(comparator);
+        return joined(other, new ObjMergeJoin<T, U, K, R>(iterator, other.iterator, keyMapper, otherKeyMapper,
+                comparator, combiner, true));
+    }
+
+    /**
+     * Returns elements of this stream whose key is among the keys of the other stream,
+     * both streams must be sorted by key according to the comparator.
+     * Elements with {@code null} keys never match.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param comparator  the comparator the streams are sorted by
+     * @return the new stream
+     * @throws NullPointerException if {@code other} or {@code comparator} is null
+     * @see #semiJoin(Stream, Function, Function)
+     */
+    public <U, K> Stream<T> semiJoinSorted(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final Comparator<? super K> comparator) {
+        N.requireNonNull(other);
+        N.requireNonNull(comparator);
+        return joined(other, new ObjMergeSemiJoin<T, U, K>(iterator, other.iterator, keyMapper, otherKeyMapper,
+                comparator, false));
+    }
+
+    /**
+     * Returns elements of this stream whose key is not among the keys of the other stream,
+     * both streams must be sorted by key according to the comparator.
+     * Elements with {@code null} keys never match, so they are always returned.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param <U> the type of the elements of the other stream
+     * @param <K> the type of the keys
+     * @param other  the stream to join with
+     * @param keyMapper  the key function of this stream
+     * @param otherKeyMapper  the key function of the other stream
+     * @param comparator  the comparator the streams are sorted by
+     * @return the new stream
+     * @throws NullPointerException if {@code other} or {@code comparator} is null
+     * @see #antiJoin(Stream, Function, Function)
+     */
+    public <U, K> Stream<T> antiJoinSorted(final Stream<? extends U> other,
+            final Function<? super T, ? extends K> keyMapper, final Function<? super U, ? extends K> otherKeyMapper,
+            final Comparator<? super K> comparator) {
+        N.requireNonNull(other);
+        N.requireNonNull(comparator);
+        return joined(other, new ObjMergeSemiJoin<T, U, K>(iterator, other.iterator, keyMapper, otherKeyMapper,
+                comparator, true));
     }
 
-    public <K, D, A, M extends Map<K, D>> M groupTo(final Function<? super T, ? extends K> classifier, final Collector<? super T, A, D> downstream,
-            final Supplier<M> mapFactory) {
-        return collect(Collectors.groupingBy(classifier, downstream, mapFactory));
+    /**
+     * Returns a stream of the join iterator, which also closes the other stream.
+     */
+    private <R> Stream<R> joined(final Stream<?> other, final Iterator<? extends R> joinIterator) {
+        @SuppressWarnings("resource")
+        final Stream<R> result = new Stream<R>(params, joinIterator);
+        return result.onClose(new Runnable() {
+            @Override
+            public void run() {
+                other.close();
+            }
+        });
     }
 
     /**
-     * Partitions {@code Stream} into {@code List}s according to the given classifier function. In contrast
-     * to {@link #groupBy(Function)}, this method assumes that the elements of the stream are sorted.
-     * Because of this assumption, it does not need to first collect all elements and then partition them.
-     * Instead, it can emit a {@code List} of elements when it reaches the first element that does not
-     * belong to the same chunk as the previous elements.
+     * Partitions {@code Stream} into {@code List}s of the given size.
+     * The last list may be smaller. This method yields the same results
+     * as calling {@link #sliding(int, int)} with a {@code stepWidth} equal to {@code size}.
      *
      * <p>This is an intermediate operation.
      *
      * <p>Example:
      * <pre>
-     * classifier: (a) -&gt; a % 5 == 0
-     * stream: [1, 2, 5, 6, 7, 9, 10, 12, 14]
-     * result: [[1, 2], [5], [6, 7, 9], [10], [12, 14]]
+     * size: 2
+     * stream: [1, 2, 3, 4, 5]
+     * result: [[1, 2], [3, 4], [5]]
      * </pre>
      *
-     * @param <K> the type of the keys, which are the result of the classifier function
-     * @param classifier  the classifier function
+     * @param size  number of elements that will be emitted together in a list
      * @return the new stream
+     * @throws IllegalArgumentException if {@code size} is zero or negative
+     * @see #split(int, boolean)
      */
-    public <K> Stream<List<T>> chunkBy(final Function<? super T, ? extends K> classifier) {
-        return new Stream<>(params, new ObjChunkBy<>(iterator, classifier));
-    }
-
     public Stream<List<T>> split(final int size) {
         return sliding(size, size);
     }
 
+    /**
+     * Partitions {@code Stream} into {@code List}s of the given size, as {@link #split(int)} does.
+     * In reuse mode the same read-only list is returned for each part, so a part is only
+     * valid until the next one is requested, and no list is allocated per part.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param size  number of elements that will be emitted together in a list
+     * @param reuse  {@code true} to reuse one list for all parts
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code size} is zero or negative
+     * @see #sliding(int, int, boolean)
+     */
+    public Stream<List<T>> split(final int size, final boolean reuse) {
+        return sliding(size, size, reuse);
+    }
+
     /**
      * Partitions {@code Stream} into {@code List}s of fixed size by sliding over the elements of the stream.
      * It starts with the first element and in each iteration moves by 1. This method yields the same results
@@ -950,18 +1949,42 @@ public class Stream<T> implements Closeable {
      * result: [[1, 2, 3], [2, 3, 4], [3, 4, 5], [4, 5, 6]]
      * </pre>
      *
+     * <p>Each window is a new list, which may be modified by the caller.
+     *
      * @param windowSize  number of elements that will be emitted together in a list
      * @param stepWidth  step width
      * @return the new stream
      * @throws IllegalArgumentException if {@code windowSize} is zero or negative
      * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     * @see #sliding(int, int, boolean)
      */
     public Stream<List<T>> sliding(final int windowSize, final int stepWidth) {
+        return sliding(windowSize, stepWidth, false);
+    }
+
+    /**
+     * Partitions {@code Stream} into {@code List}s of fixed size by sliding over the elements
+     * of the stream, as {@link #sliding(int, int)} does.
+     *
+     * <p>In reuse mode the same read-only list is returned for each window, so a window is only valid
+     * until the next one is requested. Use it when each window is consumed before the next one,
+     * for example to compute a feature of each window, as no list is allocated per window.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param windowSize  number of elements that will be emitted together in a list
+     * @param stepWidth  step width
+     * @param reuse  {@code true} to reuse one list for all windows
+     * @return the new stream
+     * @throws IllegalArgumentException if {@code windowSize} is zero or negative
+     * @throws IllegalArgumentException if {@code stepWidth} is zero or negative
+     */
+    public Stream<List<T>> sliding(final int windowSize, final int stepWidth, final boolean reuse) {
         if (windowSize <= 0)
             throw new IllegalArgumentException("windowSize cannot be zero or negative");
         if (stepWidth <= 0)
             throw new IllegalArgumentException("stepWidth cannot be zero or negative");
-        return new Stream<>(params, new ObjSlidingWindow<>(iterator, windowSize, stepWidth));
+        return new Stream<>(params, new ObjSlidingWindow<>(iterator, windowSize, stepWidth, reuse));
     }
 
     /**
@@ -1116,6 +2139,16 @@ public class Stream<T> implements Closeable {
         if (maxSize == 0) {
             return Stream.empty();
         }
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).limit(maxSize);
+            return this;
+        }
+        if (iterator instanceof ObjSorted && ((ObjSorted<?>) iterator).limit(maxSize)) {
+            return this;
+        }
+        if (iterator instanceof ObjSortedBy && ((ObjSortedBy<?, ?>) iterator).limit(maxSize)) {
+            return this;
+        }
         return new Stream<>(params, new ObjLimit<>(iterator, maxSize));
     }
 
@@ -1145,6 +2178,10 @@ public class Stream<T> implements Closeable {
             throw new IllegalArgumentException("n cannot be negative");
         if (n == 0)
             return this;
+        if (iterator instanceof RandomAccessIterator) {
+            ((RandomAccessIterator) iterator).skip(n);
+            return this;
+        }
         return new Stream<>(params, new ObjSkip<>(iterator, n));
     }
 
@@ -1227,6 +2264,12 @@ public class Stream<T> implements Closeable {
      *         or {@code Optional.empty()} if stream is empty
      */
     public Optional<T> findFirst() {
+        // select the first element instead of sorting all of them
+        if (iterator instanceof ObjSorted) {
+            ((ObjSorted<?>) iterator).limit(1);
+        } else if (iterator instanceof ObjSortedBy) {
+            ((ObjSortedBy<?, ?>) iterator).limit(1);
+        }
         if (iterator.hasNext()) {
             return Optional.<T> of(iterator.next());
         }
@@ -1243,7 +2286,20 @@ public class Stream<T> implements Closeable {
      *         or {@code Optional.empty()} if the stream is empty
      * @since 1.1.8
      */
+    @SuppressWarnings("unchecked")
     public Optional<T> findLast() {
+        if (iterator instanceof RandomAccessIterator.OfObj) {
+            final RandomAccessIterator.OfObj<T> source = (RandomAccessIterator.OfObj<T>) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size == 0) {
+                return Optional.<T> empty();
+            }
+            if (size > 0) {
+                final T last = source.get(size - 1);
+                source.skip(size);
+                return Optional.of(last);
+            }
+        }
         return reduce(new BinaryOperator<T>() {
             @Override
             public T apply(T left, T right) {
@@ -1252,6 +2308,31 @@ public class Stream<T> implements Closeable {
         });
     }
 
+    /**
+     * Returns the element at the given position wrapped by {@code Optional} class.
+     * If stream contains fewer elements, returns {@code Optional.empty()}.
+     *
+     * <p>This is a short-circuiting terminal operation.
+     *
+     * <p>Example:
+     * <pre>
+     * index: 2
+     * stream: [1, 2, 3, 4, 5]
+     * result: 3
+     * </pre>
+     *
+     * @param index  the zero-based position of the element
+     * @return an {@code Optional} with the element at the given position
+     *         or {@code Optional.empty()} if the stream contains fewer elements
+     * @throws IllegalArgumentException if {@code index} is negative
+     */
+    public Optional<T> elementAt(long index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("index cannot be negative");
+        }
+        return skip(index).findFirst();
+    }
+
     /**
      * Finds the minimum element according to the given comparator.
      *
@@ -1271,8 +2352,19 @@ public class Stream<T> implements Closeable {
         return reduce(minBy(comparator));
     }
 
+    /**
+     * Finds the element with the least key extracted by the given function.
+     * The key of each element is extracted once.
+     * If several elements have the least key, the first of them is returned.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <U> the type of the keys
+     * @param keyExtractor  the function to extract keys
+     * @return the element with the least key
+     */
     public <U extends Comparable<? super U>> Optional<T> minBy(final Function<? super T, U> keyExtractor) {
-        return min(Comparators.comparingBy(keyExtractor));
+        return extremeBy(keyExtractor, Comparators.<U>naturalOrder(), false);
     }
 
     /**
@@ -1294,8 +2386,40 @@ public class Stream<T> implements Closeable {
         return reduce(maxBy(comparator));
     }
 
+    /**
+     * Finds the element with the greatest key extracted by the given function.
+     * The key of each element is extracted once.
+     * If several elements have the greatest key, the first of them is returned.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <U> the type of the keys
+     * @param keyExtractor  the function to extract keys
+     * @return the element with the greatest key
+     */
     public <U extends Comparable<? super U>> Optional<T> maxBy(final Function<? super T, U> keyExtractor) {
-        return max(Comparators.comparingBy(keyExtractor));
+        return extremeBy(keyExtractor, Comparators.<U>naturalOrder(), true);
+    }
+
+    private <U> Optional<T> extremeBy(final Function<? super T, ? extends U> keyExtractor,
+            final Comparator<? super U> keyComparator, final boolean max) {
+        final ExtremeBy<T, U> result = new ExtremeBy<T, U>(keyExtractor, keyComparator, max);
+        if (isParallel()) {
+            final List<ExtremeBy<T, U>> results = Parallel.evaluate(params, iterator, new Function<Iterator<T>, ExtremeBy<T, U>>() {
+                @Override
+                public ExtremeBy<T, U> apply(Iterator<T> part) {
+                    final ExtremeBy<T, U> partResult = new ExtremeBy<T, U>(keyExtractor, keyComparator, max);
+                    Operators.forEachRemaining(part, partResult);
+                    return partResult;
+                }
+            });
+            for (ExtremeBy<T, U> partResult : results) {
+                result.merge(partResult);
+            }
+        } else {
+            Operators.forEachRemaining(iterator, result);
+        }
+        return result.found ? Optional.of(result.value) : Optional.<T> empty();
     }
 
     /**
@@ -1306,9 +2430,17 @@ public class Stream<T> implements Closeable {
      * @param action  the action to be performed on each element
      */
     public void forEach(final Consumer<? super T> action) {
-        while (iterator.hasNext()) {
-            action.accept(iterator.next());
+        if (isParallel()) {
+            Parallel.evaluate(params, iterator, new Function<Iterator<T>, Void>() {
+                @Override
+                public Void apply(Iterator<T> part) {
+                    Operators.forEachRemaining(part, action);
+                    return null;
+                }
+            });
+            return;
         }
+        Operators.forEachRemaining(iterator, action);
     }
 
     /**
@@ -1329,11 +2461,47 @@ public class Stream<T> implements Closeable {
      * @param accumulator  the accumulation function
      * @return the result of the reduction
      */
-    public <R> R reduce(R identity, BiFunction<? super R, ? super T, ? extends R> accumulator) {
-        R result = identity;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            result = accumulator.apply(result, value);
+    public <R> R reduce(R identity, final BiFunction<? super R, ? super T, ? extends R> accumulator) {
+        final Holder<R> result = Holder.of(identity);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                result.setValue(accumulator.apply(result.value(), value));
+            }
+        });
+        return result.value();
+    }
+
+    /**
+     * Reduces the elements using provided identity value, the associative accumulation
+     * function and the combining function.
+     *
+     * <p>The {@code combiner} merges the results of parts of a parallel stream,
+     * it is not used by a sequential stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param identity  the initial value, must be an identity for the combiner
+     * @param accumulator  the accumulation function
+     * @param combiner  the function for combining two results
+     * @return the result of the reduction
+     * @see #parallel()
+     */
+    public <R> R reduce(final R identity, final BiFunction<? super R, ? super T, ? extends R> accumulator,
+            BinaryOperator<R> combiner) {
+        if (!isParallel()) {
+            return reduce(identity, accumulator);
+        }
+        final List<R> results = Parallel.evaluate(params, iterator, new Function<Iterator<T>, R>() {
+            @Override
+            public R apply(Iterator<T> part) {
+                return new Stream<T>(null, part).reduce(identity, accumulator);
+            }
+        });
+        R result = results.get(0);
+        for (int i = 1, size = results.size(); i < size; i++) {
+            result = combiner.apply(result, results.get(i));
         }
         return result;
     }
@@ -1347,19 +2515,35 @@ public class Stream<T> implements Closeable {
      * @return the result of the reduction
      * @see #reduce(java.lang.Object, com.landawn.abacus.util.function.BiFunction)
      */
-    public Optional<T> reduce(BiFunction<T, T, T> accumulator) {
-        boolean foundAny = false;
-        T result = null;
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            if (!foundAny) {
-                foundAny = true;
-                result = value;
-            } else {
-                result = accumulator.apply(result, value);
+    @SuppressWarnings("unchecked")
+    public Optional<T> reduce(final BiFunction<T, T, T> accumulator) {
+        if (isParallel()) {
+            final List<Optional<T>> results = Parallel.evaluate(params, iterator, new Function<Iterator<T>, Optional<T>>() {
+                @Override
+                public Optional<T> apply(Iterator<T> part) {
+                    return new Stream<T>(null, part).reduce(accumulator);
+                }
+            });
+            T result = (T) NONE;
+            for (Optional<T> partResult : results) {
+                if (partResult.isPresent()) {
+                    result = (result == NONE) ? partResult.get() : accumulator.apply(result, partResult.get());
+                }
             }
+            return result == NONE ? Optional.<T> empty() : Optional.of(result);
         }
-        return foundAny ? Optional.of(result) : Optional.<T> empty();
+        final Holder<T> result = Holder.of((T) NONE);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                if (result.value() == NONE) {
+                    result.setValue(value);
+                } else {
+                    result.setValue(accumulator.apply(result.value(), value));
+                }
+            }
+        });
+        return result.value() == NONE ? Optional.<T> empty() : Optional.of(result.value());
     }
 
     /**
@@ -1373,11 +2557,47 @@ public class Stream<T> implements Closeable {
      * @return the result of collect elements
      * @see #collect(com.annimon.stream.Collector)
      */
-    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator) {
+    public <R> R collect(Supplier<R> supplier, final BiConsumer<R, ? super T> accumulator) {
         final R result = supplier.get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            accumulator.accept(result, value);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                accumulator.accept(result, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Collects elements to {@code supplier} provided container by applying the given accumulation function.
+     *
+     * <p>The {@code combiner} merges the containers of parts of a parallel stream
+     * by adding the elements of the second container to the first one,
+     * it is not used by a sequential stream.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param <R> the type of the result
+     * @param supplier  the supplier function that provides container
+     * @param accumulator  the accumulation function
+     * @param combiner  the function for combining two containers
+     * @return the result of collect elements
+     * @see #parallel()
+     */
+    public <R> R collect(final Supplier<R> supplier, final BiConsumer<R, ? super T> accumulator,
+            BiConsumer<R, R> combiner) {
+        if (!isParallel()) {
+            return collect(supplier, accumulator);
+        }
+        final List<R> results = Parallel.evaluate(params, iterator, new Function<Iterator<T>, R>() {
+            @Override
+            public R apply(Iterator<T> part) {
+                return new Stream<T>(null, part).collect(supplier, accumulator);
+            }
+        });
+        final R result = results.get(0);
+        for (int i = 1, size = results.size(); i < size; i++) {
+            combiner.accept(result, results.get(i));
         }
         return result;
     }
@@ -1395,10 +2615,23 @@ public class Stream<T> implements Closeable {
      */
     @SuppressWarnings("unchecked")
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-        A container = collector.supplier().get();
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-            collector.accumulator().accept(container, value);
+        final Supplier<A> supplier = collector.supplier();
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        final BinaryOperator<A> combiner = collector.combiner();
+        A container;
+        if (isParallel() && combiner != null) {
+            final List<A> results = Parallel.evaluate(params, iterator, new Function<Iterator<T>, A>() {
+                @Override
+                public A apply(Iterator<T> part) {
+                    return new Stream<T>(null, part).collect(supplier, accumulator);
+                }
+            });
+            container = results.get(0);
+            for (int i = 1, size = results.size(); i < size; i++) {
+                container = combiner.apply(container, results.get(i));
+            }
+        } else {
+            container = collect(supplier, accumulator);
         }
         if (collector.finisher() != null)
             return collector.finisher().apply(container);
@@ -1413,12 +2646,77 @@ public class Stream<T> implements Closeable {
      * @return the count of elements
      */
     public int count() {
-        int count = 0;
-        while (iterator.hasNext()) {
-            iterator.next();
-            count++;
+        if (iterator instanceof RandomAccessIterator) {
+            final RandomAccessIterator source = (RandomAccessIterator) iterator;
+            final long size = source.getExactSizeIfKnown();
+            if (size >= 0) {
+                source.skip(size);
+                return (int) size;
+            }
+        }
+        if (isParallel()) {
+            final List<Integer> counts = Parallel.evaluate(params, iterator, new Function<Iterator<T>, Integer>() {
+                @Override
+                public Integer apply(Iterator<T> part) {
+                    return new Stream<T>(null, part).count();
+                }
+            });
+            int count = 0;
+            for (int partCount : counts) {
+                count += partCount;
+            }
+            return count;
         }
-        return count;
+        final MutableInt count = MutableInt.of(0);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                count.increment();
+            }
+        });
+        return count.value();
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the values extracted
+     * from the elements of this stream, computed in one pass.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param extractor  the function that extracts a value from an element
+     * @return the statistics of the extracted values
+     * @see IntStream#summaryStatistics()
+     */
+    public IntSummaryStatistics summarizeInt(final ToIntFunction<? super T> extractor) {
+        return mapToInt(extractor).summaryStatistics();
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the values extracted
+     * from the elements of this stream, computed in one pass.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param extractor  the function that extracts a value from an element
+     * @return the statistics of the extracted values
+     * @see LongStream#summaryStatistics()
+     */
+    public LongSummaryStatistics summarizeLong(final ToLongFunction<? super T> extractor) {
+        return mapToLong(extractor).summaryStatistics();
+    }
+
+    /**
+     * Returns the count, sum, minimum, maximum and average of the values extracted
+     * from the elements of this stream, computed in one pass.
+     *
+     * <p>This is a terminal operation.
+     *
+     * @param extractor  the function that extracts a value from an element
+     * @return the statistics of the extracted values
+     * @see DoubleStream#summaryStatistics()
+     */
+    public DoubleSummaryStatistics summarizeDouble(final ToDoubleFunction<? super T> extractor) {
+        return mapToDouble(extractor).summaryStatistics();
     }
 
     /**
@@ -1449,6 +2747,21 @@ public class Stream<T> implements Closeable {
      * @return the result of collect elements
      */
     public <R> R[] toArray(IntFunction<R[]> generator) {
+        if (isParallel()) {
+            final List<List<T>> parts = toListParts();
+            int size = 0;
+            for (List<T> part : parts) {
+                size += part.size();
+            }
+            final R[] result = generator.apply(size);
+            int offset = 0;
+            for (List<T> part : parts) {
+                final int partSize = part.size();
+                System.arraycopy(part.toArray(), 0, result, offset, partSize);
+                offset += partSize;
+            }
+            return result;
+        }
         return Operators.toArray(iterator, generator);
     }
 
@@ -1465,26 +2778,50 @@ public class Stream<T> implements Closeable {
      * @see Collectors#toList()
      */
     public List<T> toList() {
-        final List<T> result = new ArrayList<>();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
+        if (isParallel()) {
+            final List<List<T>> parts = toListParts();
+            if (parts.size() == 1) {
+                return parts.get(0);
+            }
+            int size = 0;
+            for (List<T> part : parts) {
+                size += part.size();
+            }
+            final List<T> result = new ArrayList<>(size);
+            for (List<T> part : parts) {
+                result.addAll(part);
+            }
+            return result;
         }
-        return result;
+        return Operators.toList(iterator);
+    }
+
+    private List<List<T>> toListParts() {
+        return Parallel.evaluate(params, iterator, new Function<Iterator<T>, List<T>>() {
+            @Override
+            public List<T> apply(Iterator<T> part) {
+                return Operators.toList(part);
+            }
+        });
     }
 
     public Set<T> toSet() {
-        final Set<T> result = new HashSet<>();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
-        }
-        return result;
+        return toCollection(new Supplier<Set<T>>() {
+            @Override
+            public Set<T> get() {
+                return new HashSet<>();
+            }
+        });
     }
 
     public <C extends Collection<T>> C toCollection(Supplier<C> supplier) {
         final C result = supplier.get();
-        while (iterator.hasNext()) {
-            result.add(iterator.next());
-        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                result.add(value);
+            }
+        });
         return result;
     }
 
@@ -1635,6 +2972,66 @@ public class Stream<T> implements Closeable {
         System.out.println(toList());
     }
 
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the default fork/join pool.
+     *
+     * <p>Array, array list and range sources are split into parts,
+     * which pass through {@code map}, {@code filter}, {@code peek} and {@code mapTo*}
+     * operators concurrently. Pipelines with other operators are evaluated sequentially.
+     * {@code forEach}, {@code reduce}, {@code collect}, {@code count}, {@code anyMatch},
+     * {@code allMatch}, {@code noneMatch}, {@code toArray} and {@code toList}
+     * combine the results of the parts, other terminal operations are sequential.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the parallel stream
+     * @see #parallel(java.util.concurrent.Executor)
+     * @see #sequential()
+     */
+    public Stream<T> parallel() {
+        return withParallel(true, null);
+    }
+
+    /**
+     * Returns an equivalent stream, which is evaluated in parallel by the given executor.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @param executor  the executor to run the parts of the stream
+     * @return the parallel stream
+     * @throws NullPointerException if {@code executor} is null
+     * @see #parallel()
+     */
+    public Stream<T> parallel(Executor executor) {
+        N.requireNonNull(executor);
+        return withParallel(true, executor);
+    }
+
+    /**
+     * Returns an equivalent sequential stream.
+     *
+     * <p>This is an intermediate operation.
+     *
+     * @return the sequential stream
+     * @see #parallel()
+     */
+    public Stream<T> sequential() {
+        return withParallel(false, null);
+    }
+
+    /**
+     * Returns whether this stream is evaluated in parallel.
+     *
+     * @return {@code true} if this stream is parallel
+     */
+    public boolean isParallel() {
+        return Parallel.isParallel(params);
+    }
+
+    private Stream<T> withParallel(boolean parallel, Executor executor) {
+        return new Stream<>(Params.withParallel(params, parallel, executor), iterator);
+    }
+
     /**
      * Adds close handler to the current stream.
      *
@@ -1646,16 +3043,7 @@ public class Stream<T> implements Closeable {
      */
     public Stream<T> onClose(final Runnable closeHandler) {
         N.requireNonNull(closeHandler);
-        final Params newParams;
-        if (params == null) {
-            newParams = new Params();
-            newParams.closeHandler = closeHandler;
-        } else {
-            newParams = params;
-            final Runnable firstHandler = newParams.closeHandler;
-            newParams.closeHandler = Compose.runnables(firstHandler, closeHandler);
-        }
-        return new Stream<>(newParams, iterator);
+        return new Stream<>(Params.withCloseHandler(params, closeHandler), iterator);
     }
 
     /**
@@ -1724,34 +3112,80 @@ public class Stream<T> implements Closeable {
         };
     }
 
+    /**
+     * Keeps the first element with the least or the greatest key,
+     * along with the key, so that the key of each element is extracted once.
+     */
+    private static final class ExtremeBy<T, U> implements Consumer<T> {
+
+        private final Function<? super T, ? extends U> keyExtractor;
+        private final Comparator<? super U> keyComparator;
+        private final boolean max;
+        boolean found;
+        T value;
+        U key;
+
+        ExtremeBy(Function<? super T, ? extends U> keyExtractor, Comparator<? super U> keyComparator, boolean max) {
+            this.keyExtractor = keyExtractor;
+            this.keyComparator = keyComparator;
+            this.max = max;
+        }
+
+        @Override
+        public void accept(T value) {
+            final U key = keyExtractor.apply(value);
+            if (!found || isBetter(key)) {
+                found = true;
+                this.value = value;
+                this.key = key;
+            }
+        }
+
+        void merge(ExtremeBy<T, U> other) {
+            if (other.found && (!found || isBetter(other.key))) {
+                found = true;
+                value = other.value;
+                key = other.key;
+            }
+        }
+
+        private boolean isBetter(U key) {
+            final int result = keyComparator.compare(key, this.key);
+            return max ? result > 0 : result < 0;
+        }
+    }
+
     private static final int MATCH_ANY = 0;
     private static final int MATCH_ALL = 1;
     private static final int MATCH_NONE = 2;
 
-    private boolean match(Predicate<? super T> predicate, int matchKind) {
+    private boolean match(final Predicate<? super T> predicate, int matchKind) {
         final boolean kindAny = (matchKind == MATCH_ANY);
         final boolean kindAll = (matchKind == MATCH_ALL);
 
-        while (iterator.hasNext()) {
-            final T value = iterator.next();
-
-            /*if (predicate.test(value)) {
-                // anyMatch -> true
-                // noneMatch -> false
-                if (!kindAll) {
-                    return matchAny;
+        if (isParallel()) {
+            // Set by the part which finds the element deciding the result
+            final AtomicBoolean decided = new AtomicBoolean();
+            Parallel.evaluate(params, iterator, new Function<Iterator<T>, Void>() {
+                @Override
+                public Void apply(Iterator<T> part) {
+                    while (!decided.get() && part.hasNext()) {
+                        if (predicate.test(part.next()) ^ kindAll) {
+                            decided.set(true);
+                        }
+                    }
+                    return null;
                 }
-            } else {
-                // allMatch -> false
-                if (kindAll) {
-                    return false;
-                }
-            }*/
+            });
+            return kindAny == decided.get();
+        }
+
+        final Match<T> match = new Match<T>(predicate, kindAll);
+        while (Operators.tryAdvance(iterator, match)) {
             // match && !kindAll -> kindAny
             // !match && kindAll -> false
-            final boolean match = predicate.test(value);
-            if (match ^ kindAll) {
-                return kindAny && match; // (match ? kindAny : false);
+            if (match.decided) {
+                return kindAny && match.matched;
             }
         }
         // anyMatch -> false
@@ -1759,5 +3193,23 @@ public class Stream<T> implements Closeable {
         // noneMatch -> true
         return !kindAny;
     }
+
+    private static final class Match<T> implements Consumer<T> {
+
+        private final Predicate<? super T> predicate;
+        private final boolean kindAll;
+        private boolean matched, decided;
+
+        Match(Predicate<? super T> predicate, boolean kindAll) {
+            this.predicate = predicate;
+            this.kindAll = kindAll;
+        }
+
+        @Override
+        public void accept(T value) {
+            matched = predicate.test(value);
+            decided = matched ^ kindAll;
+        }
+    }
     //</editor-fold>
 }
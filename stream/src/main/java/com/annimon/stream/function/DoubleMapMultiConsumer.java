@@ -0,0 +1,20 @@
+package com.annimon.stream.function;
+
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Passes any number of {@code double} values for a {@code double} value to the sink.
+ *
+ * @see com.annimon.stream.DoubleStream#mapMulti(DoubleMapMultiConsumer)
+ */
+public interface DoubleMapMultiConsumer {
+
+    /**
+     * Passes the values replacing the given value to the sink.
+     * The sink must not be used after the method returns.
+     *
+     * @param value  the value to be replaced
+     * @param sink  the consumer of the new values
+     */
+    void accept(double value, DoubleConsumer sink);
+}
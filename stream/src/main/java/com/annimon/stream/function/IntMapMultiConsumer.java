@@ -0,0 +1,20 @@
+package com.annimon.stream.function;
+
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * Passes any number of {@code int} values for a {@code int} value to the sink.
+ *
+ * @see com.annimon.stream.IntStream#mapMulti(IntMapMultiConsumer)
+ */
+public interface IntMapMultiConsumer {
+
+    /**
+     * Passes the values replacing the given value to the sink.
+     * The sink must not be used after the method returns.
+     *
+     * @param value  the value to be replaced
+     * @param sink  the consumer of the new values
+     */
+    void accept(int value, IntConsumer sink);
+}
@@ -0,0 +1,19 @@
+package com.annimon.stream.function;
+
+/**
+ * Compares two {@code long} values without boxing them.
+ *
+ * @see java.util.Comparator
+ */
+public interface LongComparator {
+
+    /**
+     * Compares two values for order.
+     *
+     * @param value1  the first value
+     * @param value2  the second value
+     * @return a negative integer, zero, or a positive integer as the first value
+     *         is less than, equal to, or greater than the second
+     */
+    int compare(long value1, long value2);
+}
@@ -0,0 +1,20 @@
+package com.annimon.stream.function;
+
+import com.landawn.abacus.util.function.LongConsumer;
+
+/**
+ * Passes any number of {@code long} values for a {@code long} value to the sink.
+ *
+ * @see com.annimon.stream.LongStream#mapMulti(LongMapMultiConsumer)
+ */
+public interface LongMapMultiConsumer {
+
+    /**
+     * Passes the values replacing the given value to the sink.
+     * The sink must not be used after the method returns.
+     *
+     * @param value  the value to be replaced
+     * @param sink  the consumer of the new values
+     */
+    void accept(long value, LongConsumer sink);
+}
@@ -0,0 +1,406 @@
+package com.annimon.stream.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.LongConsumer;
+
+/**
+ * Selects the {@code k} least elements of a sequence in O(k) memory.
+ *
+ * <p>Elements are buffered until {@code k} of them are collected,
+ * then the buffer becomes a binary max-heap whose root is replaced
+ * by each smaller element. If fewer than {@code k} elements are
+ * accepted, the buffer is simply sorted.
+ */
+public final class BoundedHeap {
+
+    /**
+     * Initial capacity of the buffer, it grows up to {@code k}.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private BoundedHeap() {
+    }
+
+    /**
+     * Max size of the selection, some VMs reserve header words in an array.
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+    private static int limitSize(long k) {
+        return (int) Math.min(k, MAX_SIZE);
+    }
+
+    private static int initialCapacity(int k) {
+        return Math.min(k, INITIAL_CAPACITY);
+    }
+
+    private static int newCapacity(int capacity, int k) {
+        return (int) Math.min((long) capacity << 1, k);
+    }
+
+    /**
+     * Selection of objects, stable for elements that are equal
+     * according to the comparator.
+     *
+     * @param <T> the type of the elements
+     */
+    public static final class OfObj<T> implements Consumer<T> {
+
+        private final Comparator<? super T> comparator;
+        private final int k;
+        private Object[] heap;
+        // encounter order of heap elements, allocated once the heap is full
+        private long[] order;
+        private int size;
+        private long count;
+
+        public OfObj(Comparator<? super T> comparator, long k) {
+            this.comparator = comparator;
+            this.k = limitSize(k);
+            heap = new Object[initialCapacity(this.k)];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void accept(T value) {
+            final long index = count++;
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, newCapacity(size, k));
+                }
+                heap[size++] = value;
+                if (size == k) {
+                    heapify();
+                }
+                return;
+            }
+            // a later element equal to the root comes after it, so it is skipped
+            if (comparator.compare(value, (T) heap[0]) < 0) {
+                heap[0] = value;
+                order[0] = index;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Returns the selected elements in sorted order.
+         *
+         * @return the list of the least elements
+         */
+        @SuppressWarnings("unchecked")
+        public List<T> toSortedList() {
+            if (order == null) {
+                // stable sort of elements in encounter order
+                Arrays.sort((T[]) heap, 0, size, comparator);
+            } else {
+                for (int end = size - 1; end > 0; end--) {
+                    swap(0, end);
+                    siftDown(0, end);
+                }
+            }
+            final Object[] result = (size == heap.length) ? heap : Arrays.copyOf(heap, size);
+            heap = null;
+            order = null;
+            return Arrays.asList((T[]) result);
+        }
+
+        private void heapify() {
+            order = new long[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i, size);
+            }
+        }
+
+        private void siftDown(int i, int end) {
+            while (true) {
+                final int left = (i << 1) + 1;
+                if (left >= end) {
+                    return;
+                }
+                int largest = left;
+                final int right = left + 1;
+                if (right < end && greater(right, left)) {
+                    largest = right;
+                }
+                if (!greater(largest, i)) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean greater(int i, int j) {
+            final int result = comparator.compare((T) heap[i], (T) heap[j]);
+            return (result != 0) ? result > 0 : order[i] > order[j];
+        }
+
+        private void swap(int i, int j) {
+            final Object value = heap[i];
+            heap[i] = heap[j];
+            heap[j] = value;
+            final long index = order[i];
+            order[i] = order[j];
+            order[j] = index;
+        }
+    }
+
+    /**
+     * Selection of int values.
+     */
+    public static final class OfInt implements IntConsumer {
+
+        private final boolean reversed;
+        private final int k;
+        private int[] heap;
+        private int size;
+
+        /**
+         * @param k  the number of values to select
+         * @param reversed  {@code true} to select the greatest values
+         *                  in descending order
+         */
+        public OfInt(long k, boolean reversed) {
+            this.k = limitSize(k);
+            this.reversed = reversed;
+            heap = new int[initialCapacity(this.k)];
+        }
+
+        @Override
+        public void accept(int value) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, newCapacity(size, k));
+                }
+                heap[size++] = value;
+                if (size == k) {
+                    for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                        siftDown(i, size);
+                    }
+                }
+                return;
+            }
+            if (less(value, heap[0])) {
+                heap[0] = value;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Returns the selected values in sorted order.
+         *
+         * @return the array of the least values
+         */
+        public int[] toSortedArray() {
+            final int[] result = (size == heap.length) ? heap : Arrays.copyOf(heap, size);
+            heap = null;
+            RadixSort.sort(result, 0, result.length, null);
+            if (reversed) {
+                PrimitiveSort.reverse(result, 0, result.length);
+            }
+            return result;
+        }
+
+        private void siftDown(int i, int end) {
+            final int[] heap = this.heap;
+            final int value = heap[i];
+            while (true) {
+                final int left = (i << 1) + 1;
+                if (left >= end) {
+                    break;
+                }
+                int largest = left;
+                final int right = left + 1;
+                if (right < end && less(heap[left], heap[right])) {
+                    largest = right;
+                }
+                if (!less(value, heap[largest])) {
+                    break;
+                }
+                heap[i] = heap[largest];
+                i = largest;
+            }
+            heap[i] = value;
+        }
+
+        private boolean less(int a, int b) {
+            return reversed ? a > b : a < b;
+        }
+    }
+
+    /**
+     * Selection of long values.
+     */
+    public static final class OfLong implements LongConsumer {
+
+        private final boolean reversed;
+        private final int k;
+        private long[] heap;
+        private int size;
+
+        /**
+         * @param k  the number of values to select
+         * @param reversed  {@code true} to select the greatest values
+         *                  in descending order
+         */
+        public OfLong(long k, boolean reversed) {
+            this.k = limitSize(k);
+            this.reversed = reversed;
+            heap = new long[initialCapacity(this.k)];
+        }
+
+        @Override
+        public void accept(long value) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, newCapacity(size, k));
+                }
+                heap[size++] = value;
+                if (size == k) {
+                    for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                        siftDown(i, size);
+                    }
+                }
+                return;
+            }
+            if (less(value, heap[0])) {
+                heap[0] = value;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Returns the selected values in sorted order.
+         *
+         * @return the array of the least values
+         */
+        public long[] toSortedArray() {
+            final long[] result = (size == heap.length) ? heap : Arrays.copyOf(heap, size);
+            heap = null;
+            RadixSort.sort(result, 0, result.length, null);
+            if (reversed) {
+                PrimitiveSort.reverse(result, 0, result.length);
+            }
+            return result;
+        }
+
+        private void siftDown(int i, int end) {
+            final long[] heap = this.heap;
+            final long value = heap[i];
+            while (true) {
+                final int left = (i << 1) + 1;
+                if (left >= end) {
+                    break;
+                }
+                int largest = left;
+                final int right = left + 1;
+                if (right < end && less(heap[left], heap[right])) {
+                    largest = right;
+                }
+                if (!less(value, heap[largest])) {
+                    break;
+                }
+                heap[i] = heap[largest];
+                i = largest;
+            }
+            heap[i] = value;
+        }
+
+        private boolean less(long a, long b) {
+            return reversed ? a > b : a < b;
+        }
+    }
+
+    /**
+     * Selection of double values, ordered as by {@link Double#compare(double, double)}.
+     */
+    public static final class OfDouble implements DoubleConsumer {
+
+        private final boolean reversed;
+        private final int k;
+        private double[] heap;
+        private int size;
+
+        /**
+         * @param k  the number of values to select
+         * @param reversed  {@code true} to select the greatest values
+         *                  in descending order
+         */
+        public OfDouble(long k, boolean reversed) {
+            this.k = limitSize(k);
+            this.reversed = reversed;
+            heap = new double[initialCapacity(this.k)];
+        }
+
+        @Override
+        public void accept(double value) {
+            if (size < k) {
+                if (size == heap.length) {
+                    heap = Arrays.copyOf(heap, newCapacity(size, k));
+                }
+                heap[size++] = value;
+                if (size == k) {
+                    for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                        siftDown(i, size);
+                    }
+                }
+                return;
+            }
+            if (less(value, heap[0])) {
+                heap[0] = value;
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Returns the selected values in sorted order.
+         *
+         * @return the array of the least values
+         */
+        public double[] toSortedArray() {
+            final double[] result = (size == heap.length) ? heap : Arrays.copyOf(heap, size);
+            heap = null;
+            RadixSort.sort(result, 0, result.length, null);
+            if (reversed) {
+                PrimitiveSort.reverse(result, 0, result.length);
+            }
+            return result;
+        }
+
+        private void siftDown(int i, int end) {
+            final double[] heap = this.heap;
+            final double value = heap[i];
+            while (true) {
+                final int left = (i << 1) + 1;
+                if (left >= end) {
+                    break;
+                }
+                int largest = left;
+                final int right = left + 1;
+                if (right < end && less(heap[left], heap[right])) {
+                    largest = right;
+                }
+                if (!less(value, heap[largest])) {
+                    break;
+                }
+                heap[i] = heap[largest];
+                i = largest;
+            }
+            heap[i] = value;
+        }
+
+        private boolean less(double a, double b) {
+            return reversed ? Double.compare(a, b) > 0 : Double.compare(a, b) < 0;
+        }
+    }
+}
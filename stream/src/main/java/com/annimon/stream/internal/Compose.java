@@ -1,6 +1,9 @@
 package com.annimon.stream.internal;
 
 import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 
 public final class Compose {
 
@@ -55,4 +58,93 @@ public final class Compose {
             }
         };
     }
+
+    public static Runnable closeables(final Iterable<? extends Closeable> closeables) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                Throwable first = null;
+                for (Closeable closeable : closeables) {
+                    try {
+                        closeable.close();
+                    } catch (Throwable e) {
+                        if (first == null) {
+                            first = e;
+                        }
+                    }
+                }
+                if (first == null) {
+                    return;
+                }
+                if (first instanceof RuntimeException) {
+                    throw (RuntimeException) first;
+                } else if (first instanceof Error) {
+                    throw (Error) first;
+                } else {
+                    throw new RuntimeException(first);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns a handler which closes the streams with the given parameters,
+     * even if some of their handlers throw, and then rethrows the first exception.
+     *
+     * <p>Like {@code close()}, each handler is run once and then removed.
+     * The streams of nested compositions are closed by the same loop,
+     * so closing many step by step concatenated streams does not nest the calls.
+     */
+    public static Runnable closeAll(List<Params> params) {
+        return new CloseAll(params.toArray(new Params[params.size()]));
+    }
+
+    private static final class CloseAll implements Runnable {
+
+        private final Params[] params;
+
+        CloseAll(Params[] params) {
+            this.params = params;
+        }
+
+        @Override
+        public void run() {
+            final Deque<Params> pending = new ArrayDeque<Params>();
+            push(pending, params);
+            Throwable first = null;
+            while (!pending.isEmpty()) {
+                final Params next = pending.pop();
+                final Runnable handler = next.closeHandler;
+                if (handler == null) {
+                    continue;
+                }
+                next.closeHandler = null;
+                if (handler instanceof CloseAll) {
+                    push(pending, ((CloseAll) handler).params);
+                    continue;
+                }
+                try {
+                    handler.run();
+                } catch (Throwable e) {
+                    if (first == null) {
+                        first = e;
+                    }
+                }
+            }
+            if (first == null) {
+                return;
+            }
+            if (first instanceof RuntimeException) {
+                throw (RuntimeException) first;
+            }
+            throw (Error) first;
+        }
+
+        private static void push(Deque<Params> pending, Params[] params) {
+            // in reverse, so that the streams are closed in their order
+            for (int i = params.length - 1; i >= 0; i--) {
+                pending.push(params[i]);
+            }
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package com.annimon.stream.internal;
+
+/**
+ * Compensated sum of double values.
+ *
+ * <p>Finite values are summed with Neumaier's variant of Kahan summation,
+ * so the rounding error does not grow with the number of values,
+ * and values can be removed again without a drift of the sum.
+ * Infinite and NaN values are counted apart, so removing them
+ * restores a finite sum.
+ *
+ * <p>If the sum of the finite values overflows, it is kept as a plain
+ * sum without compensation, as removing values cannot restore it.
+ * The owner may {@link #reset()} it and add the values again.
+ */
+public final class DoubleSum {
+
+    private double sum;
+    // the low-order bits lost by the rounding of sum
+    private double compensation;
+    private long nanCount, positiveInfinityCount, negativeInfinityCount;
+
+    public void add(double value) {
+        if (value - value == 0) {
+            addFinite(value);
+        } else if (value != value) {
+            nanCount++;
+        } else if (value > 0) {
+            positiveInfinityCount++;
+        } else {
+            negativeInfinityCount++;
+        }
+    }
+
+    /**
+     * Removes the value that was added before.
+     *
+     * @param value  the value to remove
+     */
+    public void remove(double value) {
+        if (value - value == 0) {
+            addFinite(-value);
+        } else if (value != value) {
+            nanCount--;
+        } else if (value > 0) {
+            positiveInfinityCount--;
+        } else {
+            negativeInfinityCount--;
+        }
+    }
+
+    /**
+     * Adds the values of the other sum.
+     *
+     * @param other  the sum to add
+     */
+    public void combine(DoubleSum other) {
+        addFinite(other.sum);
+        // an overflowed sum has no compensation
+        if (!other.isOverflowed()) {
+            addFinite(other.compensation);
+        }
+        nanCount += other.nanCount;
+        positiveInfinityCount += other.positiveInfinityCount;
+        negativeInfinityCount += other.negativeInfinityCount;
+    }
+
+    private void addFinite(double value) {
+        final double t = sum + value;
+        if (t - t != 0) {
+            // overflow, the lost bits of an infinite sum are meaningless
+            compensation = 0;
+        } else if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    /**
+     * Returns whether the sum of the finite values has overflowed.
+     *
+     * @return {@code true} if the finite values sum to an infinite or NaN value
+     */
+    public boolean isOverflowed() {
+        return sum - sum != 0;
+    }
+
+    /**
+     * Removes all values.
+     */
+    public void reset() {
+        sum = 0;
+        compensation = 0;
+        nanCount = 0;
+        positiveInfinityCount = 0;
+        negativeInfinityCount = 0;
+    }
+
+    public double sum() {
+        if (nanCount > 0 || (positiveInfinityCount > 0 && negativeInfinityCount > 0)) {
+            return Double.NaN;
+        }
+        final double finiteSum = sum + compensation;
+        // an overflowed sum of the finite values may have the other sign
+        if (positiveInfinityCount > 0) {
+            return Double.POSITIVE_INFINITY + finiteSum;
+        }
+        if (negativeInfinityCount > 0) {
+            return Double.NEGATIVE_INFINITY + finiteSum;
+        }
+        return finiteSum;
+    }
+}
@@ -0,0 +1,256 @@
+package com.annimon.stream.internal;
+
+/**
+ * The least or the greatest of the last {@code windowSize} values of a sequence.
+ *
+ * <p>A deque keeps the values that can still become the extremum:
+ * a new value removes the worse values before it, and the front value
+ * is removed when it leaves the window. Each value is added and removed
+ * once, so the extremum takes amortized O(1) time per value.
+ */
+public final class MonotonicDeque {
+
+    private MonotonicDeque() {
+    }
+
+    /**
+     * Extremum of int values.
+     */
+    public static final class OfInt {
+
+        private final int windowSize;
+        private final boolean max;
+        // candidates in encounter order, each is better than the later ones
+        private int[] values;
+        private long[] positions;
+        private int head, size;
+        private long count;
+
+        /**
+         * @param windowSize  the number of the last values to take the extremum of
+         * @param max  {@code true} to take the maximum instead of the minimum
+         */
+        public OfInt(int windowSize, boolean max) {
+            this.windowSize = windowSize;
+            this.max = max;
+            values = new int[RollingWindow.initialCapacity(windowSize)];
+            positions = new long[values.length];
+        }
+
+        public void add(int value) {
+            final long position = count++;
+            if (size > 0 && positions[head] <= position - windowSize) {
+                head = next(head);
+                size--;
+            }
+            while (size > 0 && !better(values[index(size - 1)], value)) {
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+            }
+            final int tail = index(size++);
+            values[tail] = value;
+            positions[tail] = position;
+        }
+
+        /**
+         * Returns the extremum of the window, at least one value must be added.
+         *
+         * @return the extremum of the last {@code windowSize} values
+         */
+        public int get() {
+            return values[head];
+        }
+
+        private boolean better(int a, int b) {
+            return max ? a > b : a < b;
+        }
+
+        private int index(int i) {
+            final int index = head + i;
+            return (index < values.length) ? index : index - values.length;
+        }
+
+        private int next(int index) {
+            return (index + 1 == values.length) ? 0 : index + 1;
+        }
+
+        private void grow() {
+            final int capacity = RollingWindow.newCapacity(values.length, windowSize);
+            final int[] newValues = new int[capacity];
+            final long[] newPositions = new long[capacity];
+            for (int i = 0; i < size; i++) {
+                newValues[i] = values[index(i)];
+                newPositions[i] = positions[index(i)];
+            }
+            values = newValues;
+            positions = newPositions;
+            head = 0;
+        }
+    }
+
+    /**
+     * Extremum of long values.
+     */
+    public static final class OfLong {
+
+        private final int windowSize;
+        private final boolean max;
+        // candidates in encounter order, each is better than the later ones
+        private long[] values;
+        private long[] positions;
+        private int head, size;
+        private long count;
+
+        /**
+         * @param windowSize  the number of the last values to take the extremum of
+         * @param max  {@code true} to take the maximum instead of the minimum
+         */
+        public OfLong(int windowSize, boolean max) {
+            this.windowSize = windowSize;
+            this.max = max;
+            values = new long[RollingWindow.initialCapacity(windowSize)];
+            positions = new long[values.length];
+        }
+
+        public void add(long value) {
+            final long position = count++;
+            if (size > 0 && positions[head] <= position - windowSize) {
+                head = next(head);
+                size--;
+            }
+            while (size > 0 && !better(values[index(size - 1)], value)) {
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+            }
+            final int tail = index(size++);
+            values[tail] = value;
+            positions[tail] = position;
+        }
+
+        /**
+         * Returns the extremum of the window, at least one value must be added.
+         *
+         * @return the extremum of the last {@code windowSize} values
+         */
+        public long get() {
+            return values[head];
+        }
+
+        private boolean better(long a, long b) {
+            return max ? a > b : a < b;
+        }
+
+        private int index(int i) {
+            final int index = head + i;
+            return (index < values.length) ? index : index - values.length;
+        }
+
+        private int next(int index) {
+            return (index + 1 == values.length) ? 0 : index + 1;
+        }
+
+        private void grow() {
+            final int capacity = RollingWindow.newCapacity(values.length, windowSize);
+            final long[] newValues = new long[capacity];
+            final long[] newPositions = new long[capacity];
+            for (int i = 0; i < size; i++) {
+                newValues[i] = values[index(i)];
+                newPositions[i] = positions[index(i)];
+            }
+            values = newValues;
+            positions = newPositions;
+            head = 0;
+        }
+    }
+
+    /**
+     * Extremum of double values, ordered as by {@link Math#min(double, double)}
+     * and {@link Math#max(double, double)}: NaN is the extremum of a window containing it.
+     */
+    public static final class OfDouble {
+
+        private final int windowSize;
+        private final boolean max;
+        // candidates in encounter order, each is better than the later ones
+        private double[] values;
+        private long[] positions;
+        private int head, size;
+        private long count;
+        // position of the last NaN, which is the extremum while it is in the window
+        private long lastNaN = -1;
+
+        /**
+         * @param windowSize  the number of the last values to take the extremum of
+         * @param max  {@code true} to take the maximum instead of the minimum
+         */
+        public OfDouble(int windowSize, boolean max) {
+            this.windowSize = windowSize;
+            this.max = max;
+            values = new double[RollingWindow.initialCapacity(windowSize)];
+            positions = new long[values.length];
+        }
+
+        public void add(double value) {
+            final long position = count++;
+            if (size > 0 && positions[head] <= position - windowSize) {
+                head = next(head);
+                size--;
+            }
+            if (value != value) {
+                lastNaN = position;
+                return;
+            }
+            while (size > 0 && !better(values[index(size - 1)], value)) {
+                size--;
+            }
+            if (size == values.length) {
+                grow();
+            }
+            final int tail = index(size++);
+            values[tail] = value;
+            positions[tail] = position;
+        }
+
+        /**
+         * Returns the extremum of the window, at least one value must be added.
+         *
+         * @return the extremum of the last {@code windowSize} values
+         */
+        public double get() {
+            if (lastNaN >= 0 && lastNaN >= count - windowSize) {
+                return Double.NaN;
+            }
+            return values[head];
+        }
+
+        private boolean better(double a, double b) {
+            return max ? Double.compare(a, b) > 0 : Double.compare(a, b) < 0;
+        }
+
+        private int index(int i) {
+            final int index = head + i;
+            return (index < values.length) ? index : index - values.length;
+        }
+
+        private int next(int index) {
+            return (index + 1 == values.length) ? 0 : index + 1;
+        }
+
+        private void grow() {
+            final int capacity = RollingWindow.newCapacity(values.length, windowSize);
+            final double[] newValues = new double[capacity];
+            final long[] newPositions = new long[capacity];
+            for (int i = 0; i < size; i++) {
+                newValues[i] = values[index(i)];
+                newPositions[i] = positions[index(i)];
+            }
+            values = newValues;
+            positions = newPositions;
+            head = 0;
+        }
+    }
+}
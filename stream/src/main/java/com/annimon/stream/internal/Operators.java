@@ -1,61 +1,308 @@
 package com.annimon.stream.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
+import com.annimon.stream.iterator.LsaBaseIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntFunction;
+import com.landawn.abacus.util.function.LongConsumer;
 
 public final class Operators {
 
+    /**
+     * Max number of values a terminal operation takes from a primitive iterator at once.
+     */
+    public static final int BATCH_SIZE = 1024;
+
     private Operators() {
     }
 
-    public static <T> List<T> toList(Iterator<? extends T> iterator) {
-        final List<T> result = new ArrayList<>();
+    /**
+     * Returns the length of a buffer for batches of the iterator values,
+     * which is not greater than the number of remaining values.
+     */
+    public static int batchSize(LsaBaseIterator<?> iterator) {
+        return (int) Math.max(1, Math.min(iterator.estimateSize(), BATCH_SIZE));
+    }
+
+    /**
+     * Pushes all remaining elements of the iterator into the given action.
+     * Built-in iterators are traversed with internal iteration,
+     * any other iterator with {@code hasNext}/{@code next}.
+     */
+    public static <T> void forEachRemaining(Iterator<? extends T> iterator, Consumer<? super T> action) {
+        if (iterator instanceof LsaBaseIterator) {
+            ((LsaBaseIterator<? extends T>) iterator).forEachRemainingObj(action);
+            return;
+        }
         while (iterator.hasNext()) {
-            result.add(iterator.next());
+            action.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Performs the action for the next element of the iterator, if there is one.
+     * Built-in iterators are advanced with a single call,
+     * any other iterator with {@code hasNext}/{@code next}.
+     *
+     * @return {@code false} if there were no remaining elements
+     */
+    public static <T> boolean tryAdvance(Iterator<? extends T> iterator, Consumer<? super T> action) {
+        if (iterator instanceof LsaBaseIterator) {
+            return ((LsaBaseIterator<? extends T>) iterator).tryAdvance(action);
+        }
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        return true;
+    }
+
+    /**
+     * Returns the exact number of remaining elements of the iterator,
+     * or {@code -1} if it is unknown.
+     */
+    public static long getExactSizeIfKnown(Iterator<?> iterator) {
+        if (iterator instanceof LsaBaseIterator) {
+            return ((LsaBaseIterator<?>) iterator).getExactSizeIfKnown();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an upper bound of the number of remaining elements of the iterator,
+     * or {@code Long.MAX_VALUE} if it is unknown.
+     */
+    public static long estimateSize(Iterator<?> iterator) {
+        if (iterator instanceof LsaBaseIterator) {
+            return ((LsaBaseIterator<?>) iterator).estimateSize();
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Adds two sizes, returns {@code -1} if any of them is unknown
+     * and {@code Long.MAX_VALUE} on overflow.
+     */
+    public static long addSizes(long size1, long size2) {
+        if (size1 < 0 || size2 < 0) {
+            return -1;
         }
+        final long sum = size1 + size2;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Splits off a prefix of the remaining elements of the iterator,
+     * returns {@code null} if the iterator cannot be split.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Iterator<T> trySplit(Iterator<? extends T> iterator) {
+        if (iterator instanceof LsaBaseIterator) {
+            return ((LsaBaseIterator<T>) iterator).trySplit();
+        }
+        return null;
+    }
+
+    public static <T> List<T> toList(Iterator<? extends T> iterator) {
+        final long size = getExactSizeIfKnown(iterator);
+        final List<T> result = (size >= 0 && size <= Compat.MAX_ARRAY_SIZE)
+                ? new ArrayList<T>((int) size)
+                : new ArrayList<T>();
+        forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                result.add(t);
+            }
+        });
         return result;
     }
 
     public static <T, R> R[] toArray(Iterator<? extends T> iterator, IntFunction<R[]> generator) {
+        final long exactSize = getExactSizeIfKnown(iterator);
+        if (exactSize >= 0) {
+            Compat.checkMaxArraySize(exactSize);
+            final R[] result = generator.apply((int) exactSize);
+            // the elements are stored through Object[], as container.toArray does
+            final ArrayFiller<T> filler = new ArrayFiller<T>(result);
+            forEachRemaining(iterator, filler);
+            if (filler.size == result.length) {
+                return result;
+            }
+            // the source changed its size during the traversal
+            final R[] resized = generator.apply(filler.size);
+            System.arraycopy(filler.elements, 0, resized, 0, filler.size);
+            return resized;
+        }
+
         final List<T> container = Operators.<T> toList(iterator);
         final int size = container.size();
 
         Compat.checkMaxArraySize(size);
 
-        //noinspection unchecked
-        T[] source = container.toArray(Compat.<T> newArray(size));
-        R[] boxed = generator.apply(size);
-
-        //noinspection SuspiciousSystemArraycopy
-        System.arraycopy(source, 0, boxed, 0, size);
-        return boxed;
+        //noinspection SuspiciousToArrayCall
+        return container.toArray(generator.apply(size));
     }
 
     public static int[] toIntArray(PrimitiveIterator.OfInt iterator) {
-        final SpinedBuffer.OfInt b = new SpinedBuffer.OfInt();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextInt());
+        final long exactSize = iterator.getExactSizeIfKnown();
+        if (exactSize >= 0) {
+            Compat.checkMaxArraySize(exactSize);
+            final int[] values = new int[(int) exactSize];
+            final int size = iterator.nextBatch(values, 0, values.length);
+            // the rest is empty unless the source changed its size, but traversing it
+            // runs the side effects of the stages which do not pass their elements, such as skip
+            final IntArrayFiller rest = new IntArrayFiller(values, size);
+            iterator.forEachRemainingInt(rest);
+            return rest.toArray();
         }
+        final SpinedBuffer.OfInt b = new SpinedBuffer.OfInt();
+        b.acceptAll(iterator);
         return b.asPrimitiveArray();
     }
 
     public static long[] toLongArray(PrimitiveIterator.OfLong iterator) {
-        final SpinedBuffer.OfLong b = new SpinedBuffer.OfLong();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextLong());
+        final long exactSize = iterator.getExactSizeIfKnown();
+        if (exactSize >= 0) {
+            Compat.checkMaxArraySize(exactSize);
+            final long[] values = new long[(int) exactSize];
+            final int size = iterator.nextBatch(values, 0, values.length);
+            // the rest is empty unless the source changed its size, but traversing it
+            // runs the side effects of the stages which do not pass their elements, such as skip
+            final LongArrayFiller rest = new LongArrayFiller(values, size);
+            iterator.forEachRemainingLong(rest);
+            return rest.toArray();
         }
+        final SpinedBuffer.OfLong b = new SpinedBuffer.OfLong();
+        b.acceptAll(iterator);
         return b.asPrimitiveArray();
     }
 
     public static double[] toDoubleArray(PrimitiveIterator.OfDouble iterator) {
-        final SpinedBuffer.OfDouble b = new SpinedBuffer.OfDouble();
-        while (iterator.hasNext()) {
-            b.accept(iterator.nextDouble());
+        final long exactSize = iterator.getExactSizeIfKnown();
+        if (exactSize >= 0) {
+            Compat.checkMaxArraySize(exactSize);
+            final double[] values = new double[(int) exactSize];
+            final int size = iterator.nextBatch(values, 0, values.length);
+            // the rest is empty unless the source changed its size, but traversing it
+            // runs the side effects of the stages which do not pass their elements, such as skip
+            final DoubleArrayFiller rest = new DoubleArrayFiller(values, size);
+            iterator.forEachRemainingDouble(rest);
+            return rest.toArray();
         }
+        final SpinedBuffer.OfDouble b = new SpinedBuffer.OfDouble();
+        b.acceptAll(iterator);
         return b.asPrimitiveArray();
     }
+
+    /**
+     * Returns the length of an array grown by half of the given length.
+     */
+    private static int grow(int length) {
+        final long newLength = length + (length >> 1) + 1L;
+        Compat.checkMaxArraySize(newLength);
+        return (int) newLength;
+    }
+
+    /**
+     * Stores elements into an array, which is replaced by a larger copy
+     * if there are more elements than expected.
+     */
+    private static final class ArrayFiller<T> implements Consumer<T> {
+        Object[] elements;
+        int size;
+
+        ArrayFiller(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public void accept(T t) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, grow(size), Object[].class);
+            }
+            elements[size++] = t;
+        }
+    }
+
+    /**
+     * Stores the values after a batch, as {@link ArrayFiller} does.
+     */
+    private static final class IntArrayFiller implements IntConsumer {
+        private int[] values;
+        private int size;
+
+        IntArrayFiller(int[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public void accept(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return (size == values.length) ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Stores the values after a batch, as {@link ArrayFiller} does.
+     */
+    private static final class LongArrayFiller implements LongConsumer {
+        private long[] values;
+        private int size;
+
+        LongArrayFiller(long[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public void accept(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return (size == values.length) ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    /**
+     * Stores the values after a batch, as {@link ArrayFiller} does.
+     */
+    private static final class DoubleArrayFiller implements DoubleConsumer {
+        private double[] values;
+        private int size;
+
+        DoubleArrayFiller(double[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public void accept(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = value;
+        }
+
+        double[] toArray() {
+            return (size == values.length) ? values : Arrays.copyOf(values, size);
+        }
+    }
 }
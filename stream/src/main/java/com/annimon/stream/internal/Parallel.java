@@ -0,0 +1,169 @@
+package com.annimon.stream.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveTask;
+
+import com.annimon.stream.iterator.LsaBaseIterator;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Evaluates terminal operations of parallel streams.
+ *
+ * <p>The iterator is split with {@link LsaBaseIterator#trySplit()} into a few
+ * parts per thread, and every part is evaluated as a separate task. Pipelines
+ * containing an operator that cannot be split are evaluated as a single part.
+ *
+ * <p>On a fork/join pool the parts are fork/join tasks, so a worker waiting
+ * for a part helps to evaluate the others. With another executor the calling
+ * thread evaluates the parts that no thread has started yet.
+ */
+public final class Parallel {
+
+    private static final int PARTS_PER_THREAD = 4;
+
+    private Parallel() {
+    }
+
+    private static final class DefaultPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+
+    public static boolean isParallel(Params params) {
+        return params != null && params.parallel;
+    }
+
+    /**
+     * Splits the iterator into parts and applies the function to every part.
+     *
+     * @param params  the stream parameters with the executor
+     * @param iterator  the iterator to split
+     * @param function  the function evaluating a part
+     * @return the results of the function in encounter order of the parts
+     */
+    @SuppressWarnings("unchecked")
+    public static <I extends Iterator<?>, R> List<R> evaluate(
+            Params params, I iterator, final Function<? super I, ? extends R> function) {
+        final Executor executor = (params.executor != null) ? params.executor : DefaultPool.INSTANCE;
+        final int threads = (executor instanceof ForkJoinPool)
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        final List<I> parts = new ArrayList<>();
+        split(iterator, threads * PARTS_PER_THREAD, parts);
+
+        final int count = parts.size();
+        if (count > 1 && executor instanceof ForkJoinPool) {
+            final ForkJoinPool pool = (ForkJoinPool) executor;
+            final PartsTask<I, R> task = new PartsTask<I, R>(parts, 0, count, function);
+            // A worker of the pool evaluates the parts itself and joins the forked ones
+            return (ForkJoinTask.getPool() == pool) ? task.invoke() : pool.invoke(task);
+        }
+
+        final List<R> results = new ArrayList<>(count);
+        if (count == 1) {
+            results.add(function.apply(parts.get(0)));
+            return results;
+        }
+
+        final List<FutureTask<R>> tasks = new ArrayList<>(count - 1);
+        try {
+            for (int i = 0; i < count - 1; i++) {
+                final I part = parts.get(i);
+                final FutureTask<R> task = new FutureTask<>(new Callable<R>() {
+                    @Override
+                    public R call() {
+                        return function.apply(part);
+                    }
+                });
+                tasks.add(task);
+                executor.execute(task);
+            }
+            // The last part is evaluated by the calling thread
+            final R last = function.apply(parts.get(count - 1));
+            for (FutureTask<R> task : tasks) {
+                // Runs a part that is not started yet instead of waiting for a free thread
+                task.run();
+                results.add(getResult(task));
+            }
+            results.add(last);
+            return results;
+        } finally {
+            for (FutureTask<R> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <I extends Iterator<?>> void split(I iterator, int parts, List<I> result) {
+        if (parts > 1 && iterator instanceof LsaBaseIterator) {
+            final I prefix = (I) ((LsaBaseIterator<?>) iterator).trySplit();
+            if (prefix != null) {
+                split(prefix, parts / 2, result);
+                split(iterator, parts - parts / 2, result);
+                return;
+            }
+        }
+        result.add(iterator);
+    }
+
+    /**
+     * Evaluates a range of parts, forking the first half.
+     */
+    private static final class PartsTask<I, R> extends RecursiveTask<List<R>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<I> parts;
+        private final int from, to;
+        private final Function<? super I, ? extends R> function;
+
+        PartsTask(List<I> parts, int from, int to, Function<? super I, ? extends R> function) {
+            this.parts = parts;
+            this.from = from;
+            this.to = to;
+            this.function = function;
+        }
+
+        @Override
+        protected List<R> compute() {
+            if (to - from == 1) {
+                final List<R> results = new ArrayList<>(1);
+                results.add(function.apply(parts.get(from)));
+                return results;
+            }
+            final int mid = (from + to) >>> 1;
+            final PartsTask<I, R> prefix = new PartsTask<I, R>(parts, from, mid, function);
+            prefix.fork();
+            final List<R> suffixResults = new PartsTask<I, R>(parts, mid, to, function).compute();
+            final List<R> results = prefix.join();
+            results.addAll(suffixResults);
+            return results;
+        }
+    }
+
+    private static <R> R getResult(FutureTask<R> task) {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -1,9 +1,55 @@
 package com.annimon.stream.internal;
 
+import java.util.concurrent.Executor;
+
 /**
  * Parameters for streams.
  */
 public final class Params {
 
     public Runnable closeHandler;
+
+    public boolean parallel;
+
+    /**
+     * Executor for parallel streams, the default pool if {@code null}.
+     */
+    public Executor executor;
+
+    /**
+     * Returns a copy of the parameters with the given evaluation mode.
+     * The parameters of the original stream are not changed.
+     *
+     * @param params  the parameters to copy, may be {@code null}
+     * @param parallel  whether the stream is evaluated in parallel
+     * @param executor  the executor for parallel streams, the default pool if {@code null}
+     * @return the new parameters
+     */
+    public static Params withParallel(Params params, boolean parallel, Executor executor) {
+        final Params newParams = new Params();
+        if (params != null) {
+            newParams.closeHandler = params.closeHandler;
+        }
+        newParams.parallel = parallel;
+        newParams.executor = executor;
+        return newParams;
+    }
+
+    /**
+     * Adds the close handler to the parameters, which are shared
+     * by all stages of a stream.
+     *
+     * @param params  the parameters, may be {@code null}
+     * @param closeHandler  the close handler to add
+     * @return the parameters with the close handler
+     */
+    public static Params withCloseHandler(Params params, Runnable closeHandler) {
+        final Params newParams = (params == null) ? new Params() : params;
+        // parallel streams may have parameters without a close handler
+        final Runnable firstHandler = newParams.closeHandler;
+        newParams.closeHandler = (firstHandler == null)
+                ? closeHandler
+                : Compose.runnables(firstHandler, closeHandler);
+        return newParams;
+    }
 }
@@ -0,0 +1,354 @@
+package com.annimon.stream.internal;
+
+/**
+ * Hash sets of primitive values without boxing.
+ *
+ * <p>Values are kept in an open-addressing table with linear probing.
+ * When the values seen so far lie in a dense range, the set switches to
+ * a bitset over that range, and back to the table if the range becomes sparse.
+ */
+public final class PrimitiveHashSet {
+
+    /**
+     * Initial capacity of the open-addressing table, must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Max range of values covered by the bitset.
+     */
+    private static final long MAX_BITSET_RANGE = 1L << Integer.SIZE;
+
+    private PrimitiveHashSet() {
+    }
+
+    public static final class OfInt {
+
+        /**
+         * Bitset is used while it takes no more bits per element than
+         * the table, which holds two to four slots per element.
+         */
+        private static final int DENSE_BITS_PER_ELEMENT = 4 * Integer.SIZE;
+
+        private int[] table;
+        private int mask;
+        private boolean hasZero;
+        private int size;
+        private int min, max;
+
+        // bitset mode, table is null
+        private long[] bits;
+        private long base;
+
+        public OfInt() {
+            table = new int[INITIAL_CAPACITY];
+            mask = INITIAL_CAPACITY - 1;
+            min = Integer.MAX_VALUE;
+            max = Integer.MIN_VALUE;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds the value to the set.
+         *
+         * @param value  the value to add
+         * @return {@code true} if the set did not already contain the value
+         */
+        public boolean add(int value) {
+            final boolean added = (table == null) ? addToBits(value) : addToTable(value);
+            if (added) {
+                size++;
+                if (value < min) min = value;
+                if (value > max) max = value;
+                if (table != null && size > (mask >> 1)) {
+                    grow();
+                }
+            }
+            return added;
+        }
+
+        private boolean addToTable(int value) {
+            if (value == 0) {
+                if (hasZero) return false;
+                hasZero = true;
+                return true;
+            }
+            int i = hash(value) & mask;
+            while (true) {
+                final int current = table[i];
+                if (current == 0) {
+                    table[i] = value;
+                    return true;
+                }
+                if (current == value) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private boolean addToBits(int value) {
+            final long offset = value - base;
+            if (offset < 0 || (offset >>> 6) >= bits.length) {
+                if (!growBits(value)) {
+                    return addToTable(value);
+                }
+                return addToBits(value);
+            }
+            final int word = (int) (offset >>> 6);
+            final long bit = 1L << offset;
+            if ((bits[word] & bit) != 0) {
+                return false;
+            }
+            bits[word] |= bit;
+            return true;
+        }
+
+        private void grow() {
+            final long range = (long) max - min + 1;
+            if (range <= (long) size * DENSE_BITS_PER_ELEMENT) {
+                final int[] oldTable = table;
+                table = null;
+                base = floorToWord(min);
+                bits = new long[wordCount(base, max)];
+                for (int value : oldTable) {
+                    if (value != 0) addToBits(value);
+                }
+                if (hasZero) {
+                    hasZero = false;
+                    addToBits(0);
+                }
+                return;
+            }
+            rehash(table, (mask + 1) << 1);
+        }
+
+        /**
+         * Extends the bitset to cover the value.
+         *
+         * @return {@code false} if the range became sparse and the set
+         *         was converted back to the table
+         */
+        private boolean growBits(int value) {
+            final long newBase = floorToWord(Math.min(min, value));
+            final int newMax = Math.max(max, value);
+            final long range = (long) newMax - newBase + 1;
+            if (range > (long) (size + 1) * DENSE_BITS_PER_ELEMENT) {
+                final long[] oldBits = bits;
+                final long oldBase = base;
+                bits = null;
+                int capacity = INITIAL_CAPACITY;
+                while (capacity <= ((size + 1) << 1)) capacity <<= 1;
+                table = new int[capacity];
+                mask = capacity - 1;
+                for (int word = 0; word < oldBits.length; word++) {
+                    long w = oldBits[word];
+                    while (w != 0) {
+                        addToTable((int) (oldBase + ((long) word << 6) + Long.numberOfTrailingZeros(w)));
+                        w &= w - 1;
+                    }
+                }
+                return false;
+            }
+            final int wordShift = (int) ((base - newBase) >>> 6);
+            final long[] newBits = new long[wordCount(newBase, newMax)];
+            System.arraycopy(bits, 0, newBits, wordShift, bits.length);
+            bits = newBits;
+            base = newBase;
+            return true;
+        }
+
+        private void rehash(int[] oldTable, int capacity) {
+            table = new int[capacity];
+            mask = capacity - 1;
+            for (int value : oldTable) {
+                if (value != 0) {
+                    int i = hash(value) & mask;
+                    while (table[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = value;
+                }
+            }
+        }
+
+        private static int hash(int value) {
+            final int h = value * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    public static final class OfLong {
+
+        /**
+         * Bitset is used while it takes no more bits per element than
+         * the table, which holds two to four slots per element.
+         */
+        private static final int DENSE_BITS_PER_ELEMENT = 4 * Long.SIZE;
+
+        private long[] table;
+        private int mask;
+        private boolean hasZero;
+        private int size;
+        private long min, max;
+
+        // bitset mode, table is null
+        private long[] bits;
+        private long base;
+
+        public OfLong() {
+            table = new long[INITIAL_CAPACITY];
+            mask = INITIAL_CAPACITY - 1;
+            min = Long.MAX_VALUE;
+            max = Long.MIN_VALUE;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds the value to the set.
+         *
+         * @param value  the value to add
+         * @return {@code true} if the set did not already contain the value
+         */
+        public boolean add(long value) {
+            final boolean added = (table == null) ? addToBits(value) : addToTable(value);
+            if (added) {
+                size++;
+                if (value < min) min = value;
+                if (value > max) max = value;
+                if (table != null && size > (mask >> 1)) {
+                    grow();
+                }
+            }
+            return added;
+        }
+
+        private boolean addToTable(long value) {
+            if (value == 0) {
+                if (hasZero) return false;
+                hasZero = true;
+                return true;
+            }
+            int i = hash(value) & mask;
+            while (true) {
+                final long current = table[i];
+                if (current == 0) {
+                    table[i] = value;
+                    return true;
+                }
+                if (current == value) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+
+        private boolean addToBits(long value) {
+            final long offset = value - base;
+            if (value < base || offset < 0 || (offset >>> 6) >= bits.length) {
+                if (!growBits(value)) {
+                    return addToTable(value);
+                }
+                return addToBits(value);
+            }
+            final int word = (int) (offset >>> 6);
+            final long bit = 1L << offset;
+            if ((bits[word] & bit) != 0) {
+                return false;
+            }
+            bits[word] |= bit;
+            return true;
+        }
+
+        private void grow() {
+            // overflows to a negative value for very wide ranges
+            final long range = max - min + 1;
+            if (range > 0 && range <= MAX_BITSET_RANGE
+                    && range <= (long) size * DENSE_BITS_PER_ELEMENT) {
+                final long[] oldTable = table;
+                table = null;
+                base = floorToWord(min);
+                bits = new long[wordCount(base, max)];
+                for (long value : oldTable) {
+                    if (value != 0) addToBits(value);
+                }
+                if (hasZero) {
+                    hasZero = false;
+                    addToBits(0);
+                }
+                return;
+            }
+            rehash(table, (mask + 1) << 1);
+        }
+
+        /**
+         * Extends the bitset to cover the value.
+         *
+         * @return {@code false} if the range became sparse and the set
+         *         was converted back to the table
+         */
+        private boolean growBits(long value) {
+            final long newMin = Math.min(min, value);
+            final long newMax = Math.max(max, value);
+            final long range = newMax - newMin + 1;
+            if (range <= 0 || range > MAX_BITSET_RANGE
+                    || range > (long) (size + 1) * DENSE_BITS_PER_ELEMENT) {
+                final long[] oldBits = bits;
+                final long oldBase = base;
+                bits = null;
+                int capacity = INITIAL_CAPACITY;
+                while (capacity <= ((size + 1) << 1)) capacity <<= 1;
+                table = new long[capacity];
+                mask = capacity - 1;
+                for (int word = 0; word < oldBits.length; word++) {
+                    long w = oldBits[word];
+                    while (w != 0) {
+                        addToTable(oldBase + ((long) word << 6) + Long.numberOfTrailingZeros(w));
+                        w &= w - 1;
+                    }
+                }
+                return false;
+            }
+            final long newBase = floorToWord(newMin);
+            final int wordShift = (int) ((base - newBase) >>> 6);
+            final long[] newBits = new long[wordCount(newBase, newMax)];
+            System.arraycopy(bits, 0, newBits, wordShift, bits.length);
+            bits = newBits;
+            base = newBase;
+            return true;
+        }
+
+        private void rehash(long[] oldTable, int capacity) {
+            table = new long[capacity];
+            mask = capacity - 1;
+            for (long value : oldTable) {
+                if (value != 0) {
+                    int i = hash(value) & mask;
+                    while (table[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    table[i] = value;
+                }
+            }
+        }
+
+        private static int hash(long value) {
+            final long h = value * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private static long floorToWord(long value) {
+        return value & ~63L;
+    }
+
+    private static int wordCount(long base, long max) {
+        return (int) (((max - base) >>> 6) + 1);
+    }
+}
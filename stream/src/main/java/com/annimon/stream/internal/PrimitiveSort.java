@@ -0,0 +1,202 @@
+package com.annimon.stream.internal;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import java.util.Arrays;
+
+/**
+ * Sorts of primitive arrays by a primitive comparator, without boxing.
+ */
+public final class PrimitiveSort {
+
+    /**
+     * Ranges shorter than this are sorted with insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private PrimitiveSort() { }
+
+    /**
+     * Sorts the range of the array by the comparator.
+     * The sort is stable, equal values keep their order.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param comparator  the comparator
+     */
+    public static void sort(int[] a, int from, int to, IntComparator comparator) {
+        final int[] aux = Arrays.copyOfRange(a, from, to);
+        mergeSort(aux, a, from, to, -from, comparator);
+    }
+
+    /**
+     * Merge sort of {@code dest[low, high)}, {@code src} holds the same values
+     * at {@code [low + off, high + off)}.
+     */
+    private static void mergeSort(int[] src, int[] dest, int low, int high, int off,
+                                  IntComparator comparator) {
+        final int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                final int value = dest[i];
+                int j = i;
+                for (; j > low && comparator.compare(dest[j - 1], value) > 0; j--) {
+                    dest[j] = dest[j - 1];
+                }
+                dest[j] = value;
+            }
+            return;
+        }
+        final int destLow = low;
+        final int destHigh = high;
+        low += off;
+        high += off;
+        final int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, -off, comparator);
+        mergeSort(dest, src, mid, high, -off, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            // halves are already in order
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || (p < mid && comparator.compare(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the range of the array by the comparator.
+     * The sort is stable, equal values keep their order.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param comparator  the comparator
+     */
+    public static void sort(long[] a, int from, int to, LongComparator comparator) {
+        final long[] aux = Arrays.copyOfRange(a, from, to);
+        mergeSort(aux, a, from, to, -from, comparator);
+    }
+
+    /**
+     * Merge sort of {@code dest[low, high)}, {@code src} holds the same values
+     * at {@code [low + off, high + off)}.
+     */
+    private static void mergeSort(long[] src, long[] dest, int low, int high, int off,
+                                  LongComparator comparator) {
+        final int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                final long value = dest[i];
+                int j = i;
+                for (; j > low && comparator.compare(dest[j - 1], value) > 0; j--) {
+                    dest[j] = dest[j - 1];
+                }
+                dest[j] = value;
+            }
+            return;
+        }
+        final int destLow = low;
+        final int destHigh = high;
+        low += off;
+        high += off;
+        final int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, -off, comparator);
+        mergeSort(dest, src, mid, high, -off, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            // halves are already in order
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || (p < mid && comparator.compare(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    /**
+     * Sorts the range of the array by the comparator.
+     * The sort is stable, equal values keep their order.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param comparator  the comparator
+     */
+    public static void sort(double[] a, int from, int to, DoubleComparator comparator) {
+        final double[] aux = Arrays.copyOfRange(a, from, to);
+        mergeSort(aux, a, from, to, -from, comparator);
+    }
+
+    /**
+     * Merge sort of {@code dest[low, high)}, {@code src} holds the same values
+     * at {@code [low + off, high + off)}.
+     */
+    private static void mergeSort(double[] src, double[] dest, int low, int high, int off,
+                                  DoubleComparator comparator) {
+        final int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                final double value = dest[i];
+                int j = i;
+                for (; j > low && comparator.compare(dest[j - 1], value) > 0; j--) {
+                    dest[j] = dest[j - 1];
+                }
+                dest[j] = value;
+            }
+            return;
+        }
+        final int destLow = low;
+        final int destHigh = high;
+        low += off;
+        high += off;
+        final int mid = (low + high) >>> 1;
+        mergeSort(dest, src, low, mid, -off, comparator);
+        mergeSort(dest, src, mid, high, -off, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            // halves are already in order
+            System.arraycopy(src, low, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = low, q = mid; i < destHigh; i++) {
+            if (q >= high || (p < mid && comparator.compare(src[p], src[q]) <= 0)) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    public static void reverse(int[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final int value = a[i];
+            a[i] = a[j];
+            a[j] = value;
+        }
+    }
+
+    public static void reverse(long[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final long value = a[i];
+            a[i] = a[j];
+            a[j] = value;
+        }
+    }
+
+    public static void reverse(double[] a, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final double value = a[i];
+            a[i] = a[j];
+            a[j] = value;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.annimon.stream.internal;
+
+import java.util.Arrays;
+
+/**
+ * Size-adaptive sort of primitive arrays.
+ *
+ * <p>Large ranges are sorted with LSD radix sort by bytes. Passes over bytes
+ * that are the same in all values, e.g. the high bytes of timestamps, are skipped.
+ * Small ranges are sorted with {@link Arrays#sort}.
+ *
+ * <p>Radix sort needs a scratch buffer. Each method returns the buffer it used,
+ * so the caller can pass it again when sorting several arrays.
+ */
+public final class RadixSort {
+
+    /**
+     * Min size of a range sorted with radix sort, below it the passes over
+     * the counting table cost more than a comparison sort.
+     */
+    static final int INT_THRESHOLD = 1 << 11;
+    static final int LONG_THRESHOLD = 1 << 13;
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int MASK = RADIX - 1;
+
+    private RadixSort() { }
+
+    /**
+     * Sorts the range of the array into ascending order.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param scratch  the buffer from a previous call, or {@code null}
+     * @return the buffer to reuse, or {@code null}
+     */
+    public static int[] sort(int[] a, int from, int to, int[] scratch) {
+        final int n = to - from;
+        if (n < INT_THRESHOLD) {
+            Arrays.sort(a, from, to);
+            return scratch;
+        }
+        if (scratch == null || scratch.length < n) {
+            scratch = new int[n];
+        }
+        final int passes = Integer.SIZE / RADIX_BITS;
+        final int[] counts = new int[passes * RADIX];
+        for (int i = from; i < to; i++) {
+            final int value = a[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[(pass << RADIX_BITS) + ((value >>> (pass * RADIX_BITS)) & MASK)]++;
+            }
+        }
+        int[] src = a, dst = scratch;
+        int srcFrom = from, dstFrom = 0;
+        for (int pass = 0; pass < passes; pass++) {
+            final int offset = pass << RADIX_BITS;
+            final int shift = pass * RADIX_BITS;
+            if (counts[offset + (((src[srcFrom] ^ Integer.MIN_VALUE) >>> shift) & MASK)] == n) {
+                // all values have the same digit
+                continue;
+            }
+            int position = dstFrom;
+            for (int digit = 0; digit < RADIX; digit++) {
+                final int count = counts[offset + digit];
+                counts[offset + digit] = position;
+                position += count;
+            }
+            final int srcTo = srcFrom + n;
+            for (int i = srcFrom; i < srcTo; i++) {
+                final int value = src[i];
+                dst[counts[offset + (((value ^ Integer.MIN_VALUE) >>> shift) & MASK)]++] = value;
+            }
+            final int[] array = src;
+            src = dst;
+            dst = array;
+            final int index = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = index;
+        }
+        if (src != a) {
+            System.arraycopy(src, srcFrom, a, from, n);
+        }
+        return scratch;
+    }
+
+    /**
+     * Sorts the range of the array into ascending order.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param scratch  the buffer from a previous call, or {@code null}
+     * @return the buffer to reuse, or {@code null}
+     */
+    public static long[] sort(long[] a, int from, int to, long[] scratch) {
+        final int n = to - from;
+        if (n < LONG_THRESHOLD) {
+            Arrays.sort(a, from, to);
+            return scratch;
+        }
+        if (scratch == null || scratch.length < n) {
+            scratch = new long[n];
+        }
+        if (!sort(a, from, scratch, 0, n, Long.MIN_VALUE)) {
+            System.arraycopy(scratch, 0, a, from, n);
+        }
+        return scratch;
+    }
+
+    /**
+     * Sorts the range of the array into ascending order,
+     * as by {@link Arrays#sort(double[], int, int)}.
+     *
+     * <p>Values are sorted by their bits: the sign bit of non-negative values
+     * and all bits of negative values are flipped, so that the order of
+     * the bits as unsigned numbers matches the order of the values.
+     * NaN values are moved to the end beforehand.
+     *
+     * @param a  the array to sort
+     * @param from  the index of the first element, inclusive
+     * @param to  the index of the last element, exclusive
+     * @param scratch  the buffer from a previous call, or {@code null}
+     * @return the buffer to reuse, or {@code null}
+     */
+    public static long[] sort(double[] a, int from, int to, long[] scratch) {
+        if (to - from < LONG_THRESHOLD) {
+            Arrays.sort(a, from, to);
+            return scratch;
+        }
+        int end = to;
+        for (int i = to - 1; i >= from; i--) {
+            final double value = a[i];
+            if (value != value) {
+                a[i] = a[--end];
+                a[end] = value;
+            }
+        }
+        final int n = end - from;
+        if (n < LONG_THRESHOLD || 2L * n > Compat.MAX_ARRAY_SIZE) {
+            Arrays.sort(a, from, end);
+            return scratch;
+        }
+        if (scratch == null || scratch.length < 2 * n) {
+            scratch = new long[2 * n];
+        }
+        for (int i = 0; i < n; i++) {
+            final long bits = Double.doubleToRawLongBits(a[from + i]);
+            scratch[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+        final int offset = sort(scratch, 0, scratch, n, n, 0L) ? 0 : n;
+        for (int i = 0; i < n; i++) {
+            final long key = scratch[offset + i];
+            a[from + i] = Double.longBitsToDouble(key ^ ((~key >> 63) | Long.MIN_VALUE));
+        }
+        return scratch;
+    }
+
+    /**
+     * Sorts {@code n} values of {@code a} by their bits xor {@code flip}
+     * as unsigned numbers.
+     *
+     * @return {@code true} if the result is in {@code a}, {@code false} if in {@code b}
+     */
+    private static boolean sort(long[] a, int aFrom, long[] b, int bFrom, int n, long flip) {
+        final int passes = Long.SIZE / RADIX_BITS;
+        final int[] counts = new int[passes * RADIX];
+        final int aTo = aFrom + n;
+        for (int i = aFrom; i < aTo; i++) {
+            final long value = a[i] ^ flip;
+            for (int pass = 0; pass < passes; pass++) {
+                counts[(pass << RADIX_BITS) + (int) ((value >>> (pass * RADIX_BITS)) & MASK)]++;
+            }
+        }
+        long[] src = a, dst = b;
+        int srcFrom = aFrom, dstFrom = bFrom;
+        boolean inA = true;
+        for (int pass = 0; pass < passes; pass++) {
+            final int offset = pass << RADIX_BITS;
+            final int shift = pass * RADIX_BITS;
+            if (counts[offset + (int) (((src[srcFrom] ^ flip) >>> shift) & MASK)] == n) {
+                // all values have the same digit
+                continue;
+            }
+            int position = dstFrom;
+            for (int digit = 0; digit < RADIX; digit++) {
+                final int count = counts[offset + digit];
+                counts[offset + digit] = position;
+                position += count;
+            }
+            final int srcTo = srcFrom + n;
+            for (int i = srcFrom; i < srcTo; i++) {
+                final long value = src[i];
+                dst[counts[offset + (int) (((value ^ flip) >>> shift) & MASK)]++] = value;
+            }
+            final long[] array = src;
+            src = dst;
+            dst = array;
+            final int index = srcFrom;
+            srcFrom = dstFrom;
+            dstFrom = index;
+            inA = !inA;
+        }
+        return inA;
+    }
+}
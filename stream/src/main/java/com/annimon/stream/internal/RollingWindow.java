@@ -0,0 +1,175 @@
+package com.annimon.stream.internal;
+
+import java.util.Arrays;
+
+/**
+ * The last {@code windowSize} values of a sequence in a circular buffer.
+ *
+ * <p>The buffer grows up to the window size as values are added,
+ * so a large window over a short sequence takes little memory.
+ */
+public final class RollingWindow {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private RollingWindow() {
+    }
+
+    static int initialCapacity(int windowSize) {
+        return Math.min(windowSize, INITIAL_CAPACITY);
+    }
+
+    static int newCapacity(int capacity, int windowSize) {
+        return (int) Math.min((long) capacity << 1, windowSize);
+    }
+
+    /**
+     * Window of int values.
+     */
+    public static final class OfInt {
+
+        private final int windowSize;
+        private int[] values;
+        // the oldest value once the window is full
+        private int head, size;
+
+        public OfInt(int windowSize) {
+            this.windowSize = windowSize;
+            values = new int[initialCapacity(windowSize)];
+        }
+
+        public boolean isFull() {
+            return size == windowSize;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds the value, the oldest value is removed if the window is full.
+         *
+         * @param value  the value to add
+         * @return the removed value, or {@code 0} if the window was not full
+         */
+        public int add(int value) {
+            if (size < windowSize) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, newCapacity(size, windowSize));
+                }
+                values[size++] = value;
+                return 0;
+            }
+            final int removed = values[head];
+            values[head] = value;
+            if (++head == windowSize) {
+                head = 0;
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Window of long values.
+     */
+    public static final class OfLong {
+
+        private final int windowSize;
+        private long[] values;
+        // the oldest value once the window is full
+        private int head, size;
+
+        public OfLong(int windowSize) {
+            this.windowSize = windowSize;
+            values = new long[initialCapacity(windowSize)];
+        }
+
+        public boolean isFull() {
+            return size == windowSize;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds the value, the oldest value is removed if the window is full.
+         *
+         * @param value  the value to add
+         * @return the removed value, or {@code 0} if the window was not full
+         */
+        public long add(long value) {
+            if (size < windowSize) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, newCapacity(size, windowSize));
+                }
+                values[size++] = value;
+                return 0;
+            }
+            final long removed = values[head];
+            values[head] = value;
+            if (++head == windowSize) {
+                head = 0;
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Window of double values.
+     */
+    public static final class OfDouble {
+
+        private final int windowSize;
+        private double[] values;
+        // the oldest value once the window is full
+        private int head, size;
+
+        public OfDouble(int windowSize) {
+            this.windowSize = windowSize;
+            values = new double[initialCapacity(windowSize)];
+        }
+
+        public boolean isFull() {
+            return size == windowSize;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds the value, the oldest value is removed if the window is full.
+         *
+         * @param value  the value to add
+         * @return the removed value, or {@code 0} if the window was not full
+         */
+        public double add(double value) {
+            if (size < windowSize) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, newCapacity(size, windowSize));
+                }
+                values[size++] = value;
+                return 0;
+            }
+            final double removed = values[head];
+            values[head] = value;
+            if (++head == windowSize) {
+                head = 0;
+            }
+            return removed;
+        }
+
+        /**
+         * Adds the values of the window to the sum, the oldest first.
+         *
+         * @param sum  the sum to add to
+         */
+        public void sumTo(DoubleSum sum) {
+            for (int i = 0; i < size; i++) {
+                final int index = head + i;
+                sum.add(values[(index < size) ? index : index - size]);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.annimon.stream.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Temporary files for operations that spill elements to disk.
+ */
+public final class SpillFiles {
+
+    private static final String PREFIX = "stream";
+    private static final String SUFFIX = ".tmp";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Max number of files merged at once, each of them holds an input buffer.
+     */
+    public static final int MAX_MERGE_WIDTH = 64;
+
+    private SpillFiles() { }
+
+    /**
+     * Temporary file with a known number of elements.
+     */
+    public static final class Run {
+
+        public final File file;
+        public final long size;
+
+        public Run(File file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Creates a temporary file, which is also deleted when the virtual machine exits,
+     * in case the operation that owns it is neither completed nor closed.
+     */
+    public static File create() throws IOException {
+        final File file = File.createTempFile(PREFIX, SUFFIX);
+        file.deleteOnExit();
+        return file;
+    }
+
+    public static DataOutputStream openOutput(File file) throws IOException {
+        return openOutput(file, false);
+    }
+
+    /**
+     * Opens a file for writing, compressed with the fastest level of deflate
+     * if {@code compress} is {@code true}.
+     */
+    public static DataOutputStream openOutput(File file, boolean compress) throws IOException {
+        OutputStream output = new FileOutputStream(file);
+        if (compress) {
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            output = new DeflaterOutputStream(output, deflater, BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        // a deflater passed to the stream is not released by it
+                        deflater.end();
+                    }
+                }
+            };
+        }
+        return new DataOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+    }
+
+    public static DataInputStream openInput(File file) throws IOException {
+        return openInput(file, false);
+    }
+
+    /**
+     * Opens a file written by {@link #openOutput(File, boolean)} for reading.
+     */
+    public static DataInputStream openInput(File file, boolean compressed) throws IOException {
+        InputStream input = new FileInputStream(file);
+        if (compressed) {
+            input = new InflaterInputStream(input, new Inflater(), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        inf.end();
+                    }
+                }
+            };
+        }
+        return new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE));
+    }
+
+    public static void closeQuietly(Closeable closeable) {
+        if (closeable == null) return;
+        try {
+            closeable.close();
+        } catch (IOException ignore) { }
+    }
+
+    public static void delete(Iterable<Run> runs) {
+        for (Run run : runs) {
+            delete(run.file);
+        }
+    }
+
+    public static void delete(File file) {
+        if (file != null) {
+            // a file which cannot be deleted now is deleted on exit
+            file.delete();
+        }
+    }
+}
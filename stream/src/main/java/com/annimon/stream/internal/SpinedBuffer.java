@@ -250,6 +250,19 @@ final class SpinedBuffer {
             curChunk[elementIndex++] = i;
         }
 
+        /**
+         * Moves all remaining values of the iterator to the buffer in batches.
+         */
+        public void acceptAll(PrimitiveIterator.OfInt iterator) {
+            int requested, size;
+            do {
+                preAccept();
+                requested = curChunk.length - elementIndex;
+                size = iterator.nextBatch(curChunk, elementIndex, requested);
+                elementIndex += size;
+            } while (size == requested);
+        }
+
         public int get(long index) {
             // Casts to int are safe since the spine array index is the index minus
             // the prior element count from the current spine
@@ -308,6 +321,19 @@ final class SpinedBuffer {
             curChunk[elementIndex++] = i;
         }
 
+        /**
+         * Moves all remaining values of the iterator to the buffer in batches.
+         */
+        public void acceptAll(PrimitiveIterator.OfLong iterator) {
+            int requested, size;
+            do {
+                preAccept();
+                requested = curChunk.length - elementIndex;
+                size = iterator.nextBatch(curChunk, elementIndex, requested);
+                elementIndex += size;
+            } while (size == requested);
+        }
+
         public long get(long index) {
             int ch = chunkFor(index);
             if (spineIndex == 0 && ch == 0)
@@ -364,6 +390,19 @@ final class SpinedBuffer {
             curChunk[elementIndex++] = i;
         }
 
+        /**
+         * Moves all remaining values of the iterator to the buffer in batches.
+         */
+        public void acceptAll(PrimitiveIterator.OfDouble iterator) {
+            int requested, size;
+            do {
+                preAccept();
+                requested = curChunk.length - elementIndex;
+                size = iterator.nextBatch(curChunk, elementIndex, requested);
+                elementIndex += size;
+            } while (size == requested);
+        }
+
         public double get(long index) {
             int ch = chunkFor(index);
             if (spineIndex == 0 && ch == 0)
@@ -1,13 +1,17 @@
 package com.annimon.stream.iterator;
 
+import java.util.Collection;
 import java.util.Iterator;
 
+import com.annimon.stream.operator.ObjList;
+import com.landawn.abacus.util.function.Consumer;
+
 /**
  * Lazily gets {@code Iterator} from the given {@link Iterable}.
  * 
  * @param <T> the type of the elements
  */
-public class LazyIterator<T> implements Iterator<T> {
+public class LazyIterator<T> extends LsaBaseIterator<T> {
     private final Iterable<? extends T> iterable;
     private Iterator<? extends T> iterator;
 
@@ -35,6 +39,39 @@ public class LazyIterator<T> implements Iterator<T> {
         return iterator.next();
     }
 
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        ensureIterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Returns the size of an {@code ArrayList} or of a list returned by {@code Arrays.asList}
+     * before the traversal, as their size cannot change without the traversal failing.
+     * Other collections, such as concurrent ones, may change their size during the traversal,
+     * so their size is only an estimate.
+     */
+    @Override
+    public long getExactSizeIfKnown() {
+        if (iterator == null && ObjList.isSupported(iterable)) {
+            return ((Collection<? extends T>) iterable).size();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the size of a collection before the traversal.
+     */
+    @Override
+    public long estimateSize() {
+        if (iterator == null && iterable instanceof Collection) {
+            return ((Collection<? extends T>) iterable).size();
+        }
+        return Long.MAX_VALUE;
+    }
+
     @Override
     public void remove() {
         ensureIterator();
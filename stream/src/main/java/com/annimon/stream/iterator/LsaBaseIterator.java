@@ -0,0 +1,95 @@
+package com.annimon.stream.iterator;
+
+import java.util.Iterator;
+
+import com.landawn.abacus.util.function.Consumer;
+
+/**
+ * Base class for the iterators of built-in operators.
+ *
+ * <p>Besides the pull-based {@code hasNext}/{@code next} protocol it supports
+ * internal iteration: {@link #forEachRemainingObj(Consumer)} pushes all remaining
+ * elements into a consumer. Operators override it to pass elements directly
+ * from upstream to downstream, so terminal operations over a pipeline of
+ * built-in operators avoid the per-stage {@code hasNext}/{@code next} calls.
+ * It has its own name, so a lambda passed to {@code Iterator.forEachRemaining}
+ * stays unambiguous.
+ * {@link #tryAdvance(Consumer)} pushes a single element the same way, so
+ * short-circuiting operations make one call per stage for each element
+ * instead of two. The primitive iterators name their variants of both
+ * methods after the value type, such as {@code tryAdvanceInt}, for the same reason.
+ *
+ * <p>Iterators also report the number of remaining elements when they know it,
+ * so terminal operations can presize their containers, and may split off a part
+ * of the remaining elements, so parallel streams can evaluate the parts concurrently.
+ *
+ * @param <T> the type of the elements
+ */
+public abstract class LsaBaseIterator<T> implements Iterator<T> {
+
+    /**
+     * Performs the given action for each remaining element.
+     * Falls back to {@code hasNext}/{@code next} by default.
+     *
+     * @param action  the action to be performed for each element
+     */
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        while (hasNext()) {
+            action.accept(next());
+        }
+    }
+
+    /**
+     * Performs the given action for the next element, if there is one.
+     * Falls back to {@code hasNext}/{@code next} by default.
+     *
+     * @param action  the action to be performed for the next element
+     * @return {@code false} if there were no remaining elements
+     */
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return false;
+        }
+        action.accept(next());
+        return true;
+    }
+
+    /**
+     * Returns the exact number of remaining elements, or {@code -1} if it is unknown.
+     *
+     * @return the exact number of remaining elements, or {@code -1}
+     */
+    public long getExactSizeIfKnown() {
+        return -1;
+    }
+
+    /**
+     * Returns an upper bound of the number of remaining elements,
+     * or {@code Long.MAX_VALUE} if it is unknown.
+     * A source which may change during the traversal returns an estimate,
+     * so the result may only be used to size buffers.
+     * Defaults to {@link #getExactSizeIfKnown()}.
+     *
+     * @return an upper bound of the number of remaining elements
+     */
+    public long estimateSize() {
+        final long size = getExactSizeIfKnown();
+        return size < 0 ? Long.MAX_VALUE : size;
+    }
+
+    /**
+     * Splits off a prefix of the remaining elements into a new iterator,
+     * this iterator keeps the rest.
+     * Returns {@code null} by default, meaning that the iterator cannot be split.
+     *
+     * @return an iterator over the prefix, or {@code null}
+     */
+    public LsaBaseIterator<T> trySplit() {
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove not supported");
+    }
+}
@@ -1,6 +1,5 @@
 package com.annimon.stream.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -8,7 +7,7 @@ import java.util.NoSuchElementException;
  *
  * @param <T> the type of the inner value
  */
-public abstract class LsaExtIterator<T> implements Iterator<T> {
+public abstract class LsaExtIterator<T> extends LsaBaseIterator<T> {
 
     protected T next;
     protected boolean hasNext, isInit;
@@ -42,9 +41,4 @@ public abstract class LsaExtIterator<T> implements Iterator<T> {
     }
 
     protected abstract void nextIteration();
-
-    @Override
-    public void remove() {
-        throw new UnsupportedOperationException("remove not supported");
-    }
 }
\ No newline at end of file
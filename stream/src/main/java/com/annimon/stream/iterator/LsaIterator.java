@@ -1,18 +1,12 @@
 package com.annimon.stream.iterator;
 
-import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
  * Abstract iterator with implemented {@code remove} method.
  * @param <T> the type of the elements
  */
-public abstract class LsaIterator<T> implements Iterator<T> {
- 
-    @Override
-    public void remove() {
-        throw new UnsupportedOperationException("remove not supported");
-    }
+public abstract class LsaIterator<T> extends LsaBaseIterator<T> {
 
     @Override
     public final T next() {
@@ -3,6 +3,11 @@ package com.annimon.stream.iterator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.LongConsumer;
+
 /**
  * A base type for primitive specializations of {@link Iterator}.
  * Specialized subtypes are provided for {@link OfInt int},
@@ -13,7 +18,7 @@ public final class PrimitiveIterator {
     private PrimitiveIterator() {
     }
 
-    public abstract static class OfInt implements Iterator<Integer> {
+    public abstract static class OfInt extends LsaBaseIterator<Integer> {
 
         public static final OfInt EMPTY = new OfInt() {
             @Override
@@ -60,13 +65,87 @@ public final class PrimitiveIterator {
             return nextInt();
         }
 
+        /**
+         * Performs the given action for each remaining element.
+         * Falls back to {@code hasNext}/{@code nextInt} by default.
+         *
+         * @param action  the action to be performed for each element
+         */
+        public void forEachRemainingInt(IntConsumer action) {
+            while (hasNext()) {
+                action.accept(nextInt());
+            }
+        }
+
+        /**
+         * Performs the given action for the next element, if there is one.
+         * Falls back to {@code hasNext}/{@code nextInt} by default.
+         *
+         * @param action  the action to be performed for the next element
+         * @return {@code false} if there were no remaining elements
+         */
+        public boolean tryAdvanceInt(IntConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(nextInt());
+            return true;
+        }
+
+        /**
+         * Moves up to {@code length} next values to the buffer.
+         * Fewer values are moved only if no values remain, so a bulk
+         * consumer stops at the first incomplete batch.
+         * Falls back to {@code hasNext}/{@code nextInt} by default.
+         *
+         * @param buffer  the array to store the values to
+         * @param offset  the index of the first value in the buffer
+         * @param length  the max number of values to move
+         * @return the number of values moved
+         */
+        public int nextBatch(int[] buffer, int offset, int length) {
+            int size = 0;
+            while (size < length && hasNext()) {
+                buffer[offset + size++] = nextInt();
+            }
+            return size;
+        }
+
+        /**
+         * Returns whether taking values from this iterator may run functions given
+         * to the stream, such as mappers, predicates and peek actions. A stage which
+         * applies a function to a whole batch takes batches only from iterators which
+         * run no functions, so the functions of all stages still run value by value.
+         * Returns {@code true} by default.
+         *
+         * @return {@code false} if taking values runs no functions of the stream
+         */
+        public boolean runsFunctions() {
+            return true;
+        }
+
+        @Override
+        public OfInt trySplit() {
+            return null;
+        }
+
+        @Override
+        public void forEachRemainingObj(final Consumer<? super Integer> action) {
+            forEachRemainingInt(new IntConsumer() {
+                @Override
+                public void accept(int value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException("remove");
         }
     }
 
-    public abstract static class OfLong implements Iterator<Long> {
+    public abstract static class OfLong extends LsaBaseIterator<Long> {
 
         public static final OfLong EMPTY = new OfLong() {
             @Override
@@ -113,13 +192,87 @@ public final class PrimitiveIterator {
             return nextLong();
         }
 
+        /**
+         * Performs the given action for each remaining element.
+         * Falls back to {@code hasNext}/{@code nextLong} by default.
+         *
+         * @param action  the action to be performed for each element
+         */
+        public void forEachRemainingLong(LongConsumer action) {
+            while (hasNext()) {
+                action.accept(nextLong());
+            }
+        }
+
+        /**
+         * Performs the given action for the next element, if there is one.
+         * Falls back to {@code hasNext}/{@code nextLong} by default.
+         *
+         * @param action  the action to be performed for the next element
+         * @return {@code false} if there were no remaining elements
+         */
+        public boolean tryAdvanceLong(LongConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(nextLong());
+            return true;
+        }
+
+        /**
+         * Moves up to {@code length} next values to the buffer.
+         * Fewer values are moved only if no values remain, so a bulk
+         * consumer stops at the first incomplete batch.
+         * Falls back to {@code hasNext}/{@code nextLong} by default.
+         *
+         * @param buffer  the array to store the values to
+         * @param offset  the index of the first value in the buffer
+         * @param length  the max number of values to move
+         * @return the number of values moved
+         */
+        public int nextBatch(long[] buffer, int offset, int length) {
+            int size = 0;
+            while (size < length && hasNext()) {
+                buffer[offset + size++] = nextLong();
+            }
+            return size;
+        }
+
+        /**
+         * Returns whether taking values from this iterator may run functions given
+         * to the stream, such as mappers, predicates and peek actions. A stage which
+         * applies a function to a whole batch takes batches only from iterators which
+         * run no functions, so the functions of all stages still run value by value.
+         * Returns {@code true} by default.
+         *
+         * @return {@code false} if taking values runs no functions of the stream
+         */
+        public boolean runsFunctions() {
+            return true;
+        }
+
+        @Override
+        public OfLong trySplit() {
+            return null;
+        }
+
+        @Override
+        public void forEachRemainingObj(final Consumer<? super Long> action) {
+            forEachRemainingLong(new LongConsumer() {
+                @Override
+                public void accept(long value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException("remove");
         }
     }
 
-    public abstract static class OfDouble implements Iterator<Double> {
+    public abstract static class OfDouble extends LsaBaseIterator<Double> {
 
         public static final OfDouble EMPTY = new OfDouble() {
             @Override
@@ -166,6 +319,80 @@ public final class PrimitiveIterator {
             return nextDouble();
         }
 
+        /**
+         * Performs the given action for each remaining element.
+         * Falls back to {@code hasNext}/{@code nextDouble} by default.
+         *
+         * @param action  the action to be performed for each element
+         */
+        public void forEachRemainingDouble(DoubleConsumer action) {
+            while (hasNext()) {
+                action.accept(nextDouble());
+            }
+        }
+
+        /**
+         * Performs the given action for the next element, if there is one.
+         * Falls back to {@code hasNext}/{@code nextDouble} by default.
+         *
+         * @param action  the action to be performed for the next element
+         * @return {@code false} if there were no remaining elements
+         */
+        public boolean tryAdvanceDouble(DoubleConsumer action) {
+            if (!hasNext()) {
+                return false;
+            }
+            action.accept(nextDouble());
+            return true;
+        }
+
+        /**
+         * Moves up to {@code length} next values to the buffer.
+         * Fewer values are moved only if no values remain, so a bulk
+         * consumer stops at the first incomplete batch.
+         * Falls back to {@code hasNext}/{@code nextDouble} by default.
+         *
+         * @param buffer  the array to store the values to
+         * @param offset  the index of the first value in the buffer
+         * @param length  the max number of values to move
+         * @return the number of values moved
+         */
+        public int nextBatch(double[] buffer, int offset, int length) {
+            int size = 0;
+            while (size < length && hasNext()) {
+                buffer[offset + size++] = nextDouble();
+            }
+            return size;
+        }
+
+        /**
+         * Returns whether taking values from this iterator may run functions given
+         * to the stream, such as mappers, predicates and peek actions. A stage which
+         * applies a function to a whole batch takes batches only from iterators which
+         * run no functions, so the functions of all stages still run value by value.
+         * Returns {@code true} by default.
+         *
+         * @return {@code false} if taking values runs no functions of the stream
+         */
+        public boolean runsFunctions() {
+            return true;
+        }
+
+        @Override
+        public OfDouble trySplit() {
+            return null;
+        }
+
+        @Override
+        public void forEachRemainingObj(final Consumer<? super Double> action) {
+            forEachRemainingDouble(new DoubleConsumer() {
+                @Override
+                public void accept(double value) {
+                    action.accept(value);
+                }
+            });
+        }
+
         @Override
         public void remove() {
             throw new UnsupportedOperationException("remove");
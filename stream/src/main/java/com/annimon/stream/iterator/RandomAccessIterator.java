@@ -0,0 +1,82 @@
+package com.annimon.stream.iterator;
+
+/**
+ * Iterator over an indexed source, such as an array, a range or a
+ * {@link java.util.ArrayList}.
+ *
+ * <p>Skipping, limiting and accessing the remaining elements take constant time.
+ * Streams use it to implement {@code skip}, {@code limit}, {@code count},
+ * {@code findLast} and {@code elementAt} without traversing the source.
+ */
+public interface RandomAccessIterator {
+
+    /**
+     * Returns the number of remaining elements,
+     * or {@code -1} if it exceeds {@code Long.MAX_VALUE}.
+     *
+     * @return the number of remaining elements
+     */
+    long getExactSizeIfKnown();
+
+    /**
+     * Skips up to {@code n} remaining elements.
+     *
+     * @param n  the number of elements to skip, non-negative
+     */
+    void skip(long n);
+
+    /**
+     * Discards all remaining elements except the first {@code maxSize}.
+     *
+     * @param maxSize  the number of elements to keep, non-negative
+     */
+    void limit(long maxSize);
+
+    interface OfObj<T> extends RandomAccessIterator {
+
+        /**
+         * Returns the remaining element at the given position.
+         *
+         * @param index  the position relative to the current one,
+         *               less than {@link #getExactSizeIfKnown()}
+         * @return the element
+         */
+        T get(long index);
+    }
+
+    interface OfInt extends RandomAccessIterator {
+
+        /**
+         * Returns the remaining element at the given position.
+         *
+         * @param index  the position relative to the current one,
+         *               less than {@link #getExactSizeIfKnown()}
+         * @return the element
+         */
+        int getInt(long index);
+    }
+
+    interface OfLong extends RandomAccessIterator {
+
+        /**
+         * Returns the remaining element at the given position.
+         *
+         * @param index  the position relative to the current one,
+         *               less than {@link #getExactSizeIfKnown()}
+         * @return the element
+         */
+        long getLong(long index);
+    }
+
+    interface OfDouble extends RandomAccessIterator {
+
+        /**
+         * Returns the remaining element at the given position.
+         *
+         * @param index  the position relative to the current one,
+         *               less than {@link #getExactSizeIfKnown()}
+         * @return the element
+         */
+        double getDouble(long index);
+    }
+}
@@ -1,15 +1,25 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
-public class DoubleArray extends PrimitiveIterator.OfDouble {
+public class DoubleArray extends PrimitiveIterator.OfDouble implements RandomAccessIterator.OfDouble {
 
     private final double[] values;
     private int index;
+    private int end;
 
     public DoubleArray(double[] values) {
         this.values = values;
         index = 0;
+        end = values.length;
+    }
+
+    private DoubleArray(double[] values, int index, int end) {
+        this.values = values;
+        this.index = index;
+        this.end = end;
     }
 
     @Override
@@ -19,6 +29,72 @@ public class DoubleArray extends PrimitiveIterator.OfDouble {
 
     @Override
     public boolean hasNext() {
-        return index < values.length;
+        return index < end;
+    }
+
+    @Override
+    public void forEachRemainingDouble(DoubleConsumer action) {
+        final double[] values = this.values;
+        final int end = this.end;
+        int i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(values[index++]);
+        return true;
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        final int size = Math.min(length, end - index);
+        System.arraycopy(values, index, buffer, offset, size);
+        index += size;
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return end - index;
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize < end - index) {
+            end = index + (int) maxSize;
+        }
+    }
+
+    @Override
+    public double getDouble(long index) {
+        return values[this.index + (int) index];
+    }
+
+    @Override
+    public DoubleArray trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid == index) {
+            return null;
+        }
+        final DoubleArray prefix = new DoubleArray(values, index, mid);
+        index = mid;
+        return prefix;
     }
 }
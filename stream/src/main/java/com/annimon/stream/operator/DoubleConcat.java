@@ -1,32 +1,166 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
+/**
+ * Concatenation of iterators.
+ *
+ * <p>The sources of nested concatenations are taken over, so each value
+ * is taken from its source directly, however deep the concatenations are nested.
+ * The sources of the largest nested concatenation are extended in place,
+ * so folding many concatenations takes linear time.
+ * A source is released when it is exhausted.
+ */
 public class DoubleConcat extends PrimitiveIterator.OfDouble {
 
-    private final PrimitiveIterator.OfDouble iterator1;
-    private final PrimitiveIterator.OfDouble iterator2;
-    private boolean firstStreamIsCurrent;
+    private Deque<PrimitiveIterator.OfDouble> iterators;
 
     public DoubleConcat(PrimitiveIterator.OfDouble iterator1, PrimitiveIterator.OfDouble iterator2) {
-        this.iterator1 = iterator1;
-        this.iterator2 = iterator2;
-        firstStreamIsCurrent = true;
+        this(Arrays.asList(iterator1, iterator2));
+    }
+
+    public DoubleConcat(List<? extends PrimitiveIterator.OfDouble> iterators) {
+        int largest = -1;
+        for (int i = 0; i < iterators.size(); i++) {
+            final PrimitiveIterator.OfDouble iterator = iterators.get(i);
+            if (iterator instanceof DoubleConcat && (largest < 0
+                    || sources(iterator).size() > sources(iterators.get(largest)).size())) {
+                largest = i;
+            }
+        }
+        final Deque<PrimitiveIterator.OfDouble> all = (largest < 0)
+                ? new ArrayDeque<PrimitiveIterator.OfDouble>()
+                : takeSources(iterators.get(largest));
+        for (int i = largest - 1; i >= 0; i--) {
+            final PrimitiveIterator.OfDouble iterator = iterators.get(i);
+            if (iterator instanceof DoubleConcat) {
+                final Iterator<PrimitiveIterator.OfDouble> nested = takeSources(iterator).descendingIterator();
+                while (nested.hasNext()) {
+                    all.addFirst(nested.next());
+                }
+            } else {
+                all.addFirst(iterator);
+            }
+        }
+        for (int i = largest + 1; i < iterators.size(); i++) {
+            final PrimitiveIterator.OfDouble iterator = iterators.get(i);
+            if (iterator instanceof DoubleConcat) {
+                all.addAll(takeSources(iterator));
+            } else {
+                all.addLast(iterator);
+            }
+        }
+        this.iterators = all;
+    }
+
+    private static Deque<PrimitiveIterator.OfDouble> sources(PrimitiveIterator.OfDouble concat) {
+        return ((DoubleConcat) concat).iterators;
+    }
+
+    /**
+     * Takes the remaining sources of the nested concatenation, leaving it empty.
+     */
+    private static Deque<PrimitiveIterator.OfDouble> takeSources(PrimitiveIterator.OfDouble concat) {
+        final Deque<PrimitiveIterator.OfDouble> result = sources(concat);
+        ((DoubleConcat) concat).iterators = new ArrayDeque<PrimitiveIterator.OfDouble>();
+        return result;
     }
 
     @Override
     public boolean hasNext() {
-        if (firstStreamIsCurrent) {
-            if (iterator1.hasNext()) {
+        PrimitiveIterator.OfDouble iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (iterator.hasNext()) {
                 return true;
             }
-            firstStreamIsCurrent = false;
+            iterators.pollFirst();
         }
-        return iterator2.hasNext();
+        return false;
     }
 
     @Override
     public double nextDouble() {
-        return firstStreamIsCurrent ? iterator1.nextDouble() : iterator2.nextDouble();
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterators.peekFirst().nextDouble();
+    }
+
+    @Override
+    public void forEachRemainingDouble(DoubleConsumer action) {
+        PrimitiveIterator.OfDouble iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            iterator.forEachRemainingDouble(action);
+            iterators.pollFirst();
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        PrimitiveIterator.OfDouble iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (iterator.tryAdvanceDouble(action)) {
+                return true;
+            }
+            iterators.pollFirst();
+        }
+        return false;
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        int size = 0;
+        PrimitiveIterator.OfDouble iterator;
+        while (size < length && (iterator = iterators.peekFirst()) != null) {
+            final int requested = length - size;
+            final int taken = iterator.nextBatch(buffer, offset + size, requested);
+            size += taken;
+            if (taken < requested) {
+                iterators.pollFirst();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        for (PrimitiveIterator.OfDouble iterator : iterators) {
+            if (iterator.runsFunctions()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = 0;
+        for (PrimitiveIterator.OfDouble iterator : iterators) {
+            size = Operators.addSizes(size, iterator.getExactSizeIfKnown());
+            if (size < 0) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (PrimitiveIterator.OfDouble iterator : iterators) {
+            size = Operators.addSizes(size, iterator.estimateSize());
+            if (size == Long.MAX_VALUE) {
+                break;
+            }
+        }
+        return size;
     }
 }
@@ -0,0 +1,75 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Returns the minimum or the maximum of the values up to each value,
+ * as by {@link Math#min(double, double)} and {@link Math#max(double, double)}.
+ */
+public class DoubleCumulativeExtremum extends PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final boolean max;
+    private double extremum;
+    private boolean isInit;
+
+    public DoubleCumulativeExtremum(PrimitiveIterator.OfDouble iterator, boolean max) {
+        this.iterator = iterator;
+        this.max = max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return update(iterator.nextDouble());
+    }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(update(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = update(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    private double update(double value) {
+        if (isInit) {
+            extremum = max ? Math.max(extremum, value) : Math.min(extremum, value);
+        } else {
+            extremum = value;
+            isInit = true;
+        }
+        return extremum;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -0,0 +1,44 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.PrimitiveHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+public class DoubleDistinct extends PrimitiveExtIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final PrimitiveHashSet.OfLong set;
+
+    public DoubleDistinct(PrimitiveIterator.OfDouble iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfLong();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextDouble();
+            if (set.add(Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (set.add(Double.doubleToLongBits(value))) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.DoubleFunction;
+
+/**
+ * Skips values equal to the previous value (as determined by
+ * {@link Double#doubleToLongBits(double)}), or whose key equals the key
+ * of the previous value. Only the last value or key is kept,
+ * so a sorted input is deduplicated in O(1) memory.
+ */
+public class DoubleDistinctUntilChanged extends PrimitiveExtIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final DoubleFunction<?> keyExtractor;
+    private long lastBits;
+    private Object lastKey;
+    private boolean hasLast;
+
+    public DoubleDistinctUntilChanged(PrimitiveIterator.OfDouble iterator) {
+        this(iterator, null);
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param keyExtractor  the key function, or {@code null} to compare the values
+     */
+    public DoubleDistinctUntilChanged(PrimitiveIterator.OfDouble iterator, DoubleFunction<?> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextDouble();
+            if (changed(next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (changed(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+
+    private boolean changed(double value) {
+        if (keyExtractor == null) {
+            final long bits = Double.doubleToLongBits(value);
+            if (hasLast && lastBits == bits) {
+                return false;
+            }
+            lastBits = bits;
+        } else {
+            final Object key = keyExtractor.apply(value);
+            if (hasLast && N.equals(lastKey, key)) {
+                return false;
+            }
+            lastKey = key;
+        }
+        hasLast = true;
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoublePredicate;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -31,4 +32,14 @@ public class DoubleDropWhile extends PrimitiveExtIterator.OfDouble {
 
         next = iterator.next();
     }
+
+    @Override
+    public void forEachRemainingDouble(DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingDouble(action);
+        hasNext = false;
+    }
 }
@@ -0,0 +1,75 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Returns the exponentially weighted moving average of the values up to each value.
+ * The first average is the first value.
+ */
+public class DoubleEwma extends PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final double alpha;
+    private double average;
+    private boolean isInit;
+
+    public DoubleEwma(PrimitiveIterator.OfDouble iterator, double alpha) {
+        this.iterator = iterator;
+        this.alpha = alpha;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return update(iterator.nextDouble());
+    }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(update(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = update(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    private double update(double value) {
+        if (isInit) {
+            average += alpha * (value - average);
+        } else {
+            average = value;
+            isInit = true;
+        }
+        return average;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -0,0 +1,299 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.RadixSort;
+import com.annimon.stream.internal.SpillFiles;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Sorts values that may not fit in memory,
+ * ordered as by {@link Double#compare(double, double)}.
+ *
+ * <p>Values are sorted in runs of at most {@code maxInMemory} values,
+ * each run is written to a temporary file, and the runs are merged
+ * lazily as the sorted values are requested. Input that fits in one run
+ * is sorted in memory. Temporary files are deleted once all values
+ * are read or the iterator is closed.
+ */
+public class DoubleExternalSorted extends PrimitiveExtIterator.OfDouble implements Closeable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final int maxInMemory;
+
+    // the current run, or the whole input if it fits in memory
+    private double[] array;
+    private int index, length;
+    // reused by radix sort of runs
+    private long[] scratch;
+
+    // spilled runs and the state of their merge
+    private List<SpillFiles.Run> runs;
+    private DataInputStream[] inputs;
+    private long[] remaining;
+    private double[] heads;
+    private int[] heap;
+    private int heapSize;
+    private long mergeRemaining;
+
+    public DoubleExternalSorted(PrimitiveIterator.OfDouble iterator, int maxInMemory) {
+        this.iterator = iterator;
+        this.maxInMemory = maxInMemory;
+    }
+
+    @Override
+    protected void nextIteration() {
+        try {
+            if (!isInit) {
+                init();
+            }
+            if (runs == null) {
+                hasNext = index < length;
+                if (hasNext) {
+                    next = array[index++];
+                }
+                return;
+            }
+            hasNext = heapSize > 0;
+            if (hasNext) {
+                next = poll();
+                mergeRemaining--;
+            } else {
+                close();
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (UncheckedIOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void init() throws IOException {
+        final long size = iterator.getExactSizeIfKnown();
+        if (size >= 0 && size <= maxInMemory) {
+            array = Operators.toDoubleArray(iterator);
+            RadixSort.sort(array, 0, array.length, null);
+            length = array.length;
+            return;
+        }
+        array = new double[Math.min(maxInMemory, INITIAL_CAPACITY)];
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (length == array.length) {
+                    if (length < maxInMemory) {
+                        array = Arrays.copyOf(array, (int) Math.min((long) length << 1, maxInMemory));
+                    } else {
+                        spill();
+                    }
+                }
+                array[length++] = value;
+            }
+        });
+        if (runs == null) {
+            RadixSort.sort(array, 0, length, scratch);
+            return;
+        }
+        if (length > 0) {
+            spill();
+        }
+        array = null;
+        scratch = null;
+        while (runs.size() > SpillFiles.MAX_MERGE_WIDTH) {
+            mergePass();
+        }
+        mergeRemaining = 0;
+        for (SpillFiles.Run run : runs) {
+            mergeRemaining += run.size;
+        }
+        openMerge(runs);
+    }
+
+    /**
+     * Sorts buffered values and writes them to a new run.
+     */
+    private void spill() {
+        scratch = RadixSort.sort(array, 0, length, scratch);
+        if (runs == null) {
+            runs = new ArrayList<SpillFiles.Run>();
+        }
+        try {
+            final File file = SpillFiles.create();
+            runs.add(new SpillFiles.Run(file, length));
+            final DataOutputStream output = SpillFiles.openOutput(file);
+            try {
+                for (int i = 0; i < length; i++) {
+                    output.writeDouble(array[i]);
+                }
+            } finally {
+                output.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        length = 0;
+    }
+
+    /**
+     * Merges groups of consecutive runs, so that fewer files are read at once.
+     */
+    private void mergePass() throws IOException {
+        final List<SpillFiles.Run> merged = new ArrayList<SpillFiles.Run>();
+        try {
+            final int count = runs.size();
+            for (int from = 0; from < count; from += SpillFiles.MAX_MERGE_WIDTH) {
+                final List<SpillFiles.Run> group = runs.subList(from, Math.min(from + SpillFiles.MAX_MERGE_WIDTH, count));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                long size = 0;
+                final File file = SpillFiles.create();
+                merged.add(new SpillFiles.Run(file, 0));
+                final DataOutputStream output = SpillFiles.openOutput(file);
+                try {
+                    openMerge(group);
+                    while (heapSize > 0) {
+                        output.writeDouble(poll());
+                        size++;
+                    }
+                } finally {
+                    output.close();
+                    closeInputs();
+                }
+                merged.set(merged.size() - 1, new SpillFiles.Run(file, size));
+                SpillFiles.delete(group);
+            }
+        } catch (IOException e) {
+            SpillFiles.delete(merged);
+            throw e;
+        }
+        runs = merged;
+    }
+
+    private void openMerge(List<SpillFiles.Run> group) throws IOException {
+        final int count = group.size();
+        inputs = new DataInputStream[count];
+        remaining = new long[count];
+        heads = new double[count];
+        heap = new int[count];
+        heapSize = 0;
+        for (int i = 0; i < count; i++) {
+            final SpillFiles.Run run = group.get(i);
+            inputs[i] = SpillFiles.openInput(run.file);
+            remaining[i] = run.size;
+            if (remaining[i] > 0) {
+                heads[i] = inputs[i].readDouble();
+                remaining[i]--;
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Removes the least head of the merged runs and reads the next value of its run.
+     */
+    private double poll() throws IOException {
+        final int run = heap[0];
+        final double result = heads[run];
+        if (remaining[run] > 0) {
+            heads[run] = inputs[run].readDouble();
+            remaining[run]--;
+        } else {
+            inputs[run].close();
+            inputs[run] = null;
+            heap[0] = heap[--heapSize];
+        }
+        if (heapSize > 1) {
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftDown(int i) {
+        final int run = heap[i];
+        while (true) {
+            final int left = (i << 1) + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            int least = left;
+            final int right = left + 1;
+            if (right < heapSize && less(heap[right], heap[left])) {
+                least = right;
+            }
+            if (!less(heap[least], run)) {
+                break;
+            }
+            heap[i] = heap[least];
+            i = least;
+        }
+        heap[i] = run;
+    }
+
+    private boolean less(int run1, int run2) {
+        final double head1 = heads[run1];
+        final double head2 = heads[run2];
+        final int result = Double.compare(head1, head2);
+        return result < 0 || (result == 0 && run1 < run2);
+    }
+
+    private void closeInputs() {
+        if (inputs != null) {
+            for (DataInputStream input : inputs) {
+                SpillFiles.closeQuietly(input);
+            }
+            inputs = null;
+        }
+        heapSize = 0;
+    }
+
+    /**
+     * Closes and deletes temporary files.
+     */
+    @Override
+    public void close() {
+        closeInputs();
+        if (runs != null) {
+            SpillFiles.delete(runs);
+            runs = new ArrayList<SpillFiles.Run>(0);
+        }
+        mergeRemaining = 0;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            return iterator.getExactSizeIfKnown();
+        }
+        if (!hasNext) {
+            return 0;
+        }
+        return ((runs == null) ? length - index : mergeRemaining) + 1;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return iterator.estimateSize();
+        }
+        return getExactSizeIfKnown();
+    }
+}
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoublePredicate;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
 
@@ -47,4 +49,119 @@ public class DoubleFilter extends PrimitiveIterator.OfDouble {
         }
         hasNext = false;
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return;
+            }
+            action.accept(next);
+        }
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNextEvaluated = true;
+        hasNext = false;
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return super.tryAdvanceDouble(action);
+        }
+        final FilteringSink sink = new FilteringSink(action);
+        do {
+            if (!iterator.tryAdvanceDouble(sink)) {
+                return false;
+            }
+        } while (!sink.passed);
+        return true;
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        if (iterator.runsFunctions()) {
+            // a batch would run the functions of the upstream before the predicate
+            return super.nextBatch(buffer, offset, length);
+        }
+        int size = 0;
+        if (hasNextEvaluated) {
+            if (!hasNext || length == 0) {
+                return 0;
+            }
+            // the found element is already taken from the upstream
+            buffer[offset] = next;
+            size = 1;
+            hasNextEvaluated = false;
+        }
+        while (size < length) {
+            final int requested = length - size;
+            final int start = offset + size;
+            final int taken = iterator.nextBatch(buffer, start, requested);
+            // the values passing the predicate are moved in place
+            int end = start;
+            for (int i = start; i < start + taken; i++) {
+                final double value = buffer[i];
+                if (predicate.test(value)) {
+                    buffer[end++] = value;
+                }
+            }
+            size = end - offset;
+            if (taken < requested) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return 0;
+            }
+            // the found element is already taken from the upstream
+            return Operators.addSizes(iterator.estimateSize(), 1);
+        }
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoubleFilter trySplit() {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return null;
+        }
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoubleFilter(prefix, predicate);
+    }
+
+    /**
+     * Forwards the values which pass the predicate and records whether the
+     * last one passed. A new sink is created for each {@code tryAdvance} call.
+     */
+    private final class FilteringSink implements DoubleConsumer {
+
+        private final DoubleConsumer action;
+        private boolean passed;
+
+        FilteringSink(DoubleConsumer action) {
+            this.action = action;
+        }
+
+        @Override
+        public void accept(double value) {
+            passed = predicate.test(value);
+            if (passed) {
+                action.accept(value);
+            }
+        }
+    }
 }
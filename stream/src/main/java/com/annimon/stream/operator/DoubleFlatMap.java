@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.DoubleStream;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -52,4 +53,30 @@ public class DoubleFlatMap extends PrimitiveIterator.OfDouble {
         }
         return inner.nextDouble();
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (inner != null) {
+            inner.forEachRemainingDouble(action);
+            inner = null;
+        }
+        if (innerStream != null) {
+            innerStream.close();
+            innerStream = null;
+        }
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                final DoubleStream result = mapper.apply(value);
+                if (result == null) {
+                    return;
+                }
+                try {
+                    result.iterator().forEachRemainingDouble(action);
+                } finally {
+                    result.close();
+                }
+            }
+        });
+    }
 }
@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.DoubleSupplier;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
 public class DoubleGenerate extends PrimitiveIterator.OfDouble {
 
@@ -20,4 +21,10 @@ public class DoubleGenerate extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return supplier.getAsDouble();
     }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        action.accept(nextDouble());
+        return true;
+    }
 }
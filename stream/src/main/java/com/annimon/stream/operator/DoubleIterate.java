@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.DoubleUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
 public class DoubleIterate extends PrimitiveIterator.OfDouble {
 
@@ -24,4 +25,10 @@ public class DoubleIterate extends PrimitiveIterator.OfDouble {
         current = op.applyAsDouble(current);
         return old;
     }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        action.accept(nextDouble());
+        return true;
+    }
 }
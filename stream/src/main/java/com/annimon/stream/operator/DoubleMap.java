@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +23,53 @@ public class DoubleMap extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextDouble());
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(final DoubleConsumer action) {
+        return iterator.tryAdvanceDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(double[] buffer, int offset, int length) {
+        if (iterator.runsFunctions()) {
+            // a batch would run the functions of the upstream before the mapper
+            return super.nextBatch(buffer, offset, length);
+        }
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = mapper.applyAsDouble(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoubleMap trySplit() {
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoubleMap(prefix, mapper);
+    }
 }
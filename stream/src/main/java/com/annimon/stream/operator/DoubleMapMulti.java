@@ -0,0 +1,73 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.DoubleMapMultiConsumer;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Replaces each element with the values the mapper passes to the sink.
+ *
+ * <p>The values of an element are collected in a reusable buffer,
+ * internal iteration passes them downstream directly.
+ */
+public class DoubleMapMulti extends PrimitiveIterator.OfDouble {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final DoubleMapMultiConsumer mapper;
+    private double[] buffer;
+    private int index, size;
+
+    private final DoubleConsumer sink = new DoubleConsumer() {
+        @Override
+        public void accept(double value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = value;
+        }
+    };
+
+    public DoubleMapMulti(PrimitiveIterator.OfDouble iterator, DoubleMapMultiConsumer mapper) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        buffer = new double[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == size) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            index = 0;
+            size = 0;
+            mapper.accept(iterator.nextDouble(), sink);
+        }
+        return true;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer[index++];
+    }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        while (index < size) {
+            action.accept(buffer[index++]);
+        }
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                mapper.accept(value, action);
+            }
+        });
+    }
+}
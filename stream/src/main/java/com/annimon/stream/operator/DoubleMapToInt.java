@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleToIntFunction;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
 public class DoubleMapToInt extends PrimitiveIterator.OfInt {
@@ -22,4 +24,40 @@ public class DoubleMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextDouble());
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceInt(final IntConsumer action) {
+        return iterator.tryAdvanceDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoubleMapToInt trySplit() {
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoubleMapToInt(prefix, mapper);
+    }
 }
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleToLongFunction;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
 public class DoubleMapToLong extends PrimitiveIterator.OfLong {
@@ -22,4 +24,40 @@ public class DoubleMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextDouble());
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceLong(final LongConsumer action) {
+        return iterator.tryAdvanceDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoubleMapToLong trySplit() {
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoubleMapToLong(prefix, mapper);
+    }
 }
@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.DoubleFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -23,4 +25,40 @@ public class DoubleMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextDouble());
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        return iterator.tryAdvanceDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoubleMapToObj<R> trySplit() {
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoubleMapToObj<R>(prefix, mapper);
+    }
 }
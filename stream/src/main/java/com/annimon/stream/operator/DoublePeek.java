@@ -24,4 +24,42 @@ public class DoublePeek extends PrimitiveIterator.OfDouble {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                DoublePeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(final DoubleConsumer action) {
+        return iterator.tryAdvanceDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                DoublePeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public DoublePeek trySplit() {
+        final PrimitiveIterator.OfDouble prefix = iterator.trySplit();
+        return (prefix == null) ? null : new DoublePeek(prefix, action);
+    }
 }
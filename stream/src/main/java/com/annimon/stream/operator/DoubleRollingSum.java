@@ -0,0 +1,78 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.DoubleSum;
+import com.annimon.stream.internal.RollingWindow;
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+/**
+ * Returns the sum of the last {@code windowSize} values for each value.
+ * The sum is compensated, so removing the values that leave the window
+ * does not accumulate rounding errors.
+ *
+ * <p>The first result covers the first {@code windowSize} values,
+ * or all values if there are fewer of them, as with {@code sliding(windowSize)}.
+ *
+ * <p>An overflowed sum stays infinite until the values which overflowed it
+ * have left the window, then it is summed again from the window.
+ */
+public class DoubleRollingSum extends PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final RollingWindow.OfDouble window;
+    private final DoubleSum sum;
+    // the number of values left to fill the first window
+    private int fill;
+    // the number of values of an overflowed sum still in the window
+    private int overflowed;
+
+    public DoubleRollingSum(PrimitiveIterator.OfDouble iterator, int windowSize) {
+        this.iterator = iterator;
+        window = new RollingWindow.OfDouble(windowSize);
+        sum = new DoubleSum();
+        fill = windowSize - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        add(iterator.nextDouble());
+        for (; fill > 0 && iterator.hasNext(); fill--) {
+            add(iterator.nextDouble());
+        }
+        fill = 0;
+        return sum.sum();
+    }
+
+    private void add(double value) {
+        if (window.isFull()) {
+            sum.remove(window.add(value));
+            sum.add(value);
+            if (overflowed > 0 && --overflowed == 0) {
+                // the values which overflowed the sum have left the window
+                sum.reset();
+                window.sumTo(sum);
+            }
+        } else {
+            window.add(value);
+            sum.add(value);
+        }
+        if (overflowed == 0 && sum.isOverflowed()) {
+            overflowed = window.size();
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return (size <= 0) ? size : Math.max(1, size - fill);
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -0,0 +1,66 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.RunningStatistics;
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
+
+/**
+ * Returns the statistics of the values up to each value.
+ * The state is kept in primitive fields and updated by Welford's method.
+ */
+public class DoubleRunningStats extends LsaIterator<RunningStatistics> {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private long count;
+    private double mean, m2, min, max;
+
+    public DoubleRunningStats(PrimitiveIterator.OfDouble iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public RunningStatistics nextIteration() {
+        return update(iterator.nextDouble());
+    }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super RunningStatistics> action) {
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                action.accept(update(value));
+            }
+        });
+    }
+
+    private RunningStatistics update(double value) {
+        if (count++ == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        final double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        return new RunningStatistics(count, mean, m2, min, max);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.DoubleBinaryOperator;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -26,4 +27,20 @@ public class DoubleScan extends PrimitiveExtIterator.OfDouble {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingDouble(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                next = accumulator.applyAsDouble(next, value);
+                action.accept(next);
+            }
+        });
+        hasNext = false;
+    }
 }
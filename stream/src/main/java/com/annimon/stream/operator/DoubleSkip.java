@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
 public class DoubleSkip extends PrimitiveIterator.OfDouble {
 
@@ -30,4 +31,34 @@ public class DoubleSkip extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return iterator.nextDouble();
     }
+
+    @Override
+    public void forEachRemainingDouble(DoubleConsumer action) {
+        while (skipped < n && iterator.hasNext()) {
+            iterator.nextDouble();
+            skipped++;
+        }
+        iterator.forEachRemainingDouble(action);
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(DoubleConsumer action) {
+        // hasNext skips the first elements
+        if (skipped < n && !hasNext()) {
+            return false;
+        }
+        return iterator.tryAdvanceDouble(action);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return size < 0 ? -1 : Math.max(0, size - (n - skipped));
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = iterator.estimateSize();
+        return size == Long.MAX_VALUE ? size : Math.max(0, size - (n - skipped));
+    }
 }
@@ -1,30 +1,124 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.internal.BoundedHeap;
 import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.PrimitiveSort;
+import com.annimon.stream.internal.RadixSort;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
-import java.util.Arrays;
+import com.landawn.abacus.util.function.DoubleConsumer;
 
 public class DoubleSorted extends PrimitiveExtIterator.OfDouble {
 
     private final PrimitiveIterator.OfDouble iterator;
+    private final boolean reversed;
+    private final DoubleComparator comparator;
+    private long maxSize;
     private int index;
     private double[] array;
 
     public DoubleSorted(PrimitiveIterator.OfDouble iterator) {
+        this(iterator, false, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param reversed  {@code true} to sort in descending order
+     * @param maxSize  the number of the least (or greatest) values to keep
+     */
+    public DoubleSorted(PrimitiveIterator.OfDouble iterator, boolean reversed, long maxSize) {
+        this.iterator = iterator;
+        this.reversed = reversed;
+        this.maxSize = maxSize;
+        comparator = null;
+        index = 0;
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param comparator  the comparator, the sort is stable
+     */
+    public DoubleSorted(PrimitiveIterator.OfDouble iterator, DoubleComparator comparator) {
         this.iterator = iterator;
+        this.comparator = comparator;
+        reversed = false;
+        maxSize = Long.MAX_VALUE;
         index = 0;
     }
 
+    /**
+     * Keeps only the first {@code maxSize} values of the sorted result,
+     * so that they are selected with a bounded heap instead of a full sort.
+     *
+     * @param maxSize  the number of values to keep
+     * @return {@code false} if the values are already sorted
+     *         or sorted by a comparator
+     */
+    public boolean limit(long maxSize) {
+        if (isInit || comparator != null) {
+            return false;
+        }
+        this.maxSize = Math.min(this.maxSize, maxSize);
+        return true;
+    }
+
     @Override
     protected void nextIteration() {
         if (!isInit) {
-            array = Operators.toDoubleArray(iterator);
-            Arrays.sort(array);
+            final long size = iterator.getExactSizeIfKnown();
+            if (maxSize == Long.MAX_VALUE || (size >= 0 && size <= maxSize)) {
+                array = Operators.toDoubleArray(iterator);
+                if (comparator != null) {
+                    PrimitiveSort.sort(array, 0, array.length, comparator);
+                } else {
+                    RadixSort.sort(array, 0, array.length, null);
+                    if (reversed) {
+                        PrimitiveSort.reverse(array, 0, array.length);
+                    }
+                }
+            } else {
+                final BoundedHeap.OfDouble heap = new BoundedHeap.OfDouble(maxSize, reversed);
+                iterator.forEachRemainingDouble(heap);
+                array = heap.toSortedArray();
+            }
         }
         hasNext = index < array.length;
         if (hasNext) {
             next = array[index++];
         }
     }
+
+    @Override
+    public void forEachRemainingDouble(DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        final double[] array = this.array;
+        final int length = array.length;
+        int i = index;
+        index = length;
+        for (; i < length; i++) {
+            action.accept(array[i]);
+        }
+        hasNext = false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            final long size = iterator.getExactSizeIfKnown();
+            return (size < 0) ? size : Math.min(size, maxSize);
+        }
+        return hasNext ? array.length - index + 1 : 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Math.min(iterator.estimateSize(), maxSize);
+        }
+        return getExactSizeIfKnown();
+    }
 }
@@ -1,24 +1,100 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
-public class IntArray extends PrimitiveIterator.OfInt {
+public class IntArray extends PrimitiveIterator.OfInt implements RandomAccessIterator.OfInt {
 
     private final int[] values;
     private int index;
+    private int end;
 
     public IntArray(int[] values) {
         this.values = values;
         index = 0;
+        end = values.length;
+    }
+
+    private IntArray(int[] values, int index, int end) {
+        this.values = values;
+        this.index = index;
+        this.end = end;
     }
 
     @Override
     public boolean hasNext() {
-        return index < values.length;
+        return index < end;
     }
     
     @Override
     public int nextInt() {
         return values[index++];
     }
+
+    @Override
+    public void forEachRemainingInt(IntConsumer action) {
+        final int[] values = this.values;
+        final int end = this.end;
+        int i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(values[index++]);
+        return true;
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        final int size = Math.min(length, end - index);
+        System.arraycopy(values, index, buffer, offset, size);
+        index += size;
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return end - index;
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize < end - index) {
+            end = index + (int) maxSize;
+        }
+    }
+
+    @Override
+    public int getInt(long index) {
+        return values[this.index + (int) index];
+    }
+
+    @Override
+    public IntArray trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid == index) {
+            return null;
+        }
+        final IntArray prefix = new IntArray(values, index, mid);
+        index = mid;
+        return prefix;
+    }
 }
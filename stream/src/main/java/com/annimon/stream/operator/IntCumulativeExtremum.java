@@ -0,0 +1,72 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * Returns the minimum or the maximum of the values up to each value.
+ */
+public class IntCumulativeExtremum extends PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final boolean max;
+    private int extremum;
+    private boolean isInit;
+
+    public IntCumulativeExtremum(PrimitiveIterator.OfInt iterator, boolean max) {
+        this.iterator = iterator;
+        this.max = max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return update(iterator.nextInt());
+    }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(update(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = update(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    private int update(int value) {
+        if (!isInit || (max ? value > extremum : value < extremum)) {
+            extremum = value;
+            isInit = true;
+        }
+        return extremum;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
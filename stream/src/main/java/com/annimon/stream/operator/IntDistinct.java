@@ -0,0 +1,44 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.PrimitiveHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
+
+public class IntDistinct extends PrimitiveExtIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final PrimitiveHashSet.OfInt set;
+
+    public IntDistinct(PrimitiveIterator.OfInt iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfInt();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextInt();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                if (set.add(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+}
@@ -0,0 +1,78 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.IntFunction;
+
+/**
+ * Skips values equal to the previous value, or whose key equals the key
+ * of the previous value. Only the last value or key is kept,
+ * so a sorted input is deduplicated in O(1) memory.
+ */
+public class IntDistinctUntilChanged extends PrimitiveExtIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntFunction<?> keyExtractor;
+    private int lastValue;
+    private Object lastKey;
+    private boolean hasLast;
+
+    public IntDistinctUntilChanged(PrimitiveIterator.OfInt iterator) {
+        this(iterator, null);
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param keyExtractor  the key function, or {@code null} to compare the values
+     */
+    public IntDistinctUntilChanged(PrimitiveIterator.OfInt iterator, IntFunction<?> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextInt();
+            if (changed(next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                if (changed(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+
+    private boolean changed(int value) {
+        if (keyExtractor == null) {
+            if (hasLast && lastValue == value) {
+                return false;
+            }
+            lastValue = value;
+        } else {
+            final Object key = keyExtractor.apply(value);
+            if (hasLast && N.equals(lastKey, key)) {
+                return false;
+            }
+            lastKey = key;
+        }
+        hasLast = true;
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntPredicate;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -31,4 +32,14 @@ public class IntDropWhile extends PrimitiveExtIterator.OfInt {
 
         next = iterator.next();
     }
+
+    @Override
+    public void forEachRemainingInt(IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingInt(action);
+        hasNext = false;
+    }
 }
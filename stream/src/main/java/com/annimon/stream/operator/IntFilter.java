@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntPredicate;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
 
@@ -47,4 +49,119 @@ public class IntFilter extends PrimitiveIterator.OfInt {
         }
         hasNext = false;
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return;
+            }
+            action.accept(next);
+        }
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNextEvaluated = true;
+        hasNext = false;
+    }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return super.tryAdvanceInt(action);
+        }
+        final FilteringSink sink = new FilteringSink(action);
+        do {
+            if (!iterator.tryAdvanceInt(sink)) {
+                return false;
+            }
+        } while (!sink.passed);
+        return true;
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        if (iterator.runsFunctions()) {
+            // a batch would run the functions of the upstream before the predicate
+            return super.nextBatch(buffer, offset, length);
+        }
+        int size = 0;
+        if (hasNextEvaluated) {
+            if (!hasNext || length == 0) {
+                return 0;
+            }
+            // the found element is already taken from the upstream
+            buffer[offset] = next;
+            size = 1;
+            hasNextEvaluated = false;
+        }
+        while (size < length) {
+            final int requested = length - size;
+            final int start = offset + size;
+            final int taken = iterator.nextBatch(buffer, start, requested);
+            // the values passing the predicate are moved in place
+            int end = start;
+            for (int i = start; i < start + taken; i++) {
+                final int value = buffer[i];
+                if (predicate.test(value)) {
+                    buffer[end++] = value;
+                }
+            }
+            size = end - offset;
+            if (taken < requested) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return 0;
+            }
+            // the found element is already taken from the upstream
+            return Operators.addSizes(iterator.estimateSize(), 1);
+        }
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntFilter trySplit() {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return null;
+        }
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntFilter(prefix, predicate);
+    }
+
+    /**
+     * Forwards the values which pass the predicate and records whether the
+     * last one passed. A new sink is created for each {@code tryAdvance} call.
+     */
+    private final class FilteringSink implements IntConsumer {
+
+        private final IntConsumer action;
+        private boolean passed;
+
+        FilteringSink(IntConsumer action) {
+            this.action = action;
+        }
+
+        @Override
+        public void accept(int value) {
+            passed = predicate.test(value);
+            if (passed) {
+                action.accept(value);
+            }
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.IntStream;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -52,4 +53,30 @@ public class IntFlatMap extends PrimitiveIterator.OfInt {
         }
         return inner.nextInt();
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (inner != null) {
+            inner.forEachRemainingInt(action);
+            inner = null;
+        }
+        if (innerStream != null) {
+            innerStream.close();
+            innerStream = null;
+        }
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                final IntStream result = mapper.apply(value);
+                if (result == null) {
+                    return;
+                }
+                try {
+                    result.iterator().forEachRemainingInt(action);
+                } finally {
+                    result.close();
+                }
+            }
+        });
+    }
 }
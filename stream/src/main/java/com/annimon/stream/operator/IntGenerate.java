@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.IntSupplier;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
 public class IntGenerate extends PrimitiveIterator.OfInt {
 
@@ -20,4 +21,10 @@ public class IntGenerate extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return supplier.getAsInt();
     }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        action.accept(nextInt());
+        return true;
+    }
 }
@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.IntUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
 public class IntIterate extends PrimitiveIterator.OfInt {
 
@@ -24,4 +25,10 @@ public class IntIterate extends PrimitiveIterator.OfInt {
         current = op.applyAsInt(current);
         return old;
     }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        action.accept(nextInt());
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
 public class IntLimit extends PrimitiveIterator.OfInt {
 
@@ -24,4 +25,45 @@ public class IntLimit extends PrimitiveIterator.OfInt {
         index++;
         return iterator.nextInt();
     }
+
+    @Override
+    public void forEachRemainingInt(IntConsumer action) {
+        // limit is short-circuiting, so the upstream is pulled
+        while (index < maxSize && iterator.hasNext()) {
+            index++;
+            action.accept(iterator.nextInt());
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        if (index >= maxSize || !iterator.tryAdvanceInt(action)) {
+            return false;
+        }
+        index++;
+        return true;
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, (int) Math.min(length, maxSize - index));
+        index += size;
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return size < 0 ? -1 : Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(iterator.estimateSize(), maxSize - index);
+    }
 }
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +23,53 @@ public class IntMap extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextInt());
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceInt(final IntConsumer action) {
+        return iterator.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        if (iterator.runsFunctions()) {
+            // a batch would run the functions of the upstream before the mapper
+            return super.nextBatch(buffer, offset, length);
+        }
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = mapper.applyAsInt(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntMap trySplit() {
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntMap(prefix, mapper);
+    }
 }
@@ -0,0 +1,73 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.IntMapMultiConsumer;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * Replaces each element with the values the mapper passes to the sink.
+ *
+ * <p>The values of an element are collected in a reusable buffer,
+ * internal iteration passes them downstream directly.
+ */
+public class IntMapMulti extends PrimitiveIterator.OfInt {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntMapMultiConsumer mapper;
+    private int[] buffer;
+    private int index, size;
+
+    private final IntConsumer sink = new IntConsumer() {
+        @Override
+        public void accept(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = value;
+        }
+    };
+
+    public IntMapMulti(PrimitiveIterator.OfInt iterator, IntMapMultiConsumer mapper) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        buffer = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == size) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            index = 0;
+            size = 0;
+            mapper.accept(iterator.nextInt(), sink);
+        }
+        return true;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer[index++];
+    }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        while (index < size) {
+            action.accept(buffer[index++]);
+        }
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                mapper.accept(value, action);
+            }
+        });
+    }
+}
@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntToDoubleFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +24,40 @@ public class IntMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextInt());
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(final DoubleConsumer action) {
+        return iterator.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntMapToDouble trySplit() {
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntMapToDouble(prefix, mapper);
+    }
 }
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntToLongFunction;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
 public class IntMapToLong extends PrimitiveIterator.OfLong {
@@ -22,4 +24,40 @@ public class IntMapToLong extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextInt());
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceLong(final LongConsumer action) {
+        return iterator.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntMapToLong trySplit() {
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntMapToLong(prefix, mapper);
+    }
 }
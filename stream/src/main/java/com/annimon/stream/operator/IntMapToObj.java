@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.IntFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -23,4 +25,40 @@ public class IntMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextInt());
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        return iterator.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntMapToObj<R> trySplit() {
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntMapToObj<R>(prefix, mapper);
+    }
 }
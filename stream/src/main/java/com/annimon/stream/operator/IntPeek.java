@@ -24,4 +24,42 @@ public class IntPeek extends PrimitiveIterator.OfInt {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                IntPeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceInt(final IntConsumer action) {
+        return iterator.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                IntPeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public IntPeek trySplit() {
+        final PrimitiveIterator.OfInt prefix = iterator.trySplit();
+        return (prefix == null) ? null : new IntPeek(prefix, action);
+    }
 }
@@ -1,10 +1,12 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
-public class IntRangeClosed extends PrimitiveIterator.OfInt {
+public class IntRangeClosed extends PrimitiveIterator.OfInt implements RandomAccessIterator.OfInt {
 
-    private final int endInclusive;
+    private int endInclusive;
     private int current;
     private boolean hasNext;
 
@@ -27,4 +29,93 @@ public class IntRangeClosed extends PrimitiveIterator.OfInt {
         }
         return current++;
     }
+
+    @Override
+    public void forEachRemainingInt(IntConsumer action) {
+        if (!hasNext) {
+            return;
+        }
+        final int end = endInclusive;
+        int value = current;
+        current = end;
+        hasNext = false;
+        for (; value < end; value++) {
+            action.accept(value);
+        }
+        action.accept(end);
+    }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        if (!hasNext) {
+            return false;
+        }
+        action.accept(nextInt());
+        return true;
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        if (!hasNext) {
+            return 0;
+        }
+        final long remaining = (long) endInclusive - current + 1;
+        final int size = (int) Math.min(length, remaining);
+        int value = current;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = value++;
+        }
+        if (size == remaining) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current = value;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return hasNext ? (long) endInclusive - current + 1 : 0;
+    }
+
+    @Override
+    public void skip(long n) {
+        if (n >= getExactSizeIfKnown()) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += (int) n;
+        }
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize == 0) {
+            hasNext = false;
+        } else if (maxSize < getExactSizeIfKnown()) {
+            endInclusive = current + (int) (maxSize - 1);
+        }
+    }
+
+    @Override
+    public int getInt(long index) {
+        return current + (int) index;
+    }
+
+    @Override
+    public IntRangeClosed trySplit() {
+        if (!hasNext || current == endInclusive) {
+            return null;
+        }
+        final int prefixEnd = (int) (((long) current + endInclusive) >> 1);
+        final IntRangeClosed prefix = new IntRangeClosed(current, prefixEnd);
+        current = prefixEnd + 1;
+        return prefix;
+    }
 }
@@ -0,0 +1,55 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.MonotonicDeque;
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+/**
+ * Returns the minimum or the maximum of the last {@code windowSize} values for each value,
+ * in amortized O(1) time per value.
+ *
+ * <p>The first result covers the first {@code windowSize} values,
+ * or all values if there are fewer of them, as with {@code sliding(windowSize)}.
+ */
+public class IntRollingExtremum extends PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final MonotonicDeque.OfInt deque;
+    // the number of values left to fill the first window
+    private int fill;
+
+    public IntRollingExtremum(PrimitiveIterator.OfInt iterator, int windowSize, boolean max) {
+        this.iterator = iterator;
+        deque = new MonotonicDeque.OfInt(windowSize, max);
+        fill = windowSize - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        add(iterator.nextInt());
+        for (; fill > 0 && iterator.hasNext(); fill--) {
+            add(iterator.nextInt());
+        }
+        fill = 0;
+        return deque.get();
+    }
+
+    private void add(int value) {
+        deque.add(value);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return (size <= 0) ? size : Math.max(1, size - fill);
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -0,0 +1,57 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.RollingWindow;
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+/**
+ * Returns the mean of the last {@code windowSize} values for each value.
+ * The sum of the window is updated by the value that enters and the value that leaves it.
+ *
+ * <p>The first result covers the first {@code windowSize} values,
+ * or all values if there are fewer of them, as with {@code sliding(windowSize)}.
+ */
+public class IntRollingMean extends PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final RollingWindow.OfInt window;
+    private long sum;
+    // the number of values left to fill the first window
+    private int fill;
+
+    public IntRollingMean(PrimitiveIterator.OfInt iterator, int windowSize) {
+        this.iterator = iterator;
+        window = new RollingWindow.OfInt(windowSize);
+        fill = windowSize - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        add(iterator.nextInt());
+        for (; fill > 0 && iterator.hasNext(); fill--) {
+            add(iterator.nextInt());
+        }
+        fill = 0;
+        return (double) sum / window.size();
+    }
+
+    private void add(int value) {
+        // the removed value is 0 until the window is full
+        sum += value - window.add(value);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return (size <= 0) ? size : Math.max(1, size - fill);
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.IntBinaryOperator;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -26,4 +27,20 @@ public class IntScan extends PrimitiveExtIterator.OfInt {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                next = accumulator.applyAsInt(next, value);
+                action.accept(next);
+            }
+        });
+        hasNext = false;
+    }
 }
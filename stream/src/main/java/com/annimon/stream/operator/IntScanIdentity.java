@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.IntBinaryOperator;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -30,4 +31,20 @@ public class IntScanIdentity extends PrimitiveExtIterator.OfInt {
             next = accumulator.applyAsInt(next, current);
         }
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                next = accumulator.applyAsInt(next, value);
+                action.accept(next);
+            }
+        });
+        hasNext = false;
+    }
 }
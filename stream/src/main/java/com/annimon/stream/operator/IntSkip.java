@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntConsumer;
 
 public class IntSkip extends PrimitiveIterator.OfInt {
 
@@ -31,4 +32,34 @@ public class IntSkip extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return iterator.nextInt();
     }
+
+    @Override
+    public void forEachRemainingInt(IntConsumer action) {
+        while (skipped < n && iterator.hasNext()) {
+            iterator.nextInt();
+            skipped++;
+        }
+        iterator.forEachRemainingInt(action);
+    }
+
+    @Override
+    public boolean tryAdvanceInt(IntConsumer action) {
+        // hasNext skips the first elements
+        if (skipped < n && !hasNext()) {
+            return false;
+        }
+        return iterator.tryAdvanceInt(action);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return size < 0 ? -1 : Math.max(0, size - (n - skipped));
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = iterator.estimateSize();
+        return size == Long.MAX_VALUE ? size : Math.max(0, size - (n - skipped));
+    }
 }
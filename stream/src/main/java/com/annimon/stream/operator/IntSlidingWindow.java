@@ -0,0 +1,101 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+
+/**
+ * Returns windows of values as arrays.
+ *
+ * <p>Values are moved to a buffer in batches and each window is copied
+ * from its range. The buffer holds up to two windows; when it is full,
+ * the values of the current window move to its start.
+ *
+ * <p>In reuse mode the same array is returned for each full window,
+ * so a window is only valid until the next one is requested.
+ */
+public class IntSlidingWindow extends LsaIterator<int[]> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // some VMs reserve header words in an array
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final int windowSize;
+    private final int stepWidth;
+    private final boolean reuse;
+    private final int capacity;
+    private int[] buffer;
+    // the current window starts at start, the buffered values end at end
+    private int start, end;
+    private int[] window;
+
+    public IntSlidingWindow(PrimitiveIterator.OfInt iterator, int windowSize, int stepWidth, boolean reuse) {
+        this.iterator = iterator;
+        this.windowSize = windowSize;
+        this.stepWidth = stepWidth;
+        this.reuse = reuse;
+        capacity = (stepWidth >= windowSize) ? windowSize
+                : (int) Math.max(windowSize, Math.min(2L * windowSize, MAX_CAPACITY));
+        buffer = new int[Math.min(capacity, INITIAL_CAPACITY)];
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int[] nextIteration() {
+        while (end - start < windowSize) {
+            if (end == buffer.length) {
+                makeRoom();
+            }
+            final int length = Math.min(windowSize - (end - start), buffer.length - end);
+            final int size = iterator.nextBatch(buffer, end, length);
+            end += size;
+            if (size < length) {
+                break;
+            }
+        }
+
+        final int size = end - start;
+        final int[] result;
+        if (reuse && size == windowSize) {
+            if (window == null) {
+                window = new int[windowSize];
+            }
+            result = window;
+        } else {
+            result = new int[size];
+        }
+        System.arraycopy(buffer, start, result, 0, size);
+
+        start = Math.min(start + stepWidth, end);
+        // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) values
+        for (int j = windowSize; j < stepWidth && iterator.hasNext(); j++) {
+            iterator.nextInt();
+        }
+        return result;
+    }
+
+    /**
+     * Grows the buffer up to the capacity, then moves the values
+     * of the current window to its start.
+     */
+    private void makeRoom() {
+        if (buffer.length < capacity) {
+            buffer = Arrays.copyOf(buffer, (int) Math.min(2L * buffer.length, capacity));
+            return;
+        }
+        System.arraycopy(buffer, start, buffer, 0, end - start);
+        end -= start;
+        start = 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        // there are at most as many windows as values
+        return iterator.estimateSize();
+    }
+}
@@ -0,0 +1,72 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.IntBinaryOperator;
+
+/**
+ * Combines the values of two iterators at the same position.
+ *
+ * <p>Bulk iteration moves a batch of the first iterator to the output buffer
+ * and combines it in place with the same number of values of the second one.
+ * Batches are only taken when neither iterator runs functions of the stream,
+ * so the combiner runs in the same order as with single values.
+ */
+public class IntZip extends PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator1;
+    private final PrimitiveIterator.OfInt iterator2;
+    private final IntBinaryOperator combiner;
+    // values of the second iterator for the current batch
+    private int[] batch;
+
+    public IntZip(PrimitiveIterator.OfInt iterator1, PrimitiveIterator.OfInt iterator2,
+                  IntBinaryOperator combiner) {
+        this.iterator1 = iterator1;
+        this.iterator2 = iterator2;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator1.hasNext() && iterator2.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return combiner.applyAsInt(iterator1.nextInt(), iterator2.nextInt());
+    }
+
+    @Override
+    public int nextBatch(int[] buffer, int offset, int length) {
+        if (iterator1.runsFunctions() || iterator2.runsFunctions()) {
+            // a batch would run the functions of the upstreams before the combiner
+            return super.nextBatch(buffer, offset, length);
+        }
+        // values of the first iterator past the end of the second one are dropped,
+        // the zipped stream ends there
+        final int size1 = iterator2.hasNext() ? iterator1.nextBatch(buffer, offset, length) : 0;
+        if (size1 == 0) {
+            return 0;
+        }
+        if (batch == null || batch.length < size1) {
+            batch = new int[size1];
+        }
+        final int size = iterator2.nextBatch(batch, 0, size1);
+        for (int i = 0; i < size; i++) {
+            buffer[offset + i] = combiner.applyAsInt(buffer[offset + i], batch[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size1 = iterator1.getExactSizeIfKnown();
+        final long size2 = iterator2.getExactSizeIfKnown();
+        return (size1 < 0 || size2 < 0) ? -1 : Math.min(size1, size2);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(iterator1.estimateSize(), iterator2.estimateSize());
+    }
+}
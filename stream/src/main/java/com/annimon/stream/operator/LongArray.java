@@ -1,15 +1,25 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
-public class LongArray extends PrimitiveIterator.OfLong {
+public class LongArray extends PrimitiveIterator.OfLong implements RandomAccessIterator.OfLong {
 
     private final long[] values;
     private int index;
+    private int end;
 
     public LongArray(long[] values) {
         this.values = values;
         index = 0;
+        end = values.length;
+    }
+
+    private LongArray(long[] values, int index, int end) {
+        this.values = values;
+        this.index = index;
+        this.end = end;
     }
 
     @Override
@@ -19,6 +29,72 @@ public class LongArray extends PrimitiveIterator.OfLong {
 
     @Override
     public boolean hasNext() {
-        return index < values.length;
+        return index < end;
+    }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        final long[] values = this.values;
+        final int end = this.end;
+        int i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(values[i]);
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(values[index++]);
+        return true;
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        final int size = Math.min(length, end - index);
+        System.arraycopy(values, index, buffer, offset, size);
+        index += size;
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return end - index;
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize < end - index) {
+            end = index + (int) maxSize;
+        }
+    }
+
+    @Override
+    public long getLong(long index) {
+        return values[this.index + (int) index];
+    }
+
+    @Override
+    public LongArray trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid == index) {
+            return null;
+        }
+        final LongArray prefix = new LongArray(values, index, mid);
+        index = mid;
+        return prefix;
     }
 }
@@ -1,32 +1,166 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.LongConsumer;
 
+/**
+ * Concatenation of iterators.
+ *
+ * <p>The sources of nested concatenations are taken over, so each value
+ * is taken from its source directly, however deep the concatenations are nested.
+ * The sources of the largest nested concatenation are extended in place,
+ * so folding many concatenations takes linear time.
+ * A source is released when it is exhausted.
+ */
 public class LongConcat extends PrimitiveIterator.OfLong {
 
-    private final PrimitiveIterator.OfLong iterator1;
-    private final PrimitiveIterator.OfLong iterator2;
-    private boolean firstStreamIsCurrent;
+    private Deque<PrimitiveIterator.OfLong> iterators;
 
     public LongConcat(PrimitiveIterator.OfLong iterator1, PrimitiveIterator.OfLong iterator2) {
-        this.iterator1 = iterator1;
-        this.iterator2 = iterator2;
-        firstStreamIsCurrent = true;
+        this(Arrays.asList(iterator1, iterator2));
+    }
+
+    public LongConcat(List<? extends PrimitiveIterator.OfLong> iterators) {
+        int largest = -1;
+        for (int i = 0; i < iterators.size(); i++) {
+            final PrimitiveIterator.OfLong iterator = iterators.get(i);
+            if (iterator instanceof LongConcat && (largest < 0
+                    || sources(iterator).size() > sources(iterators.get(largest)).size())) {
+                largest = i;
+            }
+        }
+        final Deque<PrimitiveIterator.OfLong> all = (largest < 0)
+                ? new ArrayDeque<PrimitiveIterator.OfLong>()
+                : takeSources(iterators.get(largest));
+        for (int i = largest - 1; i >= 0; i--) {
+            final PrimitiveIterator.OfLong iterator = iterators.get(i);
+            if (iterator instanceof LongConcat) {
+                final Iterator<PrimitiveIterator.OfLong> nested = takeSources(iterator).descendingIterator();
+                while (nested.hasNext()) {
+                    all.addFirst(nested.next());
+                }
+            } else {
+                all.addFirst(iterator);
+            }
+        }
+        for (int i = largest + 1; i < iterators.size(); i++) {
+            final PrimitiveIterator.OfLong iterator = iterators.get(i);
+            if (iterator instanceof LongConcat) {
+                all.addAll(takeSources(iterator));
+            } else {
+                all.addLast(iterator);
+            }
+        }
+        this.iterators = all;
+    }
+
+    private static Deque<PrimitiveIterator.OfLong> sources(PrimitiveIterator.OfLong concat) {
+        return ((LongConcat) concat).iterators;
+    }
+
+    /**
+     * Takes the remaining sources of the nested concatenation, leaving it empty.
+     */
+    private static Deque<PrimitiveIterator.OfLong> takeSources(PrimitiveIterator.OfLong concat) {
+        final Deque<PrimitiveIterator.OfLong> result = sources(concat);
+        ((LongConcat) concat).iterators = new ArrayDeque<PrimitiveIterator.OfLong>();
+        return result;
     }
 
     @Override
     public boolean hasNext() {
-        if (firstStreamIsCurrent) {
-            if (iterator1.hasNext()) {
+        PrimitiveIterator.OfLong iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (iterator.hasNext()) {
                 return true;
             }
-            firstStreamIsCurrent = false;
+            iterators.pollFirst();
         }
-        return iterator2.hasNext();
+        return false;
     }
 
     @Override
     public long nextLong() {
-        return firstStreamIsCurrent ? iterator1.nextLong() : iterator2.nextLong();
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return iterators.peekFirst().nextLong();
+    }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        PrimitiveIterator.OfLong iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            iterator.forEachRemainingLong(action);
+            iterators.pollFirst();
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        PrimitiveIterator.OfLong iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (iterator.tryAdvanceLong(action)) {
+                return true;
+            }
+            iterators.pollFirst();
+        }
+        return false;
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        int size = 0;
+        PrimitiveIterator.OfLong iterator;
+        while (size < length && (iterator = iterators.peekFirst()) != null) {
+            final int requested = length - size;
+            final int taken = iterator.nextBatch(buffer, offset + size, requested);
+            size += taken;
+            if (taken < requested) {
+                iterators.pollFirst();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        for (PrimitiveIterator.OfLong iterator : iterators) {
+            if (iterator.runsFunctions()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = 0;
+        for (PrimitiveIterator.OfLong iterator : iterators) {
+            size = Operators.addSizes(size, iterator.getExactSizeIfKnown());
+            if (size < 0) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (PrimitiveIterator.OfLong iterator : iterators) {
+            size = Operators.addSizes(size, iterator.estimateSize());
+            if (size == Long.MAX_VALUE) {
+                break;
+            }
+        }
+        return size;
     }
 }
@@ -0,0 +1,72 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
+
+/**
+ * Returns the minimum or the maximum of the values up to each value.
+ */
+public class LongCumulativeExtremum extends PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final boolean max;
+    private long extremum;
+    private boolean isInit;
+
+    public LongCumulativeExtremum(PrimitiveIterator.OfLong iterator, boolean max) {
+        this.iterator = iterator;
+        this.max = max;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return update(iterator.nextLong());
+    }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(update(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = update(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    private long update(long value) {
+        if (!isInit || (max ? value > extremum : value < extremum)) {
+            extremum = value;
+            isInit = true;
+        }
+        return extremum;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
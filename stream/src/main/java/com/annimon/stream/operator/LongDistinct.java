@@ -0,0 +1,44 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.PrimitiveHashSet;
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
+
+public class LongDistinct extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final PrimitiveHashSet.OfLong set;
+
+    public LongDistinct(PrimitiveIterator.OfLong iterator) {
+        this.iterator = iterator;
+        set = new PrimitiveHashSet.OfLong();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (set.add(next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                if (set.add(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+}
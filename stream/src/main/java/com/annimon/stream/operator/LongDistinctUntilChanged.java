@@ -0,0 +1,78 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveExtIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.LongConsumer;
+import com.landawn.abacus.util.function.LongFunction;
+
+/**
+ * Skips values equal to the previous value, or whose key equals the key
+ * of the previous value. Only the last value or key is kept,
+ * so a sorted input is deduplicated in O(1) memory.
+ */
+public class LongDistinctUntilChanged extends PrimitiveExtIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongFunction<?> keyExtractor;
+    private long lastValue;
+    private Object lastKey;
+    private boolean hasLast;
+
+    public LongDistinctUntilChanged(PrimitiveIterator.OfLong iterator) {
+        this(iterator, null);
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param keyExtractor  the key function, or {@code null} to compare the values
+     */
+    public LongDistinctUntilChanged(PrimitiveIterator.OfLong iterator, LongFunction<?> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.nextLong();
+            if (changed(next)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                if (changed(value)) {
+                    action.accept(value);
+                }
+            }
+        });
+        hasNext = false;
+    }
+
+    private boolean changed(long value) {
+        if (keyExtractor == null) {
+            if (hasLast && lastValue == value) {
+                return false;
+            }
+            lastValue = value;
+        } else {
+            final Object key = keyExtractor.apply(value);
+            if (hasLast && N.equals(lastKey, key)) {
+                return false;
+            }
+            lastKey = key;
+        }
+        hasLast = true;
+        return true;
+    }
+}
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongPredicate;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -31,4 +32,14 @@ public class LongDropWhile extends PrimitiveExtIterator.OfLong {
 
         next = iterator.next();
     }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingLong(action);
+        hasNext = false;
+    }
 }
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.LongStream;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.NoSuchElementException;
@@ -52,4 +53,30 @@ public class LongFlatMap extends PrimitiveIterator.OfLong {
         }
         return inner.nextLong();
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        if (inner != null) {
+            inner.forEachRemainingLong(action);
+            inner = null;
+        }
+        if (innerStream != null) {
+            innerStream.close();
+            innerStream = null;
+        }
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                final LongStream result = mapper.apply(value);
+                if (result == null) {
+                    return;
+                }
+                try {
+                    result.iterator().forEachRemainingLong(action);
+                } finally {
+                    result.close();
+                }
+            }
+        });
+    }
 }
@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.LongSupplier;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
 public class LongGenerate extends PrimitiveIterator.OfLong {
 
@@ -20,4 +21,10 @@ public class LongGenerate extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return supplier.getAsLong();
     }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        action.accept(nextLong());
+        return true;
+    }
 }
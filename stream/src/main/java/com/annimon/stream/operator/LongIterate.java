@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.LongUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
 public class LongIterate extends PrimitiveIterator.OfLong {
 
@@ -24,4 +25,10 @@ public class LongIterate extends PrimitiveIterator.OfLong {
         current = op.applyAsLong(current);
         return old;
     }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        action.accept(nextLong());
+        return true;
+    }
 }
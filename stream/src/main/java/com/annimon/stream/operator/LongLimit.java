@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
 public class LongLimit extends PrimitiveIterator.OfLong {
 
@@ -24,4 +25,45 @@ public class LongLimit extends PrimitiveIterator.OfLong {
         index++;
         return iterator.nextLong();
     }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        // limit is short-circuiting, so the upstream is pulled
+        while (index < maxSize && iterator.hasNext()) {
+            index++;
+            action.accept(iterator.nextLong());
+        }
+    }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        if (index >= maxSize || !iterator.tryAdvanceLong(action)) {
+            return false;
+        }
+        index++;
+        return true;
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        final int size = iterator.nextBatch(buffer, offset, (int) Math.min(length, maxSize - index));
+        index += size;
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return iterator.runsFunctions();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return size < 0 ? -1 : Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(iterator.estimateSize(), maxSize - index);
+    }
 }
@@ -1,5 +1,6 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongUnaryOperator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +23,53 @@ public class LongMap extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.nextLong());
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceLong(final LongConsumer action) {
+        return iterator.tryAdvanceLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsLong(value));
+            }
+        });
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        if (iterator.runsFunctions()) {
+            // a batch would run the functions of the upstream before the mapper
+            return super.nextBatch(buffer, offset, length);
+        }
+        final int size = iterator.nextBatch(buffer, offset, length);
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = mapper.applyAsLong(buffer[i]);
+        }
+        return size;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public LongMap trySplit() {
+        final PrimitiveIterator.OfLong prefix = iterator.trySplit();
+        return (prefix == null) ? null : new LongMap(prefix, mapper);
+    }
 }
@@ -0,0 +1,73 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.LongMapMultiConsumer;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.LongConsumer;
+
+/**
+ * Replaces each element with the values the mapper passes to the sink.
+ *
+ * <p>The values of an element are collected in a reusable buffer,
+ * internal iteration passes them downstream directly.
+ */
+public class LongMapMulti extends PrimitiveIterator.OfLong {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongMapMultiConsumer mapper;
+    private long[] buffer;
+    private int index, size;
+
+    private final LongConsumer sink = new LongConsumer() {
+        @Override
+        public void accept(long value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = value;
+        }
+    };
+
+    public LongMapMulti(PrimitiveIterator.OfLong iterator, LongMapMultiConsumer mapper) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        buffer = new long[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == size) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            index = 0;
+            size = 0;
+            mapper.accept(iterator.nextLong(), sink);
+        }
+        return true;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer[index++];
+    }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        while (index < size) {
+            action.accept(buffer[index++]);
+        }
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                mapper.accept(value, action);
+            }
+        });
+    }
+}
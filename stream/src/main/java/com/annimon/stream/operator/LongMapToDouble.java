@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongToDoubleFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +24,40 @@ public class LongMapToDouble extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.nextLong());
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(final DoubleConsumer action) {
+        return iterator.tryAdvanceLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsDouble(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public LongMapToDouble trySplit() {
+        final PrimitiveIterator.OfLong prefix = iterator.trySplit();
+        return (prefix == null) ? null : new LongMapToDouble(prefix, mapper);
+    }
 }
@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongToIntFunction;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -22,4 +24,40 @@ public class LongMapToInt extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.nextLong());
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceInt(final IntConsumer action) {
+        return iterator.tryAdvanceLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.applyAsInt(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public LongMapToInt trySplit() {
+        final PrimitiveIterator.OfLong prefix = iterator.trySplit();
+        return (prefix == null) ? null : new LongMapToInt(prefix, mapper);
+    }
 }
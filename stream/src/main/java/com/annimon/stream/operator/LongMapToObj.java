@@ -1,5 +1,7 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.LongFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
@@ -23,4 +25,40 @@ public class LongMapToObj<R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.nextLong());
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        return iterator.tryAdvanceLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                action.accept(mapper.apply(value));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public LongMapToObj<R> trySplit() {
+        final PrimitiveIterator.OfLong prefix = iterator.trySplit();
+        return (prefix == null) ? null : new LongMapToObj<R>(prefix, mapper);
+    }
 }
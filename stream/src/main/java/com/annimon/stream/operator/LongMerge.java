@@ -0,0 +1,91 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongBiFunction;
+
+/**
+ * Merges the values of two iterators according to the selector,
+ * as {@link ObjMerge} does for objects.
+ */
+public class LongMerge extends PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator1;
+    private final PrimitiveIterator.OfLong iterator2;
+    private final LongBiFunction<ObjMerge.MergeResult> selector;
+    // the value that was not selected, at most one of them is pending
+    private long pending1, pending2;
+    private boolean hasPending1, hasPending2;
+
+    public LongMerge(PrimitiveIterator.OfLong iterator1, PrimitiveIterator.OfLong iterator2,
+                    LongBiFunction<ObjMerge.MergeResult> selector) {
+        this.iterator1 = iterator1;
+        this.iterator2 = iterator2;
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return hasPending1 || hasPending2
+                || iterator1.hasNext() || iterator2.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        if (hasPending1) {
+            hasPending1 = false;
+            if (iterator2.hasNext()) {
+                return select(pending1, iterator2.nextLong());
+            }
+            return pending1;
+        }
+        if (hasPending2) {
+            hasPending2 = false;
+            if (iterator1.hasNext()) {
+                return select(iterator1.nextLong(), pending2);
+            }
+            return pending2;
+        }
+
+        if (!iterator1.hasNext()) {
+            return iterator2.nextLong();
+        }
+        if (!iterator2.hasNext()) {
+            return iterator1.nextLong();
+        }
+
+        return select(iterator1.nextLong(), iterator2.nextLong());
+    }
+
+    private long select(long v1, long v2) {
+        final ObjMerge.MergeResult result = selector.apply(v1, v2);
+        switch (result) {
+            case TAKE_FIRST:
+                pending2 = v2;
+                hasPending2 = true;
+                return v1;
+
+            case TAKE_SECOND:
+            default:
+                pending1 = v1;
+                hasPending1 = true;
+                return v2;
+        }
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size1 = iterator1.getExactSizeIfKnown();
+        final long size2 = iterator2.getExactSizeIfKnown();
+        if (size1 < 0 || size2 < 0) {
+            return -1;
+        }
+        final long size = size1 + size2 + (hasPending1 || hasPending2 ? 1 : 0);
+        return (size < 0) ? -1 : size;
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = iterator1.estimateSize() + iterator2.estimateSize() + 1;
+        return (size < 0) ? Long.MAX_VALUE : size;
+    }
+}
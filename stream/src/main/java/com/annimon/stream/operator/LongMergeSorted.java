@@ -0,0 +1,107 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges sorted iterators into one sequence sorted in ascending order.
+ *
+ * <p>Iterators are kept in a binary heap ordered by their current values,
+ * so each value takes O(log n) comparisons for n iterators.
+ */
+public class LongMergeSorted extends PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong[] iterators;
+    private final long[] heads;
+    private final int[] heap;
+    private int heapSize;
+    private boolean isInit;
+
+    public LongMergeSorted(List<? extends PrimitiveIterator.OfLong> iterators) {
+        this.iterators = iterators.toArray(new PrimitiveIterator.OfLong[iterators.size()]);
+        heads = new long[this.iterators.length];
+        heap = new int[this.iterators.length];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isInit) {
+            for (int i = 0; i < iterators.length; i++) {
+                if (iterators[i].hasNext()) {
+                    heads[i] = iterators[i].nextLong();
+                    heap[heapSize++] = i;
+                }
+            }
+            for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+            isInit = true;
+        }
+        return heapSize > 0;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int index = heap[0];
+        final long result = heads[index];
+        if (iterators[index].hasNext()) {
+            heads[index] = iterators[index].nextLong();
+        } else {
+            heap[0] = heap[--heapSize];
+        }
+        if (heapSize > 1) {
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftDown(int i) {
+        final int index = heap[i];
+        while (true) {
+            final int left = (i << 1) + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            int least = left;
+            final int right = left + 1;
+            if (right < heapSize && less(heap[right], heap[left])) {
+                least = right;
+            }
+            if (!less(heap[least], index)) {
+                break;
+            }
+            heap[i] = heap[least];
+            i = least;
+        }
+        heap[i] = index;
+    }
+
+    private boolean less(int index1, int index2) {
+        final long head1 = heads[index1];
+        final long head2 = heads[index2];
+        return head1 < head2 || (head1 == head2 && index1 < index2);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = isInit ? heapSize : 0;
+        for (PrimitiveIterator.OfLong iterator : iterators) {
+            size = Operators.addSizes(size, iterator.getExactSizeIfKnown());
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = isInit ? heapSize : 0;
+        for (PrimitiveIterator.OfLong iterator : iterators) {
+            size = Operators.addSizes(size, iterator.estimateSize());
+        }
+        return size;
+    }
+}
@@ -24,4 +24,42 @@ public class LongPeek extends PrimitiveIterator.OfLong {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                LongPeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceLong(final LongConsumer action) {
+        return iterator.tryAdvanceLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                LongPeek.this.action.accept(value);
+                action.accept(value);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return iterator.getExactSizeIfKnown();
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+
+    @Override
+    public LongPeek trySplit() {
+        final PrimitiveIterator.OfLong prefix = iterator.trySplit();
+        return (prefix == null) ? null : new LongPeek(prefix, action);
+    }
 }
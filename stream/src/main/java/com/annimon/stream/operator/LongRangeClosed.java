@@ -1,10 +1,12 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
-public class LongRangeClosed extends PrimitiveIterator.OfLong {
+public class LongRangeClosed extends PrimitiveIterator.OfLong implements RandomAccessIterator.OfLong {
 
-    private final long endInclusive;
+    private long endInclusive;
     private long current;
     private boolean hasNext;
 
@@ -27,4 +29,108 @@ public class LongRangeClosed extends PrimitiveIterator.OfLong {
         }
         return current++;
     }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        if (!hasNext) {
+            return;
+        }
+        final long end = endInclusive;
+        long value = current;
+        current = end;
+        hasNext = false;
+        for (; value < end; value++) {
+            action.accept(value);
+        }
+        action.accept(end);
+    }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        if (!hasNext) {
+            return false;
+        }
+        action.accept(nextLong());
+        return true;
+    }
+
+    @Override
+    public int nextBatch(long[] buffer, int offset, int length) {
+        if (!hasNext) {
+            return 0;
+        }
+        // the size of the full range overflows
+        final long remaining = endInclusive - current + 1;
+        final int size = (remaining <= 0) ? length : (int) Math.min(length, remaining);
+        long value = current;
+        for (int i = offset, end = offset + size; i < end; i++) {
+            buffer[i] = value++;
+        }
+        if (size == remaining) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current = value;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean runsFunctions() {
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!hasNext) {
+            return 0;
+        }
+        final long size = endInclusive - current + 1;
+        // overflows for ranges wider than Long.MAX_VALUE
+        return size > 0 ? size : -1;
+    }
+
+    @Override
+    public void skip(long n) {
+        if (!hasNext) {
+            return;
+        }
+        // negative if the range is wider than Long.MAX_VALUE, so n never exceeds it
+        final long last = endInclusive - current;
+        if (last >= 0 && n > last) {
+            current = endInclusive;
+            hasNext = false;
+        } else {
+            current += n;
+        }
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize == 0) {
+            hasNext = false;
+            return;
+        }
+        final long last = endInclusive - current;
+        if (last < 0 || maxSize - 1 < last) {
+            endInclusive = current + (maxSize - 1);
+        }
+    }
+
+    @Override
+    public long getLong(long index) {
+        return current + index;
+    }
+
+    @Override
+    public LongRangeClosed trySplit() {
+        if (!hasNext || current == endInclusive) {
+            return null;
+        }
+        // unsigned halving, the range may be wider than Long.MAX_VALUE
+        final long prefixEnd = current + ((endInclusive - current) >>> 1);
+        final LongRangeClosed prefix = new LongRangeClosed(current, prefixEnd);
+        current = prefixEnd + 1;
+        return prefix;
+    }
 }
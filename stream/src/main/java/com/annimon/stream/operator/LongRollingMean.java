@@ -0,0 +1,78 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.RollingWindow;
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+/**
+ * Returns the mean of the last {@code windowSize} values for each value.
+ * The sum of the window is updated by the value that enters and the value that leaves it.
+ * It is kept in 128 bits, so the mean is right even if the sum does not fit in a {@code long}.
+ *
+ * <p>The first result covers the first {@code windowSize} values,
+ * or all values if there are fewer of them, as with {@code sliding(windowSize)}.
+ */
+public class LongRollingMean extends PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private static final double TWO_POW_64 = 0x1p64;
+
+    private final RollingWindow.OfLong window;
+    // the sum is high * 2^64 + low, where low is unsigned
+    private long low, high;
+    // the number of values left to fill the first window
+    private int fill;
+
+    public LongRollingMean(PrimitiveIterator.OfLong iterator, int windowSize) {
+        this.iterator = iterator;
+        window = new RollingWindow.OfLong(windowSize);
+        fill = windowSize - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        add(iterator.nextLong());
+        for (; fill > 0 && iterator.hasNext(); fill--) {
+            add(iterator.nextLong());
+        }
+        fill = 0;
+        return mean();
+    }
+
+    private void add(long value) {
+        // the removed value is 0 until the window is full
+        final long removed = window.add(value);
+        long sum = low + value;
+        // the sign extension of the value, and the carry of the unsigned addition
+        high += (value >> 63) + (((sum ^ Long.MIN_VALUE) < (low ^ Long.MIN_VALUE)) ? 1 : 0);
+        low = sum;
+        sum = low - removed;
+        // the sign extension of the removed value, and the borrow of the unsigned subtraction
+        high -= (removed >> 63) + (((low ^ Long.MIN_VALUE) < (removed ^ Long.MIN_VALUE)) ? 1 : 0);
+        low = sum;
+    }
+
+    private double mean() {
+        if (high == (low >> 63)) {
+            // the sum fits in a long
+            return (double) low / window.size();
+        }
+        final double unsignedLow = (double) (low >>> 1) * 2 + (low & 1);
+        return (high * TWO_POW_64 + unsignedLow) / window.size();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return (size <= 0) ? size : Math.max(1, size - fill);
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
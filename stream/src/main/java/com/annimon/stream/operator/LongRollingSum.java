@@ -0,0 +1,57 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.RollingWindow;
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+/**
+ * Returns the sum of the last {@code windowSize} values for each value.
+ * The sum is updated by the value that enters and the value that leaves the window.
+ *
+ * <p>The first result covers the first {@code windowSize} values,
+ * or all values if there are fewer of them, as with {@code sliding(windowSize)}.
+ */
+public class LongRollingSum extends PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final RollingWindow.OfLong window;
+    private long sum;
+    // the number of values left to fill the first window
+    private int fill;
+
+    public LongRollingSum(PrimitiveIterator.OfLong iterator, int windowSize) {
+        this.iterator = iterator;
+        window = new RollingWindow.OfLong(windowSize);
+        fill = windowSize - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        add(iterator.nextLong());
+        for (; fill > 0 && iterator.hasNext(); fill--) {
+            add(iterator.nextLong());
+        }
+        fill = 0;
+        return sum;
+    }
+
+    private void add(long value) {
+        // the removed value is 0 until the window is full
+        sum += value - window.add(value);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return (size <= 0) ? size : Math.max(1, size - fill);
+    }
+
+    @Override
+    public long estimateSize() {
+        return iterator.estimateSize();
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.LongBinaryOperator;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 
@@ -26,4 +27,20 @@ public class LongScan extends PrimitiveExtIterator.OfLong {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        iterator.forEachRemainingLong(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                next = accumulator.applyAsLong(next, value);
+                action.accept(next);
+            }
+        });
+        hasNext = false;
+    }
 }
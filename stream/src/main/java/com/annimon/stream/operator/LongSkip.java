@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongConsumer;
 
 public class LongSkip extends PrimitiveIterator.OfLong {
 
@@ -30,4 +31,34 @@ public class LongSkip extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return iterator.nextLong();
     }
+
+    @Override
+    public void forEachRemainingLong(LongConsumer action) {
+        while (skipped < n && iterator.hasNext()) {
+            iterator.nextLong();
+            skipped++;
+        }
+        iterator.forEachRemainingLong(action);
+    }
+
+    @Override
+    public boolean tryAdvanceLong(LongConsumer action) {
+        // hasNext skips the first elements
+        if (skipped < n && !hasNext()) {
+            return false;
+        }
+        return iterator.tryAdvanceLong(action);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = iterator.getExactSizeIfKnown();
+        return size < 0 ? -1 : Math.max(0, size - (n - skipped));
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = iterator.estimateSize();
+        return size == Long.MAX_VALUE ? size : Math.max(0, size - (n - skipped));
+    }
 }
@@ -0,0 +1,46 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.LongBiFunction;
+
+/**
+ * Combines the values of two iterators at the same position to objects.
+ *
+ * @param <R> the type of the result elements
+ */
+public class LongZipToObj<R> extends LsaIterator<R> {
+
+    private final PrimitiveIterator.OfLong iterator1;
+    private final PrimitiveIterator.OfLong iterator2;
+    private final LongBiFunction<? extends R> combiner;
+
+    public LongZipToObj(PrimitiveIterator.OfLong iterator1, PrimitiveIterator.OfLong iterator2,
+                       LongBiFunction<? extends R> combiner) {
+        this.iterator1 = iterator1;
+        this.iterator2 = iterator2;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator1.hasNext() && iterator2.hasNext();
+    }
+
+    @Override
+    public R nextIteration() {
+        return combiner.apply(iterator1.nextLong(), iterator2.nextLong());
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size1 = iterator1.getExactSizeIfKnown();
+        final long size2 = iterator2.getExactSizeIfKnown();
+        return (size1 < 0 || size2 < 0) ? -1 : Math.min(size1, size2);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(iterator1.estimateSize(), iterator2.estimateSize());
+    }
+}
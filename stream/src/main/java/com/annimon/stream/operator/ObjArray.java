@@ -1,24 +1,87 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.iterator.LsaIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import com.landawn.abacus.util.function.Consumer;
 
-public class ObjArray<T> extends LsaIterator<T> {
+public class ObjArray<T> extends LsaIterator<T> implements RandomAccessIterator.OfObj<T> {
 
     private final T[] elements;
     private int index;
+    private int end;
 
     public ObjArray(T[] elements) {
         this.elements = elements;
         index = 0;
+        end = elements.length;
+    }
+
+    private ObjArray(T[] elements, int index, int end) {
+        this.elements = elements;
+        this.index = index;
+        this.end = end;
     }
 
     @Override
     public boolean hasNext() {
-        return index < elements.length;
+        return index < end;
     }
 
     @Override
     public T nextIteration() {
         return elements[index++];
     }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        final T[] elements = this.elements;
+        final int end = this.end;
+        int i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(elements[index++]);
+        return true;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return end - index;
+    }
+
+    @Override
+    public void skip(long n) {
+        index += (int) Math.min(n, end - index);
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        if (maxSize < end - index) {
+            end = index + (int) maxSize;
+        }
+    }
+
+    @Override
+    public T get(long index) {
+        return elements[this.index + (int) index];
+    }
+
+    @Override
+    public ObjArray<T> trySplit() {
+        final int mid = (index + end) >>> 1;
+        if (mid == index) {
+            return null;
+        }
+        final ObjArray<T> prefix = new ObjArray<>(elements, index, mid);
+        index = mid;
+        return prefix;
+    }
 }
@@ -1,35 +1,142 @@
 package com.annimon.stream.operator;
 
-import com.annimon.stream.iterator.LsaExtIterator;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaIterator;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import com.landawn.abacus.util.function.Consumer;
 
-public class ObjConcat<T> extends LsaExtIterator<T> {
+/**
+ * Concatenation of iterators.
+ *
+ * <p>The sources of nested concatenations are taken over, so each element
+ * is taken from its source directly, however deep the concatenations are nested.
+ * The sources of the largest nested concatenation are extended in place,
+ * so folding many concatenations takes linear time.
+ * A source is released when it is exhausted.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjConcat<T> extends LsaIterator<T> {
 
-    private final Iterator<? extends T> iterator1;
-    private final Iterator<? extends T> iterator2;
-    private boolean firstStreamIsCurrent;
+    private Deque<Iterator<? extends T>> iterators;
 
     public ObjConcat(Iterator<? extends T> iterator1, Iterator<? extends T> iterator2) {
-        this.iterator1 = iterator1;
-        this.iterator2 = iterator2;
-        firstStreamIsCurrent = true;
+        this(Arrays.<Iterator<? extends T>>asList(iterator1, iterator2));
+    }
+
+    public ObjConcat(List<? extends Iterator<? extends T>> iterators) {
+        int largest = -1;
+        for (int i = 0; i < iterators.size(); i++) {
+            final Iterator<? extends T> iterator = iterators.get(i);
+            if (iterator instanceof ObjConcat && (largest < 0
+                    || ObjConcat.<T>sources(iterator).size() > ObjConcat.<T>sources(iterators.get(largest)).size())) {
+                largest = i;
+            }
+        }
+        final Deque<Iterator<? extends T>> all = (largest < 0)
+                ? new ArrayDeque<Iterator<? extends T>>()
+                : ObjConcat.<T>takeSources(iterators.get(largest));
+        for (int i = largest - 1; i >= 0; i--) {
+            final Iterator<? extends T> iterator = iterators.get(i);
+            if (iterator instanceof ObjConcat) {
+                final Iterator<Iterator<? extends T>> nested = ObjConcat.<T>takeSources(iterator).descendingIterator();
+                while (nested.hasNext()) {
+                    all.addFirst(nested.next());
+                }
+            } else {
+                all.addFirst(iterator);
+            }
+        }
+        for (int i = largest + 1; i < iterators.size(); i++) {
+            final Iterator<? extends T> iterator = iterators.get(i);
+            if (iterator instanceof ObjConcat) {
+                all.addAll(ObjConcat.<T>takeSources(iterator));
+            } else {
+                all.addLast(iterator);
+            }
+        }
+        this.iterators = all;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Deque<Iterator<? extends T>> sources(Iterator<? extends T> concat) {
+        return ((ObjConcat<T>) concat).iterators;
+    }
+
+    /**
+     * Takes the remaining sources of the nested concatenation, leaving it empty.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Deque<Iterator<? extends T>> takeSources(Iterator<? extends T> concat) {
+        final ObjConcat<T> nested = (ObjConcat<T>) concat;
+        final Deque<Iterator<? extends T>> result = nested.iterators;
+        nested.iterators = new ArrayDeque<Iterator<? extends T>>();
+        return result;
     }
 
     @Override
-    protected void nextIteration() {
-        if (firstStreamIsCurrent) {
-            if (iterator1.hasNext()) {
-                next = iterator1.next();
-                hasNext = true;
-                return;
+    public boolean hasNext() {
+        Iterator<? extends T> iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (iterator.hasNext()) {
+                return true;
             }
-            firstStreamIsCurrent = false;
+            iterators.pollFirst();
         }
-        if (iterator2.hasNext()) {
-            next = iterator2.next();
-            hasNext = true;
-            return;
+        return false;
+    }
+
+    @Override
+    public T nextIteration() {
+        return iterators.peekFirst().next();
+    }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        Iterator<? extends T> iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            Operators.forEachRemaining(iterator, action);
+            iterators.pollFirst();
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Iterator<? extends T> iterator;
+        while ((iterator = iterators.peekFirst()) != null) {
+            if (Operators.tryAdvance(iterator, action)) {
+                return true;
+            }
+            iterators.pollFirst();
+        }
+        return false;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = 0;
+        for (Iterator<? extends T> iterator : iterators) {
+            size = Operators.addSizes(size, Operators.getExactSizeIfKnown(iterator));
+            if (size < 0) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (Iterator<? extends T> iterator : iterators) {
+            size = Operators.addSizes(size, Operators.estimateSize(iterator));
+            if (size == Long.MAX_VALUE) {
+                break;
+            }
         }
-        hasNext = false;
+        return size;
     }
 }
@@ -1,9 +1,11 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjDistinct<T> extends LsaExtIterator<T> {
 
@@ -24,4 +26,22 @@ public class ObjDistinct<T> extends LsaExtIterator<T> {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                if (set.add(t)) {
+                    action.accept(t);
+                }
+            }
+        });
+        hasNext = false;
+        next = null;
+    }
 }
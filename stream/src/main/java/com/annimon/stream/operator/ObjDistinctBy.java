@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -28,4 +30,22 @@ public class ObjDistinctBy<T, K> extends LsaExtIterator<T> {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                if (set.add(classifier.apply(t))) {
+                    action.accept(t);
+                }
+            }
+        });
+        hasNext = false;
+        next = null;
+    }
 }
@@ -0,0 +1,67 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Skips elements whose key equals the key of the previous element.
+ * Only the last key is kept, so a sorted input is deduplicated in O(1) memory.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ */
+public class ObjDistinctUntilChanged<T, K> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> keyExtractor;
+    private K lastKey;
+    private boolean hasLastKey;
+
+    public ObjDistinctUntilChanged(Iterator<? extends T> iterator, Function<? super T, ? extends K> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.next();
+            if (changed(next)) {
+                return;
+            }
+        }
+        next = null;
+    }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                if (changed(t)) {
+                    action.accept(t);
+                }
+            }
+        });
+        hasNext = false;
+        next = null;
+    }
+
+    private boolean changed(T value) {
+        final K key = keyExtractor.apply(value);
+        if (hasLastKey && N.equals(lastKey, key)) {
+            return false;
+        }
+        lastKey = key;
+        hasLastKey = true;
+        return true;
+    }
+}
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Predicate;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.Iterator;
 
@@ -31,4 +33,15 @@ public class ObjDropWhile<T> extends LsaExtIterator<T> {
 
         next = iterator.next();
     }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        Operators.forEachRemaining(iterator, action);
+        hasNext = false;
+        next = null;
+    }
 }
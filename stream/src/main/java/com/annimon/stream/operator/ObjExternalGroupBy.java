@@ -0,0 +1,287 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Serializer;
+import com.annimon.stream.internal.SpillFiles;
+import com.annimon.stream.iterator.LsaIterator;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.stream.Collector;
+
+/**
+ * Groups elements that may not fit in memory.
+ *
+ * <p>Input of at most {@code maxInMemory} elements is grouped in memory.
+ * Otherwise elements are partitioned by the hash of their keys
+ * to temporary files, and the partitions are grouped one at a time
+ * as the groups are requested. A partition that is still larger than
+ * {@code maxInMemory} is partitioned again by other bits of the hash,
+ * unless a pass puts all of its elements into one partition again.
+ * Temporary files are deleted once they are read or the iterator is closed,
+ * and otherwise when the virtual machine exits.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ * @param <A> the intermediate accumulation type of the downstream collector
+ * @param <D> the result type of the downstream collector
+ */
+public class ObjExternalGroupBy<T, K, A, D> extends LsaIterator<Map.Entry<K, D>> implements Closeable {
+
+    private static final int PARTITION_BITS = 6;
+    private static final int PARTITIONS = 1 << PARTITION_BITS;
+    // partitioning stops when all bits of the hash are used
+    private static final int MAX_DEPTH = Integer.SIZE / PARTITION_BITS - 1;
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final Collector<? super T, A, D> downstream;
+    private final int maxInMemory;
+    private final Serializer<T> serializer;
+    private final boolean compress;
+
+    private boolean isInit;
+    private Iterator<Map.Entry<K, A>> groups;
+    // spilled partitions that are not grouped yet
+    private final Deque<Partition> partitions;
+    private File[] outputFiles;
+    private DataOutputStream[] outputs;
+    private File inputFile;
+    private DataInputStream input;
+
+    public ObjExternalGroupBy(Iterator<? extends T> iterator, Function<? super T, ? extends K> classifier,
+                              Collector<? super T, A, D> downstream, int maxInMemory,
+                              Serializer<T> serializer, boolean compress) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        this.downstream = downstream;
+        this.maxInMemory = maxInMemory;
+        this.serializer = serializer;
+        this.compress = compress;
+        partitions = new ArrayDeque<Partition>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (!isInit) {
+                init();
+                isInit = true;
+            }
+            while (!groups.hasNext()) {
+                final Partition partition = partitions.pollFirst();
+                if (partition == null) {
+                    return false;
+                }
+                if (partition.run.size > maxInMemory && partition.depth < MAX_DEPTH) {
+                    repartition(partition);
+                } else {
+                    group(partition);
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (UncheckedIOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, D> nextIteration() {
+        final Map.Entry<K, A> group = groups.next();
+        if (!downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            ((Map.Entry<K, Object>) (Map.Entry<K, ?>) group).setValue(
+                    downstream.finisher().apply(group.getValue()));
+        }
+        return (Map.Entry<K, D>) (Map.Entry<K, ?>) group;
+    }
+
+    private void init() throws IOException {
+        final List<T> buffer = new ArrayList<T>(Math.min(maxInMemory, 1024));
+        while (iterator.hasNext()) {
+            if (buffer.size() == maxInMemory) {
+                spill(buffer);
+                return;
+            }
+            buffer.add(iterator.next());
+        }
+        final Map<K, A> map = new HashMap<K, A>();
+        for (T value : buffer) {
+            accumulate(map, value);
+        }
+        groups = map.entrySet().iterator();
+    }
+
+    /**
+     * Writes the buffered and the remaining elements to partitions.
+     */
+    private void spill(List<T> buffer) throws IOException {
+        openPartitions();
+        final long[] sizes = new long[PARTITIONS];
+        for (int i = 0; i < buffer.size(); i++) {
+            write(buffer.get(i), 0, sizes);
+            // release the element, the buffer is not read again
+            buffer.set(i, null);
+        }
+        buffer.clear();
+        while (iterator.hasNext()) {
+            write(iterator.next(), 0, sizes);
+        }
+        closePartitions(sizes, 0);
+        groups = new HashMap<K, A>().entrySet().iterator();
+    }
+
+    /**
+     * Splits the partition to smaller ones by the next bits of the hash.
+     */
+    private void repartition(Partition partition) throws IOException {
+        final int depth = partition.depth + 1;
+        openPartitions();
+        final long[] sizes = new long[PARTITIONS];
+        openInput(partition.run.file);
+        for (long i = 0; i < partition.run.size; i++) {
+            write(serializer.read(input), depth, sizes);
+        }
+        closeInput();
+        // a pass that leaves all elements in one partition, e.g. of a single key,
+        // does not make it smaller, so it is grouped without further passes
+        closePartitions(sizes, isSplit(sizes, partition.run.size) ? depth : MAX_DEPTH);
+    }
+
+    private static boolean isSplit(long[] sizes, long size) {
+        for (long partitionSize : sizes) {
+            if (partitionSize == size) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void group(Partition partition) throws IOException {
+        final Map<K, A> map = new HashMap<K, A>();
+        openInput(partition.run.file);
+        for (long i = 0; i < partition.run.size; i++) {
+            accumulate(map, serializer.read(input));
+        }
+        closeInput();
+        groups = map.entrySet().iterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void accumulate(Map<K, A> map, T value) {
+        final K key = N.requireNonNull(classifier.apply(value), "element cannot be mapped to a null key");
+        A container = map.get(key);
+        if (container == null) {
+            container = downstream.supplier().get();
+            map.put(key, container);
+        }
+        ((BiConsumer<A, T>) downstream.accumulator()).accept(container, value);
+    }
+
+    private void openPartitions() throws IOException {
+        outputFiles = new File[PARTITIONS];
+        outputs = new DataOutputStream[PARTITIONS];
+        for (int i = 0; i < PARTITIONS; i++) {
+            outputFiles[i] = SpillFiles.create();
+            outputs[i] = SpillFiles.openOutput(outputFiles[i], compress);
+        }
+    }
+
+    private void write(T value, int depth, long[] sizes) throws IOException {
+        final K key = N.requireNonNull(classifier.apply(value), "element cannot be mapped to a null key");
+        final int partition = partition(key, depth);
+        serializer.write(outputs[partition], value);
+        sizes[partition]++;
+    }
+
+    /**
+     * Closes the outputs and adds the new partitions before the pending ones.
+     * Empty partitions are deleted.
+     */
+    private void closePartitions(long[] sizes, int depth) throws IOException {
+        for (int i = 0; i < PARTITIONS; i++) {
+            outputs[i].close();
+        }
+        outputs = null;
+        for (int i = PARTITIONS - 1; i >= 0; i--) {
+            if (sizes[i] == 0) {
+                SpillFiles.delete(outputFiles[i]);
+            } else {
+                partitions.addFirst(new Partition(new SpillFiles.Run(outputFiles[i], sizes[i]), depth));
+            }
+        }
+        outputFiles = null;
+    }
+
+    private void openInput(File file) throws IOException {
+        inputFile = file;
+        input = SpillFiles.openInput(file, compress);
+    }
+
+    private void closeInput() throws IOException {
+        input.close();
+        input = null;
+        SpillFiles.delete(inputFile);
+        inputFile = null;
+    }
+
+    private static int partition(Object key, int depth) {
+        // the high bits of the product depend on all bits of the hash code
+        final int hash = key.hashCode() * 0x9E3779B9;
+        return (hash >>> (Integer.SIZE - (depth + 1) * PARTITION_BITS)) & (PARTITIONS - 1);
+    }
+
+    /**
+     * Closes and deletes temporary files.
+     */
+    @Override
+    public void close() {
+        if (outputs != null) {
+            for (int i = 0; i < PARTITIONS; i++) {
+                SpillFiles.closeQuietly(outputs[i]);
+                SpillFiles.delete(outputFiles[i]);
+            }
+            outputs = null;
+            outputFiles = null;
+        }
+        SpillFiles.closeQuietly(input);
+        SpillFiles.delete(inputFile);
+        input = null;
+        inputFile = null;
+        for (Partition partition : partitions) {
+            SpillFiles.delete(partition.run.file);
+        }
+        partitions.clear();
+        if (groups == null) {
+            isInit = true;
+            groups = new HashMap<K, A>().entrySet().iterator();
+        }
+    }
+
+    private static final class Partition {
+
+        final SpillFiles.Run run;
+        final int depth;
+
+        Partition(SpillFiles.Run run, int depth) {
+            this.run = run;
+            this.depth = depth;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.Serializer;
+import com.annimon.stream.internal.SpillFiles;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import com.landawn.abacus.exception.UncheckedIOException;
+import com.landawn.abacus.util.function.Consumer;
+
+/**
+ * Sorts elements that may not fit in memory.
+ *
+ * <p>Elements are sorted in runs of at most {@code maxInMemory} elements,
+ * each run is written to a temporary file with the serializer, and the runs
+ * are merged lazily as the sorted elements are requested. Input that fits in one run
+ * is sorted in memory. Temporary files are deleted once all elements
+ * are read or the iterator is closed.
+ *
+ * <p>The sort is stable: runs hold consecutive parts of the input,
+ * and equal heads are taken from the earlier run first.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjExternalSorted<T> extends LsaExtIterator<T> implements Closeable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Iterator<? extends T> iterator;
+    private final Comparator<? super T> comparator;
+    private final int maxInMemory;
+    private final Serializer<T> serializer;
+
+    // the current run, or the whole input if it fits in memory
+    private Object[] array;
+    private int index, length;
+
+    // spilled runs and the state of their merge
+    private List<SpillFiles.Run> runs;
+    private DataInputStream[] inputs;
+    private long[] remaining;
+    private Object[] heads;
+    private int[] heap;
+    private int heapSize;
+    private long mergeRemaining;
+
+    public ObjExternalSorted(Iterator<? extends T> iterator, Comparator<? super T> comparator,
+                             int maxInMemory, Serializer<T> serializer) {
+        this.iterator = iterator;
+        this.comparator = comparator;
+        this.maxInMemory = maxInMemory;
+        this.serializer = serializer;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        try {
+            if (!isInit) {
+                init();
+            }
+            if (runs == null) {
+                hasNext = index < length;
+                if (hasNext) {
+                    next = (T) array[index++];
+                }
+                return;
+            }
+            hasNext = heapSize > 0;
+            if (hasNext) {
+                next = poll();
+                mergeRemaining--;
+            } else {
+                close();
+            }
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        } catch (UncheckedIOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void init() throws IOException {
+        final long size = Operators.getExactSizeIfKnown(iterator);
+        array = new Object[(size >= 0 && size <= maxInMemory)
+                ? (int) size
+                : Math.min(maxInMemory, INITIAL_CAPACITY)];
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                if (length == array.length) {
+                    if (length < maxInMemory) {
+                        array = Arrays.copyOf(array, (int) Math.min((long) length << 1, maxInMemory));
+                    } else {
+                        spill();
+                    }
+                }
+                array[length++] = value;
+            }
+        });
+        if (runs == null) {
+            sortArray();
+            return;
+        }
+        if (length > 0) {
+            spill();
+        }
+        array = null;
+        while (runs.size() > SpillFiles.MAX_MERGE_WIDTH) {
+            mergePass();
+        }
+        mergeRemaining = 0;
+        for (SpillFiles.Run run : runs) {
+            mergeRemaining += run.size;
+        }
+        openMerge(runs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortArray() {
+        Arrays.sort((T[]) array, 0, length, comparator);
+    }
+
+    /**
+     * Sorts buffered elements and writes them to a new run.
+     */
+    @SuppressWarnings("unchecked")
+    private void spill() {
+        sortArray();
+        if (runs == null) {
+            runs = new ArrayList<SpillFiles.Run>();
+        }
+        try {
+            final File file = SpillFiles.create();
+            runs.add(new SpillFiles.Run(file, length));
+            final DataOutputStream output = SpillFiles.openOutput(file);
+            try {
+                for (int i = 0; i < length; i++) {
+                    serializer.write(output, (T) array[i]);
+                    array[i] = null;
+                }
+            } finally {
+                output.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        length = 0;
+    }
+
+    /**
+     * Merges groups of consecutive runs, so that fewer files are read at once.
+     */
+    private void mergePass() throws IOException {
+        final List<SpillFiles.Run> merged = new ArrayList<SpillFiles.Run>();
+        try {
+            final int count = runs.size();
+            for (int from = 0; from < count; from += SpillFiles.MAX_MERGE_WIDTH) {
+                final List<SpillFiles.Run> group = runs.subList(from, Math.min(from + SpillFiles.MAX_MERGE_WIDTH, count));
+                if (group.size() == 1) {
+                    merged.add(group.get(0));
+                    continue;
+                }
+                long size = 0;
+                final File file = SpillFiles.create();
+                merged.add(new SpillFiles.Run(file, 0));
+                final DataOutputStream output = SpillFiles.openOutput(file);
+                try {
+                    openMerge(group);
+                    while (heapSize > 0) {
+                        serializer.write(output, poll());
+                        size++;
+                    }
+                } finally {
+                    output.close();
+                    closeInputs();
+                }
+                merged.set(merged.size() - 1, new SpillFiles.Run(file, size));
+                SpillFiles.delete(group);
+            }
+        } catch (IOException e) {
+            SpillFiles.delete(merged);
+            throw e;
+        }
+        runs = merged;
+    }
+
+    private void openMerge(List<SpillFiles.Run> group) throws IOException {
+        final int count = group.size();
+        inputs = new DataInputStream[count];
+        remaining = new long[count];
+        heads = new Object[count];
+        heap = new int[count];
+        heapSize = 0;
+        for (int i = 0; i < count; i++) {
+            final SpillFiles.Run run = group.get(i);
+            inputs[i] = SpillFiles.openInput(run.file);
+            remaining[i] = run.size;
+            if (remaining[i] > 0) {
+                heads[i] = serializer.read(inputs[i]);
+                remaining[i]--;
+                heap[heapSize++] = i;
+            }
+        }
+        for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    /**
+     * Removes the least head of the merged runs and reads the next element of its run.
+     */
+    @SuppressWarnings("unchecked")
+    private T poll() throws IOException {
+        final int run = heap[0];
+        final T result = (T) heads[run];
+        if (remaining[run] > 0) {
+            heads[run] = serializer.read(inputs[run]);
+            remaining[run]--;
+        } else {
+            inputs[run].close();
+            inputs[run] = null;
+            heads[run] = null;
+            heap[0] = heap[--heapSize];
+        }
+        if (heapSize > 1) {
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftDown(int i) {
+        final int run = heap[i];
+        while (true) {
+            final int left = (i << 1) + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            int least = left;
+            final int right = left + 1;
+            if (right < heapSize && less(heap[right], heap[left])) {
+                least = right;
+            }
+            if (!less(heap[least], run)) {
+                break;
+            }
+            heap[i] = heap[least];
+            i = least;
+        }
+        heap[i] = run;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean less(int run1, int run2) {
+        final int result = comparator.compare((T) heads[run1], (T) heads[run2]);
+        return result < 0 || (result == 0 && run1 < run2);
+    }
+
+    private void closeInputs() {
+        if (inputs != null) {
+            for (DataInputStream input : inputs) {
+                SpillFiles.closeQuietly(input);
+            }
+            inputs = null;
+        }
+        heapSize = 0;
+    }
+
+    /**
+     * Closes and deletes temporary files.
+     */
+    @Override
+    public void close() {
+        closeInputs();
+        if (runs != null) {
+            SpillFiles.delete(runs);
+            runs = new ArrayList<SpillFiles.Run>(0);
+        }
+        mergeRemaining = 0;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            return Operators.getExactSizeIfKnown(iterator);
+        }
+        if (!hasNext) {
+            return 0;
+        }
+        return ((runs == null) ? length - index : mergeRemaining) + 1;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Operators.estimateSize(iterator);
+        }
+        return getExactSizeIfKnown();
+    }
+}
@@ -1,10 +1,13 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Predicate;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaBaseIterator;
 
-public class ObjFilter<T> implements Iterator<T> {
+public class ObjFilter<T> extends LsaBaseIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final Predicate<? super T> predicate;
@@ -49,7 +52,82 @@ public class ObjFilter<T> implements Iterator<T> {
     }
 
     @Override
-    public void remove() {
-        throw new UnsupportedOperationException("remove not supported");
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return;
+            }
+            action.accept(next);
+        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                if (predicate.test(t)) {
+                    action.accept(t);
+                }
+            }
+        });
+        hasNextEvaluated = true;
+        hasNext = false;
+        next = null;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return super.tryAdvance(action);
+        }
+        final FilteringSink sink = new FilteringSink(action);
+        do {
+            if (!Operators.tryAdvance(iterator, sink)) {
+                return false;
+            }
+        } while (!sink.passed);
+        return true;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (hasNextEvaluated) {
+            if (!hasNext) {
+                return 0;
+            }
+            // the found element is already taken from the upstream
+            return Operators.addSizes(Operators.estimateSize(iterator), 1);
+        }
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjFilter<T> trySplit() {
+        if (hasNextEvaluated) {
+            // the found element is already taken from the upstream
+            return null;
+        }
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjFilter<T>(prefix, predicate);
+    }
+
+    /**
+     * Forwards the values which pass the predicate and records whether the
+     * last one passed. A new sink is created for each {@code tryAdvance} call.
+     */
+    private final class FilteringSink implements Consumer<T> {
+
+        private final Consumer<? super T> action;
+        private boolean passed;
+
+        FilteringSink(Consumer<? super T> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void accept(T t) {
+            passed = predicate.test(t);
+            if (passed) {
+                action.accept(t);
+            }
+        }
     }
 }
@@ -0,0 +1,93 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaBaseIterator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Replaces each element with the elements of the mapped array,
+ * optionally combined with the element they are mapped from.
+ * A {@code null} array is skipped.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the inner elements
+ * @param <R> the type of the result elements
+ */
+public class ObjFlatArray<T, U, R> extends LsaBaseIterator<R> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends U[]> mapper;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private T element;
+    private U[] array;
+    private int index;
+
+    /**
+     * @param combiner  the function combining the element with each inner element,
+     *                  or {@code null} to take the inner elements as they are
+     */
+    public ObjFlatArray(Iterator<? extends T> iterator,
+                        Function<? super T, ? extends U[]> mapper,
+                        BiFunction<? super T, ? super U, ? extends R> combiner) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (array == null || index >= array.length) {
+            if (!iterator.hasNext()) {
+                element = null;
+                array = null;
+                return false;
+            }
+            element = iterator.next();
+            array = mapper.apply(element);
+            index = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return combine(element, array[index++]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private R combine(T element, U value) {
+        return (combiner == null) ? (R) value : combiner.apply(element, value);
+    }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        if (array != null) {
+            final U[] array = this.array;
+            int i = index;
+            this.array = null;
+            for (; i < array.length; i++) {
+                action.accept(combine(element, array[i]));
+            }
+        }
+        element = null;
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final U[] array = mapper.apply(t);
+                if (array == null) {
+                    return;
+                }
+                for (U value : array) {
+                    action.accept(combine(t, value));
+                }
+            }
+        });
+    }
+}
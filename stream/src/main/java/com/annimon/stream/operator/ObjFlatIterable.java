@@ -0,0 +1,138 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaBaseIterator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Replaces each element with the elements of the mapped {@code Iterable},
+ * optionally combined with the element they are mapped from.
+ *
+ * <p>Lists supported by {@link ObjList} are read by index, other iterables
+ * by their iterators, so no stream is created for an element.
+ * A {@code null} iterable is skipped.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the inner elements
+ * @param <R> the type of the result elements
+ */
+public class ObjFlatIterable<T, U, R> extends LsaBaseIterator<R> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends Iterable<? extends U>> mapper;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private T element;
+    private List<? extends U> list;
+    private int index, size;
+    private Iterator<? extends U> inner;
+
+    /**
+     * @param combiner  the function combining the element with each inner element,
+     *                  or {@code null} to take the inner elements as they are
+     */
+    public ObjFlatIterable(Iterator<? extends T> iterator,
+                           Function<? super T, ? extends Iterable<? extends U>> mapper,
+                           BiFunction<? super T, ? super U, ? extends R> combiner) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        this.combiner = combiner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (true) {
+            if (list != null) {
+                if (index < size) {
+                    return true;
+                }
+                list = null;
+            } else if (inner != null) {
+                if (inner.hasNext()) {
+                    return true;
+                }
+                inner = null;
+            }
+            if (!iterator.hasNext()) {
+                element = null;
+                return false;
+            }
+            element = iterator.next();
+            final Iterable<? extends U> iterable = mapper.apply(element);
+            if (iterable != null && ObjList.isSupported(iterable)) {
+                list = (List<? extends U>) iterable;
+                index = 0;
+                size = list.size();
+            } else if (iterable != null) {
+                inner = iterable.iterator();
+            }
+        }
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (list == null) {
+            return combine(element, inner.next());
+        }
+        checkSize(list, size);
+        return combine(element, list.get(index++));
+    }
+
+    private static void checkSize(List<?> list, int expectedSize) {
+        // reading by index does not notice a modification, as the list iterator does
+        if (list.size() != expectedSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private R combine(T element, U value) {
+        return (combiner == null) ? (R) value : combiner.apply(element, value);
+    }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        if (list != null) {
+            final int end = size;
+            int i = index;
+            index = end;
+            for (; i < end; i++) {
+                action.accept(combine(element, list.get(i)));
+            }
+            checkSize(list, end);
+            list = null;
+        } else if (inner != null) {
+            while (inner.hasNext()) {
+                action.accept(combine(element, inner.next()));
+            }
+            inner = null;
+        }
+        element = null;
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final Iterable<? extends U> iterable = mapper.apply(t);
+                if (iterable != null && ObjList.isSupported(iterable)) {
+                    final List<? extends U> list = (List<? extends U>) iterable;
+                    final int size = list.size();
+                    for (int i = 0; i < size; i++) {
+                        action.accept(combine(t, list.get(i)));
+                    }
+                    checkSize(list, size);
+                } else if (iterable != null) {
+                    for (U value : iterable) {
+                        action.accept(combine(t, value));
+                    }
+                }
+            }
+        });
+    }
+}
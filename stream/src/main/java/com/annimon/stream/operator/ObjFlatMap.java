@@ -1,7 +1,9 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.Stream;
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.Iterator;
 
@@ -50,4 +52,34 @@ public class ObjFlatMap<T, R> extends LsaExtIterator<R> {
             innerStream = null;
         }
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        try {
+            Operators.forEachRemaining(inner, action);
+        } finally {
+            innerStream.close();
+            innerStream = null;
+        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final Stream<? extends R> result = mapper.apply(t);
+                if (result == null) {
+                    return;
+                }
+                try {
+                    Operators.forEachRemaining(result.iterator(), action);
+                } finally {
+                    result.close();
+                }
+            }
+        });
+        hasNext = false;
+        next = null;
+    }
 }
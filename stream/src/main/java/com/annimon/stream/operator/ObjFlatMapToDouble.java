@@ -1,7 +1,10 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.DoubleStream;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.Function;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
@@ -41,4 +44,23 @@ public class ObjFlatMapToDouble<T> extends PrimitiveExtIterator.OfDouble {
         }
         hasNext = false;
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        inner.forEachRemainingDouble(action);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final DoubleStream result = mapper.apply(t);
+                if (result != null) {
+                    result.iterator().forEachRemainingDouble(action);
+                }
+            }
+        });
+        hasNext = false;
+    }
 }
@@ -1,7 +1,10 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.IntStream;
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
@@ -40,4 +43,23 @@ public class ObjFlatMapToInt<T> extends PrimitiveExtIterator.OfInt {
         }
         hasNext = false;
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        inner.forEachRemainingInt(action);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final IntStream result = mapper.apply(t);
+                if (result != null) {
+                    result.iterator().forEachRemainingInt(action);
+                }
+            }
+        });
+        hasNext = false;
+    }
 }
@@ -1,7 +1,10 @@
 package com.annimon.stream.operator;
 
 import com.annimon.stream.LongStream;
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.LongConsumer;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveExtIterator;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
@@ -41,4 +44,23 @@ public class ObjFlatMapToLong<T> extends PrimitiveExtIterator.OfLong {
         }
         hasNext = false;
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        inner.forEachRemainingLong(action);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                final LongStream result = mapper.apply(t);
+                if (result != null) {
+                    result.iterator().forEachRemainingLong(action);
+                }
+            }
+        });
+        hasNext = false;
+    }
 }
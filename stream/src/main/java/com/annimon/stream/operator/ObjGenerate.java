@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.Supplier;
 import com.annimon.stream.iterator.LsaIterator;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjGenerate<T> extends LsaIterator<T> {
 
@@ -20,4 +21,10 @@ public class ObjGenerate<T> extends LsaIterator<T> {
     public T nextIteration() {
         return supplier.get();
     }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        action.accept(nextIteration());
+        return true;
+    }
 }
@@ -0,0 +1,103 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaIterator;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.Supplier;
+import com.landawn.abacus.util.stream.Collector;
+
+/**
+ * Groups elements by the classifier when the first group is requested.
+ * The container of each group is finished by the downstream collector
+ * when the group is returned.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ * @param <A> the intermediate accumulation type of the downstream collector
+ * @param <D> the result type of the downstream collector
+ */
+public class ObjGroupBy<T, K, A, D> extends LsaIterator<Map.Entry<K, D>> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final Collector<? super T, A, D> downstream;
+    private final Supplier<? extends Map<K, D>> mapFactory;
+    private Map<K, Object> map;
+    private Iterator<Map.Entry<K, A>> groups;
+    private int remaining;
+
+    public ObjGroupBy(Iterator<? extends T> iterator, Function<? super T, ? extends K> classifier,
+                      Collector<? super T, A, D> downstream, Supplier<? extends Map<K, D>> mapFactory) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        this.downstream = downstream;
+        this.mapFactory = mapFactory;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (groups == null) {
+            group();
+        }
+        return groups.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, D> nextIteration() {
+        final Map.Entry<K, A> group = groups.next();
+        remaining--;
+        if (downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)) {
+            return (Map.Entry<K, D>) (Map.Entry<K, ?>) group;
+        }
+        // the map holds finished values after the group is returned, as with Collectors.groupingBy;
+        // the entry is not written to, since maps such as ConcurrentSkipListMap return immutable entries
+        final K key = group.getKey();
+        final D value = downstream.finisher().apply(group.getValue());
+        map.put(key, value);
+        if (group.getValue() == value) {
+            // the entry is a view of the map
+            return (Map.Entry<K, D>) (Map.Entry<K, ?>) group;
+        }
+        return new AbstractMap.SimpleImmutableEntry<K, D>(key, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void group() {
+        final Map<K, A> map = (Map<K, A>) mapFactory.get();
+        this.map = (Map<K, Object>) map;
+        final Supplier<A> supplier = downstream.supplier();
+        final BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                final K key = N.requireNonNull(classifier.apply(value), "element cannot be mapped to a null key");
+                A container = map.get(key);
+                if (container == null) {
+                    container = supplier.get();
+                    map.put(key, container);
+                }
+                ((BiConsumer<A, T>) accumulator).accept(container, value);
+            }
+        });
+        remaining = map.size();
+        groups = map.entrySet().iterator();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return (groups == null) ? -1 : remaining;
+    }
+
+    @Override
+    public long estimateSize() {
+        // there are at most as many groups as elements
+        return (groups == null) ? Operators.estimateSize(iterator) : remaining;
+    }
+}
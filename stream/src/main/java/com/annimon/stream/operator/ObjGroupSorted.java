@@ -0,0 +1,69 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaIterator;
+import java.util.AbstractMap;
+import java.util.Iterator;
+import java.util.Map;
+import com.landawn.abacus.util.N;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.stream.Collector;
+
+/**
+ * Groups runs of consecutive elements with equal keys. Each group is
+ * reduced by the downstream collector and returned as soon as the key changes,
+ * so only the current group is kept in memory.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ * @param <A> the intermediate accumulation type of the downstream collector
+ * @param <D> the result type of the downstream collector
+ */
+public class ObjGroupSorted<T, K, A, D> extends LsaIterator<Map.Entry<K, D>> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends K> classifier;
+    private final Collector<? super T, A, D> downstream;
+    private T next;
+    private K nextKey;
+    private boolean peekedNext;
+
+    public ObjGroupSorted(Iterator<? extends T> iterator, Function<? super T, ? extends K> classifier,
+                          Collector<? super T, A, D> downstream) {
+        this.iterator = iterator;
+        this.classifier = classifier;
+        this.downstream = downstream;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return peekedNext || iterator.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map.Entry<K, D> nextIteration() {
+        if (!peekedNext) {
+            peek();
+        }
+        final K key = nextKey;
+        final BiConsumer<A, T> accumulator = (BiConsumer<A, T>) downstream.accumulator();
+        final A container = downstream.supplier().get();
+        do {
+            accumulator.accept(container, next);
+            peekedNext = false;
+            next = null;
+        } while (iterator.hasNext() && key.equals(peek()));
+        final D result = downstream.characteristics().contains(Collector.Characteristics.IDENTITY_FINISH)
+                ? (D) container
+                : downstream.finisher().apply(container);
+        return new AbstractMap.SimpleImmutableEntry<K, D>(key, result);
+    }
+
+    private K peek() {
+        next = iterator.next();
+        nextKey = N.requireNonNull(classifier.apply(next), "element cannot be mapped to a null key");
+        peekedNext = true;
+        return nextKey;
+    }
+}
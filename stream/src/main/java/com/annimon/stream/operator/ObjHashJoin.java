@@ -0,0 +1,146 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Joins two iterators on equal keys with a hash table.
+ *
+ * <p>The table is built from one side when the first element is requested,
+ * the other side is streamed through it. An inner join builds the table from
+ * the smaller side if both sizes are known, otherwise from the other iterator.
+ * An outer join always builds it from the other iterator and combines
+ * unmatched elements with {@code null}. Elements with {@code null} keys never match.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the elements of the other iterator
+ * @param <K> the type of the keys
+ * @param <R> the type of the result
+ */
+public class ObjHashJoin<T, U, K, R> extends LsaExtIterator<R> {
+
+    private final Iterator<? extends T> iterator;
+    private final Iterator<? extends U> other;
+    private final Function<? super T, ? extends K> keyMapper;
+    private final Function<? super U, ? extends K> otherKeyMapper;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private final boolean outer;
+
+    // whether the table holds the elements of this iterator and the other one is probed
+    private boolean buildLeft;
+    private Map<K, Object> table;
+    private Object probe;
+    private Matches matches;
+    private int matchIndex;
+
+    public ObjHashJoin(Iterator<? extends T> iterator, Iterator<? extends U> other,
+                       Function<? super T, ? extends K> keyMapper, Function<? super U, ? extends K> otherKeyMapper,
+                       BiFunction<? super T, ? super U, ? extends R> combiner, boolean outer) {
+        this.iterator = iterator;
+        this.other = other;
+        this.keyMapper = keyMapper;
+        this.otherKeyMapper = otherKeyMapper;
+        this.combiner = combiner;
+        this.outer = outer;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            build();
+        }
+        final Iterator<?> probes = buildLeft ? other : iterator;
+        while (true) {
+            if (matches != null) {
+                if (matchIndex < matches.size()) {
+                    next = combine(matches.get(matchIndex++));
+                    hasNext = true;
+                    return;
+                }
+                matches = null;
+            }
+            if (!probes.hasNext()) {
+                hasNext = false;
+                probe = null;
+                table = null;
+                return;
+            }
+            probe = probes.next();
+            final K key = probeKey();
+            final Object match = (key == null) ? null : table.get(key);
+            if (match instanceof Matches) {
+                matches = (Matches) match;
+                matchIndex = 0;
+            } else if (match != null) {
+                next = combine(match);
+                hasNext = true;
+                return;
+            } else if (outer) {
+                next = combine(null);
+                hasNext = true;
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void build() {
+        if (!outer) {
+            final long size = Operators.getExactSizeIfKnown(iterator);
+            final long otherSize = Operators.getExactSizeIfKnown(other);
+            buildLeft = size >= 0 && otherSize >= 0 && size < otherSize;
+        }
+        table = new HashMap<K, Object>();
+        final Iterator<?> builds = buildLeft ? iterator : other;
+        while (builds.hasNext()) {
+            final Object value = builds.next();
+            final K key = buildLeft
+                    ? keyMapper.apply((T) value)
+                    : otherKeyMapper.apply((U) value);
+            if (key == null) {
+                continue;
+            }
+            final Object previous = table.put(key, value);
+            if (previous instanceof Matches) {
+                ((Matches) previous).add(value);
+                table.put(key, previous);
+            } else if (previous != null) {
+                final Matches list = new Matches();
+                list.add(previous);
+                list.add(value);
+                table.put(key, list);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private K probeKey() {
+        return buildLeft
+                ? otherKeyMapper.apply((U) probe)
+                : keyMapper.apply((T) probe);
+    }
+
+    @SuppressWarnings("unchecked")
+    private R combine(Object match) {
+        return buildLeft
+                ? combiner.apply((T) match, (U) probe)
+                : combiner.apply((T) probe, (U) match);
+    }
+
+    /**
+     * Elements with the same key, a single element is kept in the table as is.
+     */
+    private static final class Matches extends ArrayList<Object> {
+        private static final long serialVersionUID = 1L;
+
+        Matches() {
+            super(2);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Returns elements whose key is present (or absent, for an anti join)
+ * among the keys of the other iterator. The keys of the other iterator
+ * are collected to a set when the first element is requested.
+ * Elements with {@code null} keys never match.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the elements of the other iterator
+ * @param <K> the type of the keys
+ */
+public class ObjHashSemiJoin<T, U, K> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Iterator<? extends U> other;
+    private final Function<? super T, ? extends K> keyMapper;
+    private final Function<? super U, ? extends K> otherKeyMapper;
+    private final boolean anti;
+    private Set<K> keys;
+
+    public ObjHashSemiJoin(Iterator<? extends T> iterator, Iterator<? extends U> other,
+                           Function<? super T, ? extends K> keyMapper, Function<? super U, ? extends K> otherKeyMapper,
+                           boolean anti) {
+        this.iterator = iterator;
+        this.other = other;
+        this.keyMapper = keyMapper;
+        this.otherKeyMapper = otherKeyMapper;
+        this.anti = anti;
+    }
+
+    @Override
+    protected void nextIteration() {
+        if (!isInit) {
+            keys = new HashSet<K>();
+            while (other.hasNext()) {
+                final K key = otherKeyMapper.apply(other.next());
+                if (key != null) {
+                    keys.add(key);
+                }
+            }
+        }
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.next();
+            final K key = keyMapper.apply(next);
+            if ((key != null && keys.contains(key)) != anti) {
+                return;
+            }
+        }
+        keys = null;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Operators.estimateSize(iterator);
+        }
+        // the found element is already taken from the upstream
+        return hasNext ? Operators.addSizes(Operators.estimateSize(iterator), 1) : 0;
+    }
+}
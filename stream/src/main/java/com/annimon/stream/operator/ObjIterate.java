@@ -2,6 +2,7 @@ package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.UnaryOperator;
 import com.annimon.stream.iterator.LsaIterator;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjIterate<T> extends LsaIterator<T> {
 
@@ -24,4 +25,10 @@ public class ObjIterate<T> extends LsaIterator<T> {
         current = op.apply(current);
         return old;
     }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        action.accept(nextIteration());
+        return true;
+    }
 }
@@ -1,7 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
 import java.util.Iterator;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjLimit<T> extends LsaIterator<T> {
 
@@ -25,4 +27,33 @@ public class ObjLimit<T> extends LsaIterator<T> {
         index++;
         return iterator.next();
     }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        // limit is short-circuiting, so the upstream is pulled
+        while (index < maxSize && iterator.hasNext()) {
+            index++;
+            action.accept(iterator.next());
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= maxSize || !Operators.tryAdvance(iterator, action)) {
+            return false;
+        }
+        index++;
+        return true;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.getExactSizeIfKnown(iterator);
+        return size < 0 ? -1 : Math.min(size, maxSize - index);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(Operators.estimateSize(iterator), maxSize - index);
+    }
 }
@@ -0,0 +1,174 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaBaseIterator;
+import com.annimon.stream.iterator.RandomAccessIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.Consumer;
+
+/**
+ * Iterates an {@link ArrayList} or an {@link Arrays#asList(Object[])} list,
+ * keeping the position as an index, so skipping, limiting and counting
+ * take constant time. The size of the list is read when the iteration starts.
+ *
+ * <p>The elements are read by a list iterator started at the current index,
+ * so a modification of the list during the iteration fails fast,
+ * as with the iterator of the list.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjList<T> extends LsaBaseIterator<T> implements RandomAccessIterator.OfObj<T> {
+
+    private static final Class<?> ARRAYS_LIST_CLASS = Arrays.asList().getClass();
+
+    /**
+     * Checks that the list can be iterated by {@code ObjList}.
+     *
+     * <p>Other {@link java.util.RandomAccess} lists are not supported,
+     * as their iterators may differ from indexed access: a
+     * {@link java.util.concurrent.CopyOnWriteArrayList} iterates a snapshot,
+     * a synchronized list may be changed concurrently.
+     *
+     * @param iterable  the iterable to check
+     * @return {@code true} if the iterable is an {@code ArrayList}
+     *         or a list returned by {@code Arrays.asList}
+     */
+    public static boolean isSupported(Iterable<?> iterable) {
+        final Class<?> type = iterable.getClass();
+        return type == ArrayList.class || type == ARRAYS_LIST_CLASS;
+    }
+
+    private final List<? extends T> list;
+    private long index;
+    private long end;
+    private boolean isInit;
+    private ListIterator<? extends T> iterator;
+    // the size of the list when the iterator was created
+    private int expectedSize;
+
+    public ObjList(List<? extends T> list) {
+        this.list = list;
+        index = 0;
+        end = Long.MAX_VALUE;
+    }
+
+    private ObjList(List<? extends T> list, long index, long end) {
+        this.list = list;
+        this.index = index;
+        this.end = end;
+        isInit = true;
+    }
+
+    private void ensureInit() {
+        if (!isInit) {
+            end = Math.min(end, list.size());
+            index = Math.min(index, end);
+            isInit = true;
+        }
+    }
+
+    private ListIterator<? extends T> iterator() {
+        if (iterator == null) {
+            ensureInit();
+            expectedSize = list.size();
+            iterator = list.listIterator((int) index);
+        }
+        return iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        ensureInit();
+        return index < end;
+    }
+
+    @Override
+    public T next() {
+        ensureInit();
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        final T next = iterator().next();
+        index++;
+        return next;
+    }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        final ListIterator<? extends T> iterator = iterator();
+        final long end = this.end;
+        for (long i = index; i < end; i++) {
+            action.accept(iterator.next());
+        }
+        index = end;
+        // the iterator only checks for a modification when it moves
+        if (list.size() != expectedSize) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return false;
+        }
+        action.accept(next());
+        return true;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        ensureInit();
+        return end - index;
+    }
+
+    @Override
+    public void skip(long n) {
+        // before the start of iteration the bounds are kept unclamped
+        final long newIndex = index + n;
+        index = (newIndex < 0 || newIndex > end) ? end : newIndex;
+        // the iteration continues from the new index
+        iterator = null;
+    }
+
+    @Override
+    public void limit(long maxSize) {
+        final long newEnd = index + maxSize;
+        if (newEnd >= 0 && newEnd < end) {
+            end = newEnd;
+        }
+    }
+
+    @Override
+    public T get(long index) {
+        ensureInit();
+        return list.get((int) (this.index + index));
+    }
+
+    @Override
+    public ObjList<T> trySplit() {
+        ensureInit();
+        final long mid = (index + end) >>> 1;
+        if (iterator != null || mid == index) {
+            return null;
+        }
+        final ObjList<T> prefix = new ObjList<T>(list, index, mid);
+        index = mid;
+        return prefix;
+    }
+
+    @Override
+    public void remove() {
+        if (iterator == null) {
+            throw new IllegalStateException();
+        }
+        iterator.remove();
+        expectedSize--;
+        index--;
+        end--;
+    }
+}
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
 import com.landawn.abacus.util.function.Function;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
 import java.util.Iterator;
 
@@ -23,4 +25,40 @@ public class ObjMap<T, R> extends LsaIterator<R> {
     public R nextIteration() {
         return mapper.apply(iterator.next());
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super R> action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.apply(t));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        return Operators.tryAdvance(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.apply(t));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.getExactSizeIfKnown(iterator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjMap<T, R> trySplit() {
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjMap<T, R>(prefix, mapper);
+    }
 }
@@ -0,0 +1,78 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.IntConsumer;
+
+/**
+ * Replaces each element with the values the mapper passes to the sink.
+ *
+ * <p>The values of an element are collected in a reusable buffer,
+ * internal iteration passes them downstream directly.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjMapMultiToInt<T> extends PrimitiveIterator.OfInt {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Iterator<? extends T> iterator;
+    private final BiConsumer<? super T, ? super IntConsumer> mapper;
+    private int[] buffer;
+    private int index, size;
+
+    private final IntConsumer sink = new IntConsumer() {
+        @Override
+        public void accept(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size << 1);
+            }
+            buffer[size++] = value;
+        }
+    };
+
+    public ObjMapMultiToInt(Iterator<? extends T> iterator, BiConsumer<? super T, ? super IntConsumer> mapper) {
+        this.iterator = iterator;
+        this.mapper = mapper;
+        buffer = new int[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index == size) {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            index = 0;
+            size = 0;
+            mapper.accept(iterator.next(), sink);
+        }
+        return true;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer[index++];
+    }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        while (index < size) {
+            action.accept(buffer[index++]);
+        }
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                mapper.accept(t, action);
+            }
+        });
+    }
+}
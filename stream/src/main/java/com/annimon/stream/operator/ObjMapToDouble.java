@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
 import com.landawn.abacus.util.function.ToDoubleFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 
@@ -23,4 +26,40 @@ public class ObjMapToDouble<T> extends PrimitiveIterator.OfDouble {
     public double nextDouble() {
         return mapper.applyAsDouble(iterator.next());
     }
+
+    @Override
+    public void forEachRemainingDouble(final DoubleConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsDouble(t));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceDouble(final DoubleConsumer action) {
+        return Operators.tryAdvance(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsDouble(t));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.getExactSizeIfKnown(iterator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjMapToDouble<T> trySplit() {
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjMapToDouble<T>(prefix, mapper);
+    }
 }
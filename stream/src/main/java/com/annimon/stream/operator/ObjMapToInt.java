@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.IntConsumer;
 import com.landawn.abacus.util.function.ToIntFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 
@@ -23,4 +26,40 @@ public class ObjMapToInt<T> extends PrimitiveIterator.OfInt {
     public int nextInt() {
         return mapper.applyAsInt(iterator.next());
     }
+
+    @Override
+    public void forEachRemainingInt(final IntConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsInt(t));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceInt(final IntConsumer action) {
+        return Operators.tryAdvance(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsInt(t));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.getExactSizeIfKnown(iterator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjMapToInt<T> trySplit() {
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjMapToInt<T>(prefix, mapper);
+    }
 }
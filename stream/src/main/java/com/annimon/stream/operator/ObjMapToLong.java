@@ -1,6 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.LongConsumer;
 import com.landawn.abacus.util.function.ToLongFunction;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.PrimitiveIterator;
 import java.util.Iterator;
 
@@ -23,4 +26,40 @@ public class ObjMapToLong<T> extends PrimitiveIterator.OfLong {
     public long nextLong() {
         return mapper.applyAsLong(iterator.next());
     }
+
+    @Override
+    public void forEachRemainingLong(final LongConsumer action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsLong(t));
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvanceLong(final LongConsumer action) {
+        return Operators.tryAdvance(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                action.accept(mapper.applyAsLong(t));
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.getExactSizeIfKnown(iterator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjMapToLong<T> trySplit() {
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjMapToLong<T>(prefix, mapper);
+    }
 }
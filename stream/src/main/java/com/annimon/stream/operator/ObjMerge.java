@@ -3,8 +3,6 @@ package com.annimon.stream.operator;
 import com.landawn.abacus.util.function.BiFunction;
 import com.annimon.stream.iterator.LsaIterator;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.Queue;
 
 public class ObjMerge<T> extends LsaIterator<T> {
 
@@ -15,35 +13,38 @@ public class ObjMerge<T> extends LsaIterator<T> {
     private final Iterator<? extends T> iterator1;
     private final Iterator<? extends T> iterator2;
     private final BiFunction<? super T, ? super T, MergeResult> selector;
-    private final Queue<T> buffer1;
-    private final Queue<T> buffer2;
+    // the element that was not selected, at most one of them is pending
+    private T pending1, pending2;
+    private boolean hasPending1, hasPending2;
 
     public ObjMerge(Iterator<? extends T> iterator1, Iterator<? extends T> iterator2,
                     BiFunction<? super T, ? super T, MergeResult> selector) {
         this.iterator1 = iterator1;
         this.iterator2 = iterator2;
         this.selector = selector;
-        buffer1 = new LinkedList<T>();
-        buffer2 = new LinkedList<T>();
     }
 
     @Override
     public boolean hasNext() {
-        return !buffer1.isEmpty() || !buffer2.isEmpty()
+        return hasPending1 || hasPending2
                 || iterator1.hasNext() || iterator2.hasNext();
     }
 
     @Override
     public T nextIteration() {
-        if (!buffer1.isEmpty()) {
-            final T v1 = buffer1.poll();
+        if (hasPending1) {
+            final T v1 = pending1;
+            hasPending1 = false;
+            pending1 = null;
             if (iterator2.hasNext()) {
                 return select(v1, iterator2.next());
             }
             return v1;
         }
-        if (!buffer2.isEmpty()) {
-            final T v2 = buffer2.poll();
+        if (hasPending2) {
+            final T v2 = pending2;
+            hasPending2 = false;
+            pending2 = null;
             if (iterator1.hasNext()) {
                 return select(iterator1.next(), v2);
             }
@@ -64,12 +65,14 @@ public class ObjMerge<T> extends LsaIterator<T> {
         final MergeResult result = selector.apply(v1, v2);
         switch (result) {
             case TAKE_FIRST:
-                buffer2.add(v2);
+                pending2 = v2;
+                hasPending2 = true;
                 return v1;
 
             case TAKE_SECOND:
             default:
-                buffer1.add(v1);
+                pending1 = v1;
+                hasPending1 = true;
                 return v2;
         }
     }
@@ -0,0 +1,122 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Joins two iterators sorted by key in one pass.
+ *
+ * <p>Only the current run of elements of the other iterator with equal keys
+ * is kept in memory. An outer join combines unmatched elements with {@code null}.
+ * Elements with {@code null} keys never match.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the elements of the other iterator
+ * @param <K> the type of the keys
+ * @param <R> the type of the result
+ */
+public class ObjMergeJoin<T, U, K, R> extends LsaExtIterator<R> {
+
+    private final Iterator<? extends T> iterator;
+    private final Iterator<? extends U> other;
+    private final Function<? super T, ? extends K> keyMapper;
+    private final Function<? super U, ? extends K> otherKeyMapper;
+    private final Comparator<? super K> comparator;
+    private final BiFunction<? super T, ? super U, ? extends R> combiner;
+    private final boolean outer;
+
+    private T current;
+    // elements of the other iterator with the key runKey
+    private final List<U> run;
+    private K runKey;
+    private int runIndex, runSize;
+    // the next element of the other iterator with non-null key
+    private U otherNext;
+    private K otherKey;
+    private boolean hasOtherNext;
+
+    public ObjMergeJoin(Iterator<? extends T> iterator, Iterator<? extends U> other,
+                        Function<? super T, ? extends K> keyMapper, Function<? super U, ? extends K> otherKeyMapper,
+                        Comparator<? super K> comparator,
+                        BiFunction<? super T, ? super U, ? extends R> combiner, boolean outer) {
+        this.iterator = iterator;
+        this.other = other;
+        this.keyMapper = keyMapper;
+        this.otherKeyMapper = otherKeyMapper;
+        this.comparator = comparator;
+        this.combiner = combiner;
+        this.outer = outer;
+        run = new ArrayList<U>();
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (true) {
+            if (runIndex < runSize) {
+                next = combiner.apply(current, run.get(runIndex++));
+                hasNext = true;
+                return;
+            }
+            if (!iterator.hasNext()) {
+                hasNext = false;
+                current = null;
+                run.clear();
+                return;
+            }
+            current = iterator.next();
+            final K key = keyMapper.apply(current);
+            runIndex = 0;
+            runSize = (key == null) ? 0 : seek(key);
+            if (runSize == 0 && outer) {
+                next = combiner.apply(current, null);
+                hasNext = true;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Moves the run to the elements of the other iterator with the given key.
+     *
+     * @return the number of elements with the key
+     */
+    private int seek(K key) {
+        if (runKey != null) {
+            final int result = comparator.compare(key, runKey);
+            if (result == 0) {
+                return run.size();
+            }
+            if (result < 0) {
+                return 0;
+            }
+            run.clear();
+            runKey = null;
+        }
+        while (peekOther() && comparator.compare(otherKey, key) < 0) {
+            hasOtherNext = false;
+        }
+        if (!hasOtherNext || comparator.compare(otherKey, key) > 0) {
+            return 0;
+        }
+        runKey = otherKey;
+        do {
+            run.add(otherNext);
+            hasOtherNext = false;
+        } while (peekOther() && comparator.compare(otherKey, runKey) == 0);
+        return run.size();
+    }
+
+    private boolean peekOther() {
+        while (!hasOtherNext && other.hasNext()) {
+            otherNext = other.next();
+            otherKey = otherKeyMapper.apply(otherNext);
+            hasOtherNext = otherKey != null;
+        }
+        return hasOtherNext;
+    }
+}
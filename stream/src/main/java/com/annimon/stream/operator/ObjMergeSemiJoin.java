@@ -0,0 +1,75 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Comparator;
+import java.util.Iterator;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Returns elements whose key is present (or absent, for an anti join)
+ * among the keys of the other iterator, both iterators are sorted by key.
+ * Only the current key of the other iterator is kept.
+ * Elements with {@code null} keys never match.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the elements of the other iterator
+ * @param <K> the type of the keys
+ */
+public class ObjMergeSemiJoin<T, U, K> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Iterator<? extends U> other;
+    private final Function<? super T, ? extends K> keyMapper;
+    private final Function<? super U, ? extends K> otherKeyMapper;
+    private final Comparator<? super K> comparator;
+    private final boolean anti;
+    private K otherKey;
+
+    public ObjMergeSemiJoin(Iterator<? extends T> iterator, Iterator<? extends U> other,
+                            Function<? super T, ? extends K> keyMapper, Function<? super U, ? extends K> otherKeyMapper,
+                            Comparator<? super K> comparator, boolean anti) {
+        this.iterator = iterator;
+        this.other = other;
+        this.keyMapper = keyMapper;
+        this.otherKeyMapper = otherKeyMapper;
+        this.comparator = comparator;
+        this.anti = anti;
+    }
+
+    @Override
+    protected void nextIteration() {
+        while (hasNext = iterator.hasNext()) {
+            next = iterator.next();
+            final K key = keyMapper.apply(next);
+            if ((key != null && seek(key)) != anti) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Skips keys of the other iterator less than the given key.
+     *
+     * @return {@code true} if the other iterator has the key
+     */
+    private boolean seek(K key) {
+        while (otherKey == null || comparator.compare(otherKey, key) < 0) {
+            if (!other.hasNext()) {
+                otherKey = null;
+                return false;
+            }
+            otherKey = otherKeyMapper.apply(other.next());
+        }
+        return comparator.compare(otherKey, key) == 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Operators.estimateSize(iterator);
+        }
+        // the found element is already taken from the upstream
+        return hasNext ? Operators.addSizes(Operators.estimateSize(iterator), 1) : 0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaIterator;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Merges sorted iterators into one sorted sequence.
+ *
+ * <p>Iterators are kept in a binary heap ordered by their current elements,
+ * so each element takes O(log n) comparisons for n iterators.
+ * Equal elements are taken from the iterators in the order of the list.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjMergeSorted<T> extends LsaIterator<T> {
+
+    private final Iterator<? extends T>[] iterators;
+    private final Comparator<? super T> comparator;
+    private final Object[] heads;
+    private final int[] heap;
+    private int heapSize;
+    private boolean isInit;
+
+    @SuppressWarnings("unchecked")
+    public ObjMergeSorted(List<? extends Iterator<? extends T>> iterators, Comparator<? super T> comparator) {
+        // a generic array cannot be created, all elements are Iterator<? extends T>
+        this.iterators = (Iterator<? extends T>[]) iterators.toArray(new Iterator<?>[iterators.size()]);
+        this.comparator = comparator;
+        heads = new Object[this.iterators.length];
+        heap = new int[this.iterators.length];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!isInit) {
+            for (int i = 0; i < iterators.length; i++) {
+                if (iterators[i].hasNext()) {
+                    heads[i] = iterators[i].next();
+                    heap[heapSize++] = i;
+                }
+            }
+            for (int i = (heapSize >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+            isInit = true;
+        }
+        return heapSize > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T nextIteration() {
+        final int index = heap[0];
+        final T result = (T) heads[index];
+        if (iterators[index].hasNext()) {
+            heads[index] = iterators[index].next();
+        } else {
+            heads[index] = null;
+            heap[0] = heap[--heapSize];
+        }
+        if (heapSize > 1) {
+            siftDown(0);
+        }
+        return result;
+    }
+
+    private void siftDown(int i) {
+        final int index = heap[i];
+        while (true) {
+            final int left = (i << 1) + 1;
+            if (left >= heapSize) {
+                break;
+            }
+            int least = left;
+            final int right = left + 1;
+            if (right < heapSize && less(heap[right], heap[left])) {
+                least = right;
+            }
+            if (!less(heap[least], index)) {
+                break;
+            }
+            heap[i] = heap[least];
+            i = least;
+        }
+        heap[i] = index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean less(int index1, int index2) {
+        final int result = comparator.compare((T) heads[index1], (T) heads[index2]);
+        return result < 0 || (result == 0 && index1 < index2);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long size = isInit ? heapSize : 0;
+        for (Iterator<? extends T> iterator : iterators) {
+            size = Operators.addSizes(size, Operators.getExactSizeIfKnown(iterator));
+        }
+        return size;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = isInit ? heapSize : 0;
+        for (Iterator<? extends T> iterator : iterators) {
+            size = Operators.addSizes(size, Operators.estimateSize(iterator));
+        }
+        return size;
+    }
+}
@@ -1,6 +1,7 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.Consumer;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
 import java.util.Iterator;
 
@@ -25,4 +26,42 @@ public class ObjPeek<T> extends LsaIterator<T> {
         action.accept(value);
         return value;
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                ObjPeek.this.action.accept(t);
+                action.accept(t);
+            }
+        });
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        return Operators.tryAdvance(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                ObjPeek.this.action.accept(t);
+                action.accept(t);
+            }
+        });
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return Operators.getExactSizeIfKnown(iterator);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Operators.estimateSize(iterator);
+    }
+
+    @Override
+    public ObjPeek<T> trySplit() {
+        final Iterator<? extends T> prefix = Operators.trySplit(iterator);
+        return (prefix == null) ? null : new ObjPeek<T>(prefix, action);
+    }
 }
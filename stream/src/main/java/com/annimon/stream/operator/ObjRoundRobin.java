@@ -0,0 +1,69 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaIterator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Takes one element from each iterator in turn, skipping exhausted iterators.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjRoundRobin<T> extends LsaIterator<T> {
+
+    // iterators that may have elements, in their original order
+    private final Iterator<? extends T>[] iterators;
+    private int size;
+    private int index;
+
+    @SuppressWarnings("unchecked")
+    public ObjRoundRobin(List<? extends Iterator<? extends T>> iterators) {
+        // a generic array cannot be created, all elements are Iterator<? extends T>
+        this.iterators = (Iterator<? extends T>[]) iterators.toArray(new Iterator<?>[iterators.size()]);
+        size = this.iterators.length;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (size > 0) {
+            if (iterators[index].hasNext()) {
+                return true;
+            }
+            size--;
+            System.arraycopy(iterators, index + 1, iterators, index, size - index);
+            iterators[size] = null;
+            if (index == size) {
+                index = 0;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public T nextIteration() {
+        final T result = iterators[index].next();
+        if (++index == size) {
+            index = 0;
+        }
+        return result;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        long result = 0;
+        for (int i = 0; i < size; i++) {
+            result = Operators.addSizes(result, Operators.getExactSizeIfKnown(iterators[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public long estimateSize() {
+        long result = 0;
+        for (int i = 0; i < size; i++) {
+            result = Operators.addSizes(result, Operators.estimateSize(iterators[i]));
+        }
+        return result;
+    }
+}
@@ -1,6 +1,8 @@
 package com.annimon.stream.operator;
 
 import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Consumer;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.Iterator;
 
@@ -26,4 +28,21 @@ public class ObjScan<T> extends LsaExtIterator<T> {
             }
         }
     }
+
+    @Override
+    public void forEachRemainingObj(final Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T t) {
+                next = accumulator.apply(next, t);
+                action.accept(next);
+            }
+        });
+        hasNext = false;
+        next = null;
+    }
 }
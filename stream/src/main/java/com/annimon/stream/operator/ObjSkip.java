@@ -1,7 +1,9 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
 import java.util.Iterator;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjSkip<T> extends LsaIterator<T> {
 
@@ -31,4 +33,34 @@ public class ObjSkip<T> extends LsaIterator<T> {
     public T nextIteration() {
         return iterator.next();
     }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        while (skipped < n && iterator.hasNext()) {
+            iterator.next();
+            skipped++;
+        }
+        Operators.forEachRemaining(iterator, action);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        // hasNext skips the first elements
+        if (skipped < n && !hasNext()) {
+            return false;
+        }
+        return Operators.tryAdvance(iterator, action);
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        final long size = Operators.getExactSizeIfKnown(iterator);
+        return size < 0 ? -1 : Math.max(0, size - (n - skipped));
+    }
+
+    @Override
+    public long estimateSize() {
+        final long size = Operators.estimateSize(iterator);
+        return size == Long.MAX_VALUE ? size : Math.max(0, size - (n - skipped));
+    }
 }
@@ -1,24 +1,57 @@
 package com.annimon.stream.operator;
 
-import com.annimon.stream.internal.Compat;
+import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaIterator;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Queue;
+import java.util.RandomAccess;
 
+/**
+ * Returns windows of elements taken from a buffer.
+ *
+ * <p>Elements are appended to the buffer, which holds up to two windows;
+ * when it is full, the elements of the current window move to its start,
+ * so every element is moved about once per {@code windowSize - 1} windows.
+ * Each window is returned as a new {@code ArrayList} with the elements
+ * of its range.
+ *
+ * <p>In reuse mode the same read-only view of the buffer is returned
+ * for each window, so a window is only valid until the next one is requested.
+ *
+ * @param <T> the type of the elements
+ */
 public class ObjSlidingWindow<T> extends LsaIterator<List<T>> {
 
-    private final Queue<T> queue;
+    private static final int INITIAL_CAPACITY = 16;
+    // some VMs reserve header words in an array
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
     private final Iterator<? extends T> iterator;
     private final int windowSize;
     private final int stepWidth;
+    private final boolean reuse;
+    private final int capacity;
+    private Object[] buffer;
+    // the current window starts at start, the buffered elements end at end
+    private int start, end;
+    private Window<T> window;
 
     public ObjSlidingWindow(Iterator<? extends T> iterator, int windowSize, int stepWidth) {
+        this(iterator, windowSize, stepWidth, false);
+    }
+
+    public ObjSlidingWindow(Iterator<? extends T> iterator, int windowSize, int stepWidth, boolean reuse) {
         this.iterator = iterator;
         this.windowSize = windowSize;
         this.stepWidth = stepWidth;
-        queue = Compat.queue();
+        this.reuse = reuse;
+        // disjoint windows never share elements, so there is nothing to keep
+        capacity = (stepWidth >= windowSize) ? windowSize
+                : (int) Math.max(windowSize, Math.min(2L * windowSize, MAX_CAPACITY));
+        buffer = new Object[Math.min(capacity, INITIAL_CAPACITY)];
     }
 
     @Override
@@ -28,26 +61,86 @@ public class ObjSlidingWindow<T> extends LsaIterator<List<T>> {
 
     @Override
     public List<T> nextIteration() {
-        int i = queue.size();
-        while (i < windowSize && iterator.hasNext()) {
-            queue.offer(iterator.next());
-            i++;
+        while (end - start < windowSize && iterator.hasNext()) {
+            if (end == buffer.length) {
+                makeRoom();
+            }
+            buffer[end++] = iterator.next();
         }
 
-        // the elements that are currently in the queue are the elements of our current window
-        List<T> list = new ArrayList<T>(queue);
-
-        // remove stepWidth elements from the queue
-        final int pollCount = Math.min(queue.size(), stepWidth);
-        for (int j = 0; j < pollCount; j++) {
-            queue.poll();
+        if (window == null) {
+            window = new Window<T>();
         }
+        window.set(buffer, start, end);
+        final List<T> list = reuse ? window : new ArrayList<T>(window);
 
+        start = Math.min(start + stepWidth, end);
         // if the stepWidth is greater than the windowSize, skip (stepWidth - windowSize) elements
         for (int j = windowSize; j < stepWidth && iterator.hasNext(); j++) {
             iterator.next();
         }
-
         return list;
     }
+
+    /**
+     * Grows the buffer up to the capacity, then moves the elements
+     * of the current window to its start.
+     */
+    private void makeRoom() {
+        final int size = end - start;
+        final Object[] target = (buffer.length < capacity)
+                ? new Object[(int) Math.min(2L * buffer.length, capacity)]
+                : buffer;
+        System.arraycopy(buffer, start, target, 0, size);
+        if (target == buffer) {
+            // release the elements of the previous windows
+            for (int i = size; i < end; i++) {
+                buffer[i] = null;
+            }
+        }
+        buffer = target;
+        start = 0;
+        end = size;
+    }
+
+    @Override
+    public long estimateSize() {
+        // there are at most as many windows as elements
+        return Operators.estimateSize(iterator);
+    }
+
+    /**
+     * A read-only view of a range of the buffer.
+     */
+    private static final class Window<T> extends AbstractList<T> implements RandomAccess {
+
+        private Object[] elements;
+        private int from, size;
+
+        Window<T> set(Object[] elements, int from, int to) {
+            this.elements = elements;
+            this.from = from;
+            size = to - from;
+            return this;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return (T) elements[from + index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOfRange(elements, from, from + size);
+        }
+    }
 }
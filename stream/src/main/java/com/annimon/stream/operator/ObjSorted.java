@@ -1,33 +1,102 @@
 package com.annimon.stream.operator;
 
+import com.annimon.stream.internal.BoundedHeap;
 import com.annimon.stream.internal.Operators;
 import com.annimon.stream.iterator.LsaExtIterator;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import com.landawn.abacus.util.function.Consumer;
 
 public class ObjSorted<T> extends LsaExtIterator<T> {
 
     private final Iterator<? extends T> iterator;
     private final Comparator<? super T> comparator;
-    private Iterator<T> sortedIterator;
+    private long maxSize;
+    private List<T> list;
+    private int index;
 
     public ObjSorted(Iterator<? extends T> iterator, Comparator<? super T> comparator) {
+        this(iterator, comparator, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param iterator  the source iterator
+     * @param comparator  the comparator to sort elements
+     * @param maxSize  the number of the least elements to keep
+     */
+    public ObjSorted(Iterator<? extends T> iterator, Comparator<? super T> comparator, long maxSize) {
         this.iterator = iterator;
         this.comparator = comparator;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Keeps only the first {@code maxSize} elements of the sorted result,
+     * so that they are selected with a bounded heap instead of a full sort.
+     *
+     * @param maxSize  the number of elements to keep
+     * @return {@code false} if the elements are already sorted
+     */
+    public boolean limit(long maxSize) {
+        if (isInit) {
+            return false;
+        }
+        this.maxSize = Math.min(this.maxSize, maxSize);
+        return true;
     }
 
     @Override
     protected void nextIteration() {
         if (!isInit) {
-            final List<T> list = Operators.<T>toList(iterator);
-            Collections.sort(list, comparator);
-            sortedIterator = list.iterator();
+            final long size = Operators.getExactSizeIfKnown(iterator);
+            if (maxSize == Long.MAX_VALUE || (size >= 0 && size <= maxSize)) {
+                list = Operators.<T>toList(iterator);
+                Collections.sort(list, comparator);
+            } else {
+                final BoundedHeap.OfObj<T> heap = new BoundedHeap.OfObj<T>(comparator, maxSize);
+                Operators.forEachRemaining(iterator, heap);
+                list = heap.toSortedList();
+            }
         }
-        hasNext = sortedIterator.hasNext();
+        hasNext = index < list.size();
         if (hasNext) {
-            next = sortedIterator.next();
+            next = list.get(index++);
+        }
+    }
+
+    @Override
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        final List<T> list = this.list;
+        final int size = list.size();
+        int i = index;
+        index = size;
+        for (; i < size; i++) {
+            action.accept(list.get(i));
+        }
+        hasNext = false;
+        next = null;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            final long size = Operators.getExactSizeIfKnown(iterator);
+            return (size < 0) ? size : Math.min(size, maxSize);
+        }
+        return hasNext ? list.size() - index + 1 : 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Math.min(Operators.estimateSize(iterator), maxSize);
         }
+        return getExactSizeIfKnown();
     }
 }
@@ -0,0 +1,163 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.internal.BoundedHeap;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.PrimitiveSort;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+
+/**
+ * Sorts elements by keys, extracting the key of each element once.
+ *
+ * <p>Keys are stored in an array parallel to the elements and the indices
+ * of the elements are sorted by them. The sort is stable.
+ *
+ * @param <T> the type of the elements
+ * @param <U> the type of the keys
+ */
+public class ObjSortedBy<T, U> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final Function<? super T, ? extends U> keyExtractor;
+    private final Comparator<? super U> keyComparator;
+    private long maxSize;
+    private Object[] array;
+    private int index;
+
+    public ObjSortedBy(Iterator<? extends T> iterator, Function<? super T, ? extends U> keyExtractor,
+                       Comparator<? super U> keyComparator) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+        this.keyComparator = keyComparator;
+        this.maxSize = Long.MAX_VALUE;
+    }
+
+    /**
+     * Keeps only the first {@code maxSize} elements of the sorted result,
+     * so that they are selected with a bounded heap instead of a full sort.
+     *
+     * @param maxSize  the number of elements to keep
+     * @return {@code false} if the elements are already sorted
+     */
+    public boolean limit(long maxSize) {
+        if (isInit) {
+            return false;
+        }
+        this.maxSize = Math.min(this.maxSize, maxSize);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!isInit) {
+            final long size = Operators.getExactSizeIfKnown(iterator);
+            if (maxSize == Long.MAX_VALUE || (size >= 0 && size <= maxSize)) {
+                array = sort(Operators.<T>toList(iterator).toArray());
+            } else {
+                array = select();
+            }
+        }
+        hasNext = index < array.length;
+        if (hasNext) {
+            next = (T) array[index++];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] sort(Object[] values) {
+        final int length = values.length;
+        final Object[] keys = new Object[length];
+        final int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = keyExtractor.apply((T) values[i]);
+            indices[i] = i;
+        }
+        PrimitiveSort.sort(indices, 0, length, new IntComparator() {
+            @Override
+            public int compare(int i, int j) {
+                return keyComparator.compare((U) keys[i], (U) keys[j]);
+            }
+        });
+        // the keys are not needed anymore, their array holds the result
+        for (int i = 0; i < length; i++) {
+            keys[i] = values[indices[i]];
+        }
+        return keys;
+    }
+
+    /**
+     * Selects the {@code maxSize} least elements with a heap of elements decorated with their keys.
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] select() {
+        final BoundedHeap.OfObj<Keyed> heap = new BoundedHeap.OfObj<Keyed>(new Comparator<Keyed>() {
+            @Override
+            public int compare(Keyed a, Keyed b) {
+                return keyComparator.compare((U) a.key, (U) b.key);
+            }
+        }, maxSize);
+        Operators.forEachRemaining(iterator, new Consumer<T>() {
+            @Override
+            public void accept(T value) {
+                heap.accept(new Keyed(keyExtractor.apply(value), value));
+            }
+        });
+        final List<Keyed> list = heap.toSortedList();
+        final Object[] result = new Object[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i).value;
+        }
+        return result;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        final Object[] array = this.array;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept((T) array[i]);
+        }
+        hasNext = false;
+        next = null;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            final long size = Operators.getExactSizeIfKnown(iterator);
+            return (size < 0) ? size : Math.min(size, maxSize);
+        }
+        return hasNext ? array.length - index + 1 : 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Math.min(Operators.estimateSize(iterator), maxSize);
+        }
+        return getExactSizeIfKnown();
+    }
+
+    private static final class Keyed {
+
+        final Object key;
+        final Object value;
+
+        Keyed(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.PrimitiveSort;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.ToDoubleFunction;
+
+/**
+ * Sorts elements by double keys, extracting the key of each element once.
+ *
+ * <p>Keys are stored in an array parallel to the elements and the indices
+ * of the elements are sorted by them as by
+ * {@link Double#compare(double, double)}. The sort is stable.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjSortedByDouble<T> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final ToDoubleFunction<? super T> keyExtractor;
+    private Object[] array;
+    private int index;
+
+    public ObjSortedByDouble(Iterator<? extends T> iterator, ToDoubleFunction<? super T> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!isInit) {
+            final Object[] values = Operators.<T>toList(iterator).toArray();
+            final int length = values.length;
+            final double[] keys = new double[length];
+            final int[] indices = new int[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = keyExtractor.applyAsDouble((T) values[i]);
+                indices[i] = i;
+            }
+            PrimitiveSort.sort(indices, 0, length, new IntComparator() {
+                @Override
+                public int compare(int i, int j) {
+                    return Double.compare(keys[i], keys[j]);
+                }
+            });
+            array = new Object[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = values[indices[i]];
+            }
+        }
+        hasNext = index < array.length;
+        if (hasNext) {
+            next = (T) array[index++];
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        final Object[] array = this.array;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept((T) array[i]);
+        }
+        hasNext = false;
+        next = null;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            return Operators.getExactSizeIfKnown(iterator);
+        }
+        return hasNext ? array.length - index + 1 : 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Operators.estimateSize(iterator);
+        }
+        return getExactSizeIfKnown();
+    }
+}
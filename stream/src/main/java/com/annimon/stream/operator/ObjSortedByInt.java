@@ -0,0 +1,85 @@
+package com.annimon.stream.operator;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.internal.RadixSort;
+import com.annimon.stream.iterator.LsaExtIterator;
+import java.util.Iterator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.ToIntFunction;
+
+/**
+ * Sorts elements by int keys, extracting the key of each element once.
+ *
+ * <p>Each key is packed with the index of its element into a long,
+ * so that the longs are sorted with radix sort and equal keys
+ * keep the order of their elements.
+ *
+ * @param <T> the type of the elements
+ */
+public class ObjSortedByInt<T> extends LsaExtIterator<T> {
+
+    private final Iterator<? extends T> iterator;
+    private final ToIntFunction<? super T> keyExtractor;
+    private Object[] array;
+    private int index;
+
+    public ObjSortedByInt(Iterator<? extends T> iterator, ToIntFunction<? super T> keyExtractor) {
+        this.iterator = iterator;
+        this.keyExtractor = keyExtractor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void nextIteration() {
+        if (!isInit) {
+            final Object[] values = Operators.<T>toList(iterator).toArray();
+            final int length = values.length;
+            final long[] packed = new long[length];
+            for (int i = 0; i < length; i++) {
+                packed[i] = ((long) keyExtractor.applyAsInt((T) values[i]) << 32) | i;
+            }
+            RadixSort.sort(packed, 0, length, null);
+            array = new Object[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = values[(int) packed[i]];
+            }
+        }
+        hasNext = index < array.length;
+        if (hasNext) {
+            next = (T) array[index++];
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemainingObj(Consumer<? super T> action) {
+        if (!hasNext()) {
+            return;
+        }
+        action.accept(next);
+        final Object[] array = this.array;
+        int i = index;
+        index = array.length;
+        for (; i < array.length; i++) {
+            action.accept((T) array[i]);
+        }
+        hasNext = false;
+        next = null;
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        if (!isInit) {
+            return Operators.getExactSizeIfKnown(iterator);
+        }
+        return hasNext ? array.length - index + 1 : 0;
+    }
+
+    @Override
+    public long estimateSize() {
+        if (!isInit) {
+            return Operators.estimateSize(iterator);
+        }
+        return getExactSizeIfKnown();
+    }
+}
@@ -0,0 +1,174 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.annimon.stream.operator.IntArray;
+import com.annimon.stream.operator.IntFilter;
+import com.annimon.stream.operator.IntLimit;
+import com.annimon.stream.operator.IntMap;
+import com.annimon.stream.operator.IntRangeClosed;
+import com.annimon.stream.operator.IntZip;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntBinaryOperator;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.IntUnaryOperator;
+import com.landawn.abacus.util.function.LongConsumer;
+
+public class BatchTest {
+
+    private static final IntPredicate IS_ODD = new IntPredicate() {
+        @Override
+        public boolean test(int value) {
+            return value % 2 != 0;
+        }
+    };
+
+    @Test
+    public void testToArraySkippingEverythingRunsSideEffects() {
+        final int[] peeked = new int[3];
+        assertArrayEquals(new int[0], IntStream.of(1, 2, 3).peek(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                peeked[0]++;
+            }
+        }).skip(6).toArray());
+        assertArrayEquals(new long[0], LongStream.of(1, 2, 3, 4).peek(new LongConsumer() {
+            @Override
+            public void accept(long value) {
+                peeked[1]++;
+            }
+        }).skip(4).toArray());
+        assertArrayEquals(new double[] { 3.0 }, DoubleStream.of(1, 2, 3).peek(new DoubleConsumer() {
+            @Override
+            public void accept(double value) {
+                peeked[2]++;
+            }
+        }).skip(2).toArray(), 0.0);
+        assertArrayEquals(new int[] { 3, 4, 3 }, peeked);
+    }
+
+    @Test
+    public void testTerminalOperationsAcrossBatches() {
+        // more values than one batch, with a size known only as an estimate
+        final int n = 5001;
+        assertEquals(n / 2 + 1, IntStream.rangeClosed(1, n).filter(IS_ODD).count());
+        assertEquals(2501 * 2501, IntStream.rangeClosed(1, n).filter(IS_ODD).sum());
+        assertEquals(n, IntStream.rangeClosed(1, n).reduce(new IntBinaryOperator() {
+            @Override
+            public int applyAsInt(int left, int right) {
+                return Math.max(left, right);
+            }
+        }).get());
+        final int[] values = IntStream.rangeClosed(1, n).filter(IS_ODD).toArray();
+        assertEquals(2501, values.length);
+        assertEquals(n, values[values.length - 1]);
+        assertEquals(15, IntStream.of(1, 3, 5).map(new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return value * 3;
+            }
+        }).skip(2).limit(1).sum());
+    }
+
+    @Test
+    public void testNextBatchStopsAtEndOfIterator() {
+        final int[] buffer = new int[8];
+        final IntRangeClosed range = new IntRangeClosed(1, 5);
+        assertEquals(3, range.nextBatch(buffer, 2, 3));
+        assertEquals(2, range.nextBatch(buffer, 5, 3));
+        assertEquals(0, range.nextBatch(buffer, 0, 8));
+        assertArrayEquals(new int[] { 0, 0, 1, 2, 3, 4, 5, 0 }, buffer);
+    }
+
+    @Test
+    public void testFilterMapAndLimitBatches() {
+        final int[] buffer = new int[10];
+        final IntFilter filter = new IntFilter(new IntArray(new int[] { 1, 2, 3, 4, 5, 6, 7 }), IS_ODD);
+        assertEquals(2, filter.nextBatch(buffer, 0, 2));
+        assertEquals(2, filter.nextBatch(buffer, 2, 10));
+        assertArrayEquals(new int[] { 1, 3, 5, 7 }, Arrays.copyOf(buffer, 4));
+
+        final IntLimit limit = new IntLimit(new IntMap(new IntRangeClosed(1, 100), new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return -value;
+            }
+        }), 3);
+        assertEquals(3, limit.nextBatch(buffer, 0, 10));
+        assertEquals(0, limit.nextBatch(buffer, 0, 10));
+        assertArrayEquals(new int[] { -1, -2, -3 }, Arrays.copyOf(buffer, 3));
+    }
+
+    @Test
+    public void testFunctionsRunValueByValue() {
+        final StringBuilder log = new StringBuilder();
+        final IntConsumer peek = new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                log.append('p').append(value);
+            }
+        };
+        final IntUnaryOperator map = new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                log.append('m').append(value);
+                return value * 2;
+            }
+        };
+        final IntBinaryOperator add = new IntBinaryOperator() {
+            @Override
+            public int applyAsInt(int left, int right) {
+                log.append('r').append(right);
+                return left + right;
+            }
+        };
+        assertEquals(12, IntStream.of(1, 2, 3).peek(peek).map(map).sum());
+        assertEquals("p1m1p2m2p3m3", log.toString());
+
+        log.setLength(0);
+        assertEquals(12, IntStream.of(1, 2, 3).map(map).reduce(0, add));
+        assertEquals("m1r2m2r4m3r6", log.toString());
+
+        log.setLength(0);
+        assertEquals(12, IntStream.of(1, 2, 3).map(map).reduce(add).get());
+        assertEquals("m1m2r4m3r6", log.toString());
+
+        log.setLength(0);
+        assertEquals(12, IntStream.zip(IntStream.of(1, 2), IntStream.of(1, 2).peek(peek), add).map(map).sum());
+        assertEquals("p1r1m2p2r2m4", log.toString());
+    }
+
+    @Test
+    public void testRunsFunctions() {
+        final int[] values = { 1, 2, 3 };
+        assertFalse(new IntArray(values).runsFunctions());
+        assertFalse(new IntLimit(new IntRangeClosed(1, 3), 2).runsFunctions());
+        assertTrue(new IntMap(new IntArray(values), map()).runsFunctions());
+        assertTrue(new IntLimit(new IntFilter(new IntArray(values), IS_ODD), 2).runsFunctions());
+        assertTrue(new IntZip(new IntArray(values), new IntMap(new IntArray(values), map()), new IntBinaryOperator() {
+            @Override
+            public int applyAsInt(int left, int right) {
+                return left + right;
+            }
+        }).runsFunctions());
+        assertFalse(IntStream.concat(IntStream.of(values), IntStream.rangeClosed(1, 3)).iterator().runsFunctions());
+        assertTrue(IntStream.concat(IntStream.of(values), IntStream.of(values).filter(IS_ODD)).iterator().runsFunctions());
+    }
+
+    private static IntUnaryOperator map() {
+        return new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return -value;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.IntPredicate;
+
+public class ConcatTest {
+
+    @Test
+    public void testDeeplyFoldedConcat() {
+        final int n = 20000;
+        final int[] closed = new int[n];
+        Stream<Integer> stream = Stream.empty();
+        for (int i = 0; i < n; i++) {
+            stream = Stream.concat(stream, Stream.of(i).onClose(counter(closed, i)));
+        }
+        final List<Integer> values = stream.toList();
+        assertEquals(n, values.size());
+        assertEquals(Integer.valueOf(n - 1), values.get(n - 1));
+        stream.close();
+        stream.close();
+        for (int i = 0; i < n; i++) {
+            assertEquals(1, closed[i]);
+        }
+    }
+
+    @Test
+    public void testInputsKeepTheirCloseHandlers() {
+        final int[] closed = new int[2];
+        final Stream<Integer> first = Stream.of(1, 2).onClose(counter(closed, 0));
+        final Stream<Integer> second = Stream.of(3).onClose(counter(closed, 1));
+        final Stream<Integer> concat = Stream.concat(first, second);
+        // closing an input runs its own handler, which is not run again by the result
+        first.close();
+        assertArrayEquals(new int[] { 1, 0 }, closed);
+        concat.close();
+        assertArrayEquals(new int[] { 1, 1 }, closed);
+        second.close();
+        assertArrayEquals(new int[] { 1, 1 }, closed);
+    }
+
+    @Test
+    public void testCloseRunsAllHandlersInOrderAndRethrowsFirst() {
+        final List<String> log = new ArrayList<>();
+        final Stream<String> concat = Stream.concat(
+                Stream.of("a").onClose(logging(log, "a", true)),
+                Stream.concat(Stream.of("b").onClose(logging(log, "b", false)), Stream.of("c").onClose(logging(log, "c", true))),
+                Stream.<String> empty())
+                .onClose(logging(log, "d", false));
+        try {
+            concat.close();
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("a", e.getMessage());
+        }
+        assertEquals(Arrays.asList("a", "b", "c", "d"), log);
+    }
+
+    @Test
+    public void testPrimitiveConcat() {
+        final int[] closed = new int[3];
+        IntStream ints = IntStream.empty();
+        for (int i = 0; i < 3; i++) {
+            ints = IntStream.concat(ints, IntStream.of(i, i).onClose(counter(closed, i)));
+        }
+        assertTrue(ints.anyMatch(new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value == 2;
+            }
+        }));
+        ints.close();
+        assertArrayEquals(new int[] { 1, 1, 1 }, closed);
+
+        assertArrayEquals(new long[] { 1, 2, 3 },
+                LongStream.concat(LongStream.of(1), LongStream.empty(), LongStream.of(2, 3)).toArray());
+        assertArrayEquals(new double[] { 0.5, 1.5 },
+                DoubleStream.concat(Arrays.asList(DoubleStream.of(0.5), DoubleStream.of(1.5))).toArray(), 0.0);
+        assertEquals(6, IntStream.concat(IntStream.of(1, 2), IntStream.of(3)).sum());
+    }
+
+    private static Runnable counter(final int[] counts, final int index) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                counts[index]++;
+            }
+        };
+    }
+
+    private static Runnable logging(final List<String> log, final String name, final boolean fail) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                log.add(name);
+                if (fail) {
+                    throw new IllegalStateException(name);
+                }
+            }
+        };
+    }
+}
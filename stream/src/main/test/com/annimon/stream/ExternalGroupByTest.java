@@ -0,0 +1,144 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.stream.Collectors;
+
+public class ExternalGroupByTest {
+
+    private static final Serializer<Integer> INT_SERIALIZER = new Serializer<Integer>() {
+        @Override
+        public void write(DataOutput output, Integer value) throws IOException {
+            output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput input) throws IOException {
+            return input.readInt();
+        }
+    };
+
+    private static final Function<Integer, Integer> MOD_500 = new Function<Integer, Integer>() {
+        @Override
+        public Integer apply(Integer value) {
+            return value % 500;
+        }
+    };
+
+    @Test
+    public void testSpilledGroupsMatchInMemoryGroups() {
+        final List<Integer> values = randomValues(20000);
+        final Map<Integer, List<Integer>> expected = Stream.of(values).groupTo(MOD_500);
+
+        final int filesBefore = ExternalSortTest.countSpillFiles();
+        assertEquals(expected, Stream.of(values).groupTo(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, false));
+        assertEquals(expected, Stream.of(values).groupTo(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, true));
+        assertEquals(filesBefore, ExternalSortTest.countSpillFiles());
+    }
+
+    @Test
+    public void testSingleLargeGroup() {
+        final List<Integer> values = randomValues(5000);
+        final Function<Integer, String> constant = new Function<Integer, String>() {
+            @Override
+            public String apply(Integer value) {
+                return "all";
+            }
+        };
+        final Map<String, Long> counts = new HashMap<>();
+        for (Map.Entry<String, Long> group : Stream.of(values)
+                .groupBy(constant, Collectors.<Integer> counting(), 50, INT_SERIALIZER, false).toList()) {
+            counts.put(group.getKey(), group.getValue());
+        }
+        assertEquals(1, counts.size());
+        assertEquals(Long.valueOf(5000), counts.get("all"));
+    }
+
+    @Test
+    public void testSingleKeyIsNotRepartitionedAgain() {
+        final int[] reads = new int[1];
+        final Serializer<Integer> countingSerializer = new Serializer<Integer>() {
+            @Override
+            public void write(DataOutput output, Integer value) throws IOException {
+                output.writeInt(value);
+            }
+
+            @Override
+            public Integer read(DataInput input) throws IOException {
+                reads[0]++;
+                return input.readInt();
+            }
+        };
+        final Function<Integer, Integer> one = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return 1;
+            }
+        };
+        final Map<Integer, Long> counts = Stream.of(randomValues(5000))
+                .groupTo(one, Collectors.<Integer> counting(), 50, countingSerializer, false);
+        assertEquals(Long.valueOf(5000), counts.get(1));
+        // the spilled partition is read by one pass that does not split it, then grouped
+        assertEquals(2 * 5000, reads[0]);
+    }
+
+    @Test
+    public void testFitsInMemory() {
+        final Map<Integer, List<Integer>> groups = Stream.of(1, 501, 2)
+                .groupTo(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, false);
+        assertEquals(2, groups.size());
+        assertEquals(2, groups.get(1).size());
+    }
+
+    @Test
+    public void testCloseDeletesFilesOfPartialIteration() {
+        final int filesBefore = ExternalSortTest.countSpillFiles();
+        final Stream<Map.Entry<Integer, List<Integer>>> groups = Stream.of(randomValues(5000))
+                .groupBy(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, true);
+        final Iterator<Map.Entry<Integer, List<Integer>>> iterator = groups.iterator();
+        iterator.next();
+        groups.close();
+        assertEquals(filesBefore, ExternalSortTest.countSpillFiles());
+    }
+
+    @Test
+    public void testCloseDeletesFilesOfShortCircuitedStreams() {
+        final int filesBefore = ExternalSortTest.countSpillFiles();
+        try (Stream<Map.Entry<Integer, List<Integer>>> groups = Stream.of(randomValues(5000))
+                .groupBy(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, false)) {
+            assertTrue(groups.findFirst().isPresent());
+            assertTrue(ExternalSortTest.countSpillFiles() > filesBefore);
+        }
+        assertEquals(filesBefore, ExternalSortTest.countSpillFiles());
+
+        try (Stream<Map.Entry<Integer, List<Integer>>> groups = Stream.of(randomValues(5000))
+                .groupBy(MOD_500, Collectors.<Integer> toList(), 100, INT_SERIALIZER, true)) {
+            assertEquals(3, groups.limit(3).count());
+            assertTrue(ExternalSortTest.countSpillFiles() > filesBefore);
+        }
+        assertEquals(filesBefore, ExternalSortTest.countSpillFiles());
+    }
+
+    private static List<Integer> randomValues(int size) {
+        final Random random = new Random(43);
+        final List<Integer> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(random.nextInt(1000000));
+        }
+        return values;
+    }
+}
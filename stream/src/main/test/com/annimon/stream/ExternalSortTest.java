@@ -0,0 +1,155 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.IntUnaryOperator;
+
+public class ExternalSortTest {
+
+    private static final Serializer<String> STRING_SERIALIZER = new Serializer<String>() {
+        @Override
+        public void write(DataOutput output, String value) throws IOException {
+            output.writeUTF(value);
+        }
+
+        @Override
+        public String read(DataInput input) throws IOException {
+            return input.readUTF();
+        }
+    };
+
+    private static final Comparator<String> BY_FIRST_CHAR = new Comparator<String>() {
+        @Override
+        public int compare(String a, String b) {
+            return a.charAt(0) - b.charAt(0);
+        }
+    };
+
+    @Test
+    public void testObjectSortIsStableAcrossRuns() {
+        final Random random = new Random(3);
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            // 100 runs need more than one merge pass
+            values.add((char) ('a' + random.nextInt(26)) + String.valueOf(i));
+        }
+        final List<String> expected = new ArrayList<>(values);
+        Collections.sort(expected, BY_FIRST_CHAR);
+
+        final int filesBefore = countSpillFiles();
+        assertEquals(expected, Stream.of(values).sorted(BY_FIRST_CHAR, 100, STRING_SERIALIZER).toList());
+        assertEquals(filesBefore, countSpillFiles());
+    }
+
+    @Test
+    public void testFitsInMemory() {
+        assertEquals(Arrays.asList("a", "b", "c"),
+                Stream.of("c", "a", "b").sorted(BY_FIRST_CHAR, 10, STRING_SERIALIZER).toList());
+        assertEquals(0, Stream.<String> empty().sorted(BY_FIRST_CHAR, 10, STRING_SERIALIZER).count());
+    }
+
+    @Test
+    public void testCloseDeletesFilesOfPartialIteration() {
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(String.valueOf((char) ('z' - i % 26)));
+        }
+        final int filesBefore = countSpillFiles();
+        final Stream<String> stream = Stream.of(values).sorted(BY_FIRST_CHAR, 50, STRING_SERIALIZER);
+        final Iterator<String> iterator = stream.iterator();
+        assertEquals("a", iterator.next());
+        stream.close();
+        assertEquals(filesBefore, countSpillFiles());
+    }
+
+    @Test
+    public void testCloseDeletesFilesOfShortCircuitedStreams() {
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(String.valueOf((char) ('z' - i % 26)));
+        }
+        final int filesBefore = countSpillFiles();
+        try (Stream<String> stream = Stream.of(values).sorted(BY_FIRST_CHAR, 50, STRING_SERIALIZER)) {
+            assertEquals("a", stream.findFirst().get());
+            assertTrue(countSpillFiles() > filesBefore);
+        }
+        assertEquals(filesBefore, countSpillFiles());
+
+        try (Stream<String> stream = Stream.of(values).sorted(BY_FIRST_CHAR, 50, STRING_SERIALIZER)) {
+            assertEquals(Arrays.asList("a", "a"), stream.limit(2).toList());
+            assertTrue(countSpillFiles() > filesBefore);
+        }
+        assertEquals(filesBefore, countSpillFiles());
+
+        try (IntStream stream = IntStream.range(0, 1000).map(new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return -value;
+            }
+        }).sorted(100)) {
+            assertEquals(-999, stream.findFirst().get());
+        }
+        assertEquals(filesBefore, countSpillFiles());
+    }
+
+    @Test
+    public void testPrimitiveSorts() {
+        final Random random = new Random(9);
+        final int[] ints = new int[20000];
+        final long[] longs = new long[20000];
+        final double[] doubles = new double[20000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextGaussian();
+        }
+        doubles[7] = Double.NaN;
+        doubles[8] = -0.0;
+        doubles[9] = 0.0;
+        doubles[10] = Double.NEGATIVE_INFINITY;
+
+        final int filesBefore = countSpillFiles();
+        final int[] sortedInts = ints.clone();
+        Arrays.sort(sortedInts);
+        assertArrayEquals(sortedInts, IntStream.of(ints).sorted(1000).toArray());
+        final long[] sortedLongs = longs.clone();
+        Arrays.sort(sortedLongs);
+        assertArrayEquals(sortedLongs, LongStream.of(longs).sorted(1000).toArray());
+        final double[] sortedDoubles = doubles.clone();
+        Arrays.sort(sortedDoubles);
+        assertArrayEquals(sortedDoubles, DoubleStream.of(doubles).sorted(1000).toArray(), 0.0);
+        assertEquals(filesBefore, countSpillFiles());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxInMemoryMustBePositive() {
+        IntStream.of(1).sorted(0);
+    }
+
+    static int countSpillFiles() {
+        final String[] names = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith("stream") && name.endsWith(".tmp");
+            }
+        });
+        return (names == null) ? 0 : names.length;
+    }
+}
@@ -0,0 +1,129 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+
+public class FlatCollectionTest {
+
+    @Test
+    public void testAllCollectionKinds() {
+        final List<Collection<Integer>> inner = new ArrayList<>();
+        inner.add(new ArrayList<>(Arrays.asList(1, 2)));
+        inner.add(null);
+        inner.add(new LinkedList<>(Arrays.asList(3)));
+        inner.add(Arrays.asList(4, 5));
+        inner.add(new ArrayList<Integer>());
+        inner.add(new CopyOnWriteArrayList<>(Arrays.asList(6)));
+        final List<Integer> expected = Arrays.asList(1, 2, 3, 4, 5, 6);
+        assertEquals(expected, Stream.of(inner).flatCollection(FlatCollectionTest.<Collection<Integer>> identity()).toList());
+
+        // pulled element by element
+        final List<Integer> pulled = new ArrayList<>();
+        final Iterator<Integer> iterator = Stream.of(inner).flatCollection(FlatCollectionTest.<Collection<Integer>> identity()).iterator();
+        while (iterator.hasNext()) {
+            pulled.add(iterator.next());
+        }
+        assertEquals(expected, pulled);
+
+        assertEquals(Arrays.asList("a", "b", "c"), Stream.of("ab", null, "c").flatArray(new Function<String, String[]>() {
+            @Override
+            public String[] apply(String value) {
+                return (value == null) ? null : value.split("");
+            }
+        }).toList());
+    }
+
+    @Test
+    public void testPullThenPush() {
+        final Stream<Integer> stream = Stream.of(Arrays.asList(1, 2, 3), Arrays.asList(4))
+                .flatCollection(FlatCollectionTest.<List<Integer>> identity());
+        final Iterator<Integer> iterator = stream.iterator();
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Arrays.asList(2, 3, 4), Stream.of(iterator).toList());
+    }
+
+    @Test
+    public void testCopyOnWriteListIsIteratedAsSnapshot() {
+        final List<Integer> list = new CopyOnWriteArrayList<>(Arrays.asList(1, 2, 3));
+        final List<Integer> result = new ArrayList<>();
+        Stream.of(list, list).flatCollection(FlatCollectionTest.<List<Integer>> identity()).forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+                if (value == 1) {
+                    list.remove(Integer.valueOf(3));
+                }
+            }
+        });
+        // the first list is a snapshot of three elements, the second is read after the removal
+        assertEquals(Arrays.asList(1, 2, 3, 1, 2), result);
+    }
+
+    @Test
+    public void testModifiedArrayListFails() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        try {
+            Stream.of("x").flatCollection(new Function<String, List<Integer>>() {
+                @Override
+                public List<Integer> apply(String value) {
+                    return list;
+                }
+            }).forEach(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer value) {
+                    list.add(value);
+                }
+            });
+            fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+
+        final List<Integer> pulledList = new ArrayList<>(Arrays.asList(1, 2, 3));
+        final Iterator<Integer> iterator = Stream.of(Collections.singletonList(pulledList)).flatCollection(FlatCollectionTest.<List<Integer>> identity()).iterator();
+        iterator.next();
+        pulledList.add(4);
+        try {
+            iterator.next();
+            fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test
+    public void testEntryStreamFlatCollection() {
+        @SuppressWarnings("unchecked")
+        final EntryStream<String, List<Integer>> entries = EntryStream.of(entry("a", Arrays.asList(1, 2)), entry("b", new LinkedList<>(Arrays.asList(3))));
+        final List<Map.Entry<String, Integer>> result = entries.flatCollectionValue(FlatCollectionTest.<List<Integer>> identity()).entries().toList();
+        assertEquals(Arrays.asList(entry("a", 1), entry("a", 2), entry("b", 3)), result);
+    }
+
+    private static <C> Function<C, C> identity() {
+        return new Function<C, C>() {
+            @Override
+            public C apply(C value) {
+                return value;
+            }
+        };
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -0,0 +1,209 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.annimon.stream.iterator.LazyIterator;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.BinaryOperator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntBinaryOperator;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.IntUnaryOperator;
+import com.landawn.abacus.util.function.Predicate;
+import com.landawn.abacus.util.function.Supplier;
+
+public class InternalIterationTest {
+
+    private static final Predicate<Integer> IS_EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 2 == 0;
+        }
+    };
+
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer value) {
+            return String.valueOf(value);
+        }
+    };
+
+    @Test
+    public void testForEachThroughOperatorChain() {
+        final List<Integer> peeked = new ArrayList<>();
+        final List<String> result = new ArrayList<>();
+        Stream.of(1, 2, 3, 4, 5, 6)
+                .peek(new Consumer<Integer>() {
+                    @Override
+                    public void accept(Integer value) {
+                        peeked.add(value);
+                    }
+                })
+                .filter(IS_EVEN)
+                .map(TO_STRING)
+                .forEach(new Consumer<String>() {
+                    @Override
+                    public void accept(String value) {
+                        result.add(value);
+                    }
+                });
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), peeked);
+        assertEquals(Arrays.asList("2", "4", "6"), result);
+    }
+
+    @Test
+    public void testTerminalOperations() {
+        assertEquals(Arrays.asList("2", "4"), Stream.of(1, 2, 3, 4, 5).filter(IS_EVEN).map(TO_STRING).toList());
+        assertEquals(2, Stream.of(1, 2, 3, 4, 5).filter(IS_EVEN).count());
+        assertEquals(Integer.valueOf(15), Stream.of(1, 2, 3, 4, 5).reduce(0, new BinaryOperator<Integer>() {
+            @Override
+            public Integer apply(Integer a, Integer b) {
+                return a + b;
+            }
+        }));
+        final StringBuilder sb = Stream.of(1, 2, 3).map(TO_STRING).collect(new Supplier<StringBuilder>() {
+            @Override
+            public StringBuilder get() {
+                return new StringBuilder();
+            }
+        }, new BiConsumer<StringBuilder, String>() {
+            @Override
+            public void accept(StringBuilder builder, String value) {
+                builder.append(value);
+            }
+        });
+        assertEquals("123", sb.toString());
+    }
+
+    @Test
+    public void testPrimitiveTerminalOperations() {
+        final IntPredicate isOdd = new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value % 2 != 0;
+            }
+        };
+        final IntUnaryOperator square = new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return value * value;
+            }
+        };
+        assertEquals(1 + 9 + 25 + 49 + 81, IntStream.range(0, 10).filter(isOdd).map(square).sum());
+        assertEquals(5, IntStream.range(0, 10).filter(isOdd).count());
+        assertEquals(5 * 4 * 3 * 2, IntStream.rangeClosed(2, 5).reduce(1, new IntBinaryOperator() {
+            @Override
+            public int applyAsInt(int a, int b) {
+                return a * b;
+            }
+        }));
+        final List<Integer> result = new ArrayList<>();
+        IntStream.concat(IntStream.of(1, 2), IntStream.of(3)).skip(1).forEach(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                result.add(value);
+            }
+        });
+        assertEquals(Arrays.asList(2, 3), result);
+    }
+
+    @Test
+    public void testUserIteratorFallsBackToPull() {
+        final Iterator<Integer> iterator = Arrays.asList(1, 2, 3, 4).iterator();
+        final Iterator<Integer> userIterator = new Iterator<Integer>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        assertEquals(Arrays.asList("2", "4"), Stream.of(userIterator).filter(IS_EVEN).map(TO_STRING).toList());
+    }
+
+    @Test
+    public void testLazyIteratorFailsFastOnModification() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        try {
+            new LazyIterator<>(list).forEachRemainingObj(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer value) {
+                    list.add(value);
+                }
+            });
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test
+    public void testLazyIteratorIteratesSnapshot() {
+        final List<Integer> list = new CopyOnWriteArrayList<>(Arrays.asList(1, 2, 3));
+        final List<Integer> result = new ArrayList<>();
+        new LazyIterator<>(list).forEachRemainingObj(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+                list.remove(value);
+            }
+        });
+        assertEquals(Arrays.asList(1, 2, 3), result);
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    public void testPushDoesNotOverloadIteratorForEachRemaining() {
+        // an overload would make a lambda passed to Iterator.forEachRemaining ambiguous
+        final Iterator<?>[] iterators = {
+                Stream.of(1, 2).map(TO_STRING).iterator(),
+                IntStream.of(1, 2).iterator(),
+                LongStream.of(1, 2).iterator(),
+                DoubleStream.of(1, 2).iterator(),
+        };
+        for (Iterator<?> iterator : iterators) {
+            for (Method method : iterator.getClass().getMethods()) {
+                if (method.getName().equals("forEachRemaining")) {
+                    assertEquals(iterator.getClass() + "", "java.util.function.Consumer", method.getParameterTypes()[0].getName());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrimitivePush() {
+        final StringBuilder result = new StringBuilder();
+        IntStream.of(1, 2, 3).map(new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return value * 2;
+            }
+        }).iterator().forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                result.append(value);
+            }
+        });
+        assertEquals("246", result.toString());
+    }
+}
@@ -0,0 +1,123 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.Comparators;
+import com.landawn.abacus.util.function.BiFunction;
+import com.landawn.abacus.util.function.Function;
+
+public class JoinTest {
+
+    // the key is the first character, "?" has no key
+    private static final Function<String, String> KEY = new Function<String, String>() {
+        @Override
+        public String apply(String value) {
+            return value.startsWith("?") ? null : value.substring(0, 1);
+        }
+    };
+
+    private static final BiFunction<String, String, String> PAIR = new BiFunction<String, String, String>() {
+        @Override
+        public String apply(String left, String right) {
+            return left + "-" + right;
+        }
+    };
+
+    private static final List<String> LEFT = Arrays.asList("a1", "b1", "?1", "a2", "c1");
+    private static final List<String> RIGHT = Arrays.asList("a9", "?9", "c9", "a8", "d9");
+
+    @Test
+    public void testHashJoins() {
+        assertEquals(Arrays.asList("a1-a9", "a1-a8", "a2-a9", "a2-a8", "c1-c9"),
+                Stream.of(LEFT).innerJoin(Stream.of(RIGHT), KEY, KEY, PAIR).toList());
+        assertEquals(Arrays.asList("a1-a9", "a1-a8", "b1-null", "?1-null", "a2-a9", "a2-a8", "c1-c9"),
+                Stream.of(LEFT).leftJoin(Stream.of(RIGHT), KEY, KEY, PAIR).toList());
+        assertEquals(Arrays.asList("a1", "a2", "c1"), Stream.of(LEFT).semiJoin(Stream.of(RIGHT), KEY, KEY).toList());
+        assertEquals(Arrays.asList("b1", "?1"), Stream.of(LEFT).antiJoin(Stream.of(RIGHT), KEY, KEY).toList());
+        assertEquals(0, Stream.of(LEFT).innerJoin(Stream.<String> empty(), KEY, KEY, PAIR).count());
+    }
+
+    @Test
+    public void testSortedJoins() {
+        final List<String> left = Arrays.asList("a1", "a2", "b1", "c1", "e1");
+        final List<String> right = Arrays.asList("a9", "a8", "c9", "d9", "e9");
+        final Comparator<String> natural = Comparators.<String> naturalOrder();
+        assertEquals(Arrays.asList("a1-a9", "a1-a8", "a2-a9", "a2-a8", "c1-c9", "e1-e9"),
+                Stream.of(left).innerJoinSorted(Stream.of(right), KEY, KEY, natural, PAIR).toList());
+        assertEquals(Arrays.asList("a1-a9", "a1-a8", "a2-a9", "a2-a8", "b1-null", "c1-c9", "e1-e9"),
+                Stream.of(left).leftJoinSorted(Stream.of(right), KEY, KEY, natural, PAIR).toList());
+        assertEquals(Arrays.asList("a1", "a2", "c1", "e1"), Stream.of(left).semiJoinSorted(Stream.of(right), KEY, KEY, natural).toList());
+        assertEquals(Arrays.asList("b1"), Stream.of(left).antiJoinSorted(Stream.of(right), KEY, KEY, natural).toList());
+    }
+
+    @Test
+    public void testSortedJoinMatchesHashJoin() {
+        final Random random = new Random(41);
+        final List<String> left = randomSorted(random, 300);
+        final List<String> right = randomSorted(random, 200);
+        final Comparator<String> natural = Comparators.<String> naturalOrder();
+        assertEquals(Stream.of(left).innerJoin(Stream.of(right), KEY, KEY, PAIR).toList(),
+                Stream.of(left).innerJoinSorted(Stream.of(right), KEY, KEY, natural, PAIR).toList());
+        assertEquals(Stream.of(left).leftJoin(Stream.of(right), KEY, KEY, PAIR).toList(),
+                Stream.of(left).leftJoinSorted(Stream.of(right), KEY, KEY, natural, PAIR).toList());
+        assertEquals(Stream.of(left).antiJoin(Stream.of(right), KEY, KEY).toList(),
+                Stream.of(left).antiJoinSorted(Stream.of(right), KEY, KEY, natural).toList());
+    }
+
+    @Test
+    public void testClosingJoinClosesOther() {
+        final int[] closed = new int[1];
+        final Stream<String> other = Stream.of(RIGHT).onClose(new Runnable() {
+            @Override
+            public void run() {
+                closed[0]++;
+            }
+        });
+        Stream.of(LEFT).semiJoin(other, KEY, KEY).close();
+        assertEquals(1, closed[0]);
+    }
+
+    @Test
+    public void testEntryStreamJoins() {
+        @SuppressWarnings("unchecked")
+        final EntryStream<String, Integer> left = EntryStream.of(entry("a", 1), entry("b", 2));
+        @SuppressWarnings("unchecked")
+        final EntryStream<String, String> right = EntryStream.of(entry("a", "x"), entry("c", "y"));
+        final Map<String, String> joined = left.innerJoin(right, new BiFunction<Integer, String, String>() {
+            @Override
+            public String apply(Integer value, String otherValue) {
+                return value + otherValue;
+            }
+        }).toMap();
+        assertEquals(Collections.singletonMap("a", "1x"), joined);
+    }
+
+    private static List<String> randomSorted(Random random, int size) {
+        final List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add((char) ('a' + random.nextInt(20)) + String.valueOf(i));
+        }
+        Collections.sort(result, new Comparator<String>() {
+            @Override
+            public int compare(String a, String b) {
+                return a.charAt(0) - b.charAt(0);
+            }
+        });
+        return result;
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -0,0 +1,110 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.Supplier;
+import com.landawn.abacus.util.stream.Collectors;
+
+public class LazyGroupByTest {
+
+    private static final Function<String, Integer> LENGTH = new Function<String, Integer>() {
+        @Override
+        public Integer apply(String value) {
+            return value.length();
+        }
+    };
+
+    @Test
+    public void testGroupingIsDeferredToTerminalOperation() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Stream<Map.Entry<Integer, List<String>>> groups = Stream.of("bc", "a", "d", "ghij", "ef")
+                .groupBy(new Function<String, Integer>() {
+                    @Override
+                    public Integer apply(String value) {
+                        calls.incrementAndGet();
+                        return value.length();
+                    }
+                });
+        assertEquals(0, calls.get());
+        final Iterator<Map.Entry<Integer, List<String>>> iterator = groups.iterator();
+        assertEquals(0, calls.get());
+        iterator.next();
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    public void testEncounterOrder() {
+        final List<Map.Entry<Integer, List<String>>> groups = Stream.of("bc", "a", "d", "ghij", "ef")
+                .groupBy(LENGTH, true).toList();
+        assertEquals(3, groups.size());
+        assertEquals(Integer.valueOf(2), groups.get(0).getKey());
+        assertEquals(Arrays.asList("bc", "ef"), groups.get(0).getValue());
+        assertEquals(Integer.valueOf(1), groups.get(1).getKey());
+        assertEquals(Arrays.asList("a", "d"), groups.get(1).getValue());
+        assertEquals(Integer.valueOf(4), groups.get(2).getKey());
+        assertEquals(Arrays.asList("ghij"), groups.get(2).getValue());
+    }
+
+    @Test
+    public void testDownstreamCollectorAndMapFactory() {
+        final Map<Integer, Long> counts = new HashMap<>();
+        for (Map.Entry<Integer, Long> entry : Stream.of("bc", "a", "d", "ghij", "ef")
+                .groupBy(LENGTH, Collectors.<String> counting()).toList()) {
+            counts.put(entry.getKey(), entry.getValue());
+        }
+        final Map<Integer, Long> expected = new HashMap<>();
+        expected.put(1, 2L);
+        expected.put(2, 2L);
+        expected.put(4, 1L);
+        assertEquals(expected, counts);
+
+        final List<Map.Entry<Integer, Long>> sorted = Stream.of("bc", "a", "d", "ghij", "ef")
+                .groupBy(LENGTH, Collectors.<String> counting(), new Supplier<TreeMap<Integer, Long>>() {
+                    @Override
+                    public TreeMap<Integer, Long> get() {
+                        return new TreeMap<>();
+                    }
+                }).toList();
+        assertEquals(Integer.valueOf(1), sorted.get(0).getKey());
+        assertEquals(Integer.valueOf(4), sorted.get(2).getKey());
+    }
+
+    @Test
+    public void testMapFactoryWithImmutableEntries() {
+        final ConcurrentSkipListMap<Integer, Long> map = new ConcurrentSkipListMap<>();
+        final List<Map.Entry<Integer, Long>> counts = Stream.of("bc", "a", "d", "ghij", "ef")
+                .groupBy(LENGTH, Collectors.<String> counting(), new Supplier<ConcurrentSkipListMap<Integer, Long>>() {
+                    @Override
+                    public ConcurrentSkipListMap<Integer, Long> get() {
+                        return map;
+                    }
+                }).toList();
+        assertEquals(3, counts.size());
+        assertEquals(Integer.valueOf(1), counts.get(0).getKey());
+        assertEquals(Long.valueOf(2), counts.get(0).getValue());
+        assertEquals(Long.valueOf(1), counts.get(2).getValue());
+        // the map holds the finished values
+        assertEquals(Long.valueOf(2), map.get(2));
+    }
+
+    @Test
+    public void testGroupByToEntryAndGroupTo() {
+        final Map<Integer, List<String>> map = Stream.of("bc", "a", "d").groupByToEntry(LENGTH).toMap();
+        assertEquals(Arrays.asList("a", "d"), map.get(1));
+        assertEquals(Arrays.asList("bc"), map.get(2));
+        assertEquals(map, Stream.of("bc", "a", "d").groupTo(LENGTH));
+        assertEquals(0, Stream.<String> empty().groupBy(LENGTH).count());
+    }
+}
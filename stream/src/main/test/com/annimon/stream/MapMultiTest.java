@@ -0,0 +1,105 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.annimon.stream.function.DoubleMapMultiConsumer;
+import com.annimon.stream.function.IntMapMultiConsumer;
+import com.annimon.stream.function.LongMapMultiConsumer;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.BiConsumer;
+import com.landawn.abacus.util.function.DoubleConsumer;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.LongConsumer;
+
+public class MapMultiTest {
+
+    // n is replaced by n copies of itself, more than the initial buffer for 10
+    private static final IntMapMultiConsumer REPEAT = new IntMapMultiConsumer() {
+        @Override
+        public void accept(int value, IntConsumer sink) {
+            for (int i = 0; i < value; i++) {
+                sink.accept(value);
+            }
+        }
+    };
+
+    @Test
+    public void testIntMapMulti() {
+        final int[] expected = new int[] { 1, 3, 3, 3, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 2, 2 };
+        assertArrayEquals(expected, IntStream.of(1, 0, 3, 10, 2).mapMulti(REPEAT).toArray());
+
+        // pulled one by one, the values of an element go through the buffer
+        final PrimitiveIterator.OfInt iterator = IntStream.of(1, 0, 3, 10, 2).mapMulti(REPEAT).iterator();
+        final int[] pulled = new int[expected.length];
+        for (int i = 0; i < pulled.length; i++) {
+            pulled[i] = iterator.nextInt();
+        }
+        assertArrayEquals(expected, pulled);
+        assertFalse(iterator.hasNext());
+
+        assertEquals(0, IntStream.of(0, 0).mapMulti(REPEAT).count());
+    }
+
+    @Test
+    public void testPullThenPush() {
+        final PrimitiveIterator.OfInt iterator = IntStream.of(3, 2).mapMulti(REPEAT).iterator();
+        assertEquals(3, iterator.nextInt());
+        final StringBuilder rest = new StringBuilder();
+        iterator.forEachRemainingInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                rest.append(value);
+            }
+        });
+        assertEquals("3322", rest.toString());
+    }
+
+    @Test
+    public void testLongAndDoubleMapMulti() {
+        assertArrayEquals(new long[] { -1, 1, -5, 5 }, LongStream.of(1, 5).mapMulti(new LongMapMultiConsumer() {
+            @Override
+            public void accept(long value, LongConsumer sink) {
+                sink.accept(-value);
+                sink.accept(value);
+            }
+        }).toArray());
+        assertArrayEquals(new double[] { 0.25, 2.25 }, DoubleStream.of(-1, 0.5, 1.5).mapMulti(new DoubleMapMultiConsumer() {
+            @Override
+            public void accept(double value, DoubleConsumer sink) {
+                if (value > 0) {
+                    sink.accept(value * value);
+                }
+            }
+        }).toArray(), 0.0);
+    }
+
+    @Test
+    public void testObjectMapMultiToPrimitives() {
+        assertArrayEquals(new int[] { 'a', 'b', 'c' }, Stream.of("ab", "", "c").mapMultiToInt(new BiConsumer<String, IntConsumer>() {
+            @Override
+            public void accept(String value, IntConsumer sink) {
+                for (int i = 0; i < value.length(); i++) {
+                    sink.accept(value.charAt(i));
+                }
+            }
+        }).toArray());
+        assertEquals(Arrays.asList(3L, 1L), Stream.of("abc", "d").mapMultiToLong(new BiConsumer<String, LongConsumer>() {
+            @Override
+            public void accept(String value, LongConsumer sink) {
+                sink.accept(value.length());
+            }
+        }).boxed().toList());
+        assertEquals(3.0, Stream.of(1, 2).mapMultiToDouble(new BiConsumer<Integer, DoubleConsumer>() {
+            @Override
+            public void accept(Integer value, DoubleConsumer sink) {
+                sink.accept(value);
+            }
+        }).sum(), 0.0);
+    }
+}
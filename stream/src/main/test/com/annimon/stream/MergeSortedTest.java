@@ -0,0 +1,90 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.annimon.stream.operator.ObjMerge;
+import com.landawn.abacus.util.Comparators;
+import com.landawn.abacus.util.function.BiFunction;
+
+public class MergeSortedTest {
+
+    private static final Comparator<String> BY_FIRST_CHAR = new Comparator<String>() {
+        @Override
+        public int compare(String a, String b) {
+            return a.charAt(0) - b.charAt(0);
+        }
+    };
+
+    @Test
+    public void testMergeManyStreams() {
+        final Random random = new Random(37);
+        final List<Stream<Integer>> streams = new ArrayList<>();
+        final List<Integer> expected = new ArrayList<>();
+        for (int s = 0; s < 20; s++) {
+            final List<Integer> values = new ArrayList<>();
+            for (int i = random.nextInt(50); i > 0; i--) {
+                values.add(random.nextInt(1000));
+            }
+            Collections.sort(values);
+            expected.addAll(values);
+            streams.add(Stream.of(values));
+        }
+        Collections.sort(expected);
+        assertEquals(expected, Stream.mergeSorted(streams, Comparators.<Integer> naturalOrder()).toList());
+    }
+
+    @Test
+    public void testEqualElementsInStreamOrder() {
+        final List<Stream<String>> streams = new ArrayList<>();
+        streams.add(Stream.of("a1", "b1", "b2"));
+        streams.add(Stream.<String> empty());
+        streams.add(Stream.of("a2", "b3", "c1"));
+        streams.add(Stream.of("a3"));
+        assertEquals(Arrays.asList("a1", "a2", "a3", "b1", "b2", "b3", "c1"),
+                Stream.mergeSorted(streams, BY_FIRST_CHAR).toList());
+        assertEquals(0, Stream.mergeSorted(new ArrayList<Stream<String>>(), BY_FIRST_CHAR).count());
+    }
+
+    @Test
+    public void testPrimitiveMergeSorted() {
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 6, 7 },
+                IntStream.mergeSorted(Arrays.asList(IntStream.of(1, 4, 7), IntStream.of(2, 5), IntStream.of(3, 6))).toArray());
+        assertArrayEquals(new long[] { -5, 0, 0, 9 },
+                LongStream.mergeSorted(Arrays.asList(LongStream.of(0, 9), LongStream.of(-5, 0))).toArray());
+        assertArrayEquals(new double[] { -1.5, 0.5, 2.5 },
+                DoubleStream.mergeSorted(Arrays.asList(DoubleStream.of(0.5), DoubleStream.of(-1.5, 2.5))).toArray(), 0.0);
+    }
+
+    @Test
+    public void testRoundRobin() {
+        final List<Stream<Integer>> streams = new ArrayList<>();
+        streams.add(Stream.of(1, 2, 3, 4));
+        streams.add(Stream.of(5, 6));
+        streams.add(Stream.<Integer> empty());
+        streams.add(Stream.of(7, 8, 9));
+        assertEquals(Arrays.asList(1, 5, 7, 2, 6, 8, 3, 9, 4), Stream.roundRobin(streams).toList());
+    }
+
+    @Test
+    public void testTwoWayMerge() {
+        final BiFunction<Integer, Integer, ObjMerge.MergeResult> smaller = new BiFunction<Integer, Integer, ObjMerge.MergeResult>() {
+            @Override
+            public ObjMerge.MergeResult apply(Integer a, Integer b) {
+                return (a <= b) ? ObjMerge.MergeResult.TAKE_FIRST : ObjMerge.MergeResult.TAKE_SECOND;
+            }
+        };
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), Stream.merge(Stream.of(1, 3, 5), Stream.of(2, 4, 6), smaller).toList());
+        assertEquals(Arrays.asList(1, 2, 3), Stream.merge(Stream.<Integer> empty(), Stream.of(1, 2, 3), smaller).toList());
+        assertEquals(Arrays.asList(1, 2, 3, 9), Stream.merge(Stream.of(1, 2, 9), Stream.of(3), smaller).toList());
+    }
+}
@@ -0,0 +1,170 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.IntFunction;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.IntUnaryOperator;
+
+public class ParallelTest {
+
+    private static final IntPredicate IS_EVEN = new IntPredicate() {
+        @Override
+        public boolean test(int value) {
+            return value % 2 == 0;
+        }
+    };
+
+    @Test
+    public void testResultsKeepEncounterOrder() {
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i += 2) {
+            expected.add(i * 3);
+        }
+        final List<Integer> result = IntStream.range(0, 10000).parallel().filter(IS_EVEN).map(new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return value * 3;
+            }
+        }).boxed().toList();
+        assertEquals(expected, result);
+        assertEquals(5000, IntStream.range(0, 10000).parallel().filter(IS_EVEN).count());
+        assertEquals(49995000, IntStream.range(0, 10000).parallel().sum());
+    }
+
+    @Test
+    public void testSplitsListSources() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            list.add(i);
+        }
+        final Set<String> threads = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final String[] result = Stream.of(list).parallel().map(new Function<Integer, String>() {
+            @Override
+            public String apply(Integer value) {
+                threads.add(Thread.currentThread().getName());
+                return String.valueOf(value);
+            }
+        }).toArray(new IntFunction<String[]>() {
+            @Override
+            public String[] apply(int size) {
+                return new String[size];
+            }
+        });
+        assertEquals(String[].class, result.getClass());
+        assertEquals(5000, result.length);
+        for (int i = 0; i < result.length; i++) {
+            assertEquals(String.valueOf(i), result[i]);
+        }
+        assertFalse(threads.isEmpty());
+    }
+
+    @Test
+    public void testCustomExecutorWithSingleThread() {
+        // The caller evaluates the parts the only thread has not started
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(49995000, IntStream.range(0, 10000).parallel(executor).sum());
+            assertArrayEquals(new int[] { 0, 2, 4 }, IntStream.range(0, 6).parallel(executor).filter(IS_EVEN).toArray());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testNestedParallelStreamsOnSmallPool() {
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final AtomicInteger total = new AtomicInteger();
+            IntStream.range(0, 8).parallel(pool).forEach(new IntConsumer() {
+                @Override
+                public void accept(int value) {
+                    total.addAndGet(IntStream.range(0, 1000).parallel(pool).sum());
+                }
+            });
+            assertEquals(8 * 499500, total.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testExceptionFromPart() {
+        try {
+            IntStream.range(0, 10000).parallel().forEach(new IntConsumer() {
+                @Override
+                public void accept(int value) {
+                    if (value == 1234) {
+                        throw new IllegalArgumentException("part");
+                    }
+                }
+            });
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testParallelDoesNotChangeOriginalStream() {
+        final Stream<Integer> stream = Stream.of(1, 2, 3).onClose(new Counter());
+        final Stream<Integer> parallel = stream.parallel();
+        assertTrue(parallel.isParallel());
+        assertFalse(stream.isParallel());
+        assertFalse(parallel.sequential().isParallel());
+        assertTrue(parallel.isParallel());
+    }
+
+    @Test
+    public void testOnCloseAfterParallel() {
+        final Counter counter = new Counter();
+        Stream.of(1, 2, 3).parallel().onClose(counter).close();
+        IntStream.of(1, 2, 3).parallel().onClose(counter).close();
+        LongStream.of(1, 2, 3).parallel().onClose(counter).close();
+        DoubleStream.of(1, 2, 3).parallel().onClose(counter).close();
+
+        final Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        EntryStream.of(map).parallel().onClose(counter).close();
+        assertEquals(5, counter.count);
+    }
+
+    @Test
+    public void testCloseHandlersKeptByParallel() {
+        final Counter first = new Counter();
+        final Counter second = new Counter();
+        final Stream<Integer> stream = Stream.of(1, 2, 3).onClose(first).parallel().onClose(second);
+        stream.close();
+        stream.close();
+        assertEquals(1, first.count);
+        assertEquals(1, second.count);
+    }
+
+    private static final class Counter implements Runnable {
+        int count;
+
+        @Override
+        public void run() {
+            count++;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.annimon.stream.function.DoubleComparator;
+import com.annimon.stream.function.IntComparator;
+import com.annimon.stream.function.LongComparator;
+import com.landawn.abacus.util.Comparators;
+
+public class PrimitiveComparatorTest {
+
+    private static final IntComparator BY_ABS = new IntComparator() {
+        @Override
+        public int compare(int value1, int value2) {
+            return Integer.compare(Math.abs(value1), Math.abs(value2));
+        }
+    };
+
+    @Test
+    public void testIntComparatorSortIsStable() {
+        assertArrayEquals(new int[] { -1, 1, 2, -2, 3, -4 }, IntStream.of(3, -1, 1, -4, 2, -2).sortedWith(BY_ABS).toArray());
+
+        final Random random = new Random(31);
+        final List<Integer> boxed = new ArrayList<>();
+        final int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(200) - 100;
+            boxed.add(values[i]);
+        }
+        // Collections.sort is stable, so both orders of equal absolute values must agree
+        Collections.sort(boxed, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return BY_ABS.compare(a, b);
+            }
+        });
+        final int[] expected = new int[boxed.size()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = boxed.get(i);
+        }
+        assertArrayEquals(expected, IntStream.of(values).sortedWith(BY_ABS).toArray());
+    }
+
+    @Test
+    public void testBoxedComparators() {
+        assertArrayEquals(new int[] { 4, 3, 2, 1 }, IntStream.of(1, 3, 2, 4).sorted(Collections.<Integer> reverseOrder()).toArray());
+        assertArrayEquals(new int[] { 4, 3, 2, 1 }, IntStream.of(1, 3, 2, 4).sorted(Comparators.<Integer> reversedOrder()).toArray());
+        assertArrayEquals(new int[] { 1, 2, 3, 4 }, IntStream.of(1, 3, 2, 4).sorted(Comparators.<Integer> naturalOrder()).toArray());
+        assertArrayEquals(new int[] { 1, 2, 3, 4 }, IntStream.of(1, 3, 2, 4).sorted(null).toArray());
+        // an untyped argument resolves to the only comparator overload
+        assertArrayEquals(new int[] { 1, -2, 3 }, IntStream.of(3, -2, 1).sorted(new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Math.abs(a) - Math.abs(b);
+            }
+        }).toArray());
+        assertArrayEquals(new long[] { 3, 2, 1 }, LongStream.of(2, 1, 3).sorted(Collections.<Long> reverseOrder()).toArray());
+        assertArrayEquals(new double[] { 2.5, 1.5, -0.5 },
+                DoubleStream.of(1.5, -0.5, 2.5).sorted(Collections.<Double> reverseOrder()).toArray(), 0.0);
+    }
+
+    @Test
+    public void testLongAndDoubleComparators() {
+        assertArrayEquals(new long[] { 10, 31, 21, 42 }, LongStream.of(31, 42, 10, 21).sortedWith(new LongComparator() {
+            @Override
+            public int compare(long value1, long value2) {
+                return Long.compare(value1 % 10, value2 % 10);
+            }
+        }).toArray());
+        assertArrayEquals(new double[] { 3.0, 1.0, 2.0 }, DoubleStream.of(1.0, 2.0, 3.0).sortedWith(new DoubleComparator() {
+            @Override
+            public int compare(double value1, double value2) {
+                return Double.compare(value1 % 3, value2 % 3);
+            }
+        }).toArray(), 0.0);
+    }
+}
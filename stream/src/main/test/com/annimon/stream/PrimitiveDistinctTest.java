@@ -0,0 +1,110 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.annimon.stream.internal.PrimitiveHashSet;
+
+public class PrimitiveDistinctTest {
+
+    @Test
+    public void testIntDistinctKeepsFirstOccurrence() {
+        assertArrayEquals(new int[] { 3, 1, 2, -5 }, IntStream.of(3, 1, 3, 2, 1, -5, 2, -5).distinct().toArray());
+        assertArrayEquals(new int[] { Integer.MIN_VALUE, Integer.MAX_VALUE, 0 },
+                IntStream.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, Integer.MAX_VALUE, Integer.MIN_VALUE).distinct().toArray());
+        assertArrayEquals(new int[0], IntStream.empty().distinct().toArray());
+    }
+
+    @Test
+    public void testIntDistinctDenseThenSparse() {
+        // a dense range first uses the bitset, the far values switch back to the table
+        final int[] values = new int[3000];
+        for (int i = 0; i < 2000; i++) {
+            values[i] = i % 500;
+        }
+        final Random random = new Random(42);
+        for (int i = 2000; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+        assertArrayEquals(expectedDistinct(values), IntStream.of(values).distinct().toArray());
+    }
+
+    @Test
+    public void testIntDistinctRandom() {
+        final Random random = new Random(7);
+        final int[] values = new int[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(4000) - 2000;
+        }
+        assertArrayEquals(expectedDistinct(values), IntStream.of(values).distinct().toArray());
+    }
+
+    @Test
+    public void testLongDistinct() {
+        assertArrayEquals(new long[] { Long.MAX_VALUE, 1L, Long.MIN_VALUE, 1L << 40 },
+                LongStream.of(Long.MAX_VALUE, 1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 40, 1L, 1L << 40).distinct().toArray());
+
+        final Random random = new Random(11);
+        final long[] values = new long[10000];
+        final Set<Long> expected = new LinkedHashSet<>();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i < 5000) ? random.nextInt(1000) : random.nextLong() % 3000;
+            expected.add(values[i]);
+        }
+        final long[] result = LongStream.of(values).distinct().toArray();
+        assertEquals(expected.size(), result.length);
+        int i = 0;
+        for (Long value : expected) {
+            assertEquals(value.longValue(), result[i++]);
+        }
+    }
+
+    @Test
+    public void testDoubleDistinctEquality() {
+        // NaN equals NaN, 0.0 differs from -0.0, as with boxed Double
+        final double[] result = DoubleStream.of(Double.NaN, 0.0, -0.0, 1.5, Double.NaN, 0.0, -0.0, 1.5,
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY).distinct().toArray();
+        assertArrayEquals(new double[] { Double.NaN, 0.0, -0.0, 1.5, Double.POSITIVE_INFINITY }, result, 0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(result[2]));
+    }
+
+    @Test
+    public void testHashSetAdd() {
+        final PrimitiveHashSet.OfInt set = new PrimitiveHashSet.OfInt();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.add(i * 7919));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(set.add(i * 7919));
+        }
+        assertEquals(1000, set.size());
+
+        final PrimitiveHashSet.OfLong longSet = new PrimitiveHashSet.OfLong();
+        assertTrue(longSet.add(Long.MIN_VALUE));
+        assertTrue(longSet.add(Long.MAX_VALUE));
+        assertTrue(longSet.add(0L));
+        assertFalse(longSet.add(Long.MIN_VALUE));
+        assertEquals(3, longSet.size());
+    }
+
+    private static int[] expectedDistinct(int[] values) {
+        final Set<Integer> set = new LinkedHashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        final int[] result = new int[set.size()];
+        int i = 0;
+        for (Integer value : set) {
+            result[i++] = value;
+        }
+        return result;
+    }
+}
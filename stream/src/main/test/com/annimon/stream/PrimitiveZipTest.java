@@ -0,0 +1,136 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.annimon.stream.operator.ObjMerge;
+import com.landawn.abacus.util.function.DoubleBiFunction;
+import com.landawn.abacus.util.function.DoubleBinaryOperator;
+import com.landawn.abacus.util.function.IntBiFunction;
+import com.landawn.abacus.util.function.IntBinaryOperator;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.LongBiFunction;
+import com.landawn.abacus.util.function.LongBinaryOperator;
+
+public class PrimitiveZipTest {
+
+    private static final IntBinaryOperator MINUS = new IntBinaryOperator() {
+        @Override
+        public int applyAsInt(int left, int right) {
+            return left - right;
+        }
+    };
+
+    private static final IntBiFunction<ObjMerge.MergeResult> SMALLER = new IntBiFunction<ObjMerge.MergeResult>() {
+        @Override
+        public ObjMerge.MergeResult apply(int a, int b) {
+            return (a <= b) ? ObjMerge.MergeResult.TAKE_FIRST : ObjMerge.MergeResult.TAKE_SECOND;
+        }
+    };
+
+    @Test
+    public void testZipStopsAtShorterStream() {
+        assertArrayEquals(new int[] { 9, 18 }, IntStream.zip(IntStream.of(10, 20, 30), IntStream.of(1, 2), MINUS).toArray());
+        assertArrayEquals(new int[] { -9, -18 }, IntStream.zip(new int[] { 1, 2 }, new int[] { 10, 20, 30 }, MINUS).toArray());
+        assertEquals(0, IntStream.zip(IntStream.empty(), IntStream.of(1), MINUS).count());
+        assertArrayEquals(new long[] { 3, 7 }, LongStream.zip(LongStream.of(1, 3), LongStream.of(2, 4), new LongBinaryOperator() {
+            @Override
+            public long applyAsLong(long left, long right) {
+                return left + right;
+            }
+        }).toArray());
+        assertArrayEquals(new double[] { 0.5 }, DoubleStream.zip(new double[] { 1 }, new double[] { 2, 3 }, new DoubleBinaryOperator() {
+            @Override
+            public double applyAsDouble(double left, double right) {
+                return left / right;
+            }
+        }).toArray(), 0.0);
+    }
+
+    @Test
+    public void testZipOfUnknownSizesAcrossBatches() {
+        // filtered streams have no exact size, so the values are zipped in batches
+        final IntPredicate notMultipleOf3 = new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value % 3 != 0;
+            }
+        };
+        final int n = 5000;
+        final int[] first = IntStream.range(0, n).filter(notMultipleOf3).toArray();
+        final int[] second = IntStream.range(0, n / 2).toArray();
+        final int size = Math.min(first.length, second.length);
+        final int[] expected = new int[size];
+        for (int i = 0; i < size; i++) {
+            expected[i] = first[i] - second[i];
+        }
+        assertArrayEquals(expected, IntStream.zip(IntStream.range(0, n).filter(notMultipleOf3), IntStream.range(0, n / 2), MINUS).toArray());
+
+        // the same values pulled one by one
+        final PrimitiveIterator.OfInt iterator = IntStream.zip(IntStream.range(0, n).filter(notMultipleOf3), IntStream.range(0, n / 2), MINUS).iterator();
+        for (int i = 0; i < size; i++) {
+            assertEquals(expected[i], iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testZipToObj() {
+        assertEquals(Arrays.asList("1a", "2b"), IntStream.zipToObj(new int[] { 1, 2, 3 }, new int[] { 'a', 'b' }, new IntBiFunction<String>() {
+            @Override
+            public String apply(int a, int b) {
+                return a + String.valueOf((char) b);
+            }
+        }).toList());
+        assertEquals(Arrays.asList(2L, 12L), LongStream.zipToObj(LongStream.of(1, 3), LongStream.of(2, 4), new LongBiFunction<Long>() {
+            @Override
+            public Long apply(long a, long b) {
+                return a * b;
+            }
+        }).toList());
+        assertEquals(Arrays.asList(true), DoubleStream.zipToObj(DoubleStream.of(1.5), DoubleStream.of(0.5, 7), new DoubleBiFunction<Boolean>() {
+            @Override
+            public Boolean apply(double a, double b) {
+                return a > b;
+            }
+        }).toList());
+    }
+
+    @Test
+    public void testMerge() {
+        assertArrayEquals(new int[] { 1, 2, 3, 4, 5, 9 }, IntStream.merge(IntStream.of(1, 4, 5), IntStream.of(2, 3, 9), SMALLER).toArray());
+        assertArrayEquals(new int[] { 1, 2 }, IntStream.merge(new int[0], new int[] { 1, 2 }, SMALLER).toArray());
+        assertArrayEquals(new int[] { 1, 2 }, IntStream.merge(new int[] { 1, 2 }, new int[0], SMALLER).toArray());
+        assertArrayEquals(new long[] { 1, 2, 3 }, LongStream.merge(LongStream.of(3), LongStream.of(1, 2), new LongBiFunction<ObjMerge.MergeResult>() {
+            @Override
+            public ObjMerge.MergeResult apply(long a, long b) {
+                return (a <= b) ? ObjMerge.MergeResult.TAKE_FIRST : ObjMerge.MergeResult.TAKE_SECOND;
+            }
+        }).toArray());
+    }
+
+    @Test
+    public void testClosingClosesBothStreams() {
+        final int[] closed = new int[2];
+        final IntStream a = IntStream.of(1).onClose(new Runnable() {
+            @Override
+            public void run() {
+                closed[0]++;
+            }
+        });
+        final IntStream b = IntStream.of(2).onClose(new Runnable() {
+            @Override
+            public void run() {
+                closed[1]++;
+            }
+        });
+        IntStream.zip(a, b, MINUS).close();
+        assertArrayEquals(new int[] { 1, 1 }, closed);
+    }
+}
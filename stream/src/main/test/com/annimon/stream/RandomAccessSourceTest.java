@@ -0,0 +1,115 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Consumer;
+
+public class RandomAccessSourceTest {
+
+    @Test
+    public void testSkipLimitOnArrayList() {
+        final List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(Arrays.asList(40, 41, 42), Stream.of(list).skip(40).limit(3).toList());
+        assertEquals(60, Stream.of(list).skip(40).count());
+        assertEquals(0, Stream.of(list).skip(200).count());
+        assertEquals(Integer.valueOf(99), Stream.of(list).skip(10).findLast().get());
+        assertEquals(Integer.valueOf(15), Stream.of(list).skip(10).elementAt(5).get());
+        assertFalse(Stream.of(list).skip(10).limit(5).elementAt(5).isPresent());
+    }
+
+    @Test
+    public void testArraysAsListAndArrays() {
+        assertEquals(Arrays.asList("c", "d"), Stream.of(Arrays.asList("a", "b", "c", "d", "e")).skip(2).limit(2).toList());
+        assertEquals(3, Stream.of("a", "b", "c", "d").skip(1).count());
+        assertEquals("d", Stream.of("a", "b", "c", "d").findLast().get());
+        assertEquals(7, IntStream.range(0, 10).skip(3).count());
+        assertEquals(9, IntStream.range(0, 10).findLast().get());
+        assertEquals(5L, LongStream.of(1, 2, 3, 4, 5).skip(4).findLast().get());
+        assertEquals(2, DoubleStream.of(1, 2, 3).limit(2).count());
+        assertEquals(2.0, DoubleStream.of(1, 2, 3).elementAt(1).get(), 0.0);
+    }
+
+    @Test
+    public void testOtherListsUseTheirIterator() {
+        final List<Integer> linked = new LinkedList<>(Arrays.asList(1, 2, 3, 4));
+        assertEquals(Arrays.asList(3, 4), Stream.of(linked).skip(2).toList());
+        assertEquals(Integer.valueOf(4), Stream.of(linked).findLast().get());
+    }
+
+    @Test
+    public void testArrayListModificationFailsFast() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        try {
+            Stream.of(list).forEach(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer value) {
+                    if (value == 1) {
+                        list.add(4);
+                    }
+                }
+            });
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test
+    public void testArrayListModificationByLastElementFailsFast() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        try {
+            Stream.of(list).forEach(new Consumer<Integer>() {
+                @Override
+                public void accept(Integer value) {
+                    if (value == 3) {
+                        list.remove(0);
+                    }
+                }
+            });
+            fail("ConcurrentModificationException expected");
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test
+    public void testCopyOnWriteListIteratesSnapshot() {
+        final List<Integer> list = new CopyOnWriteArrayList<>(Arrays.asList(1, 2, 3));
+        final List<Integer> result = new ArrayList<>();
+        Stream.of(list).forEach(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+                list.clear();
+            }
+        });
+        assertEquals(Arrays.asList(1, 2, 3), result);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        final Iterator<Integer> iterator = Stream.of(list).skip(1).iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        assertEquals(Arrays.asList(1, 3, 5), list);
+    }
+}
@@ -0,0 +1,111 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RollingTest {
+
+    private static final double MAX = Double.MAX_VALUE;
+    private static final double INF = Double.POSITIVE_INFINITY;
+    private static final double NAN = Double.NaN;
+
+    @Test
+    public void testRollingSumOverflowRecovers() {
+        assertArrayEquals(new double[] { INF, INF, 2.0 }, DoubleStream.of(MAX, MAX, 1, 1).rollingSum(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { INF, INF, 1.0 }, DoubleStream.of(MAX, MAX, 1, 1).rollingMean(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { -INF, -INF, 10.0, 6.0 }, DoubleStream.of(-MAX, -MAX, 5, 5, 1).rollingSum(2).toArray(), 0.0);
+        // an overflow in a later window, and the sum overflowing again when it is summed from the window
+        assertArrayEquals(new double[] { MAX, INF, INF, INF, INF, INF, INF, 3.0 },
+                DoubleStream.of(1, 2, MAX, MAX, 1, MAX, MAX, 1, 1, 1).rollingSum(3).toArray(), 0.0);
+    }
+
+    @Test
+    public void testRollingSumWithNonFiniteValues() {
+        assertArrayEquals(new double[] { NAN, NAN, 5.0 }, DoubleStream.of(1, NAN, 2, 3).rollingSum(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { INF, -INF, -INF, 5.0 }, DoubleStream.of(INF, 1, -INF, 2, 3).rollingSum(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { NAN, -INF, 3.0 }, DoubleStream.of(INF, -INF, 1, 2).rollingSum(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { NAN, -INF, 2.5 }, DoubleStream.of(INF, -INF, 2, 3).rollingMean(2).toArray(), 0.0);
+        // an overflowed sum of the finite values and an infinite value of the other sign give NaN, as a plain sum does
+        assertArrayEquals(new double[] { NAN, NAN, -INF, 3.0 }, DoubleStream.of(MAX, MAX, -INF, 1, 1, 1).rollingSum(3).toArray(), 0.0);
+    }
+
+    @Test
+    public void testRollingSumDoesNotDrift() {
+        final Random random = new Random(53);
+        final double[] values = new double[20000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12));
+        }
+        final int windowSize = 10;
+        final double[] sums = DoubleStream.of(values).rollingSum(windowSize).toArray();
+        assertEquals(values.length - windowSize + 1, sums.length);
+        for (int i = 0; i < sums.length; i++) {
+            BigDecimal exact = BigDecimal.ZERO;
+            for (int j = i; j < i + windowSize; j++) {
+                exact = exact.add(new BigDecimal(values[j]));
+            }
+            final double expected = exact.doubleValue();
+            assertEquals(expected, sums[i], Math.max(2 * Math.ulp(expected), 1e-9));
+        }
+    }
+
+    @Test
+    public void testIntegralRolling() {
+        assertArrayEquals(new int[] { 6, 9, 12 }, IntStream.of(1, 2, 3, 4, 5).rollingSum(3).toArray());
+        assertArrayEquals(new int[] { 3 }, IntStream.of(1, 2).rollingSum(5).toArray());
+        assertArrayEquals(new double[] { 2.0, 3.0, 4.0 }, IntStream.of(1, 2, 3, 4, 5).rollingMean(3).toArray(), 0.0);
+        assertArrayEquals(new long[] { Long.MAX_VALUE, -1 },
+                LongStream.of(Long.MAX_VALUE, 0, -1).rollingSum(2).toArray());
+        assertArrayEquals(new int[] { 1, 1, 1, 1 }, IntStream.of(3, 1, 4, 1, 5, 9).rollingMin(3).toArray());
+        assertArrayEquals(new long[] { 4, 4, 5, 9 }, LongStream.of(3, 1, 4, 1, 5, 9).rollingMax(3).toArray());
+        assertEquals(0, IntStream.empty().rollingSum(3).count());
+    }
+
+    @Test
+    public void testLongRollingMeanDoesNotOverflow() {
+        final long max = Long.MAX_VALUE;
+        final long min = Long.MIN_VALUE;
+        assertArrayEquals(new double[] { max }, LongStream.of(max, max).rollingMean(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { 2.0 * min / 3, (min + 1.0) / 3, 1.0 },
+                LongStream.of(min, min, 0, 1, 2).rollingMean(3).toArray(), 0.0);
+        assertArrayEquals(new double[] { -0.5, -0.5, -0.5, max, 0x1p62 },
+                LongStream.of(min, max, min, max, max, 1).rollingMean(2).toArray(), 0.0);
+        // the sums themselves wrap as LongStream.sum() does
+        assertArrayEquals(new long[] { -2 }, LongStream.of(max, max).rollingSum(2).toArray());
+
+        // exact means of random values near the limits
+        final Random random = new Random(67);
+        final long[] values = new long[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextBoolean() ? max - random.nextInt(1000) : min + random.nextInt(1000);
+        }
+        final int windowSize = 7;
+        final double[] means = LongStream.of(values).rollingMean(windowSize).toArray();
+        for (int i = 0; i < means.length; i++) {
+            BigDecimal exact = BigDecimal.ZERO;
+            for (int j = i; j < i + windowSize; j++) {
+                exact = exact.add(BigDecimal.valueOf(values[j]));
+            }
+            final double expected = exact.divide(BigDecimal.valueOf(windowSize), MathContext.DECIMAL128).doubleValue();
+            assertEquals(expected, means[i], Math.ulp(0x1p63));
+        }
+    }
+
+    @Test
+    public void testDoubleRollingExtremum() {
+        assertArrayEquals(new double[] { 1.0, 1.0, 1.0, 1.0 }, DoubleStream.of(3, 1, 4, 1, 5, 9).rollingMin(3).toArray(), 0.0);
+        assertArrayEquals(new double[] { NAN, NAN, 5.0 }, DoubleStream.of(1, NAN, 2, 5).rollingMax(2).toArray(), 0.0);
+        assertArrayEquals(new double[] { -INF, 2.0 }, DoubleStream.of(-INF, 2, 3).rollingMin(2).toArray(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindowSize() {
+        DoubleStream.of(1).rollingSum(0);
+    }
+}
@@ -0,0 +1,113 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.annimon.stream.iterator.PrimitiveIterator;
+
+public class ScanTest {
+
+    @Test
+    public void testRunningStats() {
+        final List<RunningStatistics> stats = DoubleStream.of(1, 2, 3, 4).runningStats().toList();
+        assertEquals(4, stats.size());
+        assertEquals(1, stats.get(0).getCount());
+        assertEquals(0.0, stats.get(0).getVariance(), 0.0);
+        assertEquals(Double.NaN, stats.get(0).getSampleVariance(), 0.0);
+        assertEquals(1.5, stats.get(1).getMean(), 0.0);
+        assertEquals(0.25, stats.get(1).getVariance(), 0.0);
+        assertEquals(2.5, stats.get(3).getMean(), 0.0);
+        assertEquals(1.25, stats.get(3).getVariance(), 1e-15);
+        assertEquals(5.0 / 3, stats.get(3).getSampleVariance(), 1e-15);
+        assertEquals(1.0, stats.get(3).getMin(), 0.0);
+        assertEquals(4.0, stats.get(3).getMax(), 0.0);
+
+        final RunningStatistics last = IntStream.of(5, -3, 7).runningStats().toList().get(2);
+        assertEquals(3, last.getCount());
+        assertEquals(3.0, last.getMean(), 0.0);
+        assertEquals(-3.0, last.getMin(), 0.0);
+        assertEquals(7.0, last.getMax(), 0.0);
+        assertEquals(0, LongStream.empty().runningStats().count());
+    }
+
+    @Test
+    public void testRunningVarianceKeepsPrecision() {
+        // a large offset makes the variance from the sum of squares useless
+        final Random random = new Random(59);
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1e9 + random.nextDouble();
+        }
+        BigDecimal sum = BigDecimal.ZERO;
+        for (double value : values) {
+            sum = sum.add(new BigDecimal(value));
+        }
+        final BigDecimal exactMean = sum.divide(BigDecimal.valueOf(values.length), MathContext.DECIMAL128);
+        BigDecimal squares = BigDecimal.ZERO;
+        for (double value : values) {
+            final BigDecimal deviation = new BigDecimal(value).subtract(exactMean);
+            squares = squares.add(deviation.multiply(deviation));
+        }
+        final double mean = exactMean.doubleValue();
+        final double variance = squares.divide(BigDecimal.valueOf(values.length), MathContext.DECIMAL128).doubleValue();
+        final List<RunningStatistics> stats = DoubleStream.of(values).runningStats().toList();
+        final RunningStatistics last = stats.get(values.length - 1);
+        assertEquals(mean, last.getMean(), 1e-6);
+        assertEquals(variance, last.getVariance(), 1e-6);
+    }
+
+    @Test
+    public void testEwma() {
+        assertArrayEquals(new double[] { 1.0, 1.5, 2.25, 3.125 }, DoubleStream.of(1, 2, 3, 4).ewma(0.5).toArray(), 0.0);
+        assertArrayEquals(new double[] { 4.0, -1.0 }, IntStream.of(4, -1).ewma(1).toArray(), 0.0);
+        assertArrayEquals(new double[] { 10.0, 8.0 }, LongStream.of(10, 0).ewma(0.2).toArray(), 1e-15);
+
+        // batches and single values give the same averages
+        final double[] values = randomValues(3000);
+        final double[] averages = DoubleStream.of(values).ewma(0.1).toArray();
+        final PrimitiveIterator.OfDouble iterator = DoubleStream.of(values).ewma(0.1).iterator();
+        for (double average : averages) {
+            assertEquals(average, iterator.nextDouble(), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEwmaRejectsZeroAlpha() {
+        DoubleStream.of(1).ewma(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEwmaRejectsNaNAlpha() {
+        IntStream.of(1).ewma(Double.NaN);
+    }
+
+    @Test
+    public void testCumulativeExtremum() {
+        assertArrayEquals(new double[] { 3, 1, 1, 1, 1 }, DoubleStream.of(3, 1, 4, 1, 5).cumulativeMin().toArray(), 0.0);
+        assertArrayEquals(new double[] { 3, 3, 4, 4, 5 }, DoubleStream.of(3, 1, 4, 1, 5).cumulativeMax().toArray(), 0.0);
+        assertArrayEquals(new double[] { 1, Double.NaN, Double.NaN }, DoubleStream.of(1, Double.NaN, 0).cumulativeMin().toArray(), 0.0);
+        assertArrayEquals(new int[] { 3, 1, 1, -2 }, IntStream.of(3, 1, 4, -2).cumulativeMin().toArray());
+        assertArrayEquals(new long[] { Long.MIN_VALUE, 0, 0 }, LongStream.of(Long.MIN_VALUE, 0, -1).cumulativeMax().toArray());
+
+        final PrimitiveIterator.OfInt iterator = IntStream.of(2, 5, 1, 7).cumulativeMax().iterator();
+        assertEquals(2, iterator.nextInt());
+        assertEquals(5, iterator.nextInt());
+        assertArrayEquals(new int[] { 5, 7 }, IntStream.of(iterator).toArray());
+    }
+
+    private static double[] randomValues(int size) {
+        final Random random = new Random(61);
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextGaussian();
+        }
+        return values;
+    }
+}
@@ -0,0 +1,197 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+import com.annimon.stream.internal.Operators;
+import com.annimon.stream.iterator.LsaBaseIterator;
+import com.annimon.stream.iterator.PrimitiveIterator;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntFunction;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.Predicate;
+
+public class SizeHintTest {
+
+    private static final Function<Integer, String> TO_STRING = new Function<Integer, String>() {
+        @Override
+        public String apply(Integer value) {
+            return String.valueOf(value);
+        }
+    };
+
+    private static final IntFunction<String[]> STRING_ARRAY = new IntFunction<String[]>() {
+        @Override
+        public String[] apply(int size) {
+            return new String[size];
+        }
+    };
+
+    @Test
+    public void testExactSizeThroughMapAndSorted() {
+        assertEquals(5, Operators.getExactSizeIfKnown(Stream.of(5, 4, 3, 2, 1).map(TO_STRING).iterator()));
+        assertEquals(5, Operators.getExactSizeIfKnown(Stream.of(5, 4, 3, 2, 1).sorted().iterator()));
+        assertEquals(3, Operators.getExactSizeIfKnown(Stream.of(Arrays.asList(1, 2, 3)).map(TO_STRING).iterator()));
+        assertEquals(10, IntStream.range(0, 10).iterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testBoundedSizeThroughLimitAndSkip() {
+        assertEquals(3, Operators.getExactSizeIfKnown(Stream.of(1, 2, 3, 4, 5).limit(3).iterator()));
+        assertEquals(2, Operators.getExactSizeIfKnown(Stream.of(1, 2, 3, 4, 5).skip(3).iterator()));
+        assertEquals(0, Operators.getExactSizeIfKnown(Stream.of(1, 2, 3).skip(10).iterator()));
+        assertEquals(7, Operators.getExactSizeIfKnown(Stream.concat(Stream.of(1, 2, 3), Stream.of(4, 5, 6, 7)).iterator()));
+    }
+
+    @Test
+    public void testFilterGivesUpperBound() {
+        final Predicate<Integer> isOdd = new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value % 2 != 0;
+            }
+        };
+        final Iterator<Integer> iterator = Stream.of(1, 2, 3, 4, 5).filter(isOdd).iterator();
+        assertEquals(-1, Operators.getExactSizeIfKnown(iterator));
+        assertEquals(5, Operators.estimateSize(iterator));
+    }
+
+    @Test
+    public void testToArrayUsesGeneratorType() {
+        final String[] exact = Stream.of(1, 2, 3).map(TO_STRING).toArray(STRING_ARRAY);
+        assertArrayEquals(new String[] { "1", "2", "3" }, exact);
+        assertEquals(String[].class, exact.getClass());
+
+        final String[] filtered = Stream.of(1, 2, 3, 4).map(TO_STRING).filter(new Predicate<String>() {
+            @Override
+            public boolean test(String value) {
+                return !value.equals("2");
+            }
+        }).toArray(STRING_ARRAY);
+        assertArrayEquals(new String[] { "1", "3", "4" }, filtered);
+        assertEquals(String[].class, filtered.getClass());
+
+        assertEquals(0, Stream.<Integer> empty().map(TO_STRING).toArray(STRING_ARRAY).length);
+    }
+
+    @Test(expected = ArrayStoreException.class)
+    public void testToArrayChecksElementType() {
+        Stream.of((Object) "a", 1).toArray(STRING_ARRAY);
+    }
+
+    @Test
+    public void testPresizedTerminals() {
+        assertEquals(Arrays.asList("3", "4"), Stream.of(1, 2, 3, 4, 5).skip(2).limit(2).map(TO_STRING).toList());
+        assertArrayEquals(new int[] { 2, 3, 4 }, IntStream.range(0, 10).skip(2).limit(3).toArray());
+        assertArrayEquals(new int[] { 1, 3, 5 }, IntStream.range(0, 6).filter(new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value % 2 != 0;
+            }
+        }).toArray());
+        assertArrayEquals(new long[] { 1, 2, 3 }, LongStream.of(3, 1, 2).sorted().toArray());
+        assertArrayEquals(new double[] { 2.5 }, DoubleStream.of(0.5, 1.5, 2.5).skip(2).toArray(), 0.0);
+        assertTrue(Arrays.equals(new Object[] { 1, 2 }, Stream.of(1, 2).toArray()));
+    }
+
+    @Test
+    public void testConcurrentCollectionChangingDuringTraversal() {
+        final Queue<Integer> queue = new ConcurrentLinkedQueue<>(Arrays.asList(1, 2, 3));
+        assertEquals(-1, Operators.getExactSizeIfKnown(Stream.of(queue).iterator()));
+        assertEquals(3, Operators.estimateSize(Stream.of(queue).iterator()));
+
+        assertArrayEquals(new String[] { "1", "2", "3", "4" }, Stream.of(queue).peek(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                if (value == 1) {
+                    queue.add(4);
+                }
+            }
+        }).map(TO_STRING).toArray(STRING_ARRAY));
+        assertArrayEquals(new String[] { "1", "2" }, Stream.of(queue).peek(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                if (value == 1) {
+                    queue.removeAll(Arrays.asList(3, 4));
+                }
+            }
+        }).map(TO_STRING).toArray(STRING_ARRAY));
+    }
+
+    @Test
+    public void testToArrayWithWrongExactSize() {
+        final String[] more = Operators.toArray(new SizedIterator(3, 5), STRING_ARRAY);
+        assertArrayEquals(new String[] { "0", "1", "2", "3", "4" }, more);
+        assertEquals(String[].class, more.getClass());
+        final String[] fewer = Operators.toArray(new SizedIterator(3, 1), STRING_ARRAY);
+        assertArrayEquals(new String[] { "0" }, fewer);
+        assertEquals(String[].class, fewer.getClass());
+
+        assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, Operators.toIntArray(new SizedIntIterator(2, 5)));
+        assertArrayEquals(new int[] { 0 }, Operators.toIntArray(new SizedIntIterator(4, 1)));
+    }
+
+    /**
+     * Iterates {@code count} numbers, but reports {@code exactSize} of them.
+     */
+    private static final class SizedIterator extends LsaBaseIterator<String> {
+        private final long exactSize;
+        private final int count;
+        private int index;
+
+        SizedIterator(long exactSize, int count) {
+            this.exactSize = exactSize;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public String next() {
+            return String.valueOf(index++);
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return exactSize;
+        }
+    }
+
+    private static final class SizedIntIterator extends PrimitiveIterator.OfInt {
+        private final long exactSize;
+        private final int count;
+        private int index;
+
+        SizedIntIterator(long exactSize, int count) {
+            this.exactSize = exactSize;
+            this.count = count;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public int nextInt() {
+            return index++;
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return exactSize;
+        }
+    }
+}
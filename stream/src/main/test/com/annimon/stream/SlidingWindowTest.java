@@ -0,0 +1,168 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.IntPredicate;
+
+public class SlidingWindowTest {
+
+    private static final int[] WINDOW_SIZES = { 1, 2, 3, 5, 17 };
+    private static final int[] STEP_WIDTHS = { 1, 2, 3, 5, 20 };
+    private static final int[] LENGTHS = { 0, 1, 4, 50, 200 };
+
+    @Test
+    public void testWindowsMatchReference() {
+        for (int n : LENGTHS) {
+            final List<Integer> values = range(n);
+            for (int windowSize : WINDOW_SIZES) {
+                for (int stepWidth : STEP_WIDTHS) {
+                    final List<List<Integer>> expected = reference(values, windowSize, stepWidth);
+                    final String message = n + "/" + windowSize + "/" + stepWidth;
+                    assertEquals(message, expected, Stream.of(values).sliding(windowSize, stepWidth).toList());
+                    assertEquals(message, expected, copies(Stream.of(values).sliding(windowSize, stepWidth, true)));
+                    assertEquals(message, expected, toLists(IntStream.range(0, n).sliding(windowSize, stepWidth).toList()));
+                    assertEquals(message, expected, toLists(IntStream.range(0, n).sliding(windowSize, stepWidth, true)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWindowsOfUnknownSize() {
+        // a filtered source has no exact size, the windows are filled in several batches
+        final IntPredicate all = new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return true;
+            }
+        };
+        assertEquals(reference(range(1000), 40, 7), toLists(IntStream.range(0, 1000).filter(all).sliding(40, 7).toList()));
+    }
+
+    @Test
+    public void testSplit() {
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)),
+                Stream.of(1, 2, 3, 4, 5).split(2).toList());
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5)),
+                copies(Stream.of(1, 2, 3, 4, 5).split(2, true)));
+    }
+
+    @Test
+    public void testReuseReturnsSameWindow() {
+        final Iterator<List<Integer>> lists = Stream.of(range(10)).sliding(3, 1, true).iterator();
+        final List<Integer> first = lists.next();
+        assertEquals(Arrays.asList(0, 1, 2), first);
+        assertSame(first, lists.next());
+        assertEquals(Arrays.asList(1, 2, 3), first);
+
+        final Iterator<long[]> arrays = LongStream.of(1, 2, 3, 4).sliding(2, 1, true).iterator();
+        final long[] window = arrays.next();
+        assertSame(window, arrays.next());
+        assertArrayEquals(new long[] { 2, 3 }, window);
+
+        // a last smaller window is a new array
+        final List<double[]> doubles = DoubleStream.of(1, 2, 3).sliding(2, 2, true).toList();
+        assertArrayEquals(new double[] { 3 }, doubles.get(1), 0.0);
+    }
+
+    @Test
+    public void testWindowsAreMutableLists() {
+        final List<List<Integer>> windows = Stream.of(1, 2, 3).sliding(2).toList();
+        final List<Integer> window = windows.get(0);
+        window.set(0, 5);
+        window.add(6);
+        assertEquals(Arrays.asList(5, 2, 6), window);
+        assertEquals(Arrays.asList(2, 3), windows.get(1));
+        assertEquals(ArrayList.class, Stream.of(1, 2, 3).split(2).toList().get(1).getClass());
+    }
+
+    @Test
+    public void testReusedWindowIsReadOnly() {
+        final List<Integer> window = Stream.of(1, 2, 3).sliding(2, 1, true).iterator().next();
+        try {
+            window.set(0, 5);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+        try {
+            window.add(5);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStepWidth() {
+        IntStream.of(1).sliding(1, 0);
+    }
+
+    /**
+     * Windows start at each multiple of the step width, until all values are taken
+     * by a window or skipped by a step larger than the window.
+     */
+    private static List<List<Integer>> reference(List<Integer> values, int windowSize, int stepWidth) {
+        final int n = values.size();
+        final List<List<Integer>> windows = new ArrayList<>();
+        int consumed = 0;
+        for (int start = 0; consumed < n; start += stepWidth) {
+            final int end = Math.min(start + windowSize, n);
+            windows.add(new ArrayList<>(values.subList(start, end)));
+            consumed = Math.max(end, Math.min(start + stepWidth, n));
+        }
+        return windows;
+    }
+
+    private static List<Integer> range(int n) {
+        final List<Integer> values = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    private static List<List<Integer>> copies(Stream<List<Integer>> windows) {
+        final List<List<Integer>> result = new ArrayList<>();
+        windows.forEach(new Consumer<List<Integer>>() {
+            @Override
+            public void accept(List<Integer> window) {
+                result.add(new ArrayList<>(window));
+            }
+        });
+        return result;
+    }
+
+    private static List<List<Integer>> toLists(Stream<int[]> windows) {
+        // a reused window is copied before the next one is taken
+        final List<int[]> arrays = new ArrayList<>();
+        windows.forEach(new Consumer<int[]>() {
+            @Override
+            public void accept(int[] window) {
+                arrays.add(window.clone());
+            }
+        });
+        return toLists(arrays);
+    }
+
+    private static List<List<Integer>> toLists(List<int[]> windows) {
+        final List<List<Integer>> result = new ArrayList<>();
+        for (int[] window : windows) {
+            final List<Integer> list = new ArrayList<>(window.length);
+            for (int value : window) {
+                list.add(value);
+            }
+            result.add(list);
+        }
+        return result;
+    }
+}
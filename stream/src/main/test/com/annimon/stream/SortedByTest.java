@@ -0,0 +1,123 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.ToDoubleFunction;
+import com.landawn.abacus.util.function.ToIntFunction;
+import com.landawn.abacus.util.function.ToLongFunction;
+
+public class SortedByTest {
+
+    private static final ToIntFunction<String> LENGTH = new ToIntFunction<String>() {
+        @Override
+        public int applyAsInt(String value) {
+            return value.length();
+        }
+    };
+
+    private static final Comparator<String> BY_LENGTH = new Comparator<String>() {
+        @Override
+        public int compare(String a, String b) {
+            return Integer.compare(a.length(), b.length());
+        }
+    };
+
+    @Test
+    public void testSortedByCallsExtractorOncePerElement() {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<String> values = randomStrings(1000);
+        final List<String> result = Stream.of(values).sortedBy(new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                calls.incrementAndGet();
+                return value.length();
+            }
+        }).toList();
+        assertEquals(1000, calls.get());
+        assertEquals(stableSorted(values), result);
+    }
+
+    @Test
+    public void testPrimitiveKeysAreStable() {
+        final List<String> values = randomStrings(3000);
+        final List<String> expected = stableSorted(values);
+        assertEquals(expected, Stream.of(values).sortedByInt(LENGTH).toList());
+        assertEquals(expected, Stream.of(values).sortedByLong(new ToLongFunction<String>() {
+            @Override
+            public long applyAsLong(String value) {
+                return value.length() - (1L << 40);
+            }
+        }).toList());
+        assertEquals(expected, Stream.of(values).sortedByDouble(new ToDoubleFunction<String>() {
+            @Override
+            public double applyAsDouble(String value) {
+                return value.length() + 0.5;
+            }
+        }).toList());
+    }
+
+    @Test
+    public void testNegativeIntKeys() {
+        assertEquals(Arrays.asList("ccc", "bb", "a", "dd"), Stream.of("a", "bb", "ccc", "dd").sortedByInt(new ToIntFunction<String>() {
+            @Override
+            public int applyAsInt(String value) {
+                return (value.equals("dd")) ? Integer.MAX_VALUE : -value.length();
+            }
+        }).toList());
+    }
+
+    @Test
+    public void testSortedByWithLimit() {
+        final List<String> values = randomStrings(500);
+        assertEquals(stableSorted(values).subList(0, 10), Stream.of(values).sortedBy(new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return value.length();
+            }
+        }).limit(10).toList());
+    }
+
+    @Test
+    public void testMinByMaxBy() {
+        final Function<String, Integer> length = new Function<String, Integer>() {
+            @Override
+            public Integer apply(String value) {
+                return value.length();
+            }
+        };
+        assertEquals("b", Stream.of("ccc", "b", "dd", "e").minBy(length).get());
+        assertEquals("ccc", Stream.of("dd", "ccc", "b", "fff").maxBy(length).get());
+        assertFalse(Stream.<String> empty().minBy(length).isPresent());
+    }
+
+    private static List<String> stableSorted(List<String> values) {
+        final List<String> sorted = new ArrayList<>(values);
+        Collections.sort(sorted, BY_LENGTH);
+        return sorted;
+    }
+
+    private static List<String> randomStrings(int size) {
+        final Random random = new Random(47);
+        final List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(9); j >= 0; j--) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+            values.add(sb.toString());
+        }
+        return values;
+    }
+}
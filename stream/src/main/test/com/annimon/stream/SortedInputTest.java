@@ -0,0 +1,81 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntFunction;
+import com.landawn.abacus.util.stream.Collectors;
+
+public class SortedInputTest {
+
+    private static final Function<String, Integer> LENGTH = new Function<String, Integer>() {
+        @Override
+        public Integer apply(String value) {
+            return value.length();
+        }
+    };
+
+    @Test
+    public void testDistinctSorted() {
+        assertEquals(Arrays.asList("a", "b", "c"), Stream.of("a", "a", "b", "c", "c", "c").distinctSorted().toList());
+        assertEquals(Arrays.asList(null, "a"), Stream.of(null, null, "a", "a").distinctSorted().toList());
+        assertArrayEquals(new int[] { 1, 2, 3 }, IntStream.of(1, 1, 2, 3, 3).distinctSorted().toArray());
+        assertArrayEquals(new long[] { -1, 5 }, LongStream.of(-1, -1, 5).distinctSorted().toArray());
+        // values are compared by their bits, as in distinct()
+        final double[] doubles = DoubleStream.of(-0.0, 0.0, 0.0, Double.NaN, Double.NaN).distinctSorted().toArray();
+        assertArrayEquals(new double[] { -0.0, 0.0, Double.NaN }, doubles, 0.0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(doubles[0]));
+    }
+
+    @Test
+    public void testDistinctUntilChangedOnUnsortedInput() {
+        assertEquals(Arrays.asList("a", "cd", "g"), Stream.of("a", "b", "cd", "ef", "g").distinctUntilChanged(LENGTH).toList());
+        assertArrayEquals(new int[] { 1, 3, 6, 1 }, IntStream.of(1, 3, 4, 6, 8, 1).distinctUntilChanged(new IntFunction<Integer>() {
+            @Override
+            public Integer apply(int value) {
+                return value / 3;
+            }
+        }).toArray());
+    }
+
+    @Test
+    public void testGroupSorted() {
+        final List<Map.Entry<Integer, List<String>>> groups = Stream.of("a", "d", "bc", "ef", "ghij").groupSorted(LENGTH).toList();
+        assertEquals(3, groups.size());
+        assertEquals(entry(1, Arrays.asList("a", "d")), groups.get(0));
+        assertEquals(entry(2, Arrays.asList("bc", "ef")), groups.get(1));
+        assertEquals(entry(4, Arrays.asList("ghij")), groups.get(2));
+
+        // a key seen again after another key starts a new group
+        final List<Map.Entry<Integer, Long>> counts = Stream.of("a", "d", "bc", "ef", "ghij", "k")
+                .groupSorted(LENGTH, Collectors.<String> counting()).toList();
+        assertEquals(Arrays.asList(entry(1, 2L), entry(2, 2L), entry(4, 1L), entry(1, 1L)), counts);
+    }
+
+    @Test
+    public void testChunkBy() {
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("cd"), Arrays.asList("e")),
+                Stream.of("a", "b", "cd", "e").chunkBy(LENGTH).toList());
+        assertEquals(0, Stream.<String> empty().chunkBy(LENGTH).count());
+    }
+
+    @Test
+    public void testEntryStreamGroupSorted() {
+        @SuppressWarnings("unchecked")
+        final Map<String, List<Integer>> map = EntryStream.of(entry("a", 1), entry("a", 2), entry("b", 3)).groupSorted().toMap();
+        assertEquals(Arrays.asList(1, 2), map.get("a"));
+        assertEquals(Arrays.asList(3), map.get("b"));
+    }
+
+    private static <K, V> Map.Entry<K, V> entry(K key, V value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -0,0 +1,74 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.landawn.abacus.util.function.ToDoubleFunction;
+
+public class SummaryStatisticsTest {
+
+    private static final double MAX = Double.MAX_VALUE;
+    private static final double INF = Double.POSITIVE_INFINITY;
+    private static final double NAN = Double.NaN;
+
+    // overflowing and non-finite values, where the compensated sum must give the plain sum
+    private static final double[][] VALUES = {
+            { MAX, MAX },
+            { -MAX, -MAX, 1 },
+            { MAX, MAX, -MAX },
+            { MAX, MAX, 1, 2, 3 },
+            { 1, INF, 2 },
+            { INF, -INF },
+            { 1, NAN, 2 },
+            { MAX, MAX, NAN },
+    };
+
+    @Test
+    public void testSumMatchesPlainSum() {
+        for (double[] values : VALUES) {
+            final double expected = DoubleStream.of(values).sum();
+            assertEquals(Arrays.toString(values), expected, DoubleStream.of(values).summaryStatistics().getSum(), 0.0);
+        }
+        assertEquals(INF, DoubleStream.of(MAX, MAX).summaryStatistics().getSum(), 0.0);
+        assertEquals(INF, DoubleStream.of(MAX, MAX).summaryStatistics().getAverage(), 0.0);
+        // the plain sum depends on the order here, the compensated sum does not
+        assertEquals(NAN, DoubleStream.of(-INF, MAX, MAX).summaryStatistics().getSum(), 0.0);
+        assertEquals(NAN, DoubleStream.of(MAX, MAX, -INF).summaryStatistics().getSum(), 0.0);
+    }
+
+    @Test
+    public void testCombinedSumMatchesPlainSum() {
+        for (double[] values : VALUES) {
+            for (int split = 0; split <= values.length; split++) {
+                final DoubleSummaryStatistics first = DoubleStream.of(values).limit(split).summaryStatistics();
+                final DoubleSummaryStatistics second = DoubleStream.of(values).skip(split).summaryStatistics();
+                final double expected = DoubleStream.of(values).limit(split).sum() + DoubleStream.of(values).skip(split).sum();
+                first.combine(second);
+                assertEquals(Arrays.toString(values) + "/" + split, expected, first.getSum(), 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testParallelSumMatchesPlainSum() {
+        final double[] values = new double[10000];
+        Arrays.fill(values, MAX / 100);
+        assertEquals(DoubleStream.of(values).parallel().sum(), DoubleStream.of(values).parallel().summaryStatistics().getSum(), 0.0);
+        assertEquals(INF, DoubleStream.of(values).parallel().summaryStatistics().getSum(), 0.0);
+    }
+
+    @Test
+    public void testSummarizeDouble() {
+        final ToDoubleFunction<Double> identity = new ToDoubleFunction<Double>() {
+            @Override
+            public double applyAsDouble(Double value) {
+                return value;
+            }
+        };
+        assertEquals(INF, Stream.of(MAX, MAX, 1.0).summarizeDouble(identity).getSum(), 0.0);
+        assertEquals(NAN, Stream.of(INF, -INF).summarizeDouble(identity).getSum(), 0.0);
+    }
+}
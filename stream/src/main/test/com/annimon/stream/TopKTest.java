@@ -0,0 +1,80 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class TopKTest {
+
+    @Test
+    public void testIntBottomAndTopMatchSort() {
+        final Random random = new Random(1);
+        final int[] values = new int[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000) - 500;
+        }
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[] { 0, 1, 10, 4999, 5000, 7000 }) {
+            final int n = Math.min(k, values.length);
+            assertArrayEquals(Arrays.copyOf(sorted, n), IntStream.of(values).bottom(k).toArray());
+            assertArrayEquals(Arrays.copyOf(sorted, n), IntStream.of(values).sorted().limit(k).toArray());
+            final int[] top = new int[n];
+            for (int i = 0; i < n; i++) {
+                top[i] = sorted[sorted.length - 1 - i];
+            }
+            assertArrayEquals(top, IntStream.of(values).top(k).toArray());
+        }
+    }
+
+    @Test
+    public void testLongAndDoubleTop() {
+        assertArrayEquals(new long[] { Long.MAX_VALUE, 7, 7 }, LongStream.of(3, 7, Long.MIN_VALUE, 7, Long.MAX_VALUE).top(3).toArray());
+        assertArrayEquals(new long[] { Long.MIN_VALUE, 3 }, LongStream.of(3, 7, Long.MIN_VALUE, 7, Long.MAX_VALUE).bottom(2).toArray());
+        assertArrayEquals(new double[] { -1.5, -0.0, 0.0 }, DoubleStream.of(2.0, 0.0, -0.0, -1.5, 3.0).bottom(3).toArray(), 0.0);
+        assertArrayEquals(new double[] { 3.0, 2.0 }, DoubleStream.of(2.0, 0.0, -0.0, -1.5, 3.0).top(2).toArray(), 0.0);
+    }
+
+    @Test
+    public void testObjectSelectionIsStable() {
+        final Comparator<String> byLength = new Comparator<String>() {
+            @Override
+            public int compare(String a, String b) {
+                return a.length() - b.length();
+            }
+        };
+        final List<String> values = Arrays.asList("bb", "a1", "ccc", "a2", "dd", "a3", "e");
+        assertEquals(Arrays.asList("e", "bb", "a1"), Stream.of(values).bottom(3, byLength).toList());
+        assertEquals(Arrays.asList("e", "bb", "a1", "a2"), Stream.of(values).sorted(byLength).limit(4).toList());
+        assertEquals(Arrays.asList("ccc", "bb"), Stream.of(values).top(2, byLength).toList());
+        assertEquals("e", Stream.of(values).sorted(byLength).findFirst().get());
+    }
+
+    @Test
+    public void testObjectBottomMatchesSort() {
+        final Random random = new Random(5);
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            values.add(random.nextInt(100000));
+        }
+        final List<Integer> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        assertEquals(sorted.subList(0, 25), Stream.of(values).bottom(25).toList());
+        assertEquals(sorted.subList(0, 25), Stream.of(values).sorted().limit(25).toList());
+        Collections.reverse(sorted);
+        assertEquals(sorted.subList(0, 25), Stream.of(values).top(25).toList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        IntStream.of(1, 2, 3).top(-1);
+    }
+}
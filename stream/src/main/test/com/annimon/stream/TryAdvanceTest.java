@@ -0,0 +1,176 @@
+package com.annimon.stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.annimon.stream.operator.IntArray;
+import com.annimon.stream.operator.IntFilter;
+import com.annimon.stream.operator.ObjFilter;
+import com.annimon.stream.operator.ObjMap;
+import com.landawn.abacus.util.function.Consumer;
+import com.landawn.abacus.util.function.Function;
+import com.landawn.abacus.util.function.IntConsumer;
+import com.landawn.abacus.util.function.IntPredicate;
+import com.landawn.abacus.util.function.IntUnaryOperator;
+import com.landawn.abacus.util.function.LongPredicate;
+import com.landawn.abacus.util.function.Predicate;
+
+public class TryAdvanceTest {
+
+    private static final Predicate<Integer> IS_EVEN = new Predicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value % 2 == 0;
+        }
+    };
+
+    private static final IntPredicate INT_IS_EVEN = new IntPredicate() {
+        @Override
+        public boolean test(int value) {
+            return value % 2 == 0;
+        }
+    };
+
+    @Test
+    public void testMatchStopsAtDecidingElement() {
+        final List<Integer> seen = new ArrayList<>();
+        final boolean found = Stream.of(1, 2, 3, 4, 5, 6, 7, 8).peek(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                seen.add(value);
+            }
+        }).filter(IS_EVEN).map(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer value) {
+                return value * 10;
+            }
+        }).anyMatch(new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value == 40;
+            }
+        });
+        assertTrue(found);
+        assertEquals(Arrays.asList(1, 2, 3, 4), seen);
+    }
+
+    @Test
+    public void testPrimitiveMatchStopsAtDecidingElement() {
+        final int[] peeked = new int[1];
+        final boolean allSmall = IntStream.range(0, 100).peek(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                peeked[0]++;
+            }
+        }).filter(INT_IS_EVEN).map(new IntUnaryOperator() {
+            @Override
+            public int applyAsInt(int value) {
+                return value + 1;
+            }
+        }).allMatch(new IntPredicate() {
+            @Override
+            public boolean test(int value) {
+                return value < 10;
+            }
+        });
+        assertFalse(allSmall);
+        // 10 is the first even value mapped to 11
+        assertEquals(11, peeked[0]);
+    }
+
+    @Test
+    public void testMatchOnEmptyAndExhaustedStreams() {
+        assertFalse(Stream.<Integer> empty().anyMatch(IS_EVEN));
+        assertTrue(Stream.<Integer> empty().allMatch(IS_EVEN));
+        assertTrue(Stream.of(1, 3, 5).filter(IS_EVEN).noneMatch(IS_EVEN));
+        assertTrue(IntStream.of(2, 4, 6).skip(1).limit(5).allMatch(INT_IS_EVEN));
+        assertFalse(LongStream.of(1, 3).filter(new LongPredicate() {
+            @Override
+            public boolean test(long value) {
+                return value > 1;
+            }
+        }).noneMatch(new LongPredicate() {
+            @Override
+            public boolean test(long value) {
+                return value == 3;
+            }
+        }));
+    }
+
+    @Test
+    public void testFilterMixesTryAdvanceAndNext() {
+        final ObjFilter<Integer> filter = new ObjFilter<>(Arrays.asList(1, 2, 3, 4, 5, 6).iterator(), IS_EVEN);
+        final List<Integer> result = new ArrayList<>();
+        final Consumer<Integer> add = new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                result.add(value);
+            }
+        };
+        assertTrue(filter.tryAdvance(add));
+        // the element found by hasNext is passed to the next tryAdvance
+        assertTrue(filter.hasNext());
+        assertTrue(filter.tryAdvance(add));
+        assertEquals(Integer.valueOf(6), filter.next());
+        assertFalse(filter.tryAdvance(add));
+        assertEquals(Arrays.asList(2, 4), result);
+    }
+
+    @Test
+    public void testNestedTryAdvanceUsesItsOwnAction() {
+        final IntFilter filter = new IntFilter(new IntArray(new int[] { 1, 2, 3, 4, 5, 6, 8 }), INT_IS_EVEN);
+        final List<Integer> outer = new ArrayList<>();
+        final List<Integer> inner = new ArrayList<>();
+        final IntConsumer innerAction = new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                inner.add(value);
+            }
+        };
+        assertTrue(filter.tryAdvanceInt(new IntConsumer() {
+            @Override
+            public void accept(int value) {
+                outer.add(value);
+                filter.tryAdvanceInt(innerAction);
+            }
+        }));
+        assertEquals(Arrays.asList(2), outer);
+        assertEquals(Arrays.asList(4), inner);
+        assertTrue(filter.tryAdvanceInt(innerAction));
+        assertEquals(Arrays.asList(4, 6), inner);
+    }
+
+    @Test
+    public void testMapPassesEachCallsAction() {
+        final ObjMap<Integer, String> map = new ObjMap<>(Arrays.asList(1, 2).iterator(), new Function<Integer, String>() {
+            @Override
+            public String apply(Integer value) {
+                return "v" + value;
+            }
+        });
+        final List<String> first = new ArrayList<>();
+        final List<String> second = new ArrayList<>();
+        assertTrue(map.tryAdvance(new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                first.add(value);
+            }
+        }));
+        assertTrue(map.tryAdvance(new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                second.add(value);
+            }
+        }));
+        assertFalse(map.tryAdvance(null));
+        assertEquals(Arrays.asList("v1"), first);
+        assertEquals(Arrays.asList("v2"), second);
+    }
+}
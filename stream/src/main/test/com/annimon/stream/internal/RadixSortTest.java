@@ -0,0 +1,123 @@
+package com.annimon.stream.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.annimon.stream.DoubleStream;
+import com.annimon.stream.IntStream;
+
+public class RadixSortTest {
+
+    @Test
+    public void testIntSortMatchesArraysSort() {
+        final Random random = new Random(13);
+        for (int n : new int[] { 0, 1, RadixSort.INT_THRESHOLD - 1, RadixSort.INT_THRESHOLD, 50000 }) {
+            final int[] a = new int[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = random.nextInt();
+            }
+            if (n > 2) {
+                a[0] = Integer.MIN_VALUE;
+                a[1] = Integer.MAX_VALUE;
+            }
+            final int[] expected = a.clone();
+            Arrays.sort(expected);
+            RadixSort.sort(a, 0, n, null);
+            assertArrayEquals(expected, a);
+        }
+    }
+
+    @Test
+    public void testIntSortSubrangeWithSharedHighBytes() {
+        final Random random = new Random(17);
+        final int n = 10000;
+        final int[] a = new int[n + 20];
+        for (int i = 0; i < a.length; i++) {
+            // all values share the two high bytes
+            a[i] = 0x12340000 + random.nextInt(1 << 16);
+        }
+        a[3] = -1;
+        final int[] expected = a.clone();
+        Arrays.sort(expected, 10, 10 + n);
+        final int[] scratch = RadixSort.sort(a, 10, 10 + n, new int[1]);
+        assertArrayEquals(expected, a);
+        assertTrue(scratch.length >= n);
+    }
+
+    @Test
+    public void testLongSortMatchesArraysSort() {
+        final Random random = new Random(19);
+        final int n = RadixSort.LONG_THRESHOLD * 3;
+        final long[] a = new long[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = (i % 3 == 0) ? random.nextLong() : random.nextInt(1000) - 500;
+        }
+        a[0] = Long.MIN_VALUE;
+        a[1] = Long.MAX_VALUE;
+        final long[] expected = a.clone();
+        Arrays.sort(expected);
+        long[] scratch = RadixSort.sort(a, 0, n, null);
+        assertArrayEquals(expected, a);
+
+        // the returned buffer can be reused
+        final long[] b = new long[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = random.nextLong();
+        }
+        final long[] expectedB = b.clone();
+        Arrays.sort(expectedB);
+        scratch = RadixSort.sort(b, 0, n, scratch);
+        assertArrayEquals(expectedB, b);
+    }
+
+    @Test
+    public void testDoubleSortOrdersNaNAndSignedZero() {
+        final Random random = new Random(23);
+        final int n = RadixSort.LONG_THRESHOLD * 2;
+        final double[] a = new double[n];
+        for (int i = 0; i < n; i++) {
+            switch (i % 10) {
+                case 0: a[i] = Double.NaN; break;
+                case 1: a[i] = -0.0; break;
+                case 2: a[i] = 0.0; break;
+                case 3: a[i] = (i % 20 == 3) ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY; break;
+                case 4: a[i] = (i % 20 == 4) ? Double.MIN_VALUE : -Double.MAX_VALUE; break;
+                default: a[i] = random.nextGaussian() * 1e6;
+            }
+        }
+        final double[] expected = a.clone();
+        Arrays.sort(expected);
+        RadixSort.sort(a, 0, n, null);
+        assertBitsEqual(expected, a);
+    }
+
+    @Test
+    public void testStreamSortedUsesSameOrder() {
+        final double[] values = { 1.0, Double.NaN, 0.0, -0.0, -1.0, Double.NEGATIVE_INFINITY, 0.0, -0.0 };
+        final double[] expected = values.clone();
+        Arrays.sort(expected);
+        assertBitsEqual(expected, DoubleStream.of(values).sorted().toArray());
+
+        final Random random = new Random(29);
+        final int[] ints = new int[RadixSort.INT_THRESHOLD * 4];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = random.nextInt();
+        }
+        final int[] sortedInts = ints.clone();
+        Arrays.sort(sortedInts);
+        assertArrayEquals(sortedInts, IntStream.of(ints).sorted().toArray());
+    }
+
+    private static void assertBitsEqual(double[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("at " + i, Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]));
+        }
+    }
+}